@@ -0,0 +1,36 @@
+package com.eraste.apigateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Main entry point for the API Gateway.
+ * <p>
+ * Single entry point of the microservices, built on Spring Cloud Gateway: requests to
+ * {@code /api/users/**}, {@code /api/products/**}, {@code /api/categories/**} and
+ * {@code /api/orders/**} are forwarded, without the {@code /api} prefix, to the
+ * service owning them.
+ * </p>
+ * <p>
+ * Unlike the services, the gateway runs on WebFlux and Reactor Netty: a few event loop
+ * threads carry every request, so a slow service holds connections rather than
+ * threads. Routes, timeouts and the upstream connection pool are configured in
+ * {@code application.yml}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootApplication
+public class ApiGatewayApplication {
+
+    /**
+     * Main method to start the Spring Boot application.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(ApiGatewayApplication.class, args);
+    }
+}
@@ -0,0 +1,90 @@
+package com.eraste.apigateway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Resolves requests against the routes of {@code application.yml}, in the order the
+ * gateway tries them, and checks the timeouts each route applies.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@DisplayName("Gateway Routes Tests")
+class GatewayRoutesTest {
+
+    @Autowired
+    private RouteLocator routeLocator;
+
+    @Nested
+    @DisplayName("User Service")
+    class UserService {
+
+        @Test
+        @DisplayName("Should send user imports to their own route with a long response timeout")
+        void routesImport() {
+            Route route = route(HttpMethod.POST, "/api/users/import");
+
+            assertEquals("user-import", route.getId());
+            assertEquals(600000, responseTimeout(route));
+        }
+
+        @Test
+        @DisplayName("Should keep the short response timeout for the other user requests")
+        void routesOtherRequests() {
+            assertEquals("user-service", route(HttpMethod.GET, "/api/users/import").getId());
+            assertEquals("user-service", route(HttpMethod.POST, "/api/users").getId());
+            assertEquals(3000, responseTimeout(route(HttpMethod.GET, "/api/users/1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Product Service")
+    class ProductService {
+
+        @Test
+        @DisplayName("Should stream catalog events without a response timeout")
+        void routesCatalogEvents() {
+            Route route = route(HttpMethod.GET, "/api/catalog/events");
+
+            assertEquals("catalog-events", route.getId());
+            assertEquals(-1, responseTimeout(route));
+        }
+
+        @Test
+        @DisplayName("Should route products and categories with the short response timeout")
+        void routesProducts() {
+            assertEquals("product-service", route(HttpMethod.GET, "/api/products/1").getId());
+            assertEquals(3000, responseTimeout(route(HttpMethod.GET, "/api/categories")));
+        }
+    }
+
+    /**
+     * Finds the first route, in order, whose predicates match the request.
+     */
+    private Route route(HttpMethod method, String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(method, path));
+        return routeLocator.getRoutes()
+                .concatMap(route -> Mono.from(route.getPredicate().apply(exchange))
+                        .filter(Boolean::booleanValue)
+                        .map(matched -> route))
+                .next()
+                .blockOptional()
+                .orElseThrow(() -> new AssertionError("No route for " + method + " " + path));
+    }
+
+    private static int responseTimeout(Route route) {
+        return ((Number) route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR)).intValue();
+    }
+}
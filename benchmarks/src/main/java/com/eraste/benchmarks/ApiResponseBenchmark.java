@@ -0,0 +1,117 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.response.ApiResponse;
+import com.eraste.common.response.ApiResponseSerializer;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.CategoryResponse;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective and the dedicated serialization of the {@link ApiResponse} envelope.
+ * <p>
+ * The reflective variants reproduce the former behaviour: a timestamp read from
+ * {@link LocalDateTime#now()} and the bean serializer. The fast variants use the
+ * envelope as the services build it, written by {@link ApiResponseSerializer}. Both
+ * mappers are configured like the Spring Boot one. Payloads are empty (a deletion), a
+ * single product, or a list of {@value #LARGE_PAYLOAD} products.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseBenchmark {
+
+    private static final int LARGE_PAYLOAD = 1_000;
+
+    @Param({"empty", "small", "large"})
+    public String payload;
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper fastMapper;
+    private Object data;
+    private String message;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        fastMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(ApiResponse.class, new ApiResponseSerializer())
+                .build();
+        out = new ByteArrayOutputStream(512 * 1024);
+
+        switch (payload) {
+            case "empty" -> message = "Product deleted successfully";
+            case "small" -> data = product(1);
+            case "large" -> {
+                List<ProductResponse> products = new ArrayList<>(LARGE_PAYLOAD);
+                for (int i = 1; i <= LARGE_PAYLOAD; i++) {
+                    products.add(product(i));
+                }
+                data = products;
+            }
+            default -> throw new IllegalArgumentException("Unknown payload: " + payload);
+        }
+    }
+
+    @Benchmark
+    public int reflective() throws IOException {
+        ApiResponse<Object> response = response();
+        response.setTimestamp(LocalDateTime.now());
+        return write(reflectiveMapper, response);
+    }
+
+    @Benchmark
+    public int fast() throws IOException {
+        return write(fastMapper, response());
+    }
+
+    private ApiResponse<Object> response() {
+        return message != null ? ApiResponse.success(message, null) : ApiResponse.success(data);
+    }
+
+    private int write(ObjectMapper mapper, ApiResponse<Object> response) throws IOException {
+        out.reset();
+        mapper.writeValue(out, response);
+        return out.size();
+    }
+
+    private static ProductResponse product(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        CategoryResponse category = new CategoryResponse(id % 20, "Category " + id % 20, "Products of category "
+                + id % 20, "CAT-" + id % 20, true, now, now);
+        return new ProductResponse(id, "Product " + id, "Description of product " + id, BigDecimal.valueOf(id, 2),
+                (int) id % 50, "SKU-" + id, category.getId(), category, true, now, now);
+    }
+}
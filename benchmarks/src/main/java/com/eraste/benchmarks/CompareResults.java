@@ -0,0 +1,99 @@
+package com.eraste.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files, e.g. written by two commits.
+ * <p>
+ * Usage: {@code CompareResults <baseline.json> <current.json>}. For every benchmark
+ * and parameter combination present in both files, prints both scores and the change.
+ * A change larger than the sum of both score errors is flagged as {@code better} or
+ * {@code WORSE}, taking the mode into account: lower is better for times, higher for
+ * throughputs. Benchmarks found in one file only are listed as added or removed.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    /**
+     * Prints the comparison.
+     *
+     * @param args the baseline and the current result files
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+
+        System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        current.forEach((key, result) -> {
+            JsonNode before = baseline.get(key);
+            JsonNode metric = result.get("primaryMetric");
+            String unit = metric.get("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %9s  added (%s)%n", key, "", metric.get("score").asDouble(),
+                        "", unit);
+                return;
+            }
+            JsonNode beforeMetric = before.get("primaryMetric");
+            double old = beforeMetric.get("score").asDouble();
+            double now = metric.get("score").asDouble();
+            double change = old == 0 ? 0 : (now - old) / old * 100;
+            double noise = errorOf(beforeMetric) + errorOf(metric);
+            String verdict = "";
+            if (Math.abs(now - old) > noise) {
+                boolean higherIsBetter = "thrpt".equals(result.get("mode").asText());
+                verdict = (now > old) == higherIsBetter ? "better" : "WORSE";
+            }
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%%  %s (%s)%n", key, old, now, change, verdict, unit);
+        });
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-80s  removed%n", key));
+    }
+
+    /**
+     * Reads a result file, keyed by benchmark and parameters.
+     */
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                    .replace("com.eraste.benchmarks.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                key.append(" [");
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    key.append(field.getKey()).append('=').append(field.getValue().asText());
+                    key.append(fields.hasNext() ? ", " : "]");
+                }
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
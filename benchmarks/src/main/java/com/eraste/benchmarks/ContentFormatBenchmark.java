@@ -0,0 +1,124 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.response.ApiResponse;
+import com.eraste.common.response.ApiResponseSerializer;
+import com.eraste.orderservice.domain.model.OrderStatus;
+import com.eraste.orderservice.infrastructure.adapter.in.web.dto.OrderItemResponse;
+import com.eraste.orderservice.infrastructure.adapter.in.web.dto.OrderResponse;
+import com.eraste.orderservice.infrastructure.adapter.in.web.dto.UserInfo;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON and CBOR for the responses exchanged between the services.
+ * <p>
+ * Encoding writes the {@link ApiResponse} envelope as the services do; decoding reads
+ * it into a map, as {@code UserServiceClient} does. The payloads are a user, and an
+ * order of {@value #ORDER_ITEMS} items with its user. The encoded sizes are printed
+ * when each trial starts.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentFormatBenchmark {
+
+    private static final int ORDER_ITEMS = 10;
+
+    @Param({"user", "order"})
+    public String payload;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ApiResponse<Object> response;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = mapper().build();
+        cborMapper = mapper().factory(new CBORFactory()).build();
+        response = ApiResponse.success("user".equals(payload) ? user() : order());
+        json = jsonMapper.writeValueAsBytes(response);
+        cbor = cborMapper.writeValueAsBytes(response);
+        System.out.printf("%s payload: JSON %d bytes, CBOR %d bytes (%.0f%%)%n", payload, json.length, cbor.length,
+                100.0 * cbor.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Map<?, ?> decodeJson() throws IOException {
+        return jsonMapper.readValue(json, Map.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> decodeCbor() throws IOException {
+        return cborMapper.readValue(cbor, Map.class);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(ApiResponse.class, new ApiResponseSerializer());
+    }
+
+    private static UserResponse user() {
+        LocalDateTime now = LocalDateTime.now();
+        return new UserResponse(42L, "jdoe", "john.doe@example.com", "John", "Doe", now, now);
+    }
+
+    private static OrderResponse order() {
+        List<OrderItemResponse> items = new ArrayList<>(ORDER_ITEMS);
+        BigDecimal total = BigDecimal.ZERO;
+        for (long i = 1; i <= ORDER_ITEMS; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(1999 + i * 100, 2);
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(i));
+            items.add(new OrderItemResponse(i, 1000 + i, "Product " + i, "SKU-" + (1000 + i), (int) i, unitPrice,
+                    totalPrice));
+            total = total.add(totalPrice);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        OrderResponse order = new OrderResponse(7L, "ORD-20240101-0A1B2", 42L, OrderStatus.CONFIRMED, total,
+                "12 Main Street, Springfield", "Leave at the door", items, now, now);
+        order.setUser(new UserInfo(42L, "jdoe", "john.doe@example.com", "John", "Doe"));
+        return order;
+    }
+}
@@ -0,0 +1,92 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.metrics.LatencyHistograms;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of recording a request latency in the per-route histograms.
+ * <p>
+ * {@code record} is what the latency filter adds to each request, on top of two
+ * {@link System#nanoTime()} reads; {@code recordContended} does the same from four
+ * threads on one route. The Micrometer timer with a percentile histogram, which the
+ * default HTTP server metrics would need for percentiles, is measured for comparison.
+ * Latencies are drawn from a fixed spread so the histograms see realistic values.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+
+    private static final long[] LATENCIES = new long[1024];
+
+    static {
+        for (int i = 0; i < LATENCIES.length; i++) {
+            // 200 us to about 200 ms, skewed towards the fast end
+            LATENCIES[i] = 200_000L + (long) (Math.pow(i / 1024.0, 4) * 200_000_000L);
+        }
+    }
+
+    private LatencyHistograms histograms;
+    private Timer timer;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        histograms = new LatencyHistograms(Duration.ofSeconds(60), 6, Duration.ofSeconds(60), 2);
+        timer = Timer.builder("http.server.requests")
+                .tag("uri", "/users/{id}")
+                .publishPercentileHistogram()
+                .register(new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        histograms.destroy();
+    }
+
+    @Benchmark
+    public void record() {
+        histograms.record("GET", "/users/{id}", LATENCIES[next++ & 1023]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        histograms.record("GET", "/users/{id}", LATENCIES[next++ & 1023]);
+    }
+
+    @Benchmark
+    public void micrometerTimer() {
+        timer.record(LATENCIES[next++ & 1023], TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void micrometerTimerContended() {
+        timer.record(LATENCIES[next++ & 1023], TimeUnit.NANOSECONDS);
+    }
+}
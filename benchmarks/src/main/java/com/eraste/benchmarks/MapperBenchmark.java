@@ -0,0 +1,115 @@
+package com.eraste.benchmarks;
+
+import com.eraste.orderservice.domain.model.Order;
+import com.eraste.orderservice.domain.model.OrderItem;
+import com.eraste.orderservice.domain.model.OrderStatus;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderJpaEntity;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderMapper;
+import com.eraste.productservice.domain.model.Category;
+import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.CategoryMapper;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductJpaEntity;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductMapper;
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaEntity;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mappers between the domain models and the JPA entities.
+ * <p>
+ * Each mapper converts an entity to its domain model, as every read does, and a
+ * domain model to a new entity, as every create does. The order has
+ * {@value #ORDER_ITEMS} items and the product a category. The mappings from the
+ * projection rows are measured with the queries by the read benchmarks.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int ORDER_ITEMS = 5;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private final ProductMapper productMapper = new ProductMapper(new CategoryMapper());
+    private final UserMapper userMapper = new UserMapper();
+
+    private Order order;
+    private OrderJpaEntity orderEntity;
+    private Product product;
+    private ProductJpaEntity productEntity;
+    private User user;
+    private UserJpaEntity userEntity;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        order.setId(7L);
+        order.setOrderNumber("ORD-20240101-0A1B2");
+        order.setUserId(42L);
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setShippingAddress("12 Main Street, Springfield");
+        for (long i = 1; i <= ORDER_ITEMS; i++) {
+            order.addItem(new OrderItem(1000 + i, "Product " + i, "SKU-" + (1000 + i), (int) i,
+                    BigDecimal.valueOf(1999 + i * 100, 2)));
+        }
+        orderEntity = orderMapper.toJpaEntity(order);
+
+        product = new Product(3L, "Mechanical keyboard", "Tenkeyless, brown switches", new BigDecimal("89.90"), 25,
+                "SKU-1003", new Category(2L, "Peripherals", "Keyboards, mice and headsets", "CAT-PERIPH"));
+        productEntity = productMapper.toJpaEntity(product);
+
+        user = new User(42L, "jdoe", "john.doe@example.com", "John", "Doe");
+        userEntity = userMapper.toJpaEntity(user);
+    }
+
+    @Benchmark
+    public Order orderToDomain() {
+        return orderMapper.toDomain(orderEntity);
+    }
+
+    @Benchmark
+    public OrderJpaEntity orderToEntity() {
+        return orderMapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public Product productToDomain() {
+        return productMapper.toDomain(productEntity);
+    }
+
+    @Benchmark
+    public ProductJpaEntity productToEntity() {
+        return productMapper.toJpaEntity(product);
+    }
+
+    @Benchmark
+    public User userToDomain() {
+        return userMapper.toDomain(userEntity);
+    }
+
+    @Benchmark
+    public UserJpaEntity userToEntity() {
+        return userMapper.toJpaEntity(user);
+    }
+}
@@ -0,0 +1,170 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.exception.GlobalExceptionHandler;
+import com.eraste.common.exception.ResourceNotFoundException;
+import com.eraste.common.response.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures the throughput of lookups answered with a 404.
+ * <p>
+ * Requests go through the Spring MVC stack with {@link MockMvc}, from the dispatcher
+ * to the JSON body, to a controller that finds nothing. The legacy variant reproduces
+ * the former error path: an exception filling in its stack trace and formatting its
+ * message with {@link String#format}, and a handler extracting the path from
+ * {@link WebRequest#getDescription(boolean)}. The current variant uses
+ * {@link ResourceNotFoundException} and {@link GlobalExceptionHandler}.
+ * </p>
+ * <p>
+ * The {@code ErrorPath} variants isolate the part that changed: the controller method
+ * is called {@value #STACK_DEPTH} frames deep, about the depth of a controller under
+ * Tomcat and the filter chain, and its exception is handed to the handler directly.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private static final int STACK_DEPTH = 100;
+
+    private MockMvc legacy;
+    private MockMvc current;
+    private final LegacyController legacyController = new LegacyController();
+    private final CurrentController currentController = new CurrentController();
+    private final LegacyExceptionHandler legacyHandler = new LegacyExceptionHandler();
+    private final GlobalExceptionHandler currentHandler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/42");
+    private final ServletWebRequest webRequest = new ServletWebRequest(request);
+    private long next;
+
+    @Setup
+    public void setUp() {
+        legacy = MockMvcBuilders.standaloneSetup(legacyController)
+                .setControllerAdvice(legacyHandler)
+                .build();
+        current = MockMvcBuilders.standaloneSetup(currentController)
+                .setControllerAdvice(currentHandler)
+                .build();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacy() throws Exception {
+        return legacy.perform(get("/orders/{id}", next++)).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse current() throws Exception {
+        return current.perform(get("/orders/{id}", next++)).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> legacyErrorPath() {
+        try {
+            callAtDepth(STACK_DEPTH, () -> legacyController.getOrder(next++));
+            return null;
+        } catch (LegacyResourceNotFoundException ex) {
+            return legacyHandler.handleResourceNotFound(ex, webRequest);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> currentErrorPath() {
+        try {
+            callAtDepth(STACK_DEPTH, () -> currentController.getOrder(next++));
+            return null;
+        } catch (ResourceNotFoundException ex) {
+            return currentHandler.handleResourceNotFound(ex, request);
+        }
+    }
+
+    private static void callAtDepth(int depth, Runnable call) {
+        if (depth == 0) {
+            call.run();
+        } else {
+            callAtDepth(depth - 1, call);
+        }
+    }
+
+    /**
+     * Controller finding no order, with the current exception.
+     */
+    @RestController
+    public static class CurrentController {
+
+        @GetMapping("/orders/{id}")
+        public ApiResponse<Void> getOrder(@PathVariable Long id) {
+            throw new ResourceNotFoundException("Order", "id", id);
+        }
+    }
+
+    /**
+     * Controller finding no order, with the former exception.
+     */
+    @RestController
+    public static class LegacyController {
+
+        @GetMapping("/orders/{id}")
+        public ApiResponse<Void> getOrder(@PathVariable Long id) {
+            throw new LegacyResourceNotFoundException("Order", "id", id);
+        }
+    }
+
+    /**
+     * Former not-found handler.
+     */
+    @RestControllerAdvice
+    public static class LegacyExceptionHandler {
+
+        @ExceptionHandler(LegacyResourceNotFoundException.class)
+        public ResponseEntity<ApiResponse<Void>> handleResourceNotFound(
+                LegacyResourceNotFoundException ex, WebRequest request) {
+            ApiResponse<Void> response = ApiResponse.<Void>error(ex.getMessage())
+                    .withPath(request.getDescription(false).replace("uri=", ""));
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * Former not-found exception.
+     */
+    public static class LegacyResourceNotFoundException extends RuntimeException {
+
+        public LegacyResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
+            super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        }
+    }
+}
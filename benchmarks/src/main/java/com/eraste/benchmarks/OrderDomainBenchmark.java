@@ -0,0 +1,157 @@
+package com.eraste.benchmarks;
+
+import com.eraste.orderservice.application.service.OrderService;
+import com.eraste.orderservice.domain.model.Order;
+import com.eraste.orderservice.domain.model.OrderItem;
+import com.eraste.orderservice.domain.model.OrderStatus;
+import com.eraste.orderservice.domain.port.out.OrderRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the order domain logic, without a database.
+ * <p>
+ * {@code calculateTotalAmount} sums the items of an order of {@code items} items.
+ * {@code createOrder} goes through {@link OrderService#createOrder(Order)}, whose cost
+ * is mostly the order number drawn by {@code generateOrderNumber}. The transition
+ * benchmarks go through {@link OrderService#updateOrderStatus(Long, OrderStatus)}, whose
+ * {@code validateStatusTransition} accepts PENDING to CONFIRMED and rejects PENDING to
+ * SHIPPED with an exception. The repository port is an in-memory stub answering at once.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    private Order pending;
+    private OrderService orderService;
+
+    @Setup
+    public void setUp() {
+        pending = order(3);
+        pending.setId(1L);
+        orderService = new OrderService(new StubOrderRepository());
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount(Items items) {
+        items.order.calculateTotalAmount();
+        return items.order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Order createOrder(Items items) {
+        return orderService.createOrder(items.order);
+    }
+
+    @Benchmark
+    public Order validTransition() {
+        pending.setStatus(OrderStatus.PENDING);
+        return orderService.updateOrderStatus(1L, OrderStatus.CONFIRMED);
+    }
+
+    @Benchmark
+    public Object invalidTransition() {
+        pending.setStatus(OrderStatus.PENDING);
+        try {
+            return orderService.updateOrderStatus(1L, OrderStatus.SHIPPED);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    private static Order order(int itemCount) {
+        Order order = new Order();
+        order.setUserId(42L);
+        order.setShippingAddress("12 Main Street, Springfield");
+        for (long i = 1; i <= itemCount; i++) {
+            order.addItem(new OrderItem(1000 + i, "Product " + i, "SKU-" + (1000 + i), (int) (i % 5 + 1),
+                    BigDecimal.valueOf(1999 + i * 100, 2)));
+        }
+        return order;
+    }
+
+    /**
+     * Order of {@code items} items, for the benchmarks depending on its size.
+     */
+    @State(Scope.Benchmark)
+    public static class Items {
+
+        @Param({"1", "10", "100"})
+        public int items;
+
+        private Order order;
+
+        @Setup
+        public void setUp() {
+            order = order(items);
+        }
+    }
+
+    /**
+     * Repository port holding the single order of the benchmark.
+     */
+    private final class StubOrderRepository implements OrderRepositoryPort {
+
+        @Override
+        public Order save(Order saved) {
+            return saved;
+        }
+
+        @Override
+        public Optional<Order> findById(Long id) {
+            return Optional.of(pending);
+        }
+
+        @Override
+        public Optional<Order> findByOrderNumber(String orderNumber) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Order> findAll() {
+            return List.of(pending);
+        }
+
+        @Override
+        public List<Order> findByUserId(Long userId) {
+            return List.of(pending);
+        }
+
+        @Override
+        public List<Order> findByStatus(OrderStatus status) {
+            return List.of(pending);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+        }
+
+        @Override
+        public boolean existsByOrderNumber(String orderNumber) {
+            return false;
+        }
+    }
+}
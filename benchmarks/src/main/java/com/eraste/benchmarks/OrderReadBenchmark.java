@@ -0,0 +1,124 @@
+package com.eraste.benchmarks;
+
+import com.eraste.orderservice.OrderServiceApplication;
+import com.eraste.orderservice.domain.model.Order;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderJpaAdapter;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderJpaEntity;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderJpaRepository;
+import com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares entity and projection reads of orders with their items.
+ * <p>
+ * The entity variants reproduce the former adapter: managed {@link OrderJpaEntity}
+ * instances whose lazy item collection is initialized by the mapper, one select per
+ * order. The projection variants call the current {@link OrderJpaAdapter}, which
+ * reads the items of all returned orders in a single select.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderReadBenchmark {
+
+    private static final int USERS = 500;
+    private static final int ORDERS_PER_USER = 20;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private ServiceContext service;
+    private TransactionTemplate transaction;
+    private OrderJpaRepository jpaRepository;
+    private OrderJpaAdapter adapter;
+    private OrderMapper mapper;
+    private EntityManager entityManager;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = ServiceContext.start(OrderServiceApplication.class);
+        transaction = service.readOnlyTransaction();
+        jpaRepository = service.bean(OrderJpaRepository.class);
+        adapter = service.bean(OrderJpaAdapter.class);
+        mapper = service.bean(OrderMapper.class);
+        entityManager = service.bean(EntityManager.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int orderCount = USERS * ORDERS_PER_USER;
+        List<Object[]> orders = new ArrayList<>(orderCount);
+        List<Object[]> items = new ArrayList<>(orderCount * ITEMS_PER_ORDER);
+        for (int i = 1; i <= orderCount; i++) {
+            orders.add(new Object[]{"BENCH-" + i, i % USERS + 1, "PENDING", new BigDecimal("59.97"),
+                    "1 Benchmark Street", now, now});
+            for (int j = 1; j <= ITEMS_PER_ORDER; j++) {
+                items.add(new Object[]{i, j, "Product " + j, "SKU-" + j, 1, new BigDecimal("19.99"),
+                        new BigDecimal("19.99")});
+            }
+        }
+        service.jdbc().batchUpdate("INSERT INTO orders (order_number, user_id, status, total_amount, "
+                + "shipping_address, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", orders);
+        service.jdbc().batchUpdate("INSERT INTO order_items (order_id, product_id, product_name, product_sku, "
+                + "quantity, unit_price, total_price) VALUES (?, ?, ?, ?, ?, ?, ?)", items);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public Order findByIdEntity() {
+        long id = next++ % (USERS * ORDERS_PER_USER) + 1;
+        return transaction.execute(status -> jpaRepository.findById(id).map(mapper::toDomain).orElseThrow());
+    }
+
+    @Benchmark
+    public Order findByIdProjection() {
+        long id = next++ % (USERS * ORDERS_PER_USER) + 1;
+        return transaction.execute(status -> adapter.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<Order> findByUserIdEntity() {
+        long userId = next++ % USERS + 1;
+        return transaction.execute(status -> entityManager
+                .createQuery("select o from OrderJpaEntity o where o.userId = :userId", OrderJpaEntity.class)
+                .setParameter("userId", userId)
+                .getResultList().stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Benchmark
+    public List<Order> findByUserIdProjection() {
+        long userId = next++ % USERS + 1;
+        return transaction.execute(status -> adapter.findByUserId(userId));
+    }
+}
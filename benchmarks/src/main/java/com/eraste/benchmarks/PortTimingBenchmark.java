@@ -0,0 +1,94 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.metrics.PortTimingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the port latency timers.
+ * <p>
+ * The same trivial use case is called directly, and through the proxy created by
+ * {@link PortTimingPostProcessor} with and without percentile histogram. The
+ * difference is the cost added to every port call in production.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortTimingBenchmark {
+
+    private PriceUseCase direct;
+    private PriceUseCase timed;
+    private PriceUseCase timedWithHistogram;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        direct = new PriceService();
+        timed = proxy(false);
+        timedWithHistogram = proxy(true);
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.priceWithTax(next++);
+    }
+
+    @Benchmark
+    public long timed() {
+        return timed.priceWithTax(next++);
+    }
+
+    @Benchmark
+    public long timedWithHistogram() {
+        return timedWithHistogram.priceWithTax(next++);
+    }
+
+    private static PriceUseCase proxy(boolean histogram) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+        PortTimingPostProcessor postProcessor = new PortTimingPostProcessor(true,
+                beanFactory.getBeanProvider(MeterRegistry.class), List.of("UseCase"), histogram);
+        return (PriceUseCase) postProcessor.postProcessAfterInitialization(new PriceService(), "priceService");
+    }
+
+    /**
+     * Trivial use case.
+     */
+    public interface PriceUseCase {
+
+        long priceWithTax(long cents);
+    }
+
+    /**
+     * Implementation of the trivial use case.
+     */
+    public static class PriceService implements PriceUseCase {
+
+        @Override
+        public long priceWithTax(long cents) {
+            return cents * 120 / 100;
+        }
+    }
+}
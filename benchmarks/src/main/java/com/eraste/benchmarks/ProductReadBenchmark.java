@@ -0,0 +1,123 @@
+package com.eraste.benchmarks;
+
+import com.eraste.productservice.ProductServiceApplication;
+import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductJpaAdapter;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductJpaEntity;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductJpaRepository;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares entity and projection reads of products with their category.
+ * <p>
+ * The entity variants reproduce the former adapter: managed {@link ProductJpaEntity}
+ * instances whose lazy category is initialized by the mapper. The projection variants
+ * call the current {@link ProductJpaAdapter}, which reads a product and its category in
+ * one select, and the products of a category without the category columns followed by
+ * the category once.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductReadBenchmark {
+
+    private static final int CATEGORIES = 20;
+    private static final int PRODUCTS = 10_000;
+
+    private ServiceContext service;
+    private TransactionTemplate transaction;
+    private ProductJpaRepository jpaRepository;
+    private ProductJpaAdapter adapter;
+    private ProductMapper mapper;
+    private EntityManager entityManager;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = ServiceContext.start(ProductServiceApplication.class);
+        transaction = service.readOnlyTransaction();
+        jpaRepository = service.bean(ProductJpaRepository.class);
+        adapter = service.bean(ProductJpaAdapter.class);
+        mapper = service.bean(ProductMapper.class);
+        entityManager = service.bean(EntityManager.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> categories = new ArrayList<>(CATEGORIES);
+        for (int i = 1; i <= CATEGORIES; i++) {
+            categories.add(new Object[]{"Category " + i, "Description " + i, "CAT-" + i, true, now, now});
+        }
+        service.jdbc().batchUpdate("INSERT INTO categories (name, description, code, active, created_at, "
+                + "updated_at) VALUES (?, ?, ?, ?, ?, ?)", categories);
+        List<Object[]> products = new ArrayList<>(PRODUCTS);
+        for (int i = 1; i <= PRODUCTS; i++) {
+            products.add(new Object[]{"Product " + i, "Description of product " + i, BigDecimal.valueOf(i % 500, 1),
+                    i % 100, "SKU-" + i, i % CATEGORIES + 1, true, now, now});
+        }
+        service.jdbc().batchUpdate("INSERT INTO products (name, description, price, quantity, sku, category_id, "
+                + "active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", products);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public Product findByIdEntity() {
+        long id = next++ % PRODUCTS + 1;
+        return transaction.execute(status -> jpaRepository.findById(id).map(mapper::toDomain).orElseThrow());
+    }
+
+    @Benchmark
+    public Product findByIdProjection() {
+        long id = next++ % PRODUCTS + 1;
+        return transaction.execute(status -> adapter.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<Product> findByCategoryEntity() {
+        long categoryId = next++ % CATEGORIES + 1;
+        return transaction.execute(status -> entityManager
+                .createQuery("select p from ProductJpaEntity p where p.category.id = :categoryId",
+                        ProductJpaEntity.class)
+                .setParameter("categoryId", categoryId)
+                .getResultList().stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Benchmark
+    public List<Product> findByCategoryProjection() {
+        long categoryId = next++ % CATEGORIES + 1;
+        return transaction.execute(status -> adapter.findByCategoryId(categoryId));
+    }
+}
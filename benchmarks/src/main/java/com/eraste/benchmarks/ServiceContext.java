@@ -0,0 +1,91 @@
+package com.eraste.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Spring context of a service started for a benchmark.
+ * <p>
+ * The service runs without its web server on a private in-memory H2 database whose
+ * schema is generated by Hibernate. Its {@code application.yml} is not read, since all
+ * services share that name on the benchmark classpath: the configuration is limited to
+ * the properties set here and the defaults of the {@code @Value} injection points.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ServiceContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private ServiceContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Starts a service.
+     *
+     * @param application the {@code @SpringBootApplication} class of the service
+     * @param properties  additional properties, as {@code key=value}
+     * @return the started context
+     */
+    public static ServiceContext start(Class<?> application, String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.config.name=benchmark",
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:" + application.getSimpleName() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=warn")
+                .properties(properties)
+                .run();
+        return new ServiceContext(context);
+    }
+
+    /**
+     * Returns the bean of the given type.
+     *
+     * @param type the bean type
+     * @param <T>  the bean type
+     * @return the bean
+     */
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Returns a JDBC template on the service database, used to seed benchmark data.
+     *
+     * @return the JDBC template
+     */
+    public JdbcTemplate jdbc() {
+        return bean(JdbcTemplate.class);
+    }
+
+    /**
+     * Returns a template running its callback in a read-only transaction, as the
+     * application services do for reads.
+     *
+     * @return the read-only transaction template
+     */
+    public TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
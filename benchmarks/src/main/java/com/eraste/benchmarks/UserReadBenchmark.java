@@ -0,0 +1,122 @@
+package com.eraste.benchmarks;
+
+import com.eraste.userservice.UserServiceApplication;
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaAdapter;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaEntity;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaRepository;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares entity and projection reads of users.
+ * <p>
+ * The entity variants reproduce the former adapter: managed {@link UserJpaEntity}
+ * instances mapped to the domain. The projection variants call the current
+ * {@link UserJpaAdapter}. Both run in a read-only transaction against the same data;
+ * run with {@code -prof gc} to compare allocation per operation.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserReadBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    private ServiceContext service;
+    private TransactionTemplate transaction;
+    private UserJpaRepository jpaRepository;
+    private UserJpaAdapter adapter;
+    private UserMapper mapper;
+    private EntityManager entityManager;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = ServiceContext.start(UserServiceApplication.class);
+        transaction = service.readOnlyTransaction();
+        jpaRepository = service.bean(UserJpaRepository.class);
+        adapter = service.bean(UserJpaAdapter.class);
+        mapper = service.bean(UserMapper.class);
+        entityManager = service.bean(EntityManager.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            rows.add(new Object[]{"user" + i, "user" + i + "@example.com", "First" + i, "Last" + i, now, now});
+        }
+        service.jdbc().batchUpdate("INSERT INTO users (username, email, first_name, last_name, created_at, "
+                + "updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public User findByIdEntity() {
+        long id = nextId();
+        return transaction.execute(status -> jpaRepository.findById(id).map(mapper::toDomain).orElseThrow());
+    }
+
+    @Benchmark
+    public User findByIdProjection() {
+        long id = nextId();
+        return transaction.execute(status -> adapter.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<User> findPageEntity() {
+        long afterId = nextPageStart();
+        return transaction.execute(status -> entityManager
+                .createQuery("select u from UserJpaEntity u where u.id > :afterId order by u.id", UserJpaEntity.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(mapper::toDomain)
+                .toList());
+    }
+
+    @Benchmark
+    public List<User> findPageProjection() {
+        long afterId = nextPageStart();
+        return transaction.execute(status -> adapter.findPage(afterId, PAGE_SIZE));
+    }
+
+    private long nextId() {
+        return next++ % USERS + 1;
+    }
+
+    private long nextPageStart() {
+        return next++ % (USERS - PAGE_SIZE);
+    }
+}
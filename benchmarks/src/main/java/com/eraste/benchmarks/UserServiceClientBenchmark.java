@@ -0,0 +1,87 @@
+package com.eraste.benchmarks;
+
+import com.eraste.common.response.ApiResponse;
+import com.eraste.common.response.ApiResponseSerializer;
+import com.eraste.orderservice.infrastructure.adapter.in.web.dto.UserInfo;
+import com.eraste.orderservice.infrastructure.client.UserServiceClient;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link UserServiceClient} decodes a user-service response.
+ * <p>
+ * The client runs on a {@link RestTemplate} whose requests are answered in memory
+ * with a user, encoded as the user-service does in {@code format}, so the benchmark
+ * covers the message converter selection, the decoding into a map and the mapping to
+ * {@link UserInfo}, without any network.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceClientBenchmark {
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private UserServiceClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializerByType(ApiResponse.class, new ApiResponseSerializer());
+        boolean cbor = "cbor".equals(format);
+        ObjectMapper mapper = cbor ? builder.factory(new CBORFactory()).build() : builder.build();
+        MediaType contentType = cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+        LocalDateTime now = LocalDateTime.now();
+        byte[] body = mapper.writeValueAsBytes(ApiResponse.success(
+                new UserResponse(42L, "jdoe", "john.doe@example.com", "John", "Doe", now, now)));
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setRequestFactory((uri, method) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(contentType);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        client = new UserServiceClient(restTemplate, "http://user-service");
+    }
+
+    @Benchmark
+    public Optional<UserInfo> getUserById() {
+        return client.getUserById(42L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.eraste.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration of the binary CBOR format next to JSON.
+ * <p>
+ * Every service reads and writes {@code application/cbor} when a client asks for it
+ * through {@code Accept} or {@code Content-Type}. JSON remains the format of any client
+ * that does not: it is listed first among the converters, so {@code Accept: *}{@code /*}
+ * and requests without {@code Accept} still get JSON. Service-to-service clients ask
+ * for CBOR, which is smaller and cheaper to encode and parse than JSON text.
+ * </p>
+ * <p>
+ * The CBOR mapper is built from the same builder as the JSON one, so it shares the
+ * {@code spring.jackson.*} settings and registered modules, including
+ * {@link com.eraste.common.response.ApiResponseSerializer}: both formats carry the same
+ * fields and the same ISO-8601 dates.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class BinaryContentConfig {
+
+    /**
+     * Creates the CBOR message converter, replacing the default one that would use an
+     * unconfigured mapper.
+     *
+     * @param builder the object mapper builder configured by Spring Boot
+     * @return the CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
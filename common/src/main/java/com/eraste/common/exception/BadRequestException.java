@@ -0,0 +1,20 @@
+package com.eraste.common.exception;
+
+/**
+ * Thrown when a request parameter or body cannot be interpreted, answered with a 400.
+ * <p>
+ * Raised for input the bean validation annotations cannot express, such as opaque
+ * pagination cursors or unknown sort keys. Like {@link ResourceNotFoundException},
+ * it reports an expected outcome, so it does not fill in a stack trace.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,19 @@
+package com.eraste.common.exception;
+
+/**
+ * Thrown when a request conflicts with the current state of a resource, answered with a 409.
+ * <p>
+ * Like {@link ResourceNotFoundException}, it reports an expected outcome, so it does
+ * not fill in a stack trace.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,42 +1,66 @@
 package com.eraste.common.exception;
 
 import com.eraste.common.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
-
-import java.util.stream.Collectors;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleResourceNotFound(
-            ResourceNotFoundException ex, WebRequest request) {
+            ResourceNotFoundException ex, HttpServletRequest request) {
         ApiResponse<Void> response = ApiResponse.<Void>error(ex.getMessage())
-                .withPath(request.getDescription(false).replace("uri=", ""));
+                .withPath(request.getRequestURI());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConflict(
+            ConflictException ex, HttpServletRequest request) {
+        ApiResponse<Void> response = ApiResponse.<Void>error(ex.getMessage())
+                .withPath(request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationErrors(
-            MethodArgumentNotValidException ex, WebRequest request) {
-        String errors = ex.getBindingResult().getFieldErrors().stream()
-                .map(error -> error.getField() + ": " + error.getDefaultMessage())
-                .collect(Collectors.joining(", "));
-        ApiResponse<Void> response = ApiResponse.<Void>error("Validation failed: " + errors)
-                .withPath(request.getDescription(false).replace("uri=", ""));
+            MethodArgumentNotValidException ex, HttpServletRequest request) {
+        StringBuilder message = new StringBuilder(64).append("Validation failed: ");
+        String separator = "";
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            message.append(separator).append(error.getField()).append(": ").append(error.getDefaultMessage());
+            separator = ", ";
+        }
+        ApiResponse<Void> response = ApiResponse.<Void>error(message.toString())
+                .withPath(request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBadRequest(
+            BadRequestException ex, HttpServletRequest request) {
+        ApiResponse<Void> response = ApiResponse.<Void>error(ex.getMessage())
+                .withPath(request.getRequestURI());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex) {
+        // The client of a streaming response went away: there is nothing left to write to
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(
-            Exception ex, WebRequest request) {
+            Exception ex, HttpServletRequest request) {
         ApiResponse<Void> response = ApiResponse.<Void>error("Internal server error: " + ex.getMessage())
-                .withPath(request.getDescription(false).replace("uri=", ""));
+                .withPath(request.getRequestURI());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 }
@@ -1,23 +1,49 @@
 package com.eraste.common.exception;
 
+/**
+ * Thrown when a requested resource does not exist, answered with a 404.
+ * <p>
+ * Missing resources are an expected outcome rather than a bug, and a frequent one
+ * when clients probe stale IDs, so the exception neither fills in a stack trace nor
+ * keeps suppressed exceptions, and its message is only built when first read.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     private final String resourceName;
     private final String fieldName;
     private final Object fieldValue;
+    // Deliberately not volatile: Strings are immutable and safely published, so a thread
+    // that misses another's write only builds the same message once more
+    private String message;
 
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-        super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        super(null, null, false, false);
         this.resourceName = resourceName;
         this.fieldName = fieldName;
         this.fieldValue = fieldValue;
     }
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(null, null, false, false);
         this.resourceName = null;
         this.fieldName = null;
         this.fieldValue = null;
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage() {
+        String formatted = message;
+        if (formatted == null) {
+            formatted = resourceName + " not found with " + fieldName + ": '" + fieldValue + "'";
+            message = formatted;
+        }
+        return formatted;
     }
 
     public String getResourceName() {
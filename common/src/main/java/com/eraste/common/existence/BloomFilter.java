@@ -0,0 +1,179 @@
+package com.eraste.common.existence;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe Bloom filter of strings.
+ * <p>
+ * Sized for an expected number of keys and a target false positive probability. Keys
+ * are hashed once into two 64-bit values combined into {@code k} bit positions
+ * (Kirsch-Mitzenmacher). Bits are set with atomic bitwise ORs, so concurrent
+ * {@link #put(String)} and {@link #mightContain(String)} calls need no lock.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BloomFilter {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final long[] words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong bitCount = new AtomicLong();
+    private final AtomicLong keyCount = new AtomicLong();
+
+    /**
+     * Creates an empty Bloom filter.
+     *
+     * @param capacity the number of keys the filter is sized for
+     * @param fpp      the false positive probability expected once {@code capacity} keys are added
+     * @throws IllegalArgumentException if capacity is not positive or fpp is not in (0, 1)
+     */
+    public BloomFilter(long capacity, double fpp) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1): " + fpp);
+        }
+        long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (LN2 * LN2));
+        bits = Math.min(Math.max(bits, Long.SIZE), MAX_BITS);
+        this.words = new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)];
+        this.bitSize = (long) words.length * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * LN2));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key the key to add
+     * @return true if the filter changed, i.e. the key was definitely not present before
+     */
+    public boolean put(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        long combined = hash1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if (((long) WORDS.getVolatile(words, word) & mask) == 0
+                    && ((long) WORDS.getAndBitwiseOr(words, word, mask) & mask) == 0) {
+                bitCount.incrementAndGet();
+                changed = true;
+            }
+            combined += hash2;
+        }
+        if (changed) {
+            keyCount.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * Tells whether a key might have been added.
+     *
+     * @param key the key to test
+     * @return false if the key was definitely never added, true if it might have been
+     */
+    public boolean mightContain(String key) {
+        long hash1 = hash(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            if (((long) WORDS.getVolatile(words, (int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false positive probability from the share of bits set.
+     *
+     * @return the expected false positive probability
+     */
+    public double expectedFpp() {
+        return Math.pow((double) bitCount.get() / bitSize, hashCount);
+    }
+
+    /**
+     * Gets the number of distinct keys added, as counted by the puts that changed
+     * the filter. Slightly low once false positives become likely.
+     *
+     * @return the approximate number of keys
+     */
+    public long approximateKeyCount() {
+        return keyCount.get();
+    }
+
+    /**
+     * Gets the number of keys the filter was sized for.
+     *
+     * @return the capacity
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of hash functions.
+     *
+     * @return the number of bits set per key
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Gets the memory used by the bit array.
+     *
+     * @return the size of the bit array in bytes
+     */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Hashes the characters of a key with 64-bit FNV-1a, followed by a finalizer
+     * spreading every input bit over the whole result.
+     *
+     * @param key the key
+     * @return the 64-bit hash
+     */
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Finalizes a hash (MurmurHash3 fmix64).
+     *
+     * @param hash the hash to mix
+     * @return the mixed hash
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
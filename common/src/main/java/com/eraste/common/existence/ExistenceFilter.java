@@ -0,0 +1,289 @@
+package com.eraste.common.existence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Negative cache in front of the existence checks on a unique column.
+ * <p>
+ * A {@link BloomFilter} holds every value of the column. A value it has never seen
+ * is reported absent without querying the database; a possible hit falls through to
+ * the database, which gives the final answer. Until the filter has been loaded by
+ * {@link ExistenceFilters}, or when filters are disabled, every check falls through.
+ * </p>
+ * <p>
+ * Writes must report their values through {@link #put(String)}. The value is added
+ * at once and again after commit, so that a row committed while the filter is being
+ * rebuilt is not lost. Values are never removed: a deleted or renamed value is only
+ * a false positive, which the database resolves. The filter is local to the process;
+ * the unique constraints of the database remain the guarantee against duplicates
+ * written by other instances.
+ * </p>
+ * <p>
+ * Checks are counted in {@code existence.filter.checks}, tagged with the filter name
+ * and the result: {@code absent} (answered by the filter), {@code present},
+ * {@code false-positive} (fell through and was not found) or {@code bypassed}
+ * (filter not loaded). The observed and expected false positive rates, and the number
+ * of values added, are published as gauges.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ExistenceFilters
+ */
+public final class ExistenceFilter {
+
+    private final String name;
+    private final String table;
+    private final String column;
+    private final Consumer<ExistenceFilter> onSaturated;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private final Counter bypassed;
+    private final AtomicBoolean saturated = new AtomicBoolean();
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    /** Filter answering checks, or null until the first load completes. */
+    private volatile BloomFilter current;
+
+    /** Filter being loaded, receiving writes as well, or null outside of a load. */
+    private volatile BloomFilter building;
+
+    /**
+     * Creates a filter and registers its metrics.
+     *
+     * @param name          the filter name, used as metric tag
+     * @param table         the table holding the values
+     * @param column        the unique column holding the values
+     * @param meterRegistry the registry receiving the metrics
+     * @param onSaturated   called once when more values were added than the filter was sized for
+     */
+    ExistenceFilter(String name, String table, String column, MeterRegistry meterRegistry,
+                    Consumer<ExistenceFilter> onSaturated) {
+        this.name = name;
+        this.table = table;
+        this.column = column;
+        this.onSaturated = onSaturated;
+        this.absent = checks(meterRegistry, "absent");
+        this.present = checks(meterRegistry, "present");
+        this.falsePositives = checks(meterRegistry, "false-positive");
+        this.bypassed = checks(meterRegistry, "bypassed");
+
+        Gauge.builder("existence.filter.fpp.observed", this, ExistenceFilter::observedFpp)
+                .description("Share of absent values the filter failed to rule out")
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("existence.filter.fpp.expected", this, ExistenceFilter::expectedFpp)
+                .description("False positive probability expected from the bits set in the filter")
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("existence.filter.keys", this, ExistenceFilter::keyCount)
+                .description("Number of values added to the filter")
+                .tag("filter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a value exists, querying the database only on a possible hit.
+     *
+     * @param value  the value to check
+     * @param lookup the database existence check
+     * @return true if the value exists
+     */
+    public boolean exists(String value, Predicate<String> lookup) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            bypassed.increment();
+            return lookup.test(value);
+        }
+        if (!filter.mightContain(value)) {
+            absent.increment();
+            return false;
+        }
+        boolean exists = lookup.test(value);
+        (exists ? present : falsePositives).increment();
+        return exists;
+    }
+
+    /**
+     * Finds which of a set of values exist, querying the database only for the
+     * possible hits.
+     *
+     * @param values the values to check
+     * @param lookup the database query returning the existing values among its argument
+     * @return the existing values
+     */
+    public Set<String> existing(Collection<String> values, Function<Collection<String>, Set<String>> lookup) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            bypassed.increment(values.size());
+            return lookup.apply(values);
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String value : values) {
+            if (filter.mightContain(value)) {
+                candidates.add(value);
+            }
+        }
+        absent.increment(values.size() - candidates.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = lookup.apply(candidates);
+        present.increment(existing.size());
+        falsePositives.increment(candidates.size() - existing.size());
+        return existing;
+    }
+
+    /**
+     * Records a value written to the column, now and once the surrounding
+     * transaction has committed.
+     *
+     * @param value the value written, ignored if null
+     */
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        add(value);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the filter name.
+     *
+     * @return the filter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the table holding the values.
+     *
+     * @return the table name
+     */
+    String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the unique column holding the values.
+     *
+     * @return the column name
+     */
+    String getColumn() {
+        return column;
+    }
+
+    /**
+     * Tells whether the filter has been loaded and answers checks.
+     *
+     * @return true once the filter is loaded
+     */
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * Claims the filter for a load, unless one is already running.
+     *
+     * @return true if the caller must load the filter and then call {@link #endLoad(boolean)}
+     */
+    boolean tryClaimLoad() {
+        return loading.compareAndSet(false, true);
+    }
+
+    /**
+     * Starts a load: values written from now on are also added to the new filter.
+     *
+     * @param filter the empty filter about to be loaded
+     */
+    void startLoad(BloomFilter filter) {
+        building = filter;
+    }
+
+    /**
+     * Adds a value read from the database to the filter being loaded.
+     *
+     * @param value the value read
+     */
+    void load(String value) {
+        building.put(value);
+    }
+
+    /**
+     * Ends a load, making the new filter answer checks.
+     *
+     * @param succeeded whether all values were read; on failure the previous filter is kept
+     */
+    void endLoad(boolean succeeded) {
+        if (succeeded) {
+            current = building;
+            saturated.set(false);
+        }
+        building = null;
+        loading.set(false);
+    }
+
+    /**
+     * Adds a value to the current filter and to the one being loaded.
+     *
+     * @param value the value to add
+     */
+    private void add(String value) {
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(value);
+        }
+        BloomFilter filter = current;
+        if (filter != null && filter.put(value)
+                && filter.approximateKeyCount() > filter.getCapacity() && saturated.compareAndSet(false, true)) {
+            onSaturated.accept(this);
+        }
+    }
+
+    private double observedFpp() {
+        double negatives = absent.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+
+    private double keyCount() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.approximateKeyCount();
+    }
+
+    private double expectedFpp() {
+        BloomFilter filter = current;
+        return filter == null ? 1 : filter.expectedFpp();
+    }
+
+    private Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("existence.filter.checks")
+                .description("Existence checks, by how they were answered")
+                .tag("filter", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
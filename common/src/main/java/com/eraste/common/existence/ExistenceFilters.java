@@ -0,0 +1,205 @@
+package com.eraste.common.existence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the {@link ExistenceFilter}s of a service and loads them from the database.
+ * <p>
+ * Filters are registered by the persistence adapters and loaded once the application is
+ * ready, after any seed data has been written. Each table is split into ID ranges of
+ * {@value #ROWS_PER_RANGE} rows, and the ranges of all filters are read concurrently on a
+ * small pool of {@code existence-filter.load-parallelism} threads. A filter is sized for
+ * twice its current number of rows, and rebuilt the same way in the background once it
+ * holds more values than it was sized for.
+ * </p>
+ * <p>
+ * Loading never delays startup: checks fall through to the database until the filter
+ * of their column is ready, and a failed load leaves the previous filter in place.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ExistenceFilter
+ */
+@Component
+public class ExistenceFilters implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceFilters.class);
+
+    /** Number of rows read by each load task. */
+    private static final int ROWS_PER_RANGE = 50_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double fpp;
+    private final long minCapacity;
+    private final ThreadPoolExecutor executor;
+    private final List<ExistenceFilter> filters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs the registry of existence filters.
+     *
+     * @param dataSource      the data source the filters are loaded from
+     * @param meterRegistry   the registry receiving the filter metrics
+     * @param enabled         whether filters are loaded; when false every check queries the database
+     * @param fpp             the target false positive probability of each filter
+     * @param minCapacity     the minimum number of values a filter is sized for
+     * @param loadParallelism the number of threads reading the tables
+     */
+    public ExistenceFilters(DataSource dataSource,
+                            MeterRegistry meterRegistry,
+                            @Value("${existence-filter.enabled:true}") boolean enabled,
+                            @Value("${existence-filter.fpp:0.01}") double fpp,
+                            @Value("${existence-filter.min-capacity:100000}") long minCapacity,
+                            @Value("${existence-filter.load-parallelism:4}") int loadParallelism) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.minCapacity = minCapacity;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(loadParallelism, loadParallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "existence-filter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Registers the filter of a unique column.
+     *
+     * @param name   the filter name, used as metric tag
+     * @param table  the table holding the values
+     * @param column the unique column holding the values, next to an {@code id} column
+     * @return the filter, answering through the database until it is loaded
+     */
+    public ExistenceFilter register(String name, String table, String column) {
+        ExistenceFilter filter = new ExistenceFilter(name, table, column, meterRegistry, this::reload);
+        filters.add(filter);
+        return filter;
+    }
+
+    /**
+     * Loads every registered filter once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!enabled) {
+            log.info("Existence filters disabled, {} existence checks will query the database", filters.size());
+            return;
+        }
+        filters.forEach(this::reload);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Rebuilds a filter in the background, unless it is already being loaded.
+     *
+     * @param filter the filter to rebuild
+     */
+    private void reload(ExistenceFilter filter) {
+        if (!enabled || executor.isShutdown() || !filter.tryClaimLoad()) {
+            return;
+        }
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForMap(
+                        "SELECT MIN(id) AS min_id, MAX(id) AS max_id, COUNT(*) AS row_count FROM " + filter.getTable()),
+                        executor)
+                .thenCompose(stats -> {
+                    long rows = ((Number) stats.get("row_count")).longValue();
+                    BloomFilter bloomFilter = new BloomFilter(Math.max(minCapacity, rows * 2), fpp);
+                    filter.startLoad(bloomFilter);
+                    List<CompletableFuture<Void>> ranges = new ArrayList<>();
+                    for (long[] range : ranges(stats, rows)) {
+                        ranges.add(CompletableFuture.runAsync(() -> loadRange(filter, range[0], range[1]), executor));
+                    }
+                    return CompletableFuture.allOf(ranges.toArray(new CompletableFuture[0]))
+                            .thenApply(loaded -> bloomFilter);
+                })
+                .whenComplete((bloomFilter, failure) -> {
+                    filter.endLoad(failure == null);
+                    if (failure != null) {
+                        log.warn("Could not load existence filter {}, checks keep querying the database",
+                                filter.getName(), failure);
+                        return;
+                    }
+                    log.info("Loaded existence filter {}: {} values in {} ms (~{} KB, {} hashes)",
+                            filter.getName(), bloomFilter.approximateKeyCount(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            bloomFilter.sizeInBytes() / 1024, bloomFilter.getHashCount());
+                });
+    }
+
+    /**
+     * Splits the ID span of a table into ranges of about {@value #ROWS_PER_RANGE} rows.
+     * <p>
+     * The last range has no upper bound: a row committed after the span was read, but
+     * before its writer could reach the filter being loaded, is read with it.
+     * </p>
+     *
+     * @param stats the minimum and maximum IDs of the table
+     * @param rows  the number of rows of the table
+     * @return the inclusive ID ranges
+     */
+    private static List<long[]> ranges(Map<String, Object> stats, long rows) {
+        List<long[]> ranges = new ArrayList<>();
+        if (rows == 0) {
+            ranges.add(new long[]{Long.MIN_VALUE, Long.MAX_VALUE});
+            return ranges;
+        }
+        long min = ((Number) stats.get("min_id")).longValue();
+        long max = ((Number) stats.get("max_id")).longValue();
+        long count = Math.max(1, (rows + ROWS_PER_RANGE - 1) / ROWS_PER_RANGE);
+        long step = Math.max(1, (max - min + count) / count);
+        for (long from = min; from <= max; from += step) {
+            ranges.add(new long[]{from, max - from < step ? Long.MAX_VALUE : from + step - 1});
+        }
+        return ranges;
+    }
+
+    /**
+     * Reads the values of an ID range into the filter being loaded.
+     *
+     * @param filter the filter being loaded
+     * @param from   the first ID of the range
+     * @param to     the last ID of the range
+     */
+    private void loadRange(ExistenceFilter filter, long from, long to) {
+        jdbcTemplate.query("SELECT " + filter.getColumn() + " FROM " + filter.getTable() + " WHERE id BETWEEN ? AND ?",
+                rs -> {
+                    String value = rs.getString(1);
+                    if (value != null) {
+                        filter.load(value);
+                    }
+                }, from, to);
+    }
+}
@@ -0,0 +1,105 @@
+package com.eraste.common.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint reading the per-route latency percentiles of {@link LatencyHistograms}.
+ * <p>
+ * {@code GET /actuator/latency} returns, for every method and route, the count, mean,
+ * p50, p90, p99, p99.9 and max over the rolling window, in milliseconds.
+ * {@code GET /actuator/latency/prometheus} returns the same percentiles in the
+ * Prometheus text format, as a summary in seconds with {@code NaN} quantiles for a
+ * route without requests in the window, and {@code DELETE /actuator/latency}
+ * drops them, e.g. between two load tests.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    /** Content type of the Prometheus text exposition format. */
+    private static final String PROMETHEUS_TEXT = "text/plain;version=0.0.4;charset=utf-8";
+
+    private static final String METRIC = "http_server_route_latency_seconds";
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+
+    private final LatencyHistograms histograms;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param histograms the histograms of the routes
+     */
+    public LatencyEndpoint(LatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    /**
+     * Reports the latency percentiles of every route.
+     *
+     * @return the window and the summaries, by method then route
+     */
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("window", histograms.getWindow().toString());
+        report.put("routes", histograms.snapshot());
+        return report;
+    }
+
+    /**
+     * Reports the latency percentiles of every route in another format.
+     *
+     * @param format the format, only {@code prometheus} is supported
+     * @return the report, or null for an unknown format
+     */
+    @ReadOperation(produces = PROMETHEUS_TEXT)
+    public String export(@Selector String format) {
+        if (!"prometheus".equals(format)) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder(4096);
+        text.append("# HELP ").append(METRIC).append(" Latency of the requests by route over the last ")
+                .append(histograms.getWindow().toSeconds()).append("s\n");
+        text.append("# TYPE ").append(METRIC).append(" summary\n");
+        StringBuilder max = new StringBuilder(1024);
+        max.append("# HELP ").append(METRIC).append("_max Highest latency by route over the same window\n");
+        max.append("# TYPE ").append(METRIC).append("_max gauge\n");
+        histograms.snapshot().forEach((method, routes) -> routes.forEach((route, snapshot) -> {
+            String labels = "method=\"" + escape(method) + "\",route=\"" + escape(route) + "\"";
+            double[] values = {snapshot.p50(), snapshot.p90(), snapshot.p99(), snapshot.p999()};
+            for (int i = 0; i < QUANTILES.length; i++) {
+                text.append(METRIC).append('{').append(labels).append(",quantile=\"").append(QUANTILES[i])
+                        .append("\"} ").append(snapshot.count() == 0 ? Double.NaN : values[i] / 1_000).append('\n');
+            }
+            text.append(METRIC).append("_count{").append(labels).append("} ").append(snapshot.totalCount())
+                    .append('\n');
+            text.append(METRIC).append("_sum{").append(labels).append("} ").append(snapshot.totalSum() / 1_000)
+                    .append('\n');
+            max.append(METRIC).append("_max{").append(labels).append("} ").append(snapshot.max() / 1_000)
+                    .append('\n');
+        }));
+        return text.append(max).toString();
+    }
+
+    /**
+     * Drops every latency recorded.
+     */
+    @DeleteOperation
+    public void clear() {
+        histograms.clear();
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
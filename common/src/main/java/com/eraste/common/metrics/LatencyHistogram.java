@@ -0,0 +1,107 @@
+package com.eraste.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram of one route over a rolling window.
+ * <p>
+ * Latencies are recorded in microseconds into an HdrHistogram {@link Recorder}, whose
+ * recording is wait-free: concurrent requests never block each other, nor the reader.
+ * The window is split into slots, and one more slot holds the values of the slot in
+ * progress. Each {@link #rotate()} moves the values recorded so far into the current
+ * slot, then starts a new slot by dropping the oldest one, so the snapshot always
+ * covers the last full window plus the slot in progress.
+ * </p>
+ * <p>
+ * The total count and sum since the start are kept on the side, as Prometheus expects
+ * them to only grow.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private final Recorder recorder;
+    private final long highestMicros;
+    private final Histogram[] slots;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private Histogram interval;
+    private int head;
+
+    /**
+     * Creates a histogram.
+     *
+     * @param highestMicros     the highest latency told apart, in microseconds; longer ones are recorded as it
+     * @param significantDigits the number of significant decimal digits kept, from 1 to 5
+     * @param slots             the number of slots the window is split into
+     */
+    public LatencyHistogram(long highestMicros, int significantDigits, int slots) {
+        this.recorder = new Recorder(highestMicros, significantDigits);
+        this.highestMicros = highestMicros;
+        this.slots = new Histogram[slots + 1];
+        for (int i = 0; i < this.slots.length; i++) {
+            this.slots[i] = new Histogram(highestMicros, significantDigits);
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000, 1), highestMicros);
+        recorder.recordValue(micros);
+        totalCount.increment();
+        totalMicros.add(micros);
+    }
+
+    /**
+     * Closes the current slot and starts the next one, dropping the oldest.
+     */
+    public synchronized void rotate() {
+        drain();
+        head = (head + 1) % slots.length;
+        slots[head].reset();
+    }
+
+    /**
+     * Summarizes the latencies of the window.
+     *
+     * @return the summary
+     */
+    public synchronized LatencySnapshot snapshot() {
+        drain();
+        Histogram window = slots[0].copy();
+        for (int i = 1; i < slots.length; i++) {
+            window.add(slots[i]);
+        }
+        return LatencySnapshot.of(window, totalCount.sum(), totalMicros.sum());
+    }
+
+    /**
+     * Drops every latency recorded.
+     */
+    public synchronized void clear() {
+        drain();
+        for (Histogram slot : slots) {
+            slot.reset();
+        }
+        totalCount.reset();
+        totalMicros.reset();
+    }
+
+    /**
+     * Moves the values recorded since the last call into the current slot.
+     */
+    private void drain() {
+        interval = recorder.getIntervalHistogram(interval);
+        slots[head].add(interval);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eraste.common.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per-route latency histograms.
+ * <p>
+ * The default HTTP server metrics give the count, sum and max of each route; the
+ * percentiles are what tell a slow tail from a slow service. Every request is
+ * recorded in an HdrHistogram covering the last {@code latency-histograms.window},
+ * split into {@code latency-histograms.slots} slots, and the percentiles are served
+ * at {@code /actuator/latency}. Set {@code latency-histograms.enabled} to false to
+ * stop recording.
+ * </p>
+ * <p>
+ * The switch is read by the filter rather than as a condition on this class, since
+ * ahead-of-time processing evaluates conditions at build time.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class LatencyHistogramConfig {
+
+    /**
+     * Creates the histograms of the routes.
+     *
+     * @param window            the period the percentiles are computed over
+     * @param slots             the number of slots the window is split into
+     * @param highest           the highest latency told apart
+     * @param significantDigits the number of significant decimal digits kept
+     * @return the histograms
+     */
+    @Bean
+    public LatencyHistograms latencyHistograms(
+            @Value("${latency-histograms.window:60s}") Duration window,
+            @Value("${latency-histograms.slots:6}") int slots,
+            @Value("${latency-histograms.highest:60s}") Duration highest,
+            @Value("${latency-histograms.significant-digits:2}") int significantDigits) {
+        return new LatencyHistograms(window, slots, highest, significantDigits);
+    }
+
+    /**
+     * Creates the filter recording the latency of the requests.
+     *
+     * @param histograms   the histograms of the routes
+     * @param actuatorPath the base path of the actuator, left out
+     * @param enabled      whether the requests are recorded
+     * @return the filter
+     */
+    @Bean
+    public LatencyFilter latencyFilter(LatencyHistograms histograms,
+                                       @Value("${management.endpoints.web.base-path:/actuator}") String actuatorPath,
+                                       @Value("${latency-histograms.enabled:true}") boolean enabled) {
+        return new LatencyFilter(histograms, actuatorPath, enabled);
+    }
+
+    /**
+     * Creates the endpoint serving the percentiles.
+     *
+     * @param histograms the histograms of the routes
+     * @return the endpoint
+     */
+    @Bean
+    public LatencyEndpoint latencyEndpoint(LatencyHistograms histograms) {
+        return new LatencyEndpoint(histograms);
+    }
+}
@@ -0,0 +1,127 @@
+package com.eraste.common.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of the {@link LatencyHistogram} of every route, keyed by HTTP method and
+ * route pattern.
+ * <p>
+ * Histograms are created on the first request of a route and rotated by a daemon
+ * thread every window divided by the number of slots. Looking up the histogram of a
+ * request only reads two maps: no key is built per request.
+ * </p>
+ * <p>
+ * Methods outside the standard ones are recorded under {@value #OTHER_METHOD}, so that
+ * clients sending arbitrary methods cannot create a histogram each.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LatencyHistograms implements DisposableBean {
+
+    /** Method under which requests with a non-standard HTTP method are recorded. */
+    public static final String OTHER_METHOD = "OTHER";
+
+    private static final Set<String> METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final Duration window;
+    private final long highestMicros;
+    private final int significantDigits;
+    private final int slots;
+    private final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService rotator;
+
+    /**
+     * Creates the registry and starts rotating the windows.
+     *
+     * @param window            the period the percentiles are computed over
+     * @param slots             the number of slots the window is split into
+     * @param highest           the highest latency told apart
+     * @param significantDigits the number of significant decimal digits kept, from 1 to 5
+     */
+    public LatencyHistograms(Duration window, int slots, Duration highest, int significantDigits) {
+        this.window = window;
+        this.slots = slots;
+        this.highestMicros = highest.toNanos() / 1_000;
+        this.significantDigits = significantDigits;
+        this.rotator = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "latency-histogram-rotator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = window.toMillis() / slots;
+        this.rotator.scheduleAtFixedRate(this::rotate, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param method the HTTP method, recorded as {@value #OTHER_METHOD} unless standard
+     * @param route  the route pattern, e.g. {@code /users/{id}}
+     * @param nanos  the latency, in nanoseconds
+     */
+    public void record(String method, String route, long nanos) {
+        if (!METHODS.contains(method)) {
+            method = OTHER_METHOD;
+        }
+        Map<String, LatencyHistogram> routes = histograms.get(method);
+        if (routes == null) {
+            routes = histograms.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = routes.get(route);
+        if (histogram == null) {
+            histogram = routes.computeIfAbsent(route,
+                    key -> new LatencyHistogram(highestMicros, significantDigits, slots));
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Gets the period the percentiles are computed over.
+     *
+     * @return the window
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Summarizes the latencies of every route.
+     *
+     * @return the summaries, by method then route, sorted
+     */
+    public Map<String, Map<String, LatencySnapshot>> snapshot() {
+        Map<String, Map<String, LatencySnapshot>> snapshot = new TreeMap<>();
+        histograms.forEach((method, routes) -> routes.forEach((route, histogram) ->
+                snapshot.computeIfAbsent(method, key -> new TreeMap<>()).put(route, histogram.snapshot())));
+        return snapshot;
+    }
+
+    /**
+     * Drops every latency recorded.
+     */
+    public void clear() {
+        histograms.values().forEach(routes -> routes.values().forEach(LatencyHistogram::clear));
+    }
+
+    @Override
+    public void destroy() {
+        rotator.shutdownNow();
+    }
+
+    private void rotate() {
+        histograms.values().forEach(routes -> routes.values().forEach(LatencyHistogram::rotate));
+    }
+}
@@ -0,0 +1,48 @@
+package com.eraste.common.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency summary of a route over the rolling window, in milliseconds.
+ *
+ * @param count      the number of requests in the window
+ * @param mean       the mean latency in the window
+ * @param p50        the median latency
+ * @param p90        the 90th percentile
+ * @param p99        the 99th percentile
+ * @param p999       the 99.9th percentile
+ * @param max        the highest latency in the window
+ * @param totalCount the number of requests since the start
+ * @param totalSum   the summed latency of the requests since the start
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record LatencySnapshot(long count, double mean, double p50, double p90, double p99, double p999,
+                              double max, long totalCount, double totalSum) {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    /**
+     * Summarizes a histogram recorded in microseconds.
+     *
+     * @param window      the histogram of the window
+     * @param totalCount  the number of requests since the start
+     * @param totalMicros the summed latency since the start, in microseconds
+     * @return the summary
+     */
+    static LatencySnapshot of(Histogram window, long totalCount, long totalMicros) {
+        if (window.getTotalCount() == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0, totalCount, totalMicros / MICROS_PER_MILLI);
+        }
+        return new LatencySnapshot(window.getTotalCount(),
+                window.getMean() / MICROS_PER_MILLI,
+                window.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                window.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                window.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                window.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                window.getMaxValue() / MICROS_PER_MILLI,
+                totalCount,
+                totalMicros / MICROS_PER_MILLI);
+    }
+}
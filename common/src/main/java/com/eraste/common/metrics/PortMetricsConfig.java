@@ -0,0 +1,53 @@
+package com.eraste.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration of the latency metrics of the hexagonal ports.
+ * <p>
+ * Every call to a use case, a repository port or an outbound client is recorded in
+ * the {@code port.calls} timer, tagged with {@code port}, {@code adapter},
+ * {@code method} and {@code outcome}. The ports are selected by the suffix of their
+ * name, {@code port-metrics.suffixes}. Timers publish a percentile histogram unless
+ * {@code port-metrics.histogram} is false; set {@code port-metrics.enabled} to false to
+ * leave the beans unproxied.
+ * </p>
+ * <p>
+ * The switch is read when the post-processor is created rather than as a condition
+ * on this class, since ahead-of-time processing evaluates conditions at build time.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class PortMetricsConfig {
+
+    /**
+     * Creates the post-processor proxying the port implementations.
+     * <p>
+     * Static, as a post-processor must be created before the other beans of this class.
+     * </p>
+     *
+     * @param enabled       whether the ports are timed
+     * @param meterRegistry the provider of the registry receiving the timers
+     * @param suffixes      the simple name suffixes of the port types
+     * @param histogram     whether the timers publish a percentile histogram
+     * @return the post-processor
+     */
+    @Bean
+    public static PortTimingPostProcessor portTimingPostProcessor(
+            @Value("${port-metrics.enabled:true}") boolean enabled,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${port-metrics.suffixes:UseCase,RepositoryPort,Client}") List<String> suffixes,
+            @Value("${port-metrics.histogram:true}") boolean histogram) {
+        return new PortTimingPostProcessor(enabled, meterRegistry, suffixes, histogram);
+    }
+}
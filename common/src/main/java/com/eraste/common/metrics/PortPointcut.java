@@ -0,0 +1,109 @@
+package com.eraste.common.metrics;
+
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pointcut selecting the methods of the hexagonal ports.
+ * <p>
+ * A port is an interface of the application, or an application class such as an
+ * outbound HTTP client, whose simple name ends with one of the configured suffixes.
+ * The pointcut matches the public methods a bean implements for its ports, and
+ * nothing else: helper methods and {@link Object} methods are not timed.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class PortPointcut extends StaticMethodMatcherPointcut {
+
+    /** Package of the application types that may be ports. */
+    private static final String BASE_PACKAGE = "com.eraste.";
+
+    private final List<String> suffixes;
+    private final Map<Class<?>, List<Class<?>>> portsByClass = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a pointcut matching the ports with the given name suffixes.
+     *
+     * @param suffixes the simple name suffixes of the port types
+     */
+    PortPointcut(List<String> suffixes) {
+        this.suffixes = List.copyOf(suffixes);
+        setClassFilter(new PortClassFilter());
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return port(method, targetClass) != null;
+    }
+
+    /**
+     * Finds the port declaring a method of a bean.
+     *
+     * @param method      the method called
+     * @param targetClass the class of the bean
+     * @return the port type, or null if the method belongs to none
+     */
+    Class<?> port(Method method, Class<?> targetClass) {
+        for (Class<?> port : ports(targetClass)) {
+            try {
+                if (port.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass() != Object.class) {
+                    return port;
+                }
+            } catch (NoSuchMethodException e) {
+                // Declared by another port, or not a port method
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lists the ports of a bean class: its matching interfaces, then the class itself
+     * if its name matches.
+     *
+     * @param targetClass the class of the bean
+     * @return the port types, empty if the class implements none
+     */
+    private List<Class<?>> ports(Class<?> targetClass) {
+        return portsByClass.computeIfAbsent(ClassUtils.getUserClass(targetClass), type -> {
+            List<Class<?>> ports = new ArrayList<>();
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (isPort(candidate)) {
+                    ports.add(candidate);
+                }
+            }
+            if (isPort(type)) {
+                ports.add(type);
+            }
+            return List.copyOf(ports);
+        });
+    }
+
+    private boolean isPort(Class<?> type) {
+        if (!type.getName().startsWith(BASE_PACKAGE)) {
+            return false;
+        }
+        String name = type.getSimpleName();
+        return suffixes.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * Class filter accepting the classes implementing at least one port.
+     */
+    private final class PortClassFilter implements ClassFilter {
+
+        @Override
+        public boolean matches(Class<?> clazz) {
+            return !ports(clazz).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.eraste.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor recording the latency of port methods in the {@value #METRIC} timer.
+ * <p>
+ * Timers are tagged with the port, the adapter implementing it, the method and the
+ * outcome: {@code success}, or {@code error} when the method throws. They are resolved
+ * once per method and kept, so a call only costs two {@link System#nanoTime()} reads
+ * and a timer update. The meter registry is looked up on the first call, so that
+ * creating the interceptor does not initialize it ahead of the beans it times.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class PortTimingInterceptor implements MethodInterceptor {
+
+    /** Name of the timer. */
+    static final String METRIC = "port.calls";
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(100_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final PortPointcut pointcut;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean histogram;
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param pointcut      the pointcut resolving the port of a method
+     * @param meterRegistry the provider of the registry receiving the timers
+     * @param histogram     whether the timers publish a percentile histogram
+     */
+    PortTimingInterceptor(PortPointcut pointcut, ObjectProvider<MeterRegistry> meterRegistry, boolean histogram) {
+        this.pointcut = pointcut;
+        this.meterRegistry = meterRegistry;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timers methodTimers = timers.get(invocation.getMethod());
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(invocation.getMethod(), method -> timers(method, invocation));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timers timers(Method method, MethodInvocation invocation) {
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis()));
+        Class<?> port = pointcut.port(method, targetClass);
+        String portName = port != null ? port.getSimpleName() : targetClass.getSimpleName();
+        MeterRegistry registry = meterRegistry.getObject();
+        return new Timers(
+                timer(registry, portName, targetClass.getSimpleName(), method.getName(), "success"),
+                timer(registry, portName, targetClass.getSimpleName(), method.getName(), "error"));
+    }
+
+    private Timer timer(MeterRegistry registry, String port, String adapter, String method, String outcome) {
+        return Timer.builder(METRIC)
+                .description("Latency of the calls to the hexagonal ports")
+                .tag("port", port)
+                .tag("adapter", adapter)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(histogram)
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    /**
+     * Timers of one method.
+     *
+     * @param success the timer of the calls that returned
+     * @param error   the timer of the calls that threw
+     */
+    private record Timers(Timer success, Timer error) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.eraste.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/**
+ * Bean post-processor timing every call to the hexagonal ports of a service.
+ * <p>
+ * Beans implementing a port, as selected by {@link PortPointcut}, are proxied with a
+ * {@link PortTimingInterceptor}. A bean that is already proxied, typically for
+ * {@code @Transactional}, gets the interceptor in front of its existing advisors, so
+ * that the recorded time includes the transaction commit. Class-based proxies are
+ * used because adapters are also injected by their concrete type. When disabled, no
+ * bean is proxied.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PortMetricsConfig
+ */
+public class PortTimingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private final boolean enabled;
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param enabled       whether the ports are timed
+     * @param meterRegistry the provider of the registry receiving the timers
+     * @param suffixes      the simple name suffixes of the port types
+     * @param histogram     whether the timers publish a percentile histogram
+     */
+    public PortTimingPostProcessor(boolean enabled, ObjectProvider<MeterRegistry> meterRegistry,
+                                   List<String> suffixes, boolean histogram) {
+        this.enabled = enabled;
+        PortPointcut pointcut = new PortPointcut(suffixes);
+        this.advisor = new DefaultPointcutAdvisor(pointcut,
+                new PortTimingInterceptor(pointcut, meterRegistry, histogram));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    protected boolean isEligible(Class<?> targetClass) {
+        return enabled && super.isEligible(targetClass);
+    }
+}
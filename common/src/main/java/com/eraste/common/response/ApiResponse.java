@@ -3,6 +3,17 @@ package com.eraste.common.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 
+/**
+ * Envelope wrapping every response of the services.
+ * <p>
+ * Responses are stamped by {@link CoarseClock} and written by {@link ApiResponseSerializer}.
+ * </p>
+ *
+ * @param <T> the type of the payload
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
 
@@ -13,14 +24,14 @@ public class ApiResponse<T> {
     private String path;
 
     public ApiResponse() {
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = CoarseClock.now();
     }
 
     private ApiResponse(boolean success, String message, T data) {
         this.success = success;
         this.message = message;
         this.data = data;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = CoarseClock.now();
     }
 
     public static <T> ApiResponse<T> success(T data) {
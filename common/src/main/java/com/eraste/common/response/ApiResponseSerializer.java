@@ -0,0 +1,135 @@
+package com.eraste.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializer of the {@link ApiResponse} envelope wrapping every response.
+ * <p>
+ * The envelope is written field by field instead of through the reflective bean
+ * serializer: field names are pre-encoded, the timestamp of the current millisecond is
+ * encoded once by {@link CoarseClock} and shared by every response of that millisecond,
+ * and success messages, which are constants, are encoded on first use. The
+ * {@code data} payload is handed straight to the serializer of its runtime type, which
+ * writes to the same generator and so to the response output stream.
+ * </p>
+ * <p>
+ * The output matches the bean serializer's: {@code null} fields are left out, as the
+ * {@link com.fasterxml.jackson.annotation.JsonInclude} annotation of the envelope requires.
+ * When dates are configured as numeric timestamps, the timestamp is written by the
+ * configured serializer.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CoarseClock
+ */
+@JsonComponent
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    /** Maximum number of distinct success messages kept encoded. */
+    private static final int MAX_MESSAGES = 256;
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString PATH = new SerializedString("path");
+
+    private final Map<String, SerializableString> messages = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the envelope serializer.
+     */
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.isSuccess());
+
+        String message = response.getMessage();
+        if (message != null) {
+            gen.writeFieldName(MESSAGE);
+            writeMessage(message, response.isSuccess(), gen);
+        }
+
+        Object data = response.getData();
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            provider.findTypedValueSerializer(data.getClass(), true, null).serialize(data, gen, provider);
+        }
+
+        if (response.getTimestamp() != null) {
+            writeTimestamp(response, gen, provider);
+        }
+
+        String path = response.getPath();
+        if (path != null) {
+            gen.writeFieldName(PATH);
+            gen.writeString(path);
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes a message, encoding success messages once.
+     * <p>
+     * Error messages usually embed the failing value and are written as they are.
+     * </p>
+     *
+     * @param message the message
+     * @param success whether the message is a success message
+     * @param gen     the generator
+     * @throws IOException if the message cannot be written
+     */
+    private void writeMessage(String message, boolean success, JsonGenerator gen) throws IOException {
+        SerializableString encoded = success ? messages.get(message) : null;
+        if (encoded == null && success && messages.size() < MAX_MESSAGES) {
+            encoded = messages.computeIfAbsent(message, SerializedString::new);
+        }
+        if (encoded != null) {
+            gen.writeString(encoded);
+        } else {
+            gen.writeString(message);
+        }
+    }
+
+    /**
+     * Writes the timestamp, reusing the encoded text of the current millisecond.
+     *
+     * @param response the response
+     * @param gen      the generator
+     * @param provider the provider of the configured date serializer
+     * @throws IOException if the timestamp cannot be written
+     */
+    private void writeTimestamp(ApiResponse response, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeField(TIMESTAMP.getValue(), response.getTimestamp(), gen);
+            return;
+        }
+        gen.writeFieldName(TIMESTAMP);
+        SerializableString encoded = CoarseClock.encoded(response.getTimestamp());
+        if (encoded != null) {
+            gen.writeString(encoded);
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(response.getTimestamp()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.eraste.common.response;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Millisecond clock stamping {@link ApiResponse}s.
+ * <p>
+ * {@link LocalDateTime#now()} resolves the zone offset and allocates a new date for
+ * every call. This clock does so at most once per millisecond: responses created
+ * within the same millisecond share the same immutable timestamp, along with its
+ * ISO-8601 text already encoded for {@link ApiResponseSerializer}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CoarseClock {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Tick tick = new Tick(Long.MIN_VALUE, LocalDateTime.MIN, null);
+
+    private CoarseClock() {
+    }
+
+    /**
+     * Gets the current time, truncated to the millisecond.
+     *
+     * @return the current local date-time
+     */
+    static LocalDateTime now() {
+        return current().time();
+    }
+
+    /**
+     * Gets the encoded text of a timestamp obtained from {@link #now()}.
+     *
+     * @param time the timestamp to encode
+     * @return the encoded ISO-8601 text, or null if the timestamp is not the current tick
+     */
+    static SerializableString encoded(LocalDateTime time) {
+        Tick current = tick;
+        return current.time() == time ? current.encoded() : null;
+    }
+
+    private static Tick current() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() != millis) {
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+            current = new Tick(millis, time, new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time)));
+            tick = current;
+        }
+        return current;
+    }
+
+    /**
+     * Timestamp of one millisecond and its encoded text.
+     *
+     * @param millis  the epoch millisecond
+     * @param time    the local date-time of that millisecond
+     * @param encoded the ISO-8601 text of the date-time
+     */
+    private record Tick(long millis, LocalDateTime time, SerializableString encoded) {
+    }
+}
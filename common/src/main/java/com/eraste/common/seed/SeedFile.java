@@ -0,0 +1,87 @@
+package com.eraste.common.seed;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming reader of a seed data file.
+ * <p>
+ * Reads the records of a JSON array, as in the {@code data/jsons} fixtures, or of
+ * newline-delimited JSON, one record at a time. Only the current record is held in
+ * memory, so fixtures scaled up to millions of rows can be loaded with a small heap.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SeedFile implements Iterator<JsonNode>, Closeable {
+
+    private final Path path;
+    private final JsonParser parser;
+    private final boolean array;
+
+    private SeedFile(Path path, JsonParser parser, boolean array) {
+        this.path = path;
+        this.parser = parser;
+        this.array = array;
+    }
+
+    /**
+     * Opens a seed file and positions it on its first record.
+     *
+     * @param objectMapper the mapper used to parse records
+     * @param path         the file to read
+     * @return the open seed file
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is neither a JSON array nor JSON objects
+     */
+    public static SeedFile open(ObjectMapper objectMapper, Path path) throws IOException {
+        JsonParser parser = objectMapper.createParser(Files.newInputStream(path));
+        JsonToken first = parser.nextToken();
+        if (first != null && first != JsonToken.START_ARRAY && first != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new IllegalArgumentException("Seed file must be a JSON array or newline-delimited JSON: " + path);
+        }
+        boolean array = first == JsonToken.START_ARRAY;
+        if (array) {
+            parser.nextToken();
+        }
+        return new SeedFile(path, parser, array);
+    }
+
+    @Override
+    public boolean hasNext() {
+        JsonToken token = parser.currentToken();
+        return token != null && !(array && token == JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public JsonNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            JsonNode record = parser.readValueAsTree();
+            parser.nextToken();
+            return record;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read seed file " + path, ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,104 @@
+package com.eraste.common.seed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Streams seed data files into the database in chunks.
+ * <p>
+ * Records are read with {@link SeedFile}, grouped in chunks of {@code batchSize}
+ * and written in one transaction per chunk, so the size of a file only affects the
+ * duration of the load. Each load returns a {@link SeedReport} with its throughput.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SeedLoader {
+
+    private final ObjectMapper objectMapper;
+    private final SeedWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructs a SeedLoader.
+     *
+     * @param objectMapper        the mapper used to parse seed files
+     * @param writer              the writer of the target database
+     * @param transactionTemplate the template running each chunk in its own transaction
+     * @param batchSize           the number of records written per chunk
+     */
+    public SeedLoader(ObjectMapper objectMapper, SeedWriter writer,
+                      TransactionTemplate transactionTemplate, int batchSize) {
+        this.objectMapper = objectMapper;
+        this.writer = writer;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the writer of the target database.
+     *
+     * @return the seed writer
+     */
+    public SeedWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Loads a seed file into a single table.
+     *
+     * @param file   the seed file
+     * @param table  the target table
+     * @param mapper maps a record to row values, in the column order of the table
+     * @return the report of the load
+     * @throws IOException if the file cannot be read
+     */
+    public SeedReport load(Path file, SeedTable table, Function<JsonNode, Object[]> mapper) throws IOException {
+        return load(file, table.getName(), chunk -> {
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (JsonNode record : chunk) {
+                rows.add(mapper.apply(record));
+            }
+            return writer.insertMissing(table, rows);
+        });
+    }
+
+    /**
+     * Loads a seed file with a custom chunk writer, for records spanning several tables.
+     *
+     * @param file        the seed file
+     * @param name        the name reported for the load
+     * @param chunkWriter writes a chunk of records and returns the number of records inserted
+     * @return the report of the load
+     * @throws IOException if the file cannot be read
+     */
+    public SeedReport load(Path file, String name, ToIntFunction<List<JsonNode>> chunkWriter) throws IOException {
+        long start = System.nanoTime();
+        long read = 0;
+        long inserted = 0;
+        try (SeedFile records = SeedFile.open(objectMapper, file)) {
+            List<JsonNode> chunk = new ArrayList<>(batchSize);
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == batchSize || !records.hasNext()) {
+                    read += chunk.size();
+                    inserted += transactionTemplate.execute(status -> chunkWriter.applyAsInt(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        return new SeedReport(name, read, inserted, Duration.ofNanos(System.nanoTime() - start));
+    }
+}
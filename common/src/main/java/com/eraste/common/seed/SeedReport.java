@@ -0,0 +1,105 @@
+package com.eraste.common.seed;
+
+import java.time.Duration;
+
+/**
+ * Outcome of loading one seed data file into a table.
+ * <p>
+ * Records already present, as identified by the natural key of the table, are
+ * skipped, so {@code inserted} is lower than {@code read} when a seed is replayed.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SeedReport {
+
+    /** Name of the seeded table. */
+    private final String table;
+
+    /** Number of records read from the file. */
+    private final long read;
+
+    /** Number of rows inserted. */
+    private final long inserted;
+
+    /** Time spent reading and writing. */
+    private final Duration elapsed;
+
+    /**
+     * Constructs a SeedReport.
+     *
+     * @param table    the name of the seeded table
+     * @param read     the number of records read from the file
+     * @param inserted the number of rows inserted
+     * @param elapsed  the time spent reading and writing
+     */
+    public SeedReport(String table, long read, long inserted, Duration elapsed) {
+        this.table = table;
+        this.read = read;
+        this.inserted = inserted;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Gets the name of the seeded table.
+     *
+     * @return the table name
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of records read from the file.
+     *
+     * @return the number of records read
+     */
+    public long getRead() {
+        return read;
+    }
+
+    /**
+     * Gets the number of rows inserted.
+     *
+     * @return the number of rows inserted
+     */
+    public long getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Gets the number of records skipped because they were already present.
+     *
+     * @return the number of records skipped
+     */
+    public long getSkipped() {
+        return read - inserted;
+    }
+
+    /**
+     * Gets the time spent reading and writing.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Gets the throughput of the load, in records read per second.
+     *
+     * @return the number of records read per second
+     */
+    public double getRowsPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return read * 1_000_000_000d / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d read, %d inserted, %d skipped in %d ms (%.0f rows/s)",
+                table, read, inserted, getSkipped(), elapsed.toMillis(), getRowsPerSecond());
+    }
+}
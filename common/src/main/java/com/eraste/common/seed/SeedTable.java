@@ -0,0 +1,70 @@
+package com.eraste.common.seed;
+
+import java.util.List;
+
+/**
+ * Target table of a seed load.
+ * <p>
+ * Lists the columns written by the load, in the order of the row values, and the
+ * natural keys used to recognize rows that are already present. Each natural key is
+ * a single unique column; a row is skipped if any of its keys is already taken.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SeedTable {
+
+    /** Name of the table. */
+    private final String name;
+
+    /** Columns written by the load. */
+    private final List<String> columns;
+
+    /** Unique columns identifying rows that are already present. */
+    private final List<String> naturalKeys;
+
+    /**
+     * Constructs a SeedTable.
+     *
+     * @param name        the name of the table
+     * @param columns     the columns written by the load, in row value order
+     * @param naturalKeys the unique columns identifying existing rows, possibly none
+     */
+    public SeedTable(String name, List<String> columns, List<String> naturalKeys) {
+        if (!columns.containsAll(naturalKeys)) {
+            throw new IllegalArgumentException("Natural keys must be written columns of " + name);
+        }
+        this.name = name;
+        this.columns = List.copyOf(columns);
+        this.naturalKeys = List.copyOf(naturalKeys);
+    }
+
+    /**
+     * Gets the name of the table.
+     *
+     * @return the table name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the columns written by the load.
+     *
+     * @return the columns, in row value order
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the unique columns identifying rows that are already present.
+     *
+     * @return the natural keys
+     */
+    public List<String> getNaturalKeys() {
+        return naturalKeys;
+    }
+}
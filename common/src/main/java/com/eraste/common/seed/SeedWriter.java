@@ -0,0 +1,196 @@
+package com.eraste.common.seed;
+
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes chunks of seed rows into a table, skipping rows that are already present.
+ * <p>
+ * On PostgreSQL a chunk is streamed with {@code COPY} into a temporary staging table,
+ * then moved into the target with a single {@code INSERT ... ON CONFLICT DO NOTHING}.
+ * On other databases (H2 in development) the natural keys of the chunk are looked up
+ * with one query per key, and the missing rows are written with a JDBC batch insert.
+ * </p>
+ * <p>
+ * Both paths must run inside a transaction, so that every statement of a chunk uses
+ * the same connection. The staging table is dropped when that transaction ends, so a
+ * table can be written at most once per transaction.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SeedWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final boolean postgres;
+
+    /**
+     * Constructs a SeedWriter and detects the database behind the template.
+     *
+     * @param jdbcTemplate the JDBC template of the target database
+     */
+    public SeedWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * Checks if rows are written with {@code COPY}.
+     *
+     * @return true on PostgreSQL, false otherwise
+     */
+    public boolean isCopySupported() {
+        return postgres;
+    }
+
+    /**
+     * Inserts the rows of a chunk whose natural keys are not taken yet.
+     *
+     * @param table the target table
+     * @param rows  the row values, in the column order of the table
+     * @return the number of rows inserted
+     */
+    public int insertMissing(SeedTable table, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        return postgres ? copyMissing(table, rows) : batchInsertMissing(table, rows);
+    }
+
+    /**
+     * PostgreSQL path: {@code COPY} into a staging table, then a set-based insert.
+     *
+     * @param table the target table
+     * @param rows  the row values
+     * @return the number of rows inserted
+     */
+    private int copyMissing(SeedTable table, List<Object[]> rows) {
+        String columns = String.join(", ", table.getColumns());
+        if (table.getNaturalKeys().isEmpty()) {
+            copy(table.getName(), columns, rows);
+            return rows.size();
+        }
+        String staging = "seed_" + table.getName();
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE " + staging + " ON COMMIT DROP AS SELECT "
+                + columns + " FROM " + table.getName() + " WITH NO DATA");
+        copy(staging, columns, rows);
+        return jdbcTemplate.update("INSERT INTO " + table.getName() + " (" + columns + ") SELECT "
+                + columns + " FROM " + staging + " ON CONFLICT DO NOTHING");
+    }
+
+    /**
+     * Streams rows into a table with {@code COPY ... FROM STDIN} in CSV format.
+     *
+     * @param table   the table to copy into
+     * @param columns the comma-separated column list
+     * @param rows    the row values
+     */
+    private void copy(String table, String columns, List<Object[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendCsv(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return new CopyManager(connection.unwrap(BaseConnection.class))
+                        .copyIn(sql, new StringReader(csv.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Appends one value in PostgreSQL CSV format, where an unquoted empty field is NULL.
+     *
+     * @param csv   the CSV being built
+     * @param value the value to append
+     */
+    private static void appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            csv.append(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+            return;
+        }
+        String text = value.toString();
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    /**
+     * Generic path: look up taken natural keys, then batch insert the other rows.
+     *
+     * @param table the target table
+     * @param rows  the row values
+     * @return the number of rows inserted
+     */
+    private int batchInsertMissing(SeedTable table, List<Object[]> rows) {
+        List<String> keys = table.getNaturalKeys();
+        int[] keyIndexes = keys.stream().mapToInt(table.getColumns()::indexOf).toArray();
+        List<Set<Object>> taken = new ArrayList<>(keys.size());
+        for (int k = 0; k < keys.size(); k++) {
+            int index = keyIndexes[k];
+            Set<Object> values = rows.stream().map(row -> row[index]).collect(Collectors.toSet());
+            taken.add(new HashSet<>(namedJdbcTemplate.queryForList(
+                    "SELECT " + keys.get(k) + " FROM " + table.getName() + " WHERE " + keys.get(k) + " IN (:values)",
+                    Map.of("values", values), Object.class)));
+        }
+
+        List<Object[]> missing = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            boolean present = false;
+            for (int k = 0; k < keys.size() && !present; k++) {
+                present = taken.get(k).contains(row[keyIndexes[k]]);
+            }
+            if (!present) {
+                for (int k = 0; k < keys.size(); k++) {
+                    taken.get(k).add(row[keyIndexes[k]]);
+                }
+                missing.add(row);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        String placeholders = table.getColumns().stream().map(column -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.batchUpdate("INSERT INTO " + table.getName() + " (" + String.join(", ", table.getColumns())
+                + ") VALUES (" + placeholders + ")", missing);
+        return missing.size();
+    }
+}
@@ -0,0 +1,152 @@
+package com.eraste.common.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint reporting the Hibernate statistics and the slow SQL statements.
+ * <p>
+ * {@code GET /actuator/hibernate} returns the session, statement, entity, collection
+ * and cache counters of Hibernate, the queries taking the most time overall, and the
+ * statements slower than {@code slow-query.threshold} with the types of their binds and
+ * the repository method that ran them. {@code DELETE /actuator/hibernate} resets both,
+ * e.g. before a load test. Hibernate only counts when
+ * {@code spring.jpa.properties.hibernate.generate_statistics} is on, which the services
+ * leave off unless {@code HIBERNATE_STATISTICS} is set; the slow statements are always
+ * recorded.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private static final int TOP_QUERIES = 10;
+
+    private final Statistics statistics;
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param entityManagerFactory the entity manager factory of the service
+     * @param slowQueryLog         the log of the slow statements
+     */
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory, SlowQueryLog slowQueryLog) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * Reports the statistics.
+     *
+     * @return the statistics, grouped by topic
+     */
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", statistics.isStatisticsEnabled());
+        report.put("since", statistics.getStart());
+
+        Map<String, Object> sessions = new LinkedHashMap<>();
+        sessions.put("opened", statistics.getSessionOpenCount());
+        sessions.put("closed", statistics.getSessionCloseCount());
+        sessions.put("transactions", statistics.getTransactionCount());
+        sessions.put("successfulTransactions", statistics.getSuccessfulTransactionCount());
+        sessions.put("flushes", statistics.getFlushCount());
+        sessions.put("connections", statistics.getConnectCount());
+        report.put("sessions", sessions);
+
+        Map<String, Object> statements = new LinkedHashMap<>();
+        statements.put("prepared", statistics.getPrepareStatementCount());
+        statements.put("closed", statistics.getCloseStatementCount());
+        statements.put("queries", statistics.getQueryExecutionCount());
+        statements.put("queryMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        statements.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        report.put("statements", statements);
+
+        Map<String, Object> entities = new LinkedHashMap<>();
+        entities.put("loads", statistics.getEntityLoadCount());
+        entities.put("fetches", statistics.getEntityFetchCount());
+        entities.put("inserts", statistics.getEntityInsertCount());
+        entities.put("updates", statistics.getEntityUpdateCount());
+        entities.put("deletes", statistics.getEntityDeleteCount());
+        entities.put("optimisticFailures", statistics.getOptimisticFailureCount());
+        entities.put("collectionLoads", statistics.getCollectionLoadCount());
+        entities.put("collectionFetches", statistics.getCollectionFetchCount());
+        report.put("entities", entities);
+
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("secondLevel", cache(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        caches.put("query", cache(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        caches.put("queryPlan", cache(statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount(), 0));
+        report.put("caches", caches);
+
+        report.put("topQueries", topQueries());
+
+        Map<String, Object> slow = new LinkedHashMap<>();
+        slow.put("thresholdMs", slowQueryLog.getThreshold().toNanos() / 1_000_000.0);
+        slow.put("count", slowQueryLog.getCount());
+        slow.put("statements", slowQueryLog.getStatements());
+        report.put("slowStatements", slow);
+        return report;
+    }
+
+    /**
+     * Resets the Hibernate statistics and drops the slow statements.
+     */
+    @DeleteOperation
+    public void clear() {
+        statistics.clear();
+        slowQueryLog.clear();
+    }
+
+    private static Map<String, Object> cache(long hits, long misses, long puts) {
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("hits", hits);
+        cache.put("misses", misses);
+        cache.put("puts", puts);
+        cache.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return cache;
+    }
+
+    /**
+     * Lists the HQL queries taking the most time overall, leaving out those never run.
+     */
+    private List<Map<String, Object>> topQueries() {
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> Map.entry(query, statistics.getQueryStatistics(query)))
+                .filter(entry -> entry.getValue().getExecutionCount() > 0)
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, QueryStatistics> entry) -> entry.getValue().getExecutionTotalTime()).reversed())
+                .limit(TOP_QUERIES)
+                .map(entry -> {
+                    QueryStatistics query = entry.getValue();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("query", entry.getKey());
+                    row.put("executions", query.getExecutionCount());
+                    row.put("rows", query.getExecutionRowCount());
+                    row.put("totalTimeMs", query.getExecutionTotalTime());
+                    row.put("avgTimeMs", query.getExecutionAvgTimeAsDouble());
+                    row.put("maxTimeMs", query.getExecutionMaxTime());
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.eraste.common.sql;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interceptor remembering which Spring Data repository method the current thread is in.
+ * <p>
+ * The statements it runs are attributed to that method, e.g.
+ * {@code OrderJpaRepository.findAllRows}, by {@link SlowQueryDataSource}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class RepositoryMethodContext implements MethodInterceptor {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Class<?> repositoryInterface;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor of a repository.
+     *
+     * @param repositoryInterface the repository interface
+     */
+    RepositoryMethodContext(Class<?> repositoryInterface) {
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    /**
+     * Gets the repository method the current thread is in.
+     *
+     * @return the repository method, or null outside of a repository call
+     */
+    static String current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String outer = CURRENT.get();
+        CURRENT.set(names.computeIfAbsent(invocation.getMethod(),
+                method -> repositoryInterface.getSimpleName() + "." + method.getName()));
+        try {
+            return invocation.proceed();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.eraste.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Data source timing every statement executed through its connections.
+ * <p>
+ * Connections and statements are wrapped in light proxies: each {@code execute*} call
+ * is timed and, when slower than the threshold of the {@link SlowQueryLog}, recorded
+ * with its SQL text, the types bound to its placeholders, its batch size and the
+ * repository method that ran it. For statements run outside of a repository, such as
+ * {@code JdbcTemplate} calls, the first application frame of the stack is used instead;
+ * the stack is only walked for slow statements. Bound values are never kept.
+ * </p>
+ * <p>
+ * Every other call is passed through, including {@code unwrap}, so that driver
+ * specific features such as the PostgreSQL {@code COPY} of the seed loaders keep
+ * working.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final String APPLICATION_PACKAGE = "com.eraste.";
+    private static final String OWN_PACKAGE = SlowQueryDataSource.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Wraps a data source.
+     *
+     * @param target       the data source handing out the connections
+     * @param slowQueryLog the log receiving the slow statements
+     */
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[]{type},
+                handler));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Finds the method that ran a statement.
+     *
+     * @return the repository method, or the first application method of the stack
+     */
+    private static String origin() {
+        String repositoryMethod = RepositoryMethodContext.current();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse(null));
+    }
+
+    /**
+     * Handler of a connection, wrapping the statements it creates.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return wrap(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Handler of a statement, timing its executions and tracking its binds.
+     * <p>
+     * A statement is only used by one thread at a time, so its state is not synchronized.
+     * </p>
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private static final Object[] NO_BINDS = new Object[0];
+
+        private final Statement target;
+        private final String sql;
+        private Object[] binds = NO_BINDS;
+        private int bindCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (args != null && args.length >= 2 && args[0] instanceof Integer index && name.startsWith("set")) {
+                bind(index, name.equals("setObject") ? args[1] : method);
+            } else if (name.equals("addBatch") && args == null) {
+                batchSize++;
+            } else if (name.equals("clearParameters")) {
+                bindCount = 0;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (slowQueryLog.isSlow(elapsed)) {
+                    String text = args != null && args.length > 0 && args[0] instanceof String executed ? executed : sql;
+                    slowQueryLog.record(elapsed, text, shape(), batchSize, origin());
+                }
+                if (method.getName().equals("executeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        /**
+         * Records what is bound to a placeholder: the setter, or the class of the value
+         * given to {@code setObject}.
+         */
+        private void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value instanceof Method || value == null ? value : value.getClass();
+            bindCount = Math.max(bindCount, index);
+        }
+
+        private List<String> shape() {
+            List<String> shape = new ArrayList<>(bindCount);
+            for (int i = 0; i < bindCount; i++) {
+                if (binds[i] instanceof Method setter) {
+                    shape.add(setter.getName().equals("setNull") ? "null" : setter.getName().substring(3));
+                } else if (binds[i] instanceof Class<?> type) {
+                    shape.add(type.getSimpleName());
+                } else {
+                    shape.add("null");
+                }
+            }
+            return shape;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.eraste.common.sql;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer of the last SQL statements slower than a threshold.
+ * <p>
+ * Statements are recorded by the connections of {@link SlowQueryDataSource}. Once
+ * the buffer is full each new slow statement replaces the oldest one, so the buffer
+ * always reflects the recent behaviour of the service.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowStatement> statements;
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Creates a log.
+     *
+     * @param threshold the execution time above which a statement is recorded
+     * @param capacity  the number of statements kept
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SlowQueryLog(Duration threshold, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.statements = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Tells whether an execution time is over the threshold.
+     *
+     * @param nanos the execution time, in nanoseconds
+     * @return true if a statement that long must be recorded
+     */
+    boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    /**
+     * Records a slow statement.
+     *
+     * @param nanos     the execution time, in nanoseconds
+     * @param sql       the SQL text
+     * @param binds     the types bound to the placeholders
+     * @param batchSize the number of rows of a batch, or 0
+     * @param origin    the method that ran the statement
+     */
+    void record(long nanos, String sql, List<String> binds, int batchSize, String origin) {
+        SlowStatement statement = new SlowStatement(LocalDateTime.now(), nanos / 1_000_000.0, sql, binds,
+                batchSize, origin, Thread.currentThread().getName());
+        statements.set((int) (count.getAndIncrement() % statements.length()), statement);
+    }
+
+    /**
+     * Gets the threshold.
+     *
+     * @return the execution time above which a statement is recorded
+     */
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    /**
+     * Gets the number of slow statements recorded since the start or the last reset,
+     * including those no longer kept.
+     *
+     * @return the number of slow statements
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the statements kept, slowest first.
+     *
+     * @return the slow statements
+     */
+    public List<SlowStatement> getStatements() {
+        List<SlowStatement> kept = new ArrayList<>(statements.length());
+        for (int i = 0; i < statements.length(); i++) {
+            SlowStatement statement = statements.get(i);
+            if (statement != null) {
+                kept.add(statement);
+            }
+        }
+        kept.sort(Comparator.comparingDouble(SlowStatement::durationMs).reversed());
+        return kept;
+    }
+
+    /**
+     * Drops every statement kept and resets the count.
+     */
+    public void clear() {
+        for (int i = 0; i < statements.length(); i++) {
+            statements.set(i, null);
+        }
+        count.set(0);
+    }
+}
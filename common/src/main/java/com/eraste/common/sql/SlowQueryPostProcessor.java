@@ -0,0 +1,62 @@
+package com.eraste.common.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * Bean post-processor recording the slow SQL statements of a service.
+ * <p>
+ * The data source is wrapped in a {@link SlowQueryDataSource}, and every Spring Data
+ * repository gets a {@link RepositoryMethodContext} so that the statements it runs
+ * are attributed to the repository method. When disabled, beans are left untouched.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SlowQueryPostProcessor implements BeanPostProcessor {
+
+    private final SlowQueryLog slowQueryLog;
+    private final boolean enabled;
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param slowQueryLog the log receiving the slow statements
+     * @param enabled      whether statements are timed
+     */
+    public SlowQueryPostProcessor(SlowQueryLog slowQueryLog, boolean enabled) {
+        this.slowQueryLog = slowQueryLog;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the log receiving the slow statements.
+     *
+     * @return the slow query log
+     */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new RepositoryMethodContext(information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+            return new SlowQueryDataSource(dataSource, slowQueryLog);
+        }
+        return bean;
+    }
+}
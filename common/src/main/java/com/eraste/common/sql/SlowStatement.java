@@ -0,0 +1,22 @@
+package com.eraste.common.sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SQL statement that ran longer than the slow query threshold.
+ *
+ * @param timestamp  the time the statement completed
+ * @param durationMs the execution time, in milliseconds
+ * @param sql        the SQL text, with its {@code ?} placeholders
+ * @param binds      the types bound to the placeholders, in order; values are never kept
+ * @param batchSize  the number of rows of a batch, or 0 for a single execution
+ * @param origin     the repository method, or failing that the application method, that ran it
+ * @param thread     the name of the thread that ran it
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record SlowStatement(LocalDateTime timestamp, double durationMs, String sql, List<String> binds,
+                            int batchSize, String origin, String thread) {
+}
@@ -0,0 +1,55 @@
+package com.eraste.common.sql;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the SQL diagnostics of the services.
+ * <p>
+ * The SQL is no longer written to the console: logging every statement costs more
+ * than the statements themselves under load. Instead, the statements slower than
+ * {@code slow-query.threshold} are kept, the last {@code slow-query.capacity} of them,
+ * and served at {@code /actuator/hibernate} along with the Hibernate statistics.
+ * Setting {@code slow-query.enabled} to false removes the JDBC wrapping altogether.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class SqlDiagnosticsConfig {
+
+    /**
+     * Creates the post-processor recording the slow statements.
+     *
+     * @param enabled   whether statements are timed
+     * @param threshold the execution time above which a statement is recorded
+     * @param capacity  the number of slow statements kept
+     * @return the post-processor
+     */
+    @Bean
+    public static SlowQueryPostProcessor slowQueryPostProcessor(
+            @Value("${slow-query.enabled:true}") boolean enabled,
+            @Value("${slow-query.threshold:100ms}") Duration threshold,
+            @Value("${slow-query.capacity:100}") int capacity) {
+        return new SlowQueryPostProcessor(new SlowQueryLog(threshold, capacity), enabled);
+    }
+
+    /**
+     * Creates the endpoint serving the Hibernate statistics and the slow statements.
+     *
+     * @param entityManagerFactory   the entity manager factory of the service
+     * @param slowQueryPostProcessor the post-processor holding the slow statements
+     * @return the endpoint
+     */
+    @Bean
+    public HibernateStatisticsEndpoint hibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory,
+                                                                   SlowQueryPostProcessor slowQueryPostProcessor) {
+        return new HibernateStatisticsEndpoint(entityManagerFactory, slowQueryPostProcessor.getSlowQueryLog());
+    }
+}
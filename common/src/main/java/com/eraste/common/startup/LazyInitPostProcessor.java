@@ -0,0 +1,72 @@
+package com.eraste.common.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Bean factory post-processor deferring the creation of a chosen set of beans to their
+ * first use.
+ * <p>
+ * Each entry of the set is a bean name, a class name, or a package followed by
+ * {@code .*}. A bean declared by a {@code @Bean} method matches through the class
+ * declaring the method too, so {@code org.springdoc.*} covers the beans of the
+ * springdoc auto-configurations. A lazy bean still gets created at startup when an
+ * eager bean depends on it.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LazyInitPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> beans;
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param beans the bean names, class names and packages of the beans to defer
+     */
+    public LazyInitPostProcessor(List<String> beans) {
+        this.beans = beans;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition.isSingleton() && !definition.isAbstract()
+                    && (matches(name) || matches(definition.getBeanClassName())
+                    || matches(declaringClassName(beanFactory, definition)))) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean matches(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (String bean : beans) {
+            if (bean.endsWith(".*") ? value.startsWith(bean.substring(0, bean.length() - 1)) : value.equals(bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName == null || !beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return null;
+        }
+        String className = beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        // @Configuration classes have been replaced by their CGLIB subclass by now
+        int generated = className != null ? className.indexOf(ClassUtils.CGLIB_CLASS_SEPARATOR) : -1;
+        return generated > 0 ? className.substring(0, generated) : className;
+    }
+}
@@ -0,0 +1,20 @@
+package com.eraste.common.startup;
+
+import java.util.Map;
+
+/**
+ * Step of the application startup, as reported by {@link StartupTimelineEndpoint}.
+ *
+ * @param id         the ID of the step
+ * @param parentId   the ID of the enclosing step, or null
+ * @param name       the name of the step, e.g. {@code spring.beans.instantiate}
+ * @param tags       the tags of the step, e.g. the bean name
+ * @param durationMs the time from the start to the end of the step, in milliseconds
+ * @param selfMs     the duration minus the durations of the nested steps, in milliseconds
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record StartupStepSummary(long id, Long parentId, String name, Map<String, String> tags, double durationMs,
+                                 double selfMs) {
+}
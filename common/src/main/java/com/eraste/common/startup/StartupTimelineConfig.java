@@ -0,0 +1,50 @@
+package com.eraste.common.startup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.util.List;
+
+/**
+ * Configuration of the startup diagnostics of the services.
+ * <p>
+ * The services record their startup steps in a buffer, served at
+ * {@code /actuator/timeline} to tell where the startup time goes. The beans listed
+ * in {@code lazy-init.beans} are created on first use rather than at startup when
+ * {@code lazy-init.enabled} is true, as in the {@code prod} profile.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class StartupTimelineConfig {
+
+    /**
+     * Creates the post-processor deferring the beans not needed at startup.
+     *
+     * @param enabled whether the beans are deferred
+     * @param beans   the bean names, class names and packages of the beans to defer
+     * @return the post-processor
+     */
+    @Bean
+    public static LazyInitPostProcessor lazyInitPostProcessor(
+            @Value("${lazy-init.enabled:false}") boolean enabled,
+            @Value("${lazy-init.beans:}") List<String> beans) {
+        return new LazyInitPostProcessor(enabled ? beans : List.of());
+    }
+
+    /**
+     * Creates the endpoint serving the startup steps.
+     *
+     * @param applicationStartup the application startup of the context
+     * @return the endpoint
+     */
+    @Bean
+    public StartupTimelineEndpoint startupTimelineEndpoint(ApplicationStartup applicationStartup) {
+        return new StartupTimelineEndpoint(applicationStartup);
+    }
+}
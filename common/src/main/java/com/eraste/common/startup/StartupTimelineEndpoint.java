@@ -0,0 +1,105 @@
+package com.eraste.common.startup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint reading the startup steps recorded by a {@link BufferingApplicationStartup}.
+ * <p>
+ * {@code GET /actuator/timeline} returns the longest steps of the startup, e.g. the
+ * instantiation of a bean or the refresh of the context, with their own time once
+ * the nested steps are taken out. {@code ?by=self} sorts them by that own time, which
+ * points at the beans that are slow to create rather than at their parents, and
+ * {@code ?limit=} sets the number of steps returned, 50 by default, a negative limit
+ * returning none and a limit past the last step returning them all. Unlike the
+ * {@code startup} endpoint of Spring Boot, reading the timeline does not drain it.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Endpoint(id = "timeline")
+public class StartupTimelineEndpoint {
+
+    /** Number of steps kept by the {@link BufferingApplicationStartup} of the services. */
+    public static final int CAPACITY = 10_000;
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final ApplicationStartup applicationStartup;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param applicationStartup the application startup of the context
+     */
+    public StartupTimelineEndpoint(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Reports the longest startup steps.
+     *
+     * @param limit the number of steps returned, clamped to the number of steps
+     * @param by    {@code self} to sort by own time rather than by duration
+     * @return the start, the total duration, the number of steps and the longest of them
+     */
+    @ReadOperation
+    public Map<String, Object> timeline(@Nullable Integer limit, @Nullable String by) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            report.put("buffered", false);
+            return report;
+        }
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        Map<Long, Duration> nested = new HashMap<>();
+        Instant end = timeline.getStartTime();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+            if (event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+        }
+        List<StartupStepSummary> steps = new ArrayList<>(timeline.getEvents().size());
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            Map<String, String> tags = new LinkedHashMap<>();
+            step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+            Duration self = event.getDuration().minus(nested.getOrDefault(step.getId(), Duration.ZERO));
+            steps.add(new StartupStepSummary(step.getId(), step.getParentId(), step.getName(), tags,
+                    millis(event.getDuration()), millis(self)));
+        }
+        steps.sort("self".equals(by)
+                ? Comparator.comparingDouble(StartupStepSummary::selfMs).reversed()
+                : Comparator.comparingDouble(StartupStepSummary::durationMs).reversed());
+        report.put("buffered", true);
+        report.put("startTime", timeline.getStartTime().toString());
+        report.put("totalMs", millis(Duration.between(timeline.getStartTime(), end)));
+        report.put("steps", steps.size());
+        int count = Math.max(0, Math.min(limit != null ? limit : DEFAULT_LIMIT, steps.size()));
+        report.put("longest", steps.subList(0, count));
+        return report;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.eraste.common.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Span exporter appending finished spans to a file, one JSON object per line.
+ * <p>
+ * Meant for performance runs: every service can write to its own file, and the
+ * files are merged afterwards by trace ID to attribute the latency of a request to
+ * each hop. Lines are buffered and flushed every second and when the application
+ * stops.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FileSpanExporter extends SpanHandler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final BufferedWriter writer;
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Opens the file, creating it and its directory if needed.
+     *
+     * @param objectMapper the mapper writing the spans
+     * @param file         the file the spans are appended to
+     */
+    public FileSpanExporter(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open span file " + file, e);
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "span-file-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, 1, 1, TimeUnit.SECONDS);
+        log.info("Writing spans to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED) {
+            return true;
+        }
+        try {
+            String line = objectMapper.writeValueAsString(RecordedSpan.of(span));
+            synchronized (writer) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.warn("Could not write span {} to {}: {}", span.id(), file, e.getMessage());
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        flusher.shutdownNow();
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+
+    private void flush() {
+        try {
+            synchronized (writer) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Could not flush spans to {}: {}", file, e.getMessage());
+        }
+    }
+}
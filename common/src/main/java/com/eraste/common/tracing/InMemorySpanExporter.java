@@ -0,0 +1,81 @@
+package com.eraste.common.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Span exporter keeping the last finished spans in memory.
+ * <p>
+ * Meant for tests and performance runs: the spans are read back through
+ * {@link SpansEndpoint} or {@link #spans()} and never leave the process. Once the
+ * capacity is reached the oldest spans are dropped.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InMemorySpanExporter extends SpanHandler {
+
+    private final int capacity;
+    private final ConcurrentLinkedDeque<RecordedSpan> spans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates an exporter keeping at most the given number of spans.
+     *
+     * @param capacity the maximum number of spans kept
+     */
+    public InMemorySpanExporter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED) {
+            return true;
+        }
+        spans.addLast(RecordedSpan.of(span));
+        if (size.incrementAndGet() > capacity && spans.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the spans kept, oldest first.
+     *
+     * @return the spans kept
+     */
+    public List<RecordedSpan> spans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * Gets the spans of a trace, in start order.
+     *
+     * @param traceId the trace ID
+     * @return the spans of the trace recorded by this service
+     */
+    public List<RecordedSpan> trace(String traceId) {
+        return spans.stream()
+                .filter(span -> span.traceId().equals(traceId))
+                .sorted(Comparator.comparingLong(RecordedSpan::start))
+                .toList();
+    }
+
+    /**
+     * Drops every span kept.
+     */
+    public void clear() {
+        spans.clear();
+        size.set(0);
+    }
+}
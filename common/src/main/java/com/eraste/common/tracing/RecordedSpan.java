@@ -0,0 +1,48 @@
+package com.eraste.common.tracing;
+
+import brave.handler.MutableSpan;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Finished span, as kept by {@link InMemorySpanExporter} and written by {@link FileSpanExporter}.
+ * <p>
+ * Times are in microseconds since the epoch, so that spans recorded by different
+ * services can be laid out on the same timeline once grouped by trace ID.
+ * </p>
+ *
+ * @param traceId       the trace ID, shared by every span of a request across services
+ * @param spanId        the span ID
+ * @param parentId      the ID of the parent span, or null for a root span
+ * @param service       the service that recorded the span
+ * @param name          the span name, e.g. {@code http get /orders} or {@code OrderJpaRepository.findAllRows}
+ * @param kind          the span kind ({@code SERVER}, {@code CLIENT}), or null for a local span
+ * @param remoteService the service called by a client span, if known
+ * @param start         the start time, in microseconds since the epoch
+ * @param duration      the duration, in microseconds
+ * @param error         the error message, or null if the span succeeded
+ * @param tags          the span tags
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RecordedSpan(String traceId, String spanId, String parentId, String service, String name,
+                           String kind, String remoteService, long start, long duration, String error,
+                           Map<String, String> tags) {
+
+    /**
+     * Copies a finished Brave span.
+     *
+     * @param span the finished span
+     * @return the recorded span
+     */
+    static RecordedSpan of(MutableSpan span) {
+        String error = span.error() != null ? String.valueOf(span.error().getMessage()) : span.tag("error");
+        return new RecordedSpan(span.traceId(), span.id(), span.parentId(), span.localServiceName(), span.name(),
+                span.kind() != null ? span.kind().name() : null, span.remoteServiceName(),
+                span.startTimestamp(), span.finishTimestamp() - span.startTimestamp(), error,
+                Map.copyOf(span.tags()));
+    }
+}
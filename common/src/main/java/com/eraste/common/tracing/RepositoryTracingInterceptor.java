@@ -0,0 +1,60 @@
+package com.eraste.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interceptor wrapping each call to a Spring Data repository in a span.
+ * <p>
+ * Spans are named after the repository interface and method, e.g.
+ * {@code OrderJpaRepository.findAllRows}, and only created inside an existing trace:
+ * calls made outside of a request, such as seed loading at startup, are not traced.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class RepositoryTracingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+    private final Class<?> repositoryInterface;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor of a repository.
+     *
+     * @param tracerProvider      the provider of the tracer
+     * @param repositoryInterface the repository interface
+     */
+    RepositoryTracingInterceptor(ObjectProvider<Tracer> tracerProvider, Class<?> repositoryInterface) {
+        this.tracerProvider = tracerProvider;
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer tracer = tracerProvider.getIfAvailable();
+        if (tracer == null || tracer.currentSpan() == null) {
+            return invocation.proceed();
+        }
+        String name = names.computeIfAbsent(invocation.getMethod(),
+                method -> repositoryInterface.getSimpleName() + "." + method.getName());
+        Span span = tracer.nextSpan().name(name).tag("repository", repositoryInterface.getSimpleName()).start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.eraste.common.tracing;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Bean post-processor adding a {@link RepositoryTracingInterceptor} to every Spring Data
+ * repository.
+ * <p>
+ * The interceptor is registered on the repository factory beans before they create
+ * their proxy, the way Spring Boot instruments repositories for metrics, so that it
+ * wraps every query method, derived, {@code @Query} or inherited.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    /**
+     * Creates the post-processor.
+     *
+     * @param tracerProvider the provider of the tracer, resolved on the first call
+     */
+    public RepositoryTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new RepositoryTracingInterceptor(tracerProvider, information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,64 @@
+package com.eraste.common.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint reading the spans kept by the {@link InMemorySpanExporter}.
+ * <p>
+ * {@code GET /actuator/spans} lists the last spans, {@code GET /actuator/spans/{traceId}}
+ * the spans of one trace recorded by this service, and {@code DELETE /actuator/spans}
+ * drops them, e.g. between two runs.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    private final InMemorySpanExporter exporter;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param exporter the exporter keeping the spans
+     */
+    public SpansEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Lists the spans kept, oldest first.
+     *
+     * @return the spans kept
+     */
+    @ReadOperation
+    public List<RecordedSpan> spans() {
+        return exporter.spans();
+    }
+
+    /**
+     * Lists the spans of a trace, in start order.
+     *
+     * @param traceId the trace ID
+     * @return the spans of the trace
+     */
+    @ReadOperation
+    public List<RecordedSpan> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+
+    /**
+     * Drops every span kept.
+     */
+    @DeleteOperation
+    public void clear() {
+        exporter.clear();
+    }
+}
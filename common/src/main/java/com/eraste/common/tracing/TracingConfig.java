@@ -0,0 +1,90 @@
+package com.eraste.common.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the distributed tracing of the services.
+ * <p>
+ * Spring Boot traces the HTTP requests served and the calls made through the
+ * {@code RestTemplate}, {@code RestClient} and {@code WebClient} builders it provides,
+ * propagating the W3C {@code traceparent} header from one service to the next. This
+ * configuration adds a span around every Spring Data repository call, so that the time
+ * of a request can be split between its database queries and the services it calls.
+ * </p>
+ * <p>
+ * Finished spans go to every Brave {@code SpanHandler} bean: adding one, or a Zipkin
+ * reporter, plugs in another backend. Two local exporters are provided for tests and
+ * performance runs, selected by {@code tracing.export.type}: {@code memory} keeps the
+ * last spans and serves them at {@code /actuator/spans}, {@code file} appends them to
+ * {@code tracing.export.file}. The share of requests traced is set by
+ * {@code management.tracing.sampling.probability}.
+ * </p>
+ * <p>
+ * The exporter is chosen by a condition: in a build processed ahead of time (the
+ * {@code aot} Maven profile), it is fixed when the application is built.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Creates the post-processor tracing the repository calls.
+     *
+     * @param tracer the provider of the tracer
+     * @return the post-processor
+     */
+    @Bean
+    public static RepositoryTracingPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new RepositoryTracingPostProcessor(tracer);
+    }
+
+    /**
+     * Creates the exporter keeping the last spans in memory.
+     *
+     * @param capacity the maximum number of spans kept
+     * @return the in-memory exporter
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.export", name = "type", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(@Value("${tracing.export.capacity:10000}") int capacity) {
+        return new InMemorySpanExporter(capacity);
+    }
+
+    /**
+     * Creates the endpoint serving the spans kept in memory.
+     *
+     * @param exporter the in-memory exporter
+     * @return the spans endpoint
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.export", name = "type", havingValue = "memory")
+    public SpansEndpoint spansEndpoint(InMemorySpanExporter exporter) {
+        return new SpansEndpoint(exporter);
+    }
+
+    /**
+     * Creates the exporter appending spans to a file.
+     *
+     * @param objectMapper the mapper writing the spans
+     * @param file         the file the spans are appended to
+     * @return the file exporter
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.export", name = "type", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(ObjectMapper objectMapper,
+                                             @Value("${tracing.export.file:spans.jsonl}") Path file) {
+        return new FileSpanExporter(objectMapper, file);
+    }
+}
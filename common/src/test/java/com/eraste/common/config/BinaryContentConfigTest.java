@@ -0,0 +1,115 @@
+package com.eraste.common.config;
+
+import com.eraste.common.response.ApiResponse;
+import com.eraste.common.response.ApiResponseSerializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Negotiates JSON and CBOR through the message converters configured by Spring Boot.
+ */
+@WebMvcTest
+@ContextConfiguration(classes = {BinaryContentConfig.class, ApiResponseSerializer.class,
+        BinaryContentConfigTest.ItemController.class})
+@DisplayName("BinaryContentConfig Tests")
+class BinaryContentConfigTest {
+
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("Responses")
+    class Responses {
+
+        @Test
+        @DisplayName("Should write CBOR when the client accepts it")
+        void writesCbor() throws Exception {
+            MvcResult result = mockMvc.perform(get("/items/1").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertTrue(body.get("success").asBoolean());
+            assertEquals("Hammer", body.get("data").get("name").asText());
+            assertTrue(body.get("timestamp").isTextual());
+        }
+
+        @Test
+        @DisplayName("Should prefer CBOR when the client ranks it above JSON")
+        void writesPreferredCbor() throws Exception {
+            mockMvc.perform(get("/items/1").header("Accept", "application/cbor, application/json;q=0.5"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        }
+
+        @Test
+        @DisplayName("Should write JSON to a client without Accept header")
+        void writesJsonByDefault() throws Exception {
+            mockMvc.perform(get("/items/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.data.name").value("Hammer"));
+        }
+
+        @Test
+        @DisplayName("Should write JSON to a client accepting any type")
+        void writesJsonForWildcard() throws Exception {
+            mockMvc.perform(get("/items/1").accept(MediaType.ALL))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Nested
+    @DisplayName("Requests")
+    class Requests {
+
+        @Test
+        @DisplayName("Should read a CBOR body")
+        void readsCbor() throws Exception {
+            byte[] body = cborMapper.writeValueAsBytes(Map.of("name", "Anvil"));
+
+            mockMvc.perform(post("/items").contentType(MediaType.APPLICATION_CBOR).content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.name").value("Anvil"));
+        }
+    }
+
+    @RestController
+    static class ItemController {
+
+        @GetMapping("/items/{id}")
+        ApiResponse<Map<String, Object>> get() {
+            return ApiResponse.success(Map.of("id", 1, "name", "Hammer"));
+        }
+
+        @PostMapping("/items")
+        ApiResponse<Map<String, Object>> create(@RequestBody Map<String, Object> item) {
+            return ApiResponse.success(item);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.eraste.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Exception Messages Unit Tests")
+class ExceptionMessagesTest {
+
+    @Nested
+    @DisplayName("ResourceNotFoundException")
+    class NotFound {
+
+        static Stream<Arguments> fields() {
+            return Stream.of(
+                    Arguments.of("User", "id", 42L),
+                    Arguments.of("User", "username", "alice"),
+                    Arguments.of("Product", "sku", "it's-1"),
+                    Arguments.of("Order", "id", UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e")),
+                    Arguments.of("Category", "code", null),
+                    Arguments.of(null, null, null));
+        }
+
+        @ParameterizedTest
+        @MethodSource("fields")
+        @DisplayName("Should build the message String.format built before")
+        void formatsLikeStringFormat(String resourceName, String fieldName, Object fieldValue) {
+            ResourceNotFoundException ex = new ResourceNotFoundException(resourceName, fieldName, fieldValue);
+
+            assertEquals(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue),
+                    ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should build the message once")
+        void buildsMessageOnce() {
+            ResourceNotFoundException ex = new ResourceNotFoundException("User", "id", 42L);
+
+            assertSame(ex.getMessage(), ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should keep a message given as is")
+        void keepsMessage() {
+            ResourceNotFoundException ex = new ResourceNotFoundException("No route to user 42");
+
+            assertEquals("No route to user 42", ex.getMessage());
+            assertNull(ex.getResourceName());
+        }
+
+        @Test
+        @DisplayName("Should neither fill in a stack trace nor keep suppressed exceptions")
+        void isLightweight() {
+            ResourceNotFoundException ex = new ResourceNotFoundException("User", "id", 42L);
+            ex.addSuppressed(new IllegalStateException());
+
+            assertEquals(0, ex.getStackTrace().length);
+            assertEquals(0, ex.getSuppressed().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("BadRequestException and ConflictException")
+    class Messages {
+
+        @Test
+        @DisplayName("Should keep the message given, without a stack trace")
+        void keepsMessage() {
+            BadRequestException badRequest = new BadRequestException("Invalid cursor");
+            ConflictException conflict = new ConflictException("Username already exists: alice");
+
+            assertEquals("Invalid cursor", badRequest.getMessage());
+            assertEquals("Username already exists: alice", conflict.getMessage());
+            assertEquals(0, badRequest.getStackTrace().length);
+            assertEquals(0, conflict.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Should keep a null message")
+        void keepsNullMessage() {
+            assertNull(new BadRequestException(null).getMessage());
+            assertNull(new ConflictException(null).getMessage());
+        }
+    }
+}
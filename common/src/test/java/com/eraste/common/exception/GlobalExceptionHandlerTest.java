@@ -0,0 +1,144 @@
+package com.eraste.common.exception;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Answers the errors thrown by a controller through {@link GlobalExceptionHandler}.
+ */
+@WebMvcTest
+@ContextConfiguration(classes = {GlobalExceptionHandler.class, GlobalExceptionHandlerTest.ItemController.class})
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("Error Bodies")
+    class ErrorBodies {
+
+        @Test
+        @DisplayName("Should answer a missing resource with a 404")
+        void notFound() throws Exception {
+            mockMvc.perform(get("/items/42"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value("Item not found with id: '42'"))
+                    .andExpect(jsonPath("$.data").doesNotExist())
+                    .andExpect(jsonPath("$.path").value("/items/42"))
+                    .andExpect(jsonPath("$.timestamp").exists());
+        }
+
+        @Test
+        @DisplayName("Should answer a conflict with a 409")
+        void conflict() throws Exception {
+            mockMvc.perform(post("/items").contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"Hammer\",\"quantity\":1}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value("Item already exists: Hammer"))
+                    .andExpect(jsonPath("$.path").value("/items"));
+        }
+
+        @Test
+        @DisplayName("Should answer an invalid body with a 400 listing the fields")
+        void validation() throws Exception {
+            mockMvc.perform(post("/items").contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"\",\"quantity\":0}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value(allOf(startsWith("Validation failed: "),
+                            containsString("name: must not be blank"),
+                            containsString("quantity: must be greater than 0"))))
+                    .andExpect(jsonPath("$.path").value("/items"));
+        }
+
+        @Test
+        @DisplayName("Should answer a bad request with a 400")
+        void badRequest() throws Exception {
+            mockMvc.perform(get("/items/cursor/garbage"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value("Invalid cursor: garbage"))
+                    .andExpect(jsonPath("$.path").value("/items/cursor/garbage"));
+        }
+
+        @Test
+        @DisplayName("Should answer any other failure with a 500")
+        void internalError() throws Exception {
+            mockMvc.perform(get("/items/boom"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("Internal server error: Boom"))
+                    .andExpect(jsonPath("$.path").value("/items/boom"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Path")
+    class Path {
+
+        @Test
+        @DisplayName("Should report the path the WebRequest description reported")
+        void matchesWebRequestDescription() {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/42");
+            request.setContextPath("/api");
+            request.setQueryString("fields=name");
+
+            assertEquals(new ServletWebRequest(request).getDescription(false).replace("uri=", ""),
+                    request.getRequestURI());
+        }
+    }
+
+    record ItemRequest(@NotBlank String name, @Positive int quantity) {
+    }
+
+    @RestController
+    static class ItemController {
+
+        @GetMapping("/items/{id}")
+        String getItem(@PathVariable long id) {
+            throw new ResourceNotFoundException("Item", "id", id);
+        }
+
+        @GetMapping("/items/cursor/{cursor}")
+        String getPage(@PathVariable String cursor) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+
+        @GetMapping("/items/boom")
+        String boom() {
+            throw new IllegalStateException("Boom");
+        }
+
+        @PostMapping("/items")
+        String createItem(@Valid @RequestBody ItemRequest request) {
+            throw new ConflictException("Item already exists: " + request.name());
+        }
+    }
+}
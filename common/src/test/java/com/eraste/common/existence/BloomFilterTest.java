@@ -0,0 +1,132 @@
+package com.eraste.common.existence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterTest {
+
+    private static final int CAPACITY = 20_000;
+    private static final double FPP = 0.01;
+
+    @Nested
+    @DisplayName("Membership")
+    class Membership {
+
+        @Test
+        @DisplayName("Should report every added key")
+        void noFalseNegatives() {
+            BloomFilter filter = new BloomFilter(CAPACITY, FPP);
+            for (int i = 0; i < CAPACITY; i++) {
+                filter.put("user-" + i);
+            }
+
+            for (int i = 0; i < CAPACITY; i++) {
+                assertTrue(filter.mightContain("user-" + i), "user-" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report the keys added by concurrent writers")
+        void noFalseNegativesUnderConcurrentPuts() {
+            BloomFilter filter = new BloomFilter(CAPACITY, FPP);
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                int writer = w;
+                writers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = writer; i < CAPACITY; i += 4) {
+                        filter.put("user-" + i);
+                    }
+                }));
+            }
+            writers.forEach(CompletableFuture::join);
+
+            for (int i = 0; i < CAPACITY; i++) {
+                assertTrue(filter.mightContain("user-" + i), "user-" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should tell whether a put changed the filter")
+        void putReportsChange() {
+            BloomFilter filter = new BloomFilter(CAPACITY, FPP);
+
+            assertTrue(filter.put("alice"));
+            assertFalse(filter.put("alice"));
+            assertEquals(1, filter.approximateKeyCount());
+        }
+
+        @Test
+        @DisplayName("Should rule out keys of an empty filter")
+        void emptyFilter() {
+            assertFalse(new BloomFilter(CAPACITY, FPP).mightContain("alice"));
+        }
+    }
+
+    @Nested
+    @DisplayName("False Positives")
+    class FalsePositives {
+
+        @Test
+        @DisplayName("Should stay near the target probability once full")
+        void rateAtCapacity() {
+            BloomFilter filter = new BloomFilter(CAPACITY, FPP);
+            for (int i = 0; i < CAPACITY; i++) {
+                filter.put("user-" + i);
+            }
+
+            int probes = 200_000;
+            int hits = 0;
+            for (int i = 0; i < probes; i++) {
+                if (filter.mightContain("absent-" + i)) {
+                    hits++;
+                }
+            }
+
+            double observed = (double) hits / probes;
+            assertTrue(observed > FPP / 2 && observed < FPP * 1.5, "observed " + observed);
+            assertTrue(filter.expectedFpp() > FPP / 2 && filter.expectedFpp() < FPP * 1.5,
+                    "expected " + filter.expectedFpp());
+        }
+
+        @Test
+        @DisplayName("Should size the bit array and hashes from the capacity and probability")
+        void sizing() {
+            BloomFilter filter = new BloomFilter(CAPACITY, FPP);
+
+            // about 9.6 bits and 7 hashes per key for 1%
+            assertEquals(7, filter.getHashCount());
+            assertTrue(filter.sizeInBytes() >= CAPACITY * 9.5 / 8 && filter.sizeInBytes() <= CAPACITY * 9.7 / 8,
+                    "size " + filter.sizeInBytes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject a capacity that is not positive")
+        void rejectsCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, FPP));
+        }
+
+        @Test
+        @DisplayName("Should reject a probability outside (0, 1)")
+        void rejectsProbability() {
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(CAPACITY, 0));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(CAPACITY, 1));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(CAPACITY, Double.NaN));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.eraste.common.existence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ExistenceFilter Unit Tests")
+class ExistenceFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ExistenceFilter> saturated = new ArrayList<>();
+    private final ExistenceFilter filter = new ExistenceFilter("username", "users", "username",
+            meterRegistry, saturated::add);
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Nested
+    @DisplayName("Checks")
+    class Checks {
+
+        @Test
+        @DisplayName("Should query the database until the filter is loaded")
+        void bypassesUntilLoaded() {
+            assertTrue(filter.exists("alice", lookup(true)));
+
+            assertFalse(filter.isReady());
+            assertEquals(1, lookups.get());
+            assertEquals(1, checks("bypassed"));
+        }
+
+        @Test
+        @DisplayName("Should answer an unknown value without querying the database")
+        void answersAbsentValue() {
+            load(filter, "alice");
+
+            assertFalse(filter.exists("bob", lookup(true)));
+
+            assertEquals(0, lookups.get());
+            assertEquals(1, checks("absent"));
+        }
+
+        @Test
+        @DisplayName("Should let the database answer a possible hit")
+        void fallsThroughOnPossibleHit() {
+            load(filter, "alice", "carol");
+
+            assertTrue(filter.exists("alice", lookup(true)));
+            // carol was deleted since the load: the filter cannot tell, the database can
+            assertFalse(filter.exists("carol", lookup(false)));
+
+            assertEquals(2, lookups.get());
+            assertEquals(1, checks("present"));
+            assertEquals(1, checks("false-positive"));
+        }
+
+        @Test
+        @DisplayName("Should only look up the possible hits of a batch")
+        void looksUpCandidatesOfBatch() {
+            load(filter, "alice", "carol");
+            List<Collection<String>> queried = new ArrayList<>();
+
+            Set<String> existing = filter.existing(List.of("alice", "bob", "carol"), values -> {
+                queried.add(values);
+                return Set.of("alice");
+            });
+
+            assertEquals(Set.of("alice"), existing);
+            assertEquals(Set.of("alice", "carol"), new HashSet<>(queried.get(0)));
+            assertEquals(1, checks("absent"));
+            assertEquals(1, checks("present"));
+            assertEquals(1, checks("false-positive"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Writes")
+    class Writes {
+
+        @Test
+        @DisplayName("Should answer values written after the load")
+        void addsWrittenValue() {
+            load(filter, "alice");
+
+            filter.put("bob");
+
+            assertTrue(filter.exists("bob", lookup(true)));
+            assertEquals(1, lookups.get());
+        }
+
+        @Test
+        @DisplayName("Should keep values written while the filter is rebuilt")
+        void keepsValuesWrittenDuringLoad() {
+            load(filter, "alice");
+            assertTrue(filter.tryClaimLoad());
+            filter.startLoad(new BloomFilter(100, 0.01));
+            filter.load("alice");
+
+            filter.put("bob");
+            filter.endLoad(true);
+
+            assertTrue(filter.exists("bob", lookup(true)));
+        }
+
+        @Test
+        @DisplayName("Should add a value again once its transaction commits after the rebuild started")
+        void addsValueAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                filter.put("bob");
+                // the rebuild starts after the write, and cannot read the uncommitted row
+                assertTrue(filter.tryClaimLoad());
+                filter.startLoad(new BloomFilter(100, 0.01));
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                filter.endLoad(true);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertTrue(filter.exists("bob", lookup(true)));
+        }
+
+        @Test
+        @DisplayName("Should keep the previous filter when a load fails")
+        void keepsPreviousFilterOnFailure() {
+            load(filter, "alice");
+            assertTrue(filter.tryClaimLoad());
+            filter.startLoad(new BloomFilter(100, 0.01));
+
+            filter.endLoad(false);
+
+            assertTrue(filter.exists("alice", lookup(true)));
+            assertTrue(filter.tryClaimLoad());
+        }
+
+        @Test
+        @DisplayName("Should ask for a rebuild once when it holds more values than it was sized for")
+        void reportsSaturation() {
+            assertTrue(filter.tryClaimLoad());
+            filter.startLoad(new BloomFilter(2, 0.01));
+            filter.endLoad(true);
+
+            for (int i = 0; i < 10; i++) {
+                filter.put("user-" + i);
+            }
+
+            assertEquals(List.of(filter), saturated);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("Should publish the observed and expected false positive rates and the number of values")
+        void publishesGauges() {
+            load(filter, "alice", "bob", "carol");
+            filter.exists("carol", lookup(false));
+            filter.exists("dave", lookup(false));
+            filter.exists("erin", lookup(false));
+            filter.exists("frank", lookup(false));
+
+            assertEquals(0.25, gauge("existence.filter.fpp.observed"), 1e-9);
+            assertEquals(3, gauge("existence.filter.keys"));
+            double expected = gauge("existence.filter.fpp.expected");
+            assertTrue(expected > 0 && expected < 0.01, "expected " + expected);
+        }
+
+        @Test
+        @DisplayName("Should expect every check to be a possible hit before the load")
+        void publishesGaugesBeforeLoad() {
+            assertEquals(0, gauge("existence.filter.fpp.observed"));
+            assertEquals(1, gauge("existence.filter.fpp.expected"));
+            assertEquals(0, gauge("existence.filter.keys"));
+        }
+    }
+
+    private static void load(ExistenceFilter filter, String... values) {
+        assertTrue(filter.tryClaimLoad());
+        filter.startLoad(new BloomFilter(1_000, 0.01));
+        for (String value : values) {
+            filter.load(value);
+        }
+        filter.endLoad(true);
+    }
+
+    private Predicate<String> lookup(boolean exists) {
+        return value -> {
+            lookups.incrementAndGet();
+            return exists;
+        };
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("existence.filter.checks").tag("filter", "username").tag("result", result)
+                .counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("filter", "username").gauge().value();
+    }
+}
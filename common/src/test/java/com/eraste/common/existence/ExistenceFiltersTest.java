@@ -0,0 +1,128 @@
+package com.eraste.common.existence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Loads existence filters from an H2 table large enough to be read in several ID ranges.
+ */
+@DisplayName("ExistenceFilters Tests")
+class ExistenceFiltersTest {
+
+    private static final int ROWS = 120_000;
+
+    private EmbeddedDatabase database;
+    private ExistenceFilters filters;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50))");
+        jdbcTemplate.execute("INSERT INTO users SELECT X, 'user-' || X FROM SYSTEM_RANGE(1, " + ROWS + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (filters != null) {
+            filters.destroy();
+        }
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Load")
+    class Load {
+
+        @Test
+        @DisplayName("Should load every value of the column")
+        void loadsEveryValue() throws InterruptedException {
+            filters = new ExistenceFilters(database, new SimpleMeterRegistry(), true, 0.01, 1000, 4);
+            ExistenceFilter filter = filters.register("username", "users", "username");
+
+            filters.loadAll();
+            awaitReady(filter);
+
+            for (int i = 1; i <= ROWS; i++) {
+                assertTrue(filter.exists("user-" + i, value -> true), "user-" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the rows written while the table is read")
+        void keepsConcurrentWrites() throws InterruptedException {
+            filters = new ExistenceFilters(database, new SimpleMeterRegistry(), true, 0.01, 1000, 4);
+            ExistenceFilter filter = filters.register("username", "users", "username");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            int writes = 2_000;
+
+            // each writer inserts then reports its value, as the persistence adapters do on commit
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                for (int i = 1; i <= writes; i++) {
+                    jdbcTemplate.update("INSERT INTO users VALUES (?, ?)", ROWS + i, "new-" + i);
+                    filter.put("new-" + i);
+                }
+            });
+            filters.loadAll();
+            writer.join();
+            awaitReady(filter);
+
+            for (int i = 1; i <= writes; i++) {
+                assertTrue(filter.exists("new-" + i, value -> true), "new-" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should read the rows of a table that was empty when the load started")
+        void loadsEmptyTable() throws InterruptedException {
+            new JdbcTemplate(database).execute("DELETE FROM users");
+            filters = new ExistenceFilters(database, new SimpleMeterRegistry(), true, 0.01, 1000, 1);
+            ExistenceFilter filter = filters.register("username", "users", "username");
+
+            filters.loadAll();
+            awaitReady(filter);
+
+            assertFalse(filter.exists("user-1", value -> true));
+        }
+
+        @Test
+        @DisplayName("Should leave checks on the database when filters are disabled")
+        void disabled() {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            filters = new ExistenceFilters(database, meterRegistry, false, 0.01, 1000, 1);
+            ExistenceFilter filter = filters.register("username", "users", "username");
+
+            filters.loadAll();
+
+            assertFalse(filter.isReady());
+            assertTrue(filter.exists("user-1", value -> true));
+            assertEquals(1, meterRegistry.get("existence.filter.checks")
+                    .tag("filter", "username").tag("result", "bypassed").counter().count());
+        }
+    }
+
+    private static void awaitReady(ExistenceFilter filter) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!filter.isReady()) {
+            assertTrue(System.nanoTime() < deadline, "filter not loaded in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.eraste.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LatencyFilter Unit Tests")
+class LatencyFilterTest {
+
+    private final LatencyHistograms histograms =
+            new LatencyHistograms(Duration.ofMinutes(1), 6, Duration.ofSeconds(60), 2);
+
+    @AfterEach
+    void tearDown() {
+        histograms.destroy();
+    }
+
+    @Nested
+    @DisplayName("Filter")
+    class Filter {
+
+        @Test
+        @DisplayName("Should record requests by method and matched route")
+        void recordsMatchedRoute() throws Exception {
+            filter(new LatencyFilter(histograms, "/actuator", true), "GET", "/users/1", "/users/{id}");
+            filter(new LatencyFilter(histograms, "/actuator", true), "GET", "/nowhere", null);
+
+            assertEquals(1, histograms.snapshot().get("GET").get("/users/{id}").count());
+            assertEquals(1, histograms.snapshot().get("GET").get(LatencyFilter.UNMATCHED).count());
+        }
+
+        @Test
+        @DisplayName("Should leave out the actuator requests")
+        void skipsActuator() throws Exception {
+            filter(new LatencyFilter(histograms, "/actuator", true), "GET", "/actuator/latency", null);
+
+            assertTrue(histograms.snapshot().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should record nothing when disabled")
+        void recordsNothingWhenDisabled() throws Exception {
+            filter(new LatencyFilter(histograms, "/actuator", false), "GET", "/users/1", "/users/{id}");
+
+            assertTrue(histograms.snapshot().isEmpty());
+        }
+    }
+
+    private static void filter(LatencyFilter filter, String method, String uri, String pattern) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        // Stands in for Spring MVC, which sets the matched pattern on the request
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            if (pattern != null) {
+                servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
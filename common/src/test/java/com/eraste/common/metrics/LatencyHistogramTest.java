@@ -0,0 +1,83 @@
+package com.eraste.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LatencyHistogram Unit Tests")
+class LatencyHistogramTest {
+
+    private static final int SLOTS = 3;
+
+    private final LatencyHistogram histogram = new LatencyHistogram(60_000_000, 2, SLOTS);
+
+    @Nested
+    @DisplayName("Window")
+    class Window {
+
+        @Test
+        @DisplayName("Should include the slot in progress")
+        void includesSlotInProgress() {
+            histogram.record(5_000_000);
+
+            assertEquals(1, histogram.snapshot().count());
+        }
+
+        @Test
+        @DisplayName("Should keep a latency for a full window after its slot closes")
+        void keepsFullWindow() {
+            histogram.record(5_000_000);
+            for (int i = 0; i < SLOTS; i++) {
+                histogram.rotate();
+            }
+            histogram.record(1_000_000);
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(2, snapshot.count());
+            assertEquals(5.0, snapshot.max(), 0.1);
+        }
+
+        @Test
+        @DisplayName("Should drop a latency once it is older than the window")
+        void dropsOldestSlot() {
+            histogram.record(5_000_000);
+            for (int i = 0; i <= SLOTS; i++) {
+                histogram.rotate();
+            }
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(0, snapshot.count());
+            assertEquals(1, snapshot.totalCount());
+            assertEquals(5.0, snapshot.totalSum(), 0.001);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record")
+    class Record {
+
+        @Test
+        @DisplayName("Should clamp latencies above the highest one told apart")
+        void clampsHighestLatency() {
+            histogram.record(120_000_000_000L);
+
+            assertEquals(60_000.0, histogram.snapshot().totalSum(), 0.001);
+        }
+
+        @Test
+        @DisplayName("Should drop every latency on clear")
+        void clears() {
+            histogram.record(5_000_000);
+            histogram.rotate();
+            histogram.record(5_000_000);
+
+            histogram.clear();
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(0, snapshot.count());
+            assertEquals(0, snapshot.totalCount());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.eraste.common.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LatencyHistograms Unit Tests")
+class LatencyHistogramsTest {
+
+    private final LatencyHistograms histograms =
+            new LatencyHistograms(Duration.ofMinutes(1), 6, Duration.ofSeconds(60), 2);
+
+    @AfterEach
+    void tearDown() {
+        histograms.destroy();
+    }
+
+    @Nested
+    @DisplayName("Record")
+    class Record {
+
+        @Test
+        @DisplayName("Should keep one histogram per method and route")
+        void groupsByMethodAndRoute() {
+            histograms.record("GET", "/users/{id}", 1_000_000);
+            histograms.record("GET", "/users/{id}", 2_000_000);
+            histograms.record("DELETE", "/users/{id}", 1_000_000);
+            histograms.record("GET", "/users", 1_000_000);
+
+            Map<String, Map<String, LatencySnapshot>> snapshot = histograms.snapshot();
+            assertEquals(Set.of("DELETE", "GET"), snapshot.keySet());
+            assertEquals(2, snapshot.get("GET").get("/users/{id}").count());
+            assertEquals(1, snapshot.get("GET").get("/users").count());
+            assertEquals(1, snapshot.get("DELETE").get("/users/{id}").count());
+        }
+
+        @Test
+        @DisplayName("Should record non-standard methods in a single bucket")
+        void bucketsUnknownMethods() {
+            histograms.record("PROPFIND", "/users", 1_000_000);
+            histograms.record("X-RANDOM-1", "/users", 1_000_000);
+            histograms.record("get", "/users", 1_000_000);
+            histograms.record("PATCH", "/users", 1_000_000);
+
+            Map<String, Map<String, LatencySnapshot>> snapshot = histograms.snapshot();
+            assertEquals(Set.of(LatencyHistograms.OTHER_METHOD, "PATCH"), snapshot.keySet());
+            assertEquals(3, snapshot.get(LatencyHistograms.OTHER_METHOD).get("/users").count());
+        }
+
+        @Test
+        @DisplayName("Should drop every latency on clear")
+        void clears() {
+            histograms.record("GET", "/users", 1_000_000);
+
+            histograms.clear();
+
+            assertEquals(0, histograms.snapshot().get("GET").get("/users").totalCount());
+        }
+    }
+}
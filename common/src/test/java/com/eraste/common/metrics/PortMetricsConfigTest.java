@@ -0,0 +1,78 @@
+package com.eraste.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PortMetricsConfig Tests")
+class PortMetricsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+            .withUserConfiguration(PortMetricsConfig.class)
+            // A single suffix: the plain context does not split comma-separated lists
+            .withPropertyValues("port-metrics.suffixes=UseCase")
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(PriceService.class);
+
+    @Nested
+    @DisplayName("Enabled Switch")
+    class EnabledSwitch {
+
+        @Test
+        @DisplayName("Should time the ports by default")
+        void timesPortsByDefault() {
+            contextRunner.run(context -> {
+                PriceUseCase prices = context.getBean(PriceUseCase.class);
+                assertTrue(AopUtils.isAopProxy(prices));
+
+                prices.priceWithTax(100);
+
+                assertEquals(1, context.getBean(MeterRegistry.class).get("port.calls").tag("outcome", "success").timer().count());
+            });
+        }
+
+        @Test
+        @DisplayName("Should read the switch at startup and leave the ports unproxied when disabled")
+        void leavesPortsUnproxiedWhenDisabled() {
+            contextRunner.withPropertyValues("port-metrics.enabled=false").run(context -> {
+                assertTrue(context.containsBean("portTimingPostProcessor"));
+                PriceUseCase prices = context.getBean(PriceUseCase.class);
+                assertFalse(AopUtils.isAopProxy(prices));
+
+                prices.priceWithTax(100);
+
+                assertTrue(context.getBean(MeterRegistry.class).find("port.calls").timers().isEmpty());
+            });
+        }
+    }
+
+    /**
+     * Port timed by the post-processor.
+     */
+    public interface PriceUseCase {
+
+        long priceWithTax(long price);
+    }
+
+    /**
+     * Implementation of the port.
+     */
+    public static class PriceService implements PriceUseCase {
+
+        @Override
+        public long priceWithTax(long price) {
+            return price * 6 / 5;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.eraste.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the output of {@link ApiResponseSerializer} with the bean serializer it replaces.
+ */
+@DisplayName("ApiResponseSerializer Unit Tests")
+class ApiResponseSerializerTest {
+
+    private final ObjectMapper beanMapper = builder().build();
+    private final ObjectMapper mapper = builder()
+            .serializerByType(ApiResponse.class, new ApiResponseSerializer())
+            .build();
+
+    @Nested
+    @DisplayName("JSON")
+    class Json {
+
+        @Test
+        @DisplayName("Should write a success response like the bean serializer")
+        void success() throws Exception {
+            assertSameJson(ApiResponse.success(new Item(1L, "Hammer", null)));
+        }
+
+        @Test
+        @DisplayName("Should leave out null fields like the bean serializer")
+        void nullFields() throws Exception {
+            assertSameJson(ApiResponse.error("Product not found with id: '42'").withPath("/products/42"));
+            assertSameJson(ApiResponse.success(null, null));
+            ApiResponse<Object> withoutTimestamp = ApiResponse.success("Done", List.of());
+            withoutTimestamp.setTimestamp(null);
+            assertSameJson(withoutTimestamp);
+        }
+
+        @Test
+        @DisplayName("Should write nested payloads like the bean serializer")
+        void nestedData() throws Exception {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("items", List.of(new Item(1L, "Hammer", new BigDecimal("9.90")), new Item(2L, null, null)));
+            data.put("nextCursor", null);
+            data.put("page", Map.of("size", 2));
+            data.put("generatedAt", LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6_000_000));
+
+            assertSameJson(ApiResponse.success(data).withPath("/products/search"));
+        }
+
+        @Test
+        @DisplayName("Should write the timestamp of the clock as an ISO-8601 local date-time")
+        void clockTimestamp() throws Exception {
+            ApiResponse<String> response = ApiResponse.success("ok");
+
+            String json = assertSameJson(response);
+
+            String timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(response.getTimestamp());
+            assertTrue(json.contains("\"timestamp\":\"" + timestamp + "\""), json);
+            assertEquals(0, response.getTimestamp().getNano() % 1_000_000);
+        }
+
+        @Test
+        @DisplayName("Should write timestamps that are not from the clock like the bean serializer")
+        void otherTimestamps() throws Exception {
+            for (LocalDateTime time : List.of(
+                    LocalDateTime.of(2026, 1, 2, 3, 4, 5),
+                    LocalDateTime.of(2026, 1, 2, 3, 4, 5, 120_000_000),
+                    LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789))) {
+                ApiResponse<String> response = ApiResponse.success("ok");
+                response.setTimestamp(time);
+                assertSameJson(response);
+            }
+        }
+
+        @Test
+        @DisplayName("Should write numeric timestamps when dates are configured so")
+        void numericTimestamps() throws Exception {
+            ObjectMapper numericBeanMapper = Jackson2ObjectMapperBuilder.json().build();
+            ObjectMapper numericMapper = Jackson2ObjectMapperBuilder.json()
+                    .serializerByType(ApiResponse.class, new ApiResponseSerializer())
+                    .build();
+            ApiResponse<String> response = ApiResponse.success("ok");
+
+            assertEquals(numericBeanMapper.writeValueAsString(response), numericMapper.writeValueAsString(response));
+        }
+
+        @Test
+        @DisplayName("Should keep writing messages once the message cache is full")
+        void fullMessageCache() throws Exception {
+            for (int i = 0; i < 300; i++) {
+                assertSameJson(ApiResponse.success("Imported " + i + " users", i));
+            }
+            assertSameJson(ApiResponse.success("Imported 0 users", 0));
+            assertSameJson(ApiResponse.success("Imported 299 users", 299));
+            assertSameJson(ApiResponse.error("Email already exists: a@example.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("CBOR")
+    class Cbor {
+
+        @Test
+        @DisplayName("Should write the same CBOR as the bean serializer")
+        void sameBytes() throws Exception {
+            ObjectMapper cborBeanMapper = builder().factory(new CBORFactory()).build();
+            ObjectMapper cborMapper = builder().factory(new CBORFactory())
+                    .serializerByType(ApiResponse.class, new ApiResponseSerializer())
+                    .build();
+
+            for (ApiResponse<?> response : List.of(
+                    ApiResponse.success(List.of(new Item(1L, "Hammer", new BigDecimal("9.90")))),
+                    ApiResponse.error("User not found with id: '1'").withPath("/users/1"),
+                    ApiResponse.created(Map.of("id", 7)))) {
+                assertArrayEquals(cborBeanMapper.writeValueAsBytes(response), cborMapper.writeValueAsBytes(response));
+            }
+        }
+    }
+
+    /**
+     * Creates a builder writing dates as text, as configured by Spring Boot.
+     */
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private String assertSameJson(ApiResponse<?> response) throws Exception {
+        String json = mapper.writeValueAsString(response);
+        assertEquals(beanMapper.writeValueAsString(response), json);
+        return json;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Item(Long id, String name, BigDecimal price) {
+    }
+}
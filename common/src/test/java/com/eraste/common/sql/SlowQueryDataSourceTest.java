@@ -0,0 +1,154 @@
+package com.eraste.common.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times the statements of an H2 database through {@link SlowQueryDataSource}, slowed down
+ * on demand by a {@code SLEEP} function.
+ */
+@DisplayName("SlowQueryDataSource Tests")
+class SlowQueryDataSourceTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+    private EmbeddedDatabase database;
+    private SlowQueryLog slowQueryLog;
+    private JdbcTemplate jdbcTemplate;
+    private ItemRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(database).execute("CREATE ALIAS SLEEP FOR 'java.lang.Thread.sleep(long)'");
+        slowQueryLog = new SlowQueryLog(THRESHOLD, 10);
+        jdbcTemplate = new JdbcTemplate(new SlowQueryDataSource(database, slowQueryLog));
+
+        ProxyFactory proxyFactory = new ProxyFactory(new JdbcItemRepository(jdbcTemplate));
+        proxyFactory.addInterface(ItemRepository.class);
+        proxyFactory.addAdvice(new RepositoryMethodContext(ItemRepository.class));
+        repository = (ItemRepository) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Threshold")
+    class Threshold {
+
+        @Test
+        @DisplayName("Should record a statement over the threshold with its repository method")
+        void recordsSlowStatement() {
+            repository.sleep(THRESHOLD.toMillis() + 50);
+
+            assertEquals(1, slowQueryLog.getCount());
+            SlowStatement statement = slowQueryLog.getStatements().get(0);
+            assertEquals("CALL SLEEP(?)", statement.sql());
+            assertEquals(List.of("Long"), statement.binds());
+            assertEquals("ItemRepository.sleep", statement.origin());
+            assertEquals(0, statement.batchSize());
+            assertTrue(statement.durationMs() >= THRESHOLD.toMillis(), "duration " + statement.durationMs());
+        }
+
+        @Test
+        @DisplayName("Should not record a statement under the threshold")
+        void ignoresFastStatement() {
+            repository.sleep(0);
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+            assertEquals(0, slowQueryLog.getCount());
+            assertTrue(slowQueryLog.getStatements().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should record the statements of a slow batch with its size")
+        void recordsBatch() {
+            jdbcTemplate.execute("CREATE TABLE items (id BIGINT, name VARCHAR(50))");
+            SlowQueryLog everything = new SlowQueryLog(Duration.ZERO, 10);
+            JdbcTemplate timed = new JdbcTemplate(new SlowQueryDataSource(database, everything));
+
+            timed.batchUpdate("INSERT INTO items VALUES (?, ?)",
+                    List.of(new Object[]{1L, "Hammer"}, new Object[]{2L, null}, new Object[]{3L, "Rake"}));
+
+            SlowStatement statement = everything.getStatements().get(0);
+            assertEquals(3, statement.batchSize());
+            assertEquals("INSERT INTO items VALUES (?, ?)", statement.sql());
+        }
+    }
+
+    @Nested
+    @DisplayName("Log")
+    class Log {
+
+        @Test
+        @DisplayName("Should keep the last statements, slowest first")
+        void keepsLastStatements() {
+            SlowQueryLog log = new SlowQueryLog(Duration.ZERO, 2);
+
+            log.record(3_000_000, "SELECT 1", List.of(), 0, null);
+            log.record(1_000_000, "SELECT 2", List.of(), 0, null);
+            log.record(2_000_000, "SELECT 3", List.of(), 0, null);
+
+            assertEquals(3, log.getCount());
+            assertEquals(List.of("SELECT 3", "SELECT 2"), log.getStatements().stream().map(SlowStatement::sql).toList());
+        }
+
+        @Test
+        @DisplayName("Should reject a capacity that is not positive")
+        void rejectsCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new SlowQueryLog(THRESHOLD, 0));
+            assertThrows(IllegalArgumentException.class, () -> new SlowQueryLog(THRESHOLD, -1));
+        }
+
+        @Test
+        @DisplayName("Should drop the statements and reset the count on clear")
+        void clears() {
+            repository.sleep(THRESHOLD.toMillis() + 50);
+
+            slowQueryLog.clear();
+
+            assertEquals(0, slowQueryLog.getCount());
+            assertTrue(slowQueryLog.getStatements().isEmpty());
+        }
+    }
+
+    interface ItemRepository {
+
+        void sleep(long millis);
+    }
+
+    static class JdbcItemRepository implements ItemRepository {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        JdbcItemRepository(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public void sleep(long millis) {
+            jdbcTemplate.update("CALL SLEEP(?)", millis);
+        }
+    }
+}
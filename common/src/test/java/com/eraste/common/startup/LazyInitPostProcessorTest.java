@@ -0,0 +1,170 @@
+package com.eraste.common.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LazyInitPostProcessor Tests")
+class LazyInitPostProcessorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DocsConfig.class)
+            .withBean("catalog", Catalog.class)
+            .withBean("cache", ConcurrentHashMap.class)
+            .withBean("names", ArrayList.class);
+
+    @Nested
+    @DisplayName("Matching")
+    class Matching {
+
+        @Test
+        @DisplayName("Should defer a bean listed by name and keep the others eager")
+        void defersByName() {
+            deferring(List.of("catalog")).run(context -> {
+                ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+                assertFalse(beanFactory.containsSingleton("catalog"));
+                assertTrue(beanFactory.containsSingleton("cache"));
+                assertTrue(beanFactory.containsSingleton("names"));
+                assertTrue(beanFactory.containsSingleton("openApi"));
+
+                assertNotNull(context.getBean("catalog"));
+                assertTrue(beanFactory.containsSingleton("catalog"));
+            });
+        }
+
+        @Test
+        @DisplayName("Should defer a bean listed by class")
+        void defersByClass() {
+            deferring(List.of(Catalog.class.getName())).run(context -> {
+                assertFalse(context.getBeanFactory().containsSingleton("catalog"));
+                assertTrue(context.getBeanFactory().containsSingleton("openApi"));
+            });
+        }
+
+        @Test
+        @DisplayName("Should defer the beans of a package and nothing outside of it")
+        void defersByPackage() {
+            deferring(List.of("java.util.concurrent.*")).run(context -> {
+                assertFalse(context.getBeanFactory().containsSingleton("cache"));
+                assertTrue(context.getBeanFactory().containsSingleton("names"));
+                assertTrue(context.getBeanFactory().containsSingleton("catalog"));
+            });
+        }
+
+        @Test
+        @DisplayName("Should defer the beans of a @Bean method through the class declaring it")
+        void defersByDeclaringClass() {
+            deferring(List.of(DocsConfig.class.getName())).run(context -> {
+                assertFalse(context.getBeanFactory().containsSingleton("openApi"));
+                assertTrue(context.getBeanFactory().containsSingleton("catalog"));
+            });
+        }
+
+        @Test
+        @DisplayName("Should leave every bean eager with an empty list")
+        void keepsEverythingEager() {
+            deferring(List.of()).run(context -> {
+                for (String name : List.of("catalog", "cache", "names", "openApi")) {
+                    assertTrue(context.getBeanFactory().containsSingleton(name), name);
+                }
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Eager Beans")
+    class EagerBeans {
+
+        @Test
+        @DisplayName("Should leave a prototype alone")
+        void ignoresPrototype() {
+            deferring(List.of("openApiGroup")).run(context ->
+                    assertFalse(context.getBeanFactory().getBeanDefinition("openApiGroup").isLazyInit()));
+        }
+
+        @Test
+        @DisplayName("Should still create a deferred bean an eager bean depends on")
+        void createsDependency() {
+            deferring(List.of("catalog")).withBean("catalogClient", CatalogClient.class).run(context ->
+                    assertTrue(context.getBeanFactory().containsSingleton("catalog")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Config {
+
+        private final ApplicationContextRunner configRunner = contextRunner
+                .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+                .withUserConfiguration(StartupTimelineConfig.class)
+                // A single bean: the plain context does not split comma-separated lists
+                .withPropertyValues("lazy-init.beans=catalog");
+
+        @Test
+        @DisplayName("Should keep the listed beans eager unless enabled")
+        void disabledByDefault() {
+            configRunner.run(context -> assertTrue(context.getBeanFactory().containsSingleton("catalog")));
+        }
+
+        @Test
+        @DisplayName("Should defer the listed beans when enabled")
+        void defersWhenEnabled() {
+            configRunner.withPropertyValues("lazy-init.enabled=true").run(context -> {
+                assertFalse(context.getBeanFactory().containsSingleton("catalog"));
+                assertTrue(context.getBeanFactory().containsSingleton("cache"));
+            });
+        }
+    }
+
+    private ApplicationContextRunner deferring(List<String> beans) {
+        return contextRunner.withInitializer(context -> context.addBeanFactoryPostProcessor(new LazyInitPostProcessor(beans)));
+    }
+
+    /**
+     * Bean deferred by name or class.
+     */
+    public static class Catalog {
+    }
+
+    /**
+     * Eager bean depending on the catalog.
+     */
+    public static class CatalogClient {
+
+        public CatalogClient(Catalog catalog) {
+        }
+    }
+
+    /**
+     * Configuration declaring beans through {@code @Bean} methods, like springdoc.
+     */
+    @Configuration
+    public static class DocsConfig {
+
+        @Bean
+        public StringBuilder openApi() {
+            return new StringBuilder("openapi");
+        }
+
+        @Bean
+        @Scope("prototype")
+        public StringBuilder openApiGroup() {
+            return new StringBuilder("group");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.eraste.common.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StartupTimelineEndpoint Unit Tests")
+class StartupTimelineEndpointTest {
+
+    private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+    private final StartupTimelineEndpoint endpoint = new StartupTimelineEndpoint(applicationStartup);
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        StartupStep bean = applicationStartup.start("spring.beans.instantiate").tag("beanName", "openApi");
+        Thread.sleep(60);
+        bean.end();
+        Thread.sleep(10);
+        refresh.end();
+    }
+
+    @Nested
+    @DisplayName("Steps")
+    class Steps {
+
+        @Test
+        @DisplayName("Should sort the steps by duration with their own time and tags")
+        @SuppressWarnings("unchecked")
+        void sortsByDuration() {
+            Map<String, Object> report = endpoint.timeline(null, null);
+
+            assertEquals(true, report.get("buffered"));
+            assertEquals(2, report.get("steps"));
+            List<StartupStepSummary> longest = (List<StartupStepSummary>) report.get("longest");
+            StartupStepSummary refresh = longest.get(0);
+            StartupStepSummary bean = longest.get(1);
+            assertEquals("spring.context.refresh", refresh.name());
+            assertEquals("spring.beans.instantiate", bean.name());
+            assertEquals(refresh.id(), bean.parentId());
+            assertEquals(Map.of("beanName", "openApi"), bean.tags());
+            assertEquals(bean.durationMs(), bean.selfMs());
+            assertEquals(refresh.durationMs() - bean.durationMs(), refresh.selfMs(), 0.001);
+            assertTrue((double) report.get("totalMs") >= refresh.durationMs());
+        }
+
+        @Test
+        @DisplayName("Should sort the steps by their own time")
+        @SuppressWarnings("unchecked")
+        void sortsBySelf() {
+            List<StartupStepSummary> longest = (List<StartupStepSummary>) endpoint.timeline(null, "self").get("longest");
+
+            assertEquals(List.of("spring.beans.instantiate", "spring.context.refresh"),
+                    longest.stream().map(StartupStepSummary::name).toList());
+        }
+
+        @Test
+        @DisplayName("Should not drain the timeline")
+        void keepsTimeline() {
+            endpoint.timeline(null, null);
+
+            assertEquals(2, endpoint.timeline(null, null).get("steps"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit")
+    class Limit {
+
+        @Test
+        @DisplayName("Should return the given number of steps")
+        void limits() {
+            assertEquals(1, longest(1).size());
+        }
+
+        @Test
+        @DisplayName("Should return every step for a limit past the last one")
+        void limitPastLastStep() {
+            assertEquals(2, longest(100).size());
+        }
+
+        @Test
+        @DisplayName("Should return no step for a zero or negative limit")
+        void negativeLimit() {
+            assertTrue(longest(0).isEmpty());
+            assertTrue(longest(-1).isEmpty());
+        }
+
+        private List<?> longest(int limit) {
+            return (List<?>) endpoint.timeline(limit, null).get("longest");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a startup that is not buffered")
+    void notBuffered() {
+        Map<String, Object> report = new StartupTimelineEndpoint(ApplicationStartup.DEFAULT).timeline(null, null);
+
+        assertEquals(Map.of("buffered", false), report);
+    }
+}
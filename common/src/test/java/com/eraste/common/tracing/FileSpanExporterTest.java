@@ -0,0 +1,74 @@
+package com.eraste.common.tracing;
+
+import brave.Span;
+import brave.Tracing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("FileSpanExporter Unit Tests")
+class FileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should append one JSON record per finished span")
+    void writesOneLinePerSpan() throws Exception {
+        Path file = directory.resolve("spans/order-service.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(objectMapper, file);
+        List<Span> finished = new ArrayList<>();
+        try (Tracing tracing = Tracing.newBuilder().localServiceName("order-service").addSpanHandler(exporter).build()) {
+            Span root = tracing.tracer().newTrace().name("http get /orders").start();
+            Span child = tracing.tracer().newChild(root.context()).name("OrderJpaRepository.findAllRows")
+                    .tag("repository", "OrderJpaRepository").start();
+            child.finish();
+            root.finish();
+            finished.add(child);
+            finished.add(root);
+        }
+        exporter.destroy();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            RecordedSpan span = objectMapper.readValue(lines.get(i), RecordedSpan.class);
+            assertEquals(finished.get(i).context().spanIdString(), span.spanId());
+            assertEquals(finished.get(i).context().traceIdString(), span.traceId());
+            assertEquals("order-service", span.service());
+        }
+        RecordedSpan child = objectMapper.readValue(lines.get(0), RecordedSpan.class);
+        assertEquals("OrderJpaRepository.findAllRows", child.name());
+        assertEquals("OrderJpaRepository", child.tags().get("repository"));
+        assertEquals(finished.get(1).context().spanIdString(), child.parentId());
+        assertNull(objectMapper.readValue(lines.get(1), RecordedSpan.class).parentId());
+    }
+
+    @Test
+    @DisplayName("Should append to the spans of a previous run")
+    void appendsToExistingFile() throws Exception {
+        Path file = directory.resolve("spans.jsonl");
+        Files.writeString(file, "{\"traceId\":\"1\",\"spanId\":\"1\",\"start\":0,\"duration\":0}\n");
+        FileSpanExporter exporter = new FileSpanExporter(objectMapper, file);
+        try (Tracing tracing = Tracing.newBuilder().addSpanHandler(exporter).build()) {
+            tracing.tracer().newTrace().name("http get /orders").start().finish();
+        }
+        exporter.destroy();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("http get /orders", objectMapper.readValue(lines.get(1), RecordedSpan.class).name());
+    }
+}
@@ -0,0 +1,151 @@
+package com.eraste.common.tracing;
+
+import brave.Tracing;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.brave.bridge.BraveBaggageManager;
+import io.micrometer.tracing.brave.bridge.BraveCurrentTraceContext;
+import io.micrometer.tracing.brave.bridge.BraveTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Traces repository calls with a Brave tracer exporting to an {@link InMemorySpanExporter},
+ * read back through the {@link SpansEndpoint}.
+ */
+@DisplayName("Repository Tracing Tests")
+class RepositoryTracingTest {
+
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+    private final SpansEndpoint endpoint = new SpansEndpoint(exporter);
+    private final Tracing tracing = Tracing.newBuilder()
+            .localServiceName("order-service")
+            .addSpanHandler(exporter)
+            .build();
+    private final Tracer tracer = new BraveTracer(tracing.tracer(),
+            new BraveCurrentTraceContext(tracing.currentTraceContext()), new BraveBaggageManager());
+    private final ItemRepository repository = tracedRepository();
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Nested
+    @DisplayName("Repository Spans")
+    class RepositorySpans {
+
+        @Test
+        @DisplayName("Should record a child span named after the repository method")
+        void recordsRepositorySpan() {
+            Span request = tracer.nextSpan().name("http get /orders").start();
+            try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+                assertEquals("Hammer", repository.findName(1L));
+            } finally {
+                request.end();
+            }
+
+            List<RecordedSpan> trace = endpoint.trace(request.context().traceId());
+            assertEquals(Set.of("http get /orders", "ItemRepository.findName"),
+                    trace.stream().map(RecordedSpan::name).collect(Collectors.toSet()));
+            RecordedSpan span = named(trace, "ItemRepository.findName");
+            assertEquals(request.context().spanId(), span.parentId());
+            assertEquals("order-service", span.service());
+            assertEquals(Map.of("repository", "ItemRepository"), span.tags());
+            assertTrue(span.duration() >= 0);
+        }
+
+        @Test
+        @DisplayName("Should not trace calls made outside of a trace")
+        void ignoresCallsOutsideTrace() {
+            repository.findName(1L);
+
+            assertTrue(endpoint.spans().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should record the error of a failed call")
+        void recordsError() {
+            Span request = tracer.nextSpan().name("http get /orders").start();
+            try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+                assertThrows(IllegalStateException.class, () -> repository.findName(-1L));
+            } finally {
+                request.end();
+            }
+
+            RecordedSpan span = named(endpoint.trace(request.context().traceId()), "ItemRepository.findName");
+            assertEquals("No item -1", span.error());
+        }
+    }
+
+    @Nested
+    @DisplayName("Spans Endpoint")
+    class Endpoint {
+
+        @Test
+        @DisplayName("Should drop the oldest spans beyond the capacity")
+        void dropsOldestSpans() {
+            InMemorySpanExporter small = new InMemorySpanExporter(2);
+            try (Tracing smallTracing = Tracing.newBuilder().addSpanHandler(small).build()) {
+                for (String name : List.of("a", "b", "c")) {
+                    smallTracing.tracer().newTrace().name(name).start().finish();
+                }
+            }
+
+            assertEquals(List.of("b", "c"), new SpansEndpoint(small).spans().stream().map(RecordedSpan::name).toList());
+        }
+
+        @Test
+        @DisplayName("Should drop every span on clear")
+        void clears() {
+            Span span = tracer.nextSpan().name("http get /orders").start();
+            span.end();
+
+            endpoint.clear();
+
+            assertTrue(endpoint.spans().isEmpty());
+        }
+    }
+
+    private static RecordedSpan named(List<RecordedSpan> spans, String name) {
+        return spans.stream().filter(span -> span.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private ItemRepository tracedRepository() {
+        ProxyFactory proxyFactory = new ProxyFactory(new InMemoryItemRepository());
+        proxyFactory.addInterface(ItemRepository.class);
+        proxyFactory.addAdvice(new RepositoryTracingInterceptor(
+                new StaticListableBeanFactory(Map.of("tracer", tracer)).getBeanProvider(Tracer.class),
+                ItemRepository.class));
+        return (ItemRepository) proxyFactory.getProxy();
+    }
+
+    interface ItemRepository {
+
+        String findName(long id);
+    }
+
+    static class InMemoryItemRepository implements ItemRepository {
+
+        @Override
+        public String findName(long id) {
+            if (id < 0) {
+                throw new IllegalStateException("No item " + id);
+            }
+            return "Hammer";
+        }
+    }
+}
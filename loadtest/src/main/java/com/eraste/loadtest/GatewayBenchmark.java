@@ -0,0 +1,213 @@
+package com.eraste.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures the latency added by the api-gateway at increasing request rates.
+ * <p>
+ * The stub user-service answers {@code GET /users/{id}} after {@code stub-latency}, so
+ * that at each rate about {@code rate x stub-latency} requests are in flight. Each rate
+ * is run against the stub directly then through the gateway jar, started in a process
+ * of its own, and the difference of the percentiles is the latency the gateway adds.
+ * Requests are started at a fixed rate and timed from when they were due, as in
+ * {@link LoadGenerator}; those due during the warmup are left out.
+ * </p>
+ * <p>
+ * Options, as {@code name=value}: {@code root}, {@code output}, {@code rates}
+ * (500,1000,2000), {@code duration} (20s), {@code warmup} (10s), {@code stub-latency}
+ * (20ms), {@code max-in-flight} (4096), {@code port} (18101, the gateway uses the next
+ * one) and {@code jvm-args} (-Xmx512m). The table is printed and written to
+ * {@code gateway-report.json}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GatewayBenchmark {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int USERS = 1_000;
+
+    /**
+     * Latencies of one target at one rate, in milliseconds.
+     *
+     * @param rate     the requests started per second
+     * @param target   {@code direct}, {@code gateway}, or {@code added} for their difference
+     * @param count    the successful requests
+     * @param errors   the failed and rejected requests
+     * @param inFlight the mean number of requests in flight, by Little's law
+     * @param p50      the median latency
+     * @param p90      the 90th percentile
+     * @param p99      the 99th percentile
+     * @param p999     the 99.9th percentile
+     * @param max      the highest latency
+     */
+    record Row(int rate, String target, long count, long errors, double inFlight, double p50, double p90, double p99,
+               double p999, double max) {
+    }
+
+    private GatewayBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the options, as {@code name=value}
+     * @throws Exception if the gateway cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + arg);
+            }
+            options.put(option.substring(0, equals), option.substring(equals + 1));
+        }
+        Path root = Path.of(options.getOrDefault("root", ".")).toAbsolutePath().normalize();
+        Path output = Path.of(options.getOrDefault("output", "target/gateway")).toAbsolutePath();
+        String[] rates = options.getOrDefault("rates", "500,1000,2000").split(",");
+        Duration duration = LoadTestOptions.duration(options.getOrDefault("duration", "20s"));
+        Duration warmup = LoadTestOptions.duration(options.getOrDefault("warmup", "10s"));
+        Duration stubLatency = LoadTestOptions.duration(options.getOrDefault("stub-latency", "20ms"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "4096"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18101"));
+        List<String> jvmArgs = List.of(options.getOrDefault("jvm-args", "-Xmx512m").trim().split("\\s+"));
+
+        Path jar = root.resolve("api-gateway").resolve("target").resolve("api-gateway-0.0.1-SNAPSHOT.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar + ": build it first, e.g. mvn -Ploadtest verify -Dmaven.test.skip=true");
+        }
+        List<String> command = new ArrayList<>(jvmArgs);
+        command.addAll(List.of("-jar", jar.toString(), "--USER_SERVICE_URL=http://localhost:" + port));
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+                        task -> {
+                            Thread thread = new Thread(task, "gateway-benchmark-client");
+                            thread.setDaemon(true);
+                            return thread;
+                        }))
+                .build();
+
+        List<Row> rows = new ArrayList<>();
+        try (StubUserService stub = new StubUserService(port, stubLatency, USERS);
+             ServiceProcess gateway = ServiceProcess.start("api-gateway", port + 1, command,
+                     output.resolve("api-gateway.log"))) {
+            Map<String, String> targets = new LinkedHashMap<>();
+            targets.put("direct", "http://localhost:" + port + "/users/");
+            targets.put("gateway", gateway.url() + "/api/users/");
+            for (String value : rates) {
+                int rate = Integer.parseInt(value.trim());
+                Map<String, Row> results = new LinkedHashMap<>();
+                for (Map.Entry<String, String> target : targets.entrySet()) {
+                    System.out.printf("%s at %d requests/s%n", target.getKey(), rate);
+                    LongAdder errors = new LongAdder();
+                    Histogram histogram = drive(client, target.getValue(), rate, warmup, duration, maxInFlight, errors);
+                    results.put(target.getKey(), row(rate, target.getKey(), histogram, errors.sum(), duration));
+                }
+                Row direct = results.get("direct");
+                Row through = results.get("gateway");
+                rows.add(direct);
+                rows.add(through);
+                rows.add(new Row(rate, "added", 0, 0, through.inFlight() - direct.inFlight(),
+                        through.p50() - direct.p50(), through.p90() - direct.p90(), through.p99() - direct.p99(),
+                        through.p999() - direct.p999(), through.max() - direct.max()));
+            }
+        }
+
+        System.out.printf("%n%6s %-8s %9s %7s %9s %9s %9s %9s %9s %9s%n", "rate", "target", "count", "errors",
+                "in flight", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : rows) {
+            System.out.printf("%6d %-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.rate(), row.target(),
+                    row.count(), row.errors(), row.inFlight(), row.p50(), row.p90(), row.p99(), row.p999(), row.max());
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("duration", duration.toString());
+        report.put("warmup", warmup.toString());
+        report.put("stubLatency", stubLatency.toString());
+        report.put("processors", Runtime.getRuntime().availableProcessors());
+        report.put("results", rows);
+        Path path = output.resolve("gateway-report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        System.out.println("\nReport written to " + path);
+    }
+
+    private static Histogram drive(HttpClient client, String url, int rate, Duration warmup, Duration duration,
+                                   int maxInFlight, LongAdder errors) throws InterruptedException {
+        Recorder recorder = new Recorder(HIGHEST_MICROS, 3);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measured = start + warmup.toNanos();
+        long end = measured + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long due = start + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean counted = due >= measured;
+            if (!inFlight.tryAcquire()) {
+                if (counted) {
+                    errors.increment();
+                }
+                continue;
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + (1 + ThreadLocalRandom.current().nextInt(USERS))))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - due;
+                inFlight.release();
+                if (!counted) {
+                    return;
+                }
+                if (failure == null && response.statusCode() == 200) {
+                    recorder.recordValue(Math.min(latency / 1_000, HIGHEST_MICROS));
+                } else {
+                    errors.increment();
+                }
+            });
+        }
+        inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+        return recorder.getIntervalHistogram();
+    }
+
+    private static Row row(int rate, String target, Histogram histogram, long errors, Duration duration) {
+        double seconds = duration.toMillis() / 1_000.0;
+        double meanSeconds = histogram.getMean() / 1_000_000;
+        return new Row(rate, target, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds * meanSeconds,
+                histogram.getValueAtPercentile(50) / 1_000.0, histogram.getValueAtPercentile(90) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0, histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.eraste.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a fixed rate whatever the
+ * response times.
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate} and its latency is measured
+ * from that time rather than from when it was actually sent, so that a stalled service
+ * delaying the following requests shows up in their latency instead of lowering the
+ * rate (coordinated omission). When {@code max-in-flight} requests are pending, a due
+ * request is counted as rejected rather than queued. Latencies are recorded in
+ * microseconds in one HdrHistogram per operation; only the requests due after the
+ * warmup are counted.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestOptions options;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> rejections = new EnumMap<>(Operation.class);
+
+    LoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.operations = options.mix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_MICROS, 3));
+            errors.put(operation, new LongAdder());
+            rejections.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Runs the warmup then the measured phase.
+     *
+     * @param client   the HTTP client
+     * @param workload the requests
+     * @return the results of the measured phase
+     * @throws InterruptedException if interrupted
+     */
+    LoadReport run(HttpClient client, Workload workload) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measured = start + options.warmup().toNanos();
+        long end = measured + options.duration().toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        System.out.printf("Warming up for %ds, then measuring for %ds at %d requests/s%n",
+                options.warmup().toSeconds(), options.duration().toSeconds(), options.rate());
+        for (long i = 0; ; i++) {
+            long due = start + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Workload.Call call = workload.next(draw());
+            boolean counted = due >= measured;
+            if (!inFlight.tryAcquire()) {
+                if (counted) {
+                    rejections.get(call.operation()).increment();
+                }
+                continue;
+            }
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - due;
+                inFlight.release();
+                boolean success = failure == null && response.statusCode() < 400;
+                if (success) {
+                    workload.completed(call.request(), response.body());
+                }
+                if (!counted) {
+                    return;
+                }
+                if (success) {
+                    recorders.get(call.operation()).recordValue(Math.min(latency / 1_000, HIGHEST_MICROS));
+                } else {
+                    errors.get(call.operation()).increment();
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), 30, TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still pending 30s after the end of the run");
+        }
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        Map<Operation, Long> rejectionCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).sum());
+            rejectionCounts.put(operation, rejections.get(operation).sum());
+        }
+        return new LoadReport(options, histograms, errorCounts, rejectionCounts);
+    }
+
+    private Operation draw() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
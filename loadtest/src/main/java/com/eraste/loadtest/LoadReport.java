@@ -0,0 +1,149 @@
+package com.eraste.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of the measured phase of a load test, by operation.
+ * <p>
+ * Percentiles only cover the successful requests; failed requests, i.e. an error
+ * status or no response, and rejected requests are counted apart and make up the
+ * error rate. The report is printed as a table and written to {@code report.json} in
+ * the output directory.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class LoadReport {
+
+    /**
+     * Results of one operation, latencies in milliseconds.
+     *
+     * @param operation  the operation, or {@code total}
+     * @param count      the successful requests
+     * @param errors     the failed requests
+     * @param rejected   the requests not sent because too many were pending
+     * @param throughput the successful requests per second
+     * @param p50        the median latency
+     * @param p90        the 90th percentile
+     * @param p99        the 99th percentile
+     * @param p999       the 99.9th percentile
+     * @param max        the highest latency
+     */
+    record Row(String operation, long count, long errors, long rejected, double throughput, double p50, double p90,
+               double p99, double p999, double max) {
+
+        double errorRate() {
+            long all = count + errors + rejected;
+            return all == 0 ? 0 : (double) (errors + rejected) / all;
+        }
+    }
+
+    private final LoadTestOptions options;
+    private final List<Row> rows = new ArrayList<>();
+
+    LoadReport(LoadTestOptions options, Map<Operation, Histogram> histograms, Map<Operation, Long> errors,
+               Map<Operation, Long> rejections) {
+        this.options = options;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalRejected = 0;
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long operationErrors = errors.get(entry.getKey());
+            long operationRejected = rejections.get(entry.getKey());
+            if (histogram.getTotalCount() + operationErrors + operationRejected == 0) {
+                continue;
+            }
+            rows.add(row(entry.getKey().label(), histogram, operationErrors, operationRejected));
+            total.add(histogram);
+            totalErrors += operationErrors;
+            totalRejected += operationRejected;
+        }
+        rows.add(row("total", total, totalErrors, totalRejected));
+    }
+
+    /**
+     * Gets the results of every operation, then the total.
+     *
+     * @return the rows
+     */
+    List<Row> rows() {
+        return rows;
+    }
+
+    /**
+     * Prints the results as a table.
+     */
+    void print() {
+        System.out.printf("%n%-18s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "errors",
+                "rejected", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : rows) {
+            System.out.printf("%-18s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.operation(), row.count(),
+                    row.errors(), row.rejected(), row.throughput(), row.p50(), row.p90(), row.p99(), row.p999(),
+                    row.max());
+        }
+    }
+
+    /**
+     * Writes the options and the results to {@code report.json}.
+     *
+     * @return the path of the report
+     * @throws IOException if the report cannot be written
+     */
+    Path write() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", options.rate());
+        report.put("duration", options.duration().toString());
+        report.put("warmup", options.warmup().toString());
+        report.put("userService", options.userService());
+        report.put("stubLatency", options.stubLatency().toString());
+        report.put("operations", rows);
+        Path path = options.output().resolve("report.json");
+        Files.createDirectories(options.output());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        return path;
+    }
+
+    /**
+     * Lists the thresholds of the options the run exceeded.
+     *
+     * @return the violations, empty when the run passed
+     */
+    List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        for (Row row : rows) {
+            if (options.maxP99Millis() > 0 && row.p99() > options.maxP99Millis()) {
+                violations.add(String.format("%s p99 of %.2f ms exceeds %.2f ms", row.operation(), row.p99(),
+                        options.maxP99Millis()));
+            }
+            if (row.errorRate() > options.maxErrorRate()) {
+                violations.add(String.format("%s error rate of %.4f exceeds %.4f", row.operation(), row.errorRate(),
+                        options.maxErrorRate()));
+            }
+        }
+        return violations;
+    }
+
+    private Row row(String operation, Histogram histogram, long errors, long rejected) {
+        double seconds = options.duration().toMillis() / 1_000.0;
+        return new Row(operation, histogram.getTotalCount(), errors, rejected, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getTotalCount() == 0 ? 0 : histogram.getMaxValue() / 1_000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+}
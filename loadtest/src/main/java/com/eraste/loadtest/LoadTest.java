@@ -0,0 +1,104 @@
+package com.eraste.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test of the services, runnable offline.
+ * <p>
+ * Starts user-service, or an in-process stub answering in {@code stub-latency},
+ * product-service and order-service from their jars on an in-memory database, creates
+ * the catalog, then drives the mix of operations at a fixed rate and reports the
+ * latency percentiles of each. Exits with status 1 when a threshold is exceeded and 2
+ * when the run could not be carried out. Options are described in
+ * {@link LoadTestOptions}; run it with {@code mvn -Ploadtest verify -Dmaven.test.skip=true}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the options, as {@code name=value}
+     * @throws Exception if the run fails
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<AutoCloseable> started = Collections.synchronizedList(new ArrayList<>());
+        Thread stopper = new Thread(() -> stopAll(started), "loadtest-stopper");
+        Runtime.getRuntime().addShutdownHook(stopper);
+        int status;
+        try {
+            status = run(options, started);
+        } catch (Exception e) {
+            System.err.println("Load test failed: " + e.getMessage());
+            status = 2;
+        } finally {
+            stopAll(started);
+            Runtime.getRuntime().removeShutdownHook(stopper);
+        }
+        System.exit(status);
+    }
+
+    private static int run(LoadTestOptions options, List<AutoCloseable> started) throws Exception {
+        int userPort = options.basePort();
+        String userServiceUrl = "http://localhost:" + userPort;
+        System.out.println("Starting the services, logs in " + options.output());
+        if (options.stubUserService()) {
+            started.add(new StubUserService(userPort, options.stubLatency(), options.users()));
+        } else {
+            started.add(ServiceProcess.start(options, "user-service", userPort));
+        }
+        ServiceProcess productService = ServiceProcess.start(options, "product-service", userPort + 1);
+        started.add(productService);
+        ServiceProcess orderService = ServiceProcess.start(options, "order-service", userPort + 2,
+                "services.user-service.url=" + userServiceUrl);
+        started.add(orderService);
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+                        task -> {
+                            Thread thread = new Thread(task, "loadtest-client");
+                            thread.setDaemon(true);
+                            return thread;
+                        }))
+                .build();
+        Workload workload = new Workload(options, userServiceUrl, productService.url(), orderService.url());
+        System.out.printf("Creating %d categories and %d products%n", options.categories(), options.products());
+        workload.seed(client);
+
+        LoadReport report = new LoadGenerator(options).run(client, workload);
+        report.print();
+        Path path = report.write();
+        System.out.println("\nReport written to " + path);
+        List<String> violations = report.violations();
+        violations.forEach(violation -> System.out.println("FAILED: " + violation));
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    private static void stopAll(List<AutoCloseable> started) {
+        synchronized (started) {
+            for (int i = started.size() - 1; i >= 0; i--) {
+                try {
+                    started.get(i).close();
+                } catch (Exception e) {
+                    System.err.println("Cannot stop " + started.get(i) + ": " + e.getMessage());
+                }
+            }
+            started.clear();
+        }
+    }
+}
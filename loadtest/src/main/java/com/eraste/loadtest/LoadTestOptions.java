@@ -0,0 +1,125 @@
+package com.eraste.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, read from {@code name=value} arguments, optionally
+ * prefixed with {@code --}.
+ * <p>
+ * Durations accept the {@code ms}, {@code s} and {@code m} suffixes. The mix gives the
+ * relative weight of each operation, e.g. {@code mix=create-order:20,list-by-user:30}.
+ * The thresholds are optional: when set, a run exceeding one of them exits with status 1,
+ * so that a regression fails the build.
+ * </p>
+ *
+ * @param root              the root directory of the project, holding the service modules
+ * @param output            the directory of the report and the service logs
+ * @param rate              the requests started per second
+ * @param duration          the length of the measured phase
+ * @param warmup            the length of the warmup phase, at the same rate, whose results are dropped
+ * @param maxInFlight       the requests pending at once above which new ones are counted as rejected
+ * @param userService       {@code real} to start user-service, {@code stub} to answer in-process
+ * @param stubLatency       the delay of the stub user-service before each response
+ * @param basePort          the port of user-service; product-service and order-service use the next two
+ * @param users             the number of users created before the run
+ * @param categories        the number of categories created before the run
+ * @param products          the number of products created before the run
+ * @param jvmArgs           the JVM options of the services, separated by spaces
+ * @param mix               the weight of each operation
+ * @param maxP99Millis      the highest p99 allowed for any operation, or 0 for none
+ * @param maxErrorRate      the highest share of failed requests allowed, or 1 for none
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record LoadTestOptions(Path root, Path output, int rate, Duration duration, Duration warmup, int maxInFlight,
+                              String userService, Duration stubLatency, int basePort, int users, int categories,
+                              int products, String jvmArgs, Map<Operation, Integer> mix, double maxP99Millis,
+                              double maxErrorRate) {
+
+    /**
+     * Reads the options, falling back to the defaults.
+     *
+     * @param args the command line arguments
+     * @return the options
+     * @throws IllegalArgumentException if an argument is malformed or unknown
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + arg);
+            }
+            values.put(option.substring(0, equals), option.substring(equals + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Path.of(take(values, "root", ".")).toAbsolutePath().normalize(),
+                Path.of(take(values, "output", "target/loadtest")).toAbsolutePath(),
+                Integer.parseInt(take(values, "rate", "200")),
+                duration(take(values, "duration", "60s")),
+                duration(take(values, "warmup", "20s")),
+                Integer.parseInt(take(values, "max-in-flight", "512")),
+                take(values, "user-service", "stub"),
+                duration(take(values, "stub-latency", "2ms")),
+                Integer.parseInt(take(values, "base-port", "18081")),
+                Integer.parseInt(take(values, "users", "200")),
+                Integer.parseInt(take(values, "categories", "10")),
+                Integer.parseInt(take(values, "products", "500")),
+                take(values, "jvm-args", "-Xmx512m"),
+                mix(take(values, "mix", "create-order:20,list-by-user:30,status-transition:10,catalog-browse:40")),
+                Double.parseDouble(take(values, "max-p99-ms", "0")),
+                Double.parseDouble(take(values, "max-error-rate", "1")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (!options.userService.equals("stub") && !options.userService.equals("real")) {
+            throw new IllegalArgumentException("user-service must be stub or real: " + options.userService);
+        }
+        return options;
+    }
+
+    /**
+     * Tells whether user-service is answered by the in-process stub.
+     *
+     * @return true for the stub
+     */
+    public boolean stubUserService() {
+        return userService.equals("stub");
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        throw new IllegalArgumentException("Expected a duration in ms, s or m: " + value);
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix: " + entry);
+            }
+            mix.put(Operation.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,54 @@
+package com.eraste.loadtest;
+
+/**
+ * Operation of the load test workload.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum Operation {
+
+    /** Creates an order of one to three products, {@code POST /orders}. */
+    CREATE_ORDER("create-order"),
+
+    /** Lists the orders of a user with their user details, {@code GET /orders/user/{userId}}. */
+    LIST_BY_USER("list-by-user"),
+
+    /** Moves an order created by the run to its next status, {@code PATCH /orders/{id}/status}. */
+    STATUS_TRANSITION("status-transition"),
+
+    /** Reads a page of a category, or a product, {@code GET /products/search?category=} or {@code GET /products/{id}}. */
+    CATALOG_BROWSE("catalog-browse");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the operation in the options and the report.
+     *
+     * @return the label
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Finds an operation by label.
+     *
+     * @param label the label
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has this label
+     */
+    public static Operation of(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equals(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + label);
+    }
+}
@@ -0,0 +1,153 @@
+package com.eraste.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service started from its executable jar in a process of its own.
+ * <p>
+ * Each service gets its own JVM, as in production, so that it shares neither heap nor
+ * JIT with the load generator. It runs the {@code dev} profile, on an in-memory H2
+ * database, and writes its output to {@code <name>.log} in the output directory.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    /** Interval between two health checks, which bounds the precision of the startup time. */
+    private static final long POLL_MILLIS = 20;
+
+    private final String name;
+    private final int port;
+    private final Process process;
+    private long startupNanos;
+
+    private ServiceProcess(String name, int port, Process process) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+    }
+
+    /**
+     * Starts a service and waits until its health endpoint answers.
+     *
+     * @param options    the load test options
+     * @param name       the module of the service, e.g. {@code order-service}
+     * @param port       the HTTP port
+     * @param properties additional Spring properties, as {@code name=value}
+     * @return the started service
+     * @throws IOException          if the jar is missing or the process cannot start
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static ServiceProcess start(LoadTestOptions options, String name, int port, String... properties)
+            throws IOException, InterruptedException {
+        Path jar = options.root().resolve(name).resolve("target").resolve(name + "-0.0.1-SNAPSHOT.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IOException("Missing " + jar + ": build the services first, e.g. mvn -Ploadtest verify -Dmaven.test.skip=true");
+        }
+        List<String> command = new ArrayList<>(List.of(options.jvmArgs().trim().split("\\s+")));
+        command.addAll(List.of("-jar", jar.toString(),
+                "--spring.profiles.active=dev",
+                "--spring.h2.console.enabled=false"));
+        for (String property : properties) {
+            command.add("--" + property);
+        }
+        return start(name, port, command, options.output().resolve(name + ".log"));
+    }
+
+    /**
+     * Starts a service with the given JVM command line and waits until its health
+     * endpoint answers.
+     *
+     * @param name      the module of the service, e.g. {@code order-service}
+     * @param port      the HTTP port, appended to the command line as a Spring property
+     * @param arguments the arguments of the {@code java} command, from the JVM options to
+     *                  the Spring properties
+     * @param log       the file receiving the output of the service
+     * @return the started service
+     * @throws IOException          if the process cannot start or is not healthy in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static ServiceProcess start(String name, int port, List<String> arguments, Path log)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.addAll(List.of("--server.port=" + port,
+                "--logging.level.root=warn",
+                "--logging.level.org.springframework.boot.web.embedded=info"));
+        Files.createDirectories(log.getParent());
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        ServiceProcess service = new ServiceProcess(name, port, process);
+        service.awaitHealthy();
+        service.startupNanos = System.nanoTime() - launched;
+        return service;
+    }
+
+    /**
+     * Gets the time from the launch of the process to the first healthy answer.
+     *
+     * @return the startup time, in nanoseconds
+     */
+    long startupNanos() {
+        return startupNanos;
+    }
+
+    /**
+     * Gets the base URL of the service.
+     *
+     * @return the URL, e.g. {@code http://localhost:18083}
+     */
+    String url() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(url() + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException(name + " exited with status " + process.exitValue() + ", see " + name + ".log");
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        process.destroyForcibly();
+        throw new IOException(name + " did not start within " + STARTUP_TIMEOUT.toSeconds() + "s, see " + name + ".log");
+    }
+}
@@ -0,0 +1,177 @@
+package com.eraste.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the startup time of the services in the plain, AOT and AOT+CDS modes, and
+ * with the lazy initialization of the {@code prod} profile.
+ * <p>
+ * The {@code aot} and {@code aot+cds} modes need the artifacts of {@code mvn -Paot package}:
+ * the processed jar, its extraction in {@code target/cds} and the class-data sharing
+ * archive of the training run. The {@code prod} mode is the plain jar with the
+ * {@code prod} profile added; the AOT modes keep the bean definitions of the build and
+ * ignore it. Each
+ * service is started {@code runs} times in every mode, the modes taking turns so that a
+ * change of machine load does not favor one, after one round left out to warm the file
+ * cache. The startup time runs from the launch of the JVM to the first healthy answer
+ * of {@code /actuator/health}. Every mode uses the {@code docker} profile the AOT
+ * processing was done for, on an in-memory database as the training run.
+ * </p>
+ * <p>
+ * Options, as {@code name=value}: {@code root}, {@code output}, {@code runs} (5),
+ * {@code modes} (plain,aot,aot+cds, plain first, prod also available), {@code services}
+ * (user-service,product-service,order-service), {@code port} (18091)
+ * and {@code jvm-args} (-Xmx512m). The table is printed and written to
+ * {@code startup-report.json}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StartupReport {
+
+    /** Same database settings as the CDS training run of the aot profile. */
+    private static final List<String> PROPERTIES = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.flyway.locations=classpath:db/none");
+
+    /**
+     * Startup times of one service in one mode, in milliseconds.
+     *
+     * @param service the service
+     * @param mode    the mode
+     * @param median  the median startup time
+     * @param min     the shortest startup time
+     * @param max     the longest startup time
+     * @param speedup the median of the plain mode divided by this median
+     */
+    record Row(String service, String mode, double median, double min, double max, double speedup) {
+    }
+
+    private StartupReport() {
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args the options, as {@code name=value}
+     * @throws Exception if a service cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + arg);
+            }
+            options.put(option.substring(0, equals), option.substring(equals + 1));
+        }
+        Path root = Path.of(options.getOrDefault("root", ".")).toAbsolutePath().normalize();
+        Path output = Path.of(options.getOrDefault("output", "target/startup")).toAbsolutePath();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18091"));
+        List<String> jvmArgs = List.of(options.getOrDefault("jvm-args", "-Xmx512m").trim().split("\\s+"));
+        String[] services = options.getOrDefault("services", "user-service,product-service,order-service").split(",");
+        List<String> modes = List.of(options.getOrDefault("modes", "plain,aot,aot+cds").split(","));
+        if (!modes.get(0).equals("plain")) {
+            throw new IllegalArgumentException("The speedups are relative to the plain mode, list it first: " + modes);
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (String service : services) {
+            Path target = root.resolve(service).resolve("target");
+            Path extracted = target.resolve("cds").resolve(service + "-0.0.1-SNAPSHOT.jar");
+            Path archive = target.resolve("cds").resolve("application.jsa");
+            boolean aot = modes.stream().anyMatch(mode -> mode.startsWith("aot"));
+            if (aot && (!Files.isRegularFile(extracted) || !Files.isRegularFile(archive))) {
+                throw new IllegalStateException("Missing " + archive + ": build with mvn -Paot package -Dmaven.test.skip=true");
+            }
+            String plainJar = target.resolve(service + "-0.0.1-SNAPSHOT.jar").toString();
+            Map<String, List<String>> commands = new LinkedHashMap<>();
+            for (String mode : modes) {
+                commands.put(mode, switch (mode) {
+                    case "plain" -> command(jvmArgs, List.of("-jar", plainJar), "docker");
+                    case "prod" -> command(jvmArgs, List.of("-jar", plainJar), "docker,prod");
+                    case "aot" -> command(jvmArgs, List.of("-Dspring.aot.enabled=true", "-jar", extracted.toString()),
+                            "docker");
+                    case "aot+cds" -> command(jvmArgs, List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off",
+                            "-Dspring.aot.enabled=true", "-jar", extracted.toString()), "docker");
+                    default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+                });
+            }
+
+            Map<String, long[]> times = new LinkedHashMap<>();
+            for (String mode : modes) {
+                times.put(mode, new long[runs]);
+            }
+            for (int run = -1; run < runs; run++) {
+                for (String mode : modes) {
+                    Path log = output.resolve(service + "-" + mode.replace('+', '-') + ".log");
+                    ServiceProcess process = ServiceProcess.start(service, port, commands.get(mode), log);
+                    process.close();
+                    if (run >= 0) {
+                        times.get(mode)[run] = process.startupNanos();
+                    }
+                }
+                System.out.printf("%s: round %d of %d done%n", service, run + 1, runs);
+            }
+            double plain = median(times.get("plain"));
+            for (String mode : modes) {
+                long[] values = times.get(mode);
+                Arrays.sort(values);
+                double median = median(values);
+                rows.add(new Row(service, mode, median, values[0] / 1e6, values[values.length - 1] / 1e6,
+                        plain / median));
+            }
+        }
+
+        System.out.printf("%n%-16s %-8s %10s %10s %10s %8s%n", "service", "mode", "median ms", "min ms", "max ms",
+                "speedup");
+        for (Row row : rows) {
+            System.out.printf("%-16s %-8s %10.0f %10.0f %10.0f %7.2fx%n", row.service(), row.mode(), row.median(),
+                    row.min(), row.max(), row.speedup());
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", runs);
+        report.put("jvmArgs", String.join(" ", jvmArgs));
+        report.put("java", System.getProperty("java.version"));
+        report.put("processors", Runtime.getRuntime().availableProcessors());
+        report.put("startup", rows);
+        Path path = output.resolve("startup-report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        System.out.println("\nReport written to " + path);
+    }
+
+    private static List<String> command(List<String> jvmArgs, List<String> launch, String profiles) {
+        List<String> command = new ArrayList<>(jvmArgs);
+        command.addAll(launch);
+        command.add("--spring.profiles.active=" + profiles);
+        command.addAll(PROPERTIES);
+        return command;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        double median = sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+        return median / 1e6;
+    }
+}
@@ -0,0 +1,116 @@
+package com.eraste.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for user-service, answering {@code GET /users/{id}} after a fixed delay.
+ * <p>
+ * Order-service looks up the user of every order it returns, so the latency of
+ * user-service adds up in the order listings. The stub makes that latency a parameter
+ * of the run, and removes user-service and its database from the measurement. It
+ * answers in JSON with the {@code ApiResponse} envelope of the real service; ids up to
+ * the configured number of users exist, the others are answered with a 404.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class StubUserService implements AutoCloseable {
+
+    private static final String PREFIX = "/users/";
+
+    static {
+        // The JDK server silently closes the idle keep-alive connections beyond 200, which a
+        // pooling client such as the gateway then sees as closed before the response
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyNanos;
+    private final int users;
+
+    /**
+     * Starts the stub.
+     *
+     * @param port    the port to listen on
+     * @param latency the delay before each response
+     * @param users   the number of users that exist
+     * @throws IOException if the port cannot be bound
+     */
+    StubUserService(int port, Duration latency, int users) throws IOException {
+        this.latencyNanos = latency.toNanos();
+        this.users = users;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "stub-user-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (latencyNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            }
+            String path = exchange.getRequestURI().getPath();
+            long id = path.startsWith(PREFIX) ? parseId(path.substring(PREFIX.length())) : -1;
+            String now = LocalDateTime.now().toString();
+            int status;
+            String body;
+            if (id >= 1 && id <= users) {
+                status = 200;
+                body = "{\"success\":true,\"message\":\"Operation successful\",\"data\":{\"id\":" + id
+                        + ",\"username\":\"user" + id + "\",\"email\":\"user" + id + "@example.com\""
+                        + ",\"firstName\":\"First" + id + "\",\"lastName\":\"Last" + id + "\""
+                        + ",\"fullName\":\"First" + id + " Last" + id + "\""
+                        + ",\"createdAt\":\"" + now + "\",\"updatedAt\":\"" + now + "\"},\"timestamp\":\"" + now
+                        + "\"}";
+            } else {
+                status = 404;
+                body = "{\"success\":false,\"message\":\"User not found with id: '" + path + "'\",\"timestamp\":\""
+                        + now + "\",\"path\":\"" + path + "\"}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.eraste.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Requests of the load test: the data created before the run and the request of each
+ * {@link Operation}.
+ * <p>
+ * Categories, products and, with the real user-service, users are created through the
+ * REST APIs, as a client would. Created orders are queued with their status so that
+ * {@link Operation#STATUS_TRANSITION} walks each of them from {@code PENDING} to
+ * {@code DELIVERED}; when the queue is empty an order is created instead, and counted
+ * as such.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Workload {
+
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "PROCESSING", "SHIPPED", "DELIVERED"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    /** Order created during the run and the index of its status in {@link #STATUSES}. */
+    private record PendingOrder(long id, int status) {
+    }
+
+    /**
+     * Request to send and the operation it is counted under.
+     *
+     * @param operation the operation
+     * @param request   the request
+     */
+    record Call(Operation operation, HttpRequest request) {
+    }
+
+    /** Product created before the run, as copied into the order items. */
+    private record SeededProduct(long id, String name, String sku, BigDecimal price) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LoadTestOptions options;
+    private final String userServiceUrl;
+    private final String productServiceUrl;
+    private final String orderServiceUrl;
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<SeededProduct> products = new ArrayList<>();
+    private final ConcurrentLinkedQueue<PendingOrder> orders = new ConcurrentLinkedQueue<>();
+
+    Workload(LoadTestOptions options, String userServiceUrl, String productServiceUrl, String orderServiceUrl) {
+        this.options = options;
+        this.userServiceUrl = userServiceUrl;
+        this.productServiceUrl = productServiceUrl;
+        this.orderServiceUrl = orderServiceUrl;
+    }
+
+    /**
+     * Creates the users, categories and products the operations refer to.
+     *
+     * @param client the HTTP client
+     * @throws IOException          if a creation fails
+     * @throws InterruptedException if interrupted
+     */
+    void seed(HttpClient client) throws IOException, InterruptedException {
+        if (!options.stubUserService()) {
+            for (int i = 1; i <= options.users(); i++) {
+                ObjectNode user = mapper.createObjectNode()
+                        .put("username", "loadtest" + i)
+                        .put("email", "loadtest" + i + "@example.com")
+                        .put("firstName", "Load")
+                        .put("lastName", "Test " + i);
+                create(client, userServiceUrl + "/users", user);
+            }
+        }
+        for (int i = 1; i <= options.categories(); i++) {
+            ObjectNode category = mapper.createObjectNode()
+                    .put("name", "Category " + i)
+                    .put("description", "Load test category " + i)
+                    .put("code", "LT-CAT-" + i);
+            categoryIds.add(create(client, productServiceUrl + "/categories", category).get("id").asLong());
+        }
+        for (int i = 1; i <= options.products(); i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + i % 9_900, 2);
+            ObjectNode product = mapper.createObjectNode()
+                    .put("name", "Product " + i)
+                    .put("description", "Load test product " + i)
+                    .put("price", price)
+                    .put("quantity", 1_000_000)
+                    .put("sku", "LT-SKU-" + i)
+                    .put("categoryId", categoryIds.get(i % categoryIds.size()))
+                    .put("active", true);
+            JsonNode created = create(client, productServiceUrl + "/products", product);
+            products.add(new SeededProduct(created.get("id").asLong(), "Product " + i, "LT-SKU-" + i, price));
+        }
+    }
+
+    /**
+     * Builds the next request of an operation.
+     *
+     * @param operation the operation drawn
+     * @return the request and the operation it is counted under
+     */
+    Call next(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case LIST_BY_USER:
+                return new Call(operation,
+                        get(orderServiceUrl + "/orders/user/" + (1 + random.nextInt(options.users()))));
+            case STATUS_TRANSITION:
+                PendingOrder order = orders.poll();
+                if (order != null) {
+                    ObjectNode status = mapper.createObjectNode().put("status", STATUSES[order.status() + 1]);
+                    return new Call(operation,
+                            send("PATCH", orderServiceUrl + "/orders/" + order.id() + "/status", status));
+                }
+                return new Call(Operation.CREATE_ORDER, createOrder(random));
+            case CATALOG_BROWSE:
+                if (random.nextBoolean()) {
+                    return new Call(operation, get(productServiceUrl + "/products/search?size=20&category="
+                            + categoryIds.get(random.nextInt(categoryIds.size()))));
+                }
+                return new Call(operation,
+                        get(productServiceUrl + "/products/" + products.get(random.nextInt(products.size())).id()));
+            default:
+                return new Call(operation, createOrder(random));
+        }
+    }
+
+    /**
+     * Queues the order created or advanced by a successful response, for the next status
+     * transition.
+     *
+     * @param request the request sent
+     * @param body    the body of the successful response
+     */
+    void completed(HttpRequest request, String body) {
+        if (!request.uri().getPath().startsWith("/orders") || request.method().equals("GET")) {
+            return;
+        }
+        try {
+            JsonNode data = mapper.readTree(body).get("data");
+            int status = List.of(STATUSES).indexOf(data.get("status").asText());
+            if (status >= 0 && status < STATUSES.length - 1) {
+                orders.add(new PendingOrder(data.get("id").asLong(), status));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not an order: nothing to queue
+        }
+    }
+
+    private HttpRequest createOrder(ThreadLocalRandom random) {
+        ObjectNode order = mapper.createObjectNode()
+                .put("userId", 1 + random.nextInt(options.users()))
+                .put("shippingAddress", "1 Load Test Street, 75001 Paris")
+                .put("notes", "load test");
+        ArrayNode items = order.putArray("items");
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            SeededProduct product = products.get(random.nextInt(products.size()));
+            items.addObject()
+                    .put("productId", product.id())
+                    .put("productName", product.name())
+                    .put("productSku", product.sku())
+                    .put("quantity", 1 + random.nextInt(5))
+                    .put("unitPrice", product.price());
+        }
+        return send("POST", orderServiceUrl + "/orders", order);
+    }
+
+    private JsonNode create(HttpClient client, String url, ObjectNode body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(send("POST", url, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201 && response.statusCode() != 200) {
+            throw new IOException("POST " + url + " answered " + response.statusCode() + ": " + response.body());
+        }
+        return mapper.readTree(response.body()).get("data");
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String url, ObjectNode body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .timeout(TIMEOUT)
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write " + body, e);
+        }
+    }
+}
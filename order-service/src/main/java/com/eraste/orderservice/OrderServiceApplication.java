@@ -1,7 +1,9 @@
 package com.eraste.orderservice;
 
+import com.eraste.common.startup.StartupTimelineEndpoint;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.ComponentScan;
 
 /**
@@ -25,6 +27,8 @@ public class OrderServiceApplication {
      * @param args command line arguments
      */
     public static void main(String[] args) {
-        SpringApplication.run(OrderServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(OrderServiceApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(StartupTimelineEndpoint.CAPACITY));
+        application.run(args);
     }
 }
@@ -36,6 +36,9 @@ import java.util.UUID;
 @Transactional
 public class OrderService implements OrderUseCase {
 
+    /** Number of order numbers drawn before giving up on a collision streak. */
+    private static final int ORDER_NUMBER_ATTEMPTS = 10;
+
     private final OrderRepositoryPort orderRepository;
 
     /**
@@ -159,13 +162,25 @@ public class OrderService implements OrderUseCase {
      * <p>
      * Format: ORD-YYYYMMDD-XXXXX (e.g., ORD-20240115-A1B2C)
      * </p>
+     * <p>
+     * The random part only has about a million values per day, so a number already
+     * taken is drawn again. The check is answered by the order number existence filter
+     * and only reaches the database on a possible collision.
+     * </p>
      *
      * @return the generated order number
+     * @throws IllegalStateException if no free number was drawn in {@value #ORDER_NUMBER_ATTEMPTS} attempts
      */
     private String generateOrderNumber() {
         String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String uniquePart = UUID.randomUUID().toString().substring(0, 5).toUpperCase();
-        return "ORD-" + datePart + "-" + uniquePart;
+        for (int attempt = 0; attempt < ORDER_NUMBER_ATTEMPTS; attempt++) {
+            String uniquePart = UUID.randomUUID().toString().substring(0, 5).toUpperCase();
+            String orderNumber = "ORD-" + datePart + "-" + uniquePart;
+            if (!orderRepository.existsByOrderNumber(orderNumber)) {
+                return orderNumber;
+            }
+        }
+        throw new IllegalStateException("Could not generate a unique order number");
     }
 
     /**
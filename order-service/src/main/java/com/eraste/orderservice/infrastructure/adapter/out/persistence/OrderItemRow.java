@@ -0,0 +1,26 @@
+package com.eraste.orderservice.infrastructure.adapter.out.persistence;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of an order item.
+ * <p>
+ * Carries the ID of its order so that the items of several orders, read in one
+ * select, can be grouped back onto their {@link OrderRow}.
+ * </p>
+ *
+ * @param orderId     the ID of the order the item belongs to
+ * @param id          the item ID
+ * @param productId   the product ID
+ * @param productName the product name at order time
+ * @param productSku  the product SKU at order time
+ * @param quantity    the ordered quantity
+ * @param unitPrice   the unit price at order time
+ * @param totalPrice  the total price of the item
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record OrderItemRow(Long orderId, Long id, Long productId, String productName, String productSku,
+                    Integer quantity, BigDecimal unitPrice, BigDecimal totalPrice) {
+}
@@ -1,13 +1,17 @@
 package com.eraste.orderservice.infrastructure.adapter.out.persistence;
 
+import com.eraste.common.existence.ExistenceFilter;
+import com.eraste.common.existence.ExistenceFilters;
 import com.eraste.orderservice.domain.model.Order;
 import com.eraste.orderservice.domain.model.OrderStatus;
 import com.eraste.orderservice.domain.port.out.OrderRepositoryPort;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * JPA Adapter implementing the OrderRepositoryPort.
@@ -15,6 +19,16 @@ import java.util.stream.Collectors;
  * This class serves as the secondary adapter (driven adapter) in the hexagonal architecture.
  * It implements the {@link OrderRepositoryPort} output port using Spring Data JPA.
  * </p>
+ * <p>
+ * Reads select {@link OrderRow} and {@link OrderItemRow} projections and map them
+ * straight to the domain. The items of every order returned by a read are fetched in
+ * one extra select per {@value #ITEM_BATCH_SIZE} orders, instead of one lazy load per
+ * order, and no managed entity is created. Only {@link #save(Order)} loads entities.
+ * </p>
+ * <p>
+ * Order number existence checks go through an {@link ExistenceFilter}: numbers it has
+ * never seen are reported free without a query.
+ * </p>
  *
  * @author Eraste
  * @version 1.0.0
@@ -26,18 +40,24 @@ import java.util.stream.Collectors;
 @Component
 public class OrderJpaAdapter implements OrderRepositoryPort {
 
+    /** Maximum number of order IDs bound to a single item query. */
+    static final int ITEM_BATCH_SIZE = 1000;
+
     private final OrderJpaRepository jpaRepository;
     private final OrderMapper mapper;
+    private final ExistenceFilter orderNumberFilter;
 
     /**
      * Constructs an OrderJpaAdapter with required dependencies.
      *
      * @param jpaRepository the Spring Data JPA repository
      * @param mapper        the mapper for domain/entity conversion
+     * @param filters       the registry of the order number existence filter
      */
-    public OrderJpaAdapter(OrderJpaRepository jpaRepository, OrderMapper mapper) {
+    public OrderJpaAdapter(OrderJpaRepository jpaRepository, OrderMapper mapper, ExistenceFilters filters) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.orderNumberFilter = filters.register("orders.order-number", "orders", "order_number");
     }
 
     /**
@@ -53,6 +73,7 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
         } else {
             entity = mapper.toJpaEntity(order);
         }
+        orderNumberFilter.put(order.getOrderNumber());
         OrderJpaEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -62,8 +83,8 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public Optional<Order> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return jpaRepository.findRowById(id)
+                .map(this::withItems);
     }
 
     /**
@@ -71,8 +92,8 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public Optional<Order> findByOrderNumber(String orderNumber) {
-        return jpaRepository.findByOrderNumber(orderNumber)
-                .map(mapper::toDomain);
+        return jpaRepository.findRowByOrderNumber(orderNumber)
+                .map(this::withItems);
     }
 
     /**
@@ -80,9 +101,7 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public List<Order> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return withItems(jpaRepository.findAllRows());
     }
 
     /**
@@ -90,9 +109,7 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public List<Order> findByUserId(Long userId) {
-        return jpaRepository.findByUserId(userId).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return withItems(jpaRepository.findRowsByUserId(userId));
     }
 
     /**
@@ -100,9 +117,7 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public List<Order> findByStatus(OrderStatus status) {
-        return jpaRepository.findByStatus(status).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+        return withItems(jpaRepository.findRowsByStatus(status));
     }
 
     /**
@@ -118,6 +133,40 @@ public class OrderJpaAdapter implements OrderRepositoryPort {
      */
     @Override
     public boolean existsByOrderNumber(String orderNumber) {
-        return jpaRepository.existsByOrderNumber(orderNumber);
+        return orderNumberFilter.exists(orderNumber, jpaRepository::existsByOrderNumber);
+    }
+
+    /**
+     * Maps a projected order to the domain, with its items.
+     *
+     * @param row the projected order
+     * @return the domain Order model
+     */
+    private Order withItems(OrderRow row) {
+        return mapper.toDomain(row, jpaRepository.findItemRowsByOrderId(row.id()));
+    }
+
+    /**
+     * Maps projected orders to the domain, reading the items of all of them in
+     * batches of {@value #ITEM_BATCH_SIZE} orders.
+     *
+     * @param rows the projected orders
+     * @return the domain Order models, in the order of the rows
+     */
+    private List<Order> withItems(List<OrderRow> rows) {
+        Map<Long, List<OrderItemRow>> itemsByOrder = new HashMap<>();
+        for (int from = 0; from < rows.size(); from += ITEM_BATCH_SIZE) {
+            List<Long> orderIds = rows.subList(from, Math.min(from + ITEM_BATCH_SIZE, rows.size())).stream()
+                    .map(OrderRow::id)
+                    .toList();
+            for (OrderItemRow item : jpaRepository.findItemRowsByOrderIds(orderIds)) {
+                itemsByOrder.computeIfAbsent(item.orderId(), orderId -> new ArrayList<>()).add(item);
+            }
+        }
+        List<Order> orders = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            orders.add(mapper.toDomain(row, itemsByOrder.getOrDefault(row.id(), List.of())));
+        }
+        return orders;
     }
 }
@@ -2,8 +2,10 @@ package com.eraste.orderservice.infrastructure.adapter.out.persistence;
 
 import com.eraste.orderservice.domain.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +15,10 @@ import java.util.Optional;
  * This interface provides CRUD operations and custom queries for {@link OrderJpaEntity}.
  * Spring Data JPA automatically generates the implementation at runtime.
  * </p>
+ * <p>
+ * Reads return {@link OrderRow} and {@link OrderItemRow} projections rather than
+ * entities; entities are only loaded by the write paths.
+ * </p>
  *
  * @author Eraste
  * @version 1.0.0
@@ -23,38 +29,82 @@ import java.util.Optional;
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long> {
 
+    /** Constructor expression selecting orders as {@link OrderRow} projections. */
+    String SELECT_ROW = "select new com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderRow("
+            + "o.id, o.orderNumber, o.userId, o.status, o.totalAmount, o.shippingAddress, o.notes, "
+            + "o.createdAt, o.updatedAt) from OrderJpaEntity o";
+
     /**
-     * Finds an order by its order number.
+     * Finds an order by ID as a read-only projection.
+     *
+     * @param id the order ID
+     * @return an Optional containing the projected order if found
+     */
+    @Query(SELECT_ROW + " where o.id = :id")
+    Optional<OrderRow> findRowById(Long id);
+
+    /**
+     * Finds an order by its order number as a read-only projection.
      *
      * @param orderNumber the order number to search for
-     * @return an Optional containing the order entity if found
+     * @return an Optional containing the projected order if found
+     */
+    @Query(SELECT_ROW + " where o.orderNumber = :orderNumber")
+    Optional<OrderRow> findRowByOrderNumber(String orderNumber);
+
+    /**
+     * Finds all orders as read-only projections.
+     *
+     * @return the projected orders
      */
-    Optional<OrderJpaEntity> findByOrderNumber(String orderNumber);
+    @Query(SELECT_ROW)
+    List<OrderRow> findAllRows();
 
     /**
-     * Finds all orders for a specific user.
+     * Finds all orders for a specific user as read-only projections.
      *
      * @param userId the user ID to filter by
-     * @return a list of order entities for the user
+     * @return the projected orders of the user
      */
-    List<OrderJpaEntity> findByUserId(Long userId);
+    @Query(SELECT_ROW + " where o.userId = :userId")
+    List<OrderRow> findRowsByUserId(Long userId);
 
     /**
-     * Finds all orders with a specific status.
+     * Finds all orders with a specific status as read-only projections.
      *
      * @param status the status to filter by
-     * @return a list of order entities with the specified status
+     * @return the projected orders with the specified status
      */
-    List<OrderJpaEntity> findByStatus(OrderStatus status);
+    @Query(SELECT_ROW + " where o.status = :status")
+    List<OrderRow> findRowsByStatus(OrderStatus status);
+
+    /** Constructor expression selecting order items as {@link OrderItemRow} projections. */
+    String SELECT_ITEM_ROW = "select new com.eraste.orderservice.infrastructure.adapter.out.persistence.OrderItemRow("
+            + "i.order.id, i.id, i.productId, i.productName, i.productSku, i.quantity, i.unitPrice, i.totalPrice) "
+            + "from OrderItemJpaEntity i";
 
     /**
-     * Finds all orders for a user with a specific status.
+     * Finds the items of an order as read-only projections, ordered by item ID.
      *
-     * @param userId the user ID to filter by
-     * @param status the status to filter by
-     * @return a list of order entities matching both criteria
+     * @param orderId the ID of the order
+     * @return the projected items of the order
+     */
+    @Query(SELECT_ITEM_ROW + " where i.order.id = :orderId order by i.id")
+    List<OrderItemRow> findItemRowsByOrderId(Long orderId);
+
+    /**
+     * Finds the items of a set of orders as read-only projections, ordered by order
+     * and item ID.
+     * <p>
+     * Hibernate does not cache the SQL of a query bound to a list parameter, so
+     * {@link #findItemRowsByOrderId(Long)} is preferred for a single order.
+     * </p>
+     *
+     * @param orderIds the IDs of the orders
+     * @return the projected items of the orders
      */
-    List<OrderJpaEntity> findByUserIdAndStatus(Long userId, OrderStatus status);
+    @Query(SELECT_ITEM_ROW + " where i.order.id in :orderIds order by i.order.id, i.id")
+    List<OrderItemRow> findItemRowsByOrderIds(Collection<Long> orderIds);
 
     /**
      * Checks if an order exists with the given order number.
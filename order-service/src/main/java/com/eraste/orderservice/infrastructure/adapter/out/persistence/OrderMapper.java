@@ -4,6 +4,8 @@ import com.eraste.orderservice.domain.model.Order;
 import com.eraste.orderservice.domain.model.OrderItem;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +55,34 @@ public class OrderMapper {
         return order;
     }
 
+    /**
+     * Converts read-only projections of an order and its items to a domain model.
+     *
+     * @param row   the projected order
+     * @param items the projected items of the order
+     * @return the domain Order model
+     */
+    public Order toDomain(OrderRow row, List<OrderItemRow> items) {
+        Order order = new Order();
+        order.setId(row.id());
+        order.setOrderNumber(row.orderNumber());
+        order.setUserId(row.userId());
+        order.setStatus(row.status());
+        order.setTotalAmount(row.totalAmount());
+        order.setShippingAddress(row.shippingAddress());
+        order.setNotes(row.notes());
+        order.setCreatedAt(row.createdAt());
+        order.setUpdatedAt(row.updatedAt());
+
+        List<OrderItem> orderItems = new ArrayList<>(items.size());
+        for (OrderItemRow item : items) {
+            orderItems.add(toOrderItemDomain(item));
+        }
+        order.setItems(orderItems);
+
+        return order;
+    }
+
     /**
      * Converts a domain model to a JPA entity.
      *
@@ -113,6 +143,24 @@ public class OrderMapper {
         return item;
     }
 
+    /**
+     * Converts an OrderItemRow projection to OrderItem domain model.
+     *
+     * @param row the projection to convert
+     * @return the domain OrderItem model
+     */
+    private OrderItem toOrderItemDomain(OrderItemRow row) {
+        OrderItem item = new OrderItem();
+        item.setId(row.id());
+        item.setProductId(row.productId());
+        item.setProductName(row.productName());
+        item.setProductSku(row.productSku());
+        item.setQuantity(row.quantity());
+        item.setUnitPrice(row.unitPrice());
+        item.setTotalPrice(row.totalPrice());
+        return item;
+    }
+
     /**
      * Converts an OrderItem domain model to OrderItemJpaEntity.
      *
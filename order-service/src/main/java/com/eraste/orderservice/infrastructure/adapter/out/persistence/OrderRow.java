@@ -0,0 +1,32 @@
+package com.eraste.orderservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.orderservice.domain.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an order, without its items.
+ * <p>
+ * Built by the constructor expressions of {@link OrderJpaRepository}. The items of a
+ * set of orders are read separately as {@link OrderItemRow} projections, so a listing
+ * costs two selects whatever the number of orders.
+ * </p>
+ *
+ * @param id              the order ID
+ * @param orderNumber     the order number
+ * @param userId          the ID of the user who placed the order
+ * @param status          the order status
+ * @param totalAmount     the total amount of the order
+ * @param shippingAddress the shipping address
+ * @param notes           the order notes
+ * @param createdAt       the creation timestamp
+ * @param updatedAt       the last update timestamp
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see OrderMapper#toDomain(OrderRow, java.util.List)
+ */
+record OrderRow(Long id, String orderNumber, Long userId, OrderStatus status, BigDecimal totalAmount,
+                String shippingAddress, String notes, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,201 @@
+package com.eraste.orderservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.seed.SeedLoader;
+import com.eraste.common.seed.SeedReport;
+import com.eraste.common.seed.SeedTable;
+import com.eraste.common.seed.SeedWriter;
+import com.eraste.orderservice.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup loader of the order seed data.
+ * <p>
+ * Enabled with {@code seed.enabled=true}. Streams {@code orders.json} from the
+ * {@code seed.location} directory into the {@code orders} and {@code order_items}
+ * tables, using {@code COPY} on PostgreSQL and batched inserts elsewhere.
+ * </p>
+ * <p>
+ * Seed orders have no natural key of their own: each one gets the order number
+ * {@code SEED-} followed by a digest of its record, which identifies it when the load is
+ * replayed, even from a reordered or reformatted file. Identical records are therefore
+ * a single order. The items of an order are only written when it has none yet, in the
+ * same transaction as the order. User and product IDs are stored as they appear in the file.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SeedLoader
+ */
+@Component
+@ConditionalOnProperty(prefix = "seed", name = "enabled", havingValue = "true")
+public class OrderSeedLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSeedLoader.class);
+
+    /** Number of hexadecimal digits of the record digest kept in a seed order number. */
+    private static final int DIGEST_LENGTH = 25;
+
+    /** The orders table, identified by order number. */
+    private static final SeedTable ORDERS = new SeedTable("orders",
+            List.of("order_number", "user_id", "status", "total_amount", "shipping_address", "notes",
+                    "created_at", "updated_at"),
+            List.of("order_number"));
+
+    /** The order items table, written only for orders without items. */
+    private static final SeedTable ORDER_ITEMS = new SeedTable("order_items",
+            List.of("order_id", "product_id", "product_name", "product_sku", "quantity", "unit_price", "total_price"),
+            List.of());
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter recordWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Path location;
+    private final int batchSize;
+
+    /**
+     * Constructs an OrderSeedLoader.
+     *
+     * @param objectMapper       the mapper used to parse the seed files
+     * @param jdbcTemplate       the JDBC template of the order database
+     * @param transactionManager the transaction manager used for each chunk
+     * @param location           the directory holding the seed files
+     * @param batchSize          the number of records written per chunk
+     */
+    public OrderSeedLoader(ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${seed.location:data/jsons}") Path location,
+                           @Value("${seed.batch-size:5000}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.recordWriter = objectMapper.writer().with(JsonNodeFeature.WRITE_PROPERTIES_SORTED);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.location = location;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = location.resolve("orders.json");
+        if (!Files.isRegularFile(file)) {
+            log.warn("Seed file {} not found, skipping order seed", file.toAbsolutePath());
+            return;
+        }
+        SeedWriter writer = new SeedWriter(jdbcTemplate);
+        SeedLoader loader = new SeedLoader(objectMapper, writer, new TransactionTemplate(transactionManager), batchSize);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        SeedReport report = loader.load(file, ORDERS.getName(), chunk -> {
+            Map<String, JsonNode> ordersByNumber = new HashMap<>();
+            List<Object[]> orders = new ArrayList<>(chunk.size());
+            for (JsonNode order : chunk) {
+                String orderNumber = orderNumber(order);
+                if (ordersByNumber.putIfAbsent(orderNumber, order) != null) {
+                    continue;
+                }
+                orders.add(new Object[]{
+                        orderNumber,
+                        order.path("userId").asLong(),
+                        OrderStatus.PENDING.name(),
+                        totalAmount(order.path("items")),
+                        order.path("shippingAddress").asText(null),
+                        order.path("notes").asText(null),
+                        now,
+                        now
+                });
+            }
+            int inserted = writer.insertMissing(ORDERS, orders);
+
+            List<Object[]> items = new ArrayList<>();
+            namedJdbcTemplate.query("SELECT o.id, o.order_number FROM orders o WHERE o.order_number IN (:numbers) "
+                            + "AND NOT EXISTS (SELECT 1 FROM order_items i WHERE i.order_id = o.id)",
+                    Map.of("numbers", ordersByNumber.keySet()),
+                    row -> {
+                        long orderId = row.getLong("id");
+                        for (JsonNode item : ordersByNumber.get(row.getString("order_number")).path("items")) {
+                            BigDecimal unitPrice = item.path("unitPrice").decimalValue();
+                            int quantity = item.path("quantity").asInt();
+                            items.add(new Object[]{
+                                    orderId,
+                                    item.path("productId").asLong(),
+                                    item.path("productName").asText(null),
+                                    item.path("productSku").asText(null),
+                                    quantity,
+                                    unitPrice,
+                                    unitPrice.multiply(BigDecimal.valueOf(quantity))
+                            });
+                        }
+                    });
+            writer.insertMissing(ORDER_ITEMS, items);
+            return inserted;
+        });
+        log.info("Seeded {}", report);
+    }
+
+    /**
+     * Derives the order number of a seed order from its contents.
+     * <p>
+     * The record is serialized with its properties sorted, so the number depends neither
+     * on the position of the record in the file nor on its formatting or property order.
+     * </p>
+     *
+     * @param order the seed order record
+     * @return {@code SEED-} followed by the first hexadecimal digits of the SHA-256 of the record
+     */
+    String orderNumber(JsonNode order) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(recordWriter.writeValueAsBytes(order));
+            return "SEED-" + HexFormat.of().formatHex(digest).substring(0, DIGEST_LENGTH);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Computes the total amount of a seed order from its items.
+     *
+     * @param items the items of the order
+     * @return the sum of quantity times unit price
+     */
+    private static BigDecimal totalAmount(JsonNode items) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (JsonNode item : items) {
+            total = total.add(item.path("unitPrice").decimalValue()
+                    .multiply(BigDecimal.valueOf(item.path("quantity").asInt())));
+        }
+        return total;
+    }
+}
@@ -1,12 +1,23 @@
 package com.eraste.orderservice.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Configuration for RestTemplate used in service-to-service communication.
+ * <p>
+ * Calls ask for the binary format configured by {@code services.media-type}, CBOR by
+ * default, and accept JSON with a lower quality from a service that does not produce
+ * it. The header is set by an interceptor because RestTemplate otherwise overwrites
+ * {@code Accept} with every media type its converters can read.
+ * </p>
  *
  * @author Eraste
  * @version 1.0.0
@@ -18,11 +29,32 @@ public class RestTemplateConfig {
     /**
      * Creates a RestTemplate bean.
      *
-     * @param builder the RestTemplateBuilder
+     * @param builder   the RestTemplateBuilder
+     * @param mediaType the media type requested from the other services
      * @return configured RestTemplate instance
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${services.media-type:application/cbor}") String mediaType) {
+        List<MediaType> accept = accept(MediaType.parseMediaType(mediaType));
+        return builder
+                .additionalInterceptors((request, body, execution) -> {
+                    request.getHeaders().setAccept(accept);
+                    return execution.execute(request, body);
+                })
+                .build();
+    }
+
+    /**
+     * Builds the Accept header preferring a media type over JSON.
+     *
+     * @param mediaType the preferred media type
+     * @return the accepted media types, by decreasing preference
+     */
+    private static List<MediaType> accept(MediaType mediaType) {
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return List.of(MediaType.APPLICATION_JSON);
+        }
+        return List.of(mediaType, new MediaType(MediaType.APPLICATION_JSON, Map.of("q", "0.5")));
     }
 }
@@ -0,0 +1,28 @@
+-- Order tables, as mapped by OrderJpaEntity and OrderItemJpaEntity.
+-- IF NOT EXISTS lets databases previously managed by ddl-auto=update be baselined.
+CREATE TABLE IF NOT EXISTS orders (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number     VARCHAR(30)    NOT NULL,
+    user_id          BIGINT         NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    total_amount     NUMERIC(12, 2) NOT NULL,
+    shipping_address VARCHAR(500),
+    notes            VARCHAR(1000),
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number),
+    CONSTRAINT ck_orders_status CHECK (status IN
+        ('PENDING', 'CONFIRMED', 'PROCESSING', 'SHIPPED', 'DELIVERED', 'CANCELLED', 'REFUNDED'))
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id     BIGINT         NOT NULL,
+    product_id   BIGINT         NOT NULL,
+    product_name VARCHAR(100)   NOT NULL,
+    product_sku  VARCHAR(50)    NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(10, 2) NOT NULL,
+    total_price  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
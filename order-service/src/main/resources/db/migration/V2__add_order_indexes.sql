@@ -0,0 +1,13 @@
+-- findByOrderNumber / existsByOrderNumber are served by the unique constraint of V1.
+
+-- OrderJpaRepository.findRowsByUserId
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_created_at ON orders (user_id, created_at);
+
+-- OrderJpaRepository.findRowsByStatus
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at);
+
+-- Listings ordered by creation date
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders (created_at, id);
+
+-- Loading the items of an order (PostgreSQL does not index foreign keys by itself)
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
@@ -0,0 +1,60 @@
+package com.eraste.orderservice.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("OrderSeedLoader Unit Tests")
+class OrderSeedLoaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OrderSeedLoader loader = new OrderSeedLoader(objectMapper, null, null, Path.of("data/jsons"), 100);
+
+    @Nested
+    @DisplayName("Order Numbers")
+    class OrderNumbers {
+
+        @Test
+        @DisplayName("Should fit the order number column")
+        void fitsColumn() throws Exception {
+            String orderNumber = loader.orderNumber(read("{\"userId\":1,\"items\":[]}"));
+
+            assertTrue(orderNumber.matches("SEED-[0-9a-f]{25}"), orderNumber);
+            assertTrue(orderNumber.length() <= 30);
+        }
+
+        @Test
+        @DisplayName("Should not depend on formatting or property order")
+        void ignoresLayout() throws Exception {
+            JsonNode compact = read("{\"userId\":1,\"notes\":\"Leave at the door\","
+                    + "\"items\":[{\"productId\":3,\"quantity\":2,\"unitPrice\":9.99}]}");
+            JsonNode reordered = read("{\n  \"items\": [ { \"unitPrice\": 9.99, \"productId\": 3, \"quantity\": 2 } ],\n"
+                    + "  \"notes\": \"Leave at the door\",\n  \"userId\": 1\n}");
+
+            assertEquals(loader.orderNumber(compact), loader.orderNumber(reordered));
+        }
+
+        @Test
+        @DisplayName("Should change with the contents of the order")
+        void followsContents() throws Exception {
+            JsonNode order = read("{\"userId\":1,\"items\":[{\"productId\":3,\"quantity\":2}]}");
+            JsonNode otherQuantity = read("{\"userId\":1,\"items\":[{\"productId\":3,\"quantity\":1}]}");
+            JsonNode otherUser = read("{\"userId\":2,\"items\":[{\"productId\":3,\"quantity\":2}]}");
+
+            assertNotEquals(loader.orderNumber(order), loader.orderNumber(otherQuantity));
+            assertNotEquals(loader.orderNumber(order), loader.orderNumber(otherUser));
+        }
+    }
+
+    private JsonNode read(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+}
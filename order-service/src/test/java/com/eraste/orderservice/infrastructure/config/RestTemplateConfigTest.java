@@ -0,0 +1,91 @@
+package com.eraste.orderservice.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("RestTemplateConfig Unit Tests")
+class RestTemplateConfigTest {
+
+    private static final String URL = "http://user-service/users/1";
+
+    private final RestTemplateConfig config = new RestTemplateConfig();
+
+    @Nested
+    @DisplayName("Accept Header")
+    class AcceptHeader {
+
+        @Test
+        @DisplayName("Should ask for CBOR and accept JSON with a lower quality")
+        void prefersCbor() {
+            RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), "application/cbor");
+            MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+            server.expect(requestTo(URL))
+                    .andExpect(header("Accept", "application/cbor, application/json;q=0.5"))
+                    .andRespond(withSuccess("{\"data\":{\"id\":1}}", MediaType.APPLICATION_JSON));
+
+            restTemplate.getForObject(URL, Map.class);
+
+            server.verify();
+        }
+
+        @Test
+        @DisplayName("Should only ask for JSON when JSON is configured")
+        void jsonOnly() {
+            RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), "application/json");
+            MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+            server.expect(requestTo(URL))
+                    .andExpect(header("Accept", "application/json"))
+                    .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+            restTemplate.getForObject(URL, Map.class);
+
+            server.verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Responses")
+    class Responses {
+
+        @Test
+        @DisplayName("Should decode a CBOR response")
+        @SuppressWarnings("unchecked")
+        void decodesCbor() throws Exception {
+            RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), "application/cbor");
+            MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+            byte[] body = new CBORMapper().writeValueAsBytes(Map.of("data", Map.of("username", "alice")));
+            server.expect(requestTo(URL)).andRespond(withSuccess(body, MediaType.APPLICATION_CBOR));
+
+            Map<String, Object> response = restTemplate.getForObject(URL, Map.class);
+
+            assertEquals("alice", ((Map<String, Object>) response.get("data")).get("username"));
+        }
+
+        @Test
+        @DisplayName("Should still decode a JSON response from a service without CBOR")
+        @SuppressWarnings("unchecked")
+        void decodesJson() {
+            RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), "application/cbor");
+            MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+            server.expect(requestTo(URL))
+                    .andRespond(withSuccess("{\"data\":{\"username\":\"alice\"}}", MediaType.APPLICATION_JSON));
+
+            Map<String, Object> response = restTemplate.getForObject(URL, Map.class);
+
+            assertEquals("alice", ((Map<String, Object>) response.get("data")).get("username"));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.eraste.productservice;
 
+import com.eraste.common.startup.StartupTimelineEndpoint;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.ComponentScan;
 
 /**
@@ -31,11 +33,14 @@ import org.springframework.context.annotation.ComponentScan;
 public class ProductServiceApplication {
 
     /**
-     * Main method to start the Spring Boot application.
+     * Main method to start the Spring Boot application, buffering the startup steps
+     * served at {@code /actuator/timeline}.
      *
      * @param args command line arguments
      */
     public static void main(String[] args) {
-        SpringApplication.run(ProductServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(ProductServiceApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(StartupTimelineEndpoint.CAPACITY));
+        application.run(args);
     }
 }
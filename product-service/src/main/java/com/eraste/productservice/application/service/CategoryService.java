@@ -1,8 +1,11 @@
 package com.eraste.productservice.application.service;
 
 import com.eraste.common.exception.ResourceNotFoundException;
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.model.CatalogEventType;
 import com.eraste.productservice.domain.model.Category;
 import com.eraste.productservice.domain.port.in.CategoryUseCase;
+import com.eraste.productservice.domain.port.out.CatalogEventPublisherPort;
 import com.eraste.productservice.domain.port.out.CategoryRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,14 +36,17 @@ import java.util.Optional;
 public class CategoryService implements CategoryUseCase {
 
     private final CategoryRepositoryPort categoryRepository;
+    private final CatalogEventPublisherPort eventPublisher;
 
     /**
-     * Constructs a CategoryService with the required repository port.
+     * Constructs a CategoryService with the required ports.
      *
      * @param categoryRepository the repository port for category persistence operations
+     * @param eventPublisher     the port used to publish catalog change events
      */
-    public CategoryService(CategoryRepositoryPort categoryRepository) {
+    public CategoryService(CategoryRepositoryPort categoryRepository, CatalogEventPublisherPort eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -56,7 +62,9 @@ public class CategoryService implements CategoryUseCase {
         if (categoryRepository.existsByCode(category.getCode())) {
             throw new IllegalArgumentException("Category code already exists: " + category.getCode());
         }
-        return categoryRepository.save(category);
+        Category createdCategory = categoryRepository.save(category);
+        eventPublisher.publish(CatalogEvent.category(CatalogEventType.CATEGORY_CREATED, createdCategory));
+        return createdCategory;
     }
 
     /**
@@ -104,7 +112,9 @@ public class CategoryService implements CategoryUseCase {
         existingCategory.setCode(category.getCode());
         existingCategory.setActive(category.getActive());
 
-        return categoryRepository.save(existingCategory);
+        Category updatedCategory = categoryRepository.save(existingCategory);
+        eventPublisher.publish(CatalogEvent.category(CatalogEventType.CATEGORY_UPDATED, updatedCategory));
+        return updatedCategory;
     }
 
     /**
@@ -118,6 +128,7 @@ public class CategoryService implements CategoryUseCase {
             throw new ResourceNotFoundException("Category", "id", id);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publish(CatalogEvent.deleted(CatalogEventType.CATEGORY_DELETED, id));
     }
 
     /**
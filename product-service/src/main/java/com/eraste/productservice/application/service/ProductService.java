@@ -1,21 +1,41 @@
 package com.eraste.productservice.application.service;
 
+import com.eraste.common.exception.ConflictException;
 import com.eraste.common.exception.ResourceNotFoundException;
+import com.eraste.productservice.domain.model.BulkStockUpdateResult;
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.model.CatalogEventType;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
 import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductCursor;
+import com.eraste.productservice.domain.model.ProductPage;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.StockLevel;
 import com.eraste.productservice.domain.port.in.ProductUseCase;
+import com.eraste.productservice.domain.port.out.CatalogEventPublisherPort;
 import com.eraste.productservice.domain.port.out.ProductRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
 /**
  * Application service implementing product use cases.
  * <p>
  * This service acts as the orchestrator between the domain layer and infrastructure.
  * It implements the {@link ProductUseCase} input port and uses the {@link ProductRepositoryPort}
- * output port for persistence operations.
+ * output port for persistence operations, and reports every catalog change through
+ * the {@link CatalogEventPublisherPort}.
  * </p>
  * <p>
  * All methods are transactional by default. Read operations use read-only transactions
@@ -33,14 +53,26 @@ import java.util.Optional;
 public class ProductService implements ProductUseCase {
 
     private final ProductRepositoryPort productRepository;
+    private final CatalogEventPublisherPort eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int stockBatchSize;
 
     /**
      * Constructs a ProductService with the required repository port.
      *
-     * @param productRepository the repository port for product persistence operations
+     * @param productRepository  the repository port for product persistence operations
+     * @param eventPublisher     the port used to publish catalog change events
+     * @param transactionManager the transaction manager used for chunked bulk updates
+     * @param stockBatchSize     the number of stock levels applied per transaction
      */
-    public ProductService(ProductRepositoryPort productRepository) {
+    public ProductService(ProductRepositoryPort productRepository,
+                          CatalogEventPublisherPort eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${products.stock.batch-size:1000}") int stockBatchSize) {
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stockBatchSize = stockBatchSize;
     }
 
     /**
@@ -56,7 +88,9 @@ public class ProductService implements ProductUseCase {
         if (productRepository.existsBySku(product.getSku())) {
             throw new IllegalArgumentException("SKU already exists: " + product.getSku());
         }
-        return productRepository.save(product);
+        Product createdProduct = productRepository.save(product);
+        eventPublisher.publish(CatalogEvent.product(CatalogEventType.PRODUCT_CREATED, createdProduct));
+        return createdProduct;
     }
 
     /**
@@ -77,6 +111,26 @@ public class ProductService implements ProductUseCase {
         return productRepository.findAll();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Fetches one product more than the requested page size to find out
+     * whether a next page exists without running a count query.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPage searchProducts(ProductQuery query) {
+        int pageSize = query.getPageSize();
+        List<Product> products = productRepository.search(query, pageSize + 1);
+        if (products.size() <= pageSize) {
+            return new ProductPage(products, null);
+        }
+        List<Product> page = products.subList(0, pageSize);
+        String nextCursor = ProductCursor.after(query.getSort(), page.get(pageSize - 1)).encode();
+        return new ProductPage(page, nextCursor);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,7 +170,9 @@ public class ProductService implements ProductUseCase {
         existingProduct.setCategory(product.getCategory());
         existingProduct.setActive(product.getActive());
 
-        return productRepository.save(existingProduct);
+        Product updatedProduct = productRepository.save(existingProduct);
+        eventPublisher.publish(CatalogEvent.product(CatalogEventType.PRODUCT_UPDATED, updatedProduct));
+        return updatedProduct;
     }
 
     /**
@@ -130,6 +186,7 @@ public class ProductService implements ProductUseCase {
             throw new ResourceNotFoundException("Product", "id", id);
         }
         productRepository.deleteById(id);
+        eventPublisher.publish(CatalogEvent.deleted(CatalogEventType.PRODUCT_DELETED, id));
     }
 
     /**
@@ -152,6 +209,85 @@ public class ProductService implements ProductUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
 
         product.setQuantity(quantity);
-        return productRepository.save(product);
+        Product updatedProduct = productRepository.save(product);
+        eventPublisher.publish(CatalogEvent.stockChanged(
+                new StockLevel(id, updatedProduct.getSku(), updatedProduct.getQuantity())));
+        return updatedProduct;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unlike {@link #updateStock(Long, Integer)}, the product is never loaded:
+     * the adjustment and the read of the new value happen in the database. The
+     * product is only read when the adjustment matched no row, to tell a missing
+     * product from insufficient stock.
+     * </p>
+     *
+     * @throws ResourceNotFoundException if no product exists with the given ID
+     * @throws ConflictException if the adjustment was rejected for insufficient stock
+     */
+    @Override
+    public int adjustStock(Long id, int delta, NegativeStockPolicy policy) {
+        OptionalInt adjusted = productRepository.adjustStock(id, delta, policy);
+        if (adjusted.isEmpty()) {
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+            throw new ConflictException("Insufficient stock for product " + id + ": "
+                    + product.getQuantity() + " in stock, adjustment of " + delta + " rejected");
+        }
+        int quantity = adjusted.getAsInt();
+        eventPublisher.publish(CatalogEvent.stockChanged(new StockLevel(id, null, quantity)));
+        return quantity;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs outside the class-level transaction: each chunk of {@code stockBatchSize}
+     * levels commits on its own, so a large payload never holds row locks for its
+     * whole duration.
+     * </p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStockUpdateResult updateStockBulk(List<StockLevel> levels) {
+        BulkStockUpdateResult result = new BulkStockUpdateResult(levels.size());
+        for (int from = 0; from < levels.size(); from += stockBatchSize) {
+            List<StockLevel> chunk = levels.subList(from, Math.min(from + stockBatchSize, levels.size()));
+            List<StockLevel> unmatched = transactionTemplate.execute(status -> {
+                List<StockLevel> unknown = productRepository.updateStockLevels(chunk);
+                List<StockLevel> applied = applied(chunk, unknown);
+                if (!applied.isEmpty()) {
+                    eventPublisher.publish(CatalogEvent.stockBatchChanged(applied));
+                }
+                return unknown;
+            });
+            result.addUpdated(chunk.size() - unmatched.size());
+            result.addUnknown(unmatched);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the stock levels of a chunk that matched a product.
+     *
+     * @param chunk     the stock levels sent to the repository
+     * @param unmatched the stock levels reported as unmatched
+     * @return the applied stock levels, in chunk order
+     */
+    private List<StockLevel> applied(List<StockLevel> chunk, List<StockLevel> unmatched) {
+        if (unmatched.isEmpty()) {
+            return new ArrayList<>(chunk);
+        }
+        Set<StockLevel> unknown = Collections.newSetFromMap(new IdentityHashMap<>());
+        unknown.addAll(unmatched);
+        List<StockLevel> applied = new ArrayList<>(chunk.size() - unmatched.size());
+        for (StockLevel level : chunk) {
+            if (!unknown.contains(level)) {
+                applied.add(level);
+            }
+        }
+        return applied;
     }
 }
@@ -0,0 +1,99 @@
+package com.eraste.productservice.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk stock update.
+ * <p>
+ * Reports how many stock levels were applied, along with the IDs and SKUs
+ * that did not match any existing product.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BulkStockUpdateResult {
+
+    /** Number of stock levels received. */
+    private int requested;
+
+    /** Number of products whose quantity was updated. */
+    private int updated;
+
+    /** Product IDs that did not match any product. */
+    private final List<Long> unknownIds = new ArrayList<>();
+
+    /** SKUs that did not match any product. */
+    private final List<String> unknownSkus = new ArrayList<>();
+
+    /**
+     * Constructs an empty result for the given number of requested levels.
+     *
+     * @param requested the number of stock levels received
+     */
+    public BulkStockUpdateResult(int requested) {
+        this.requested = requested;
+    }
+
+    /**
+     * Records stock levels that did not match any product.
+     *
+     * @param unmatched the unmatched stock levels
+     */
+    public void addUnknown(List<StockLevel> unmatched) {
+        for (StockLevel level : unmatched) {
+            if (level.isIdentifiedById()) {
+                unknownIds.add(level.getProductId());
+            } else {
+                unknownSkus.add(level.getSku());
+            }
+        }
+    }
+
+    /**
+     * Adds to the number of updated products.
+     *
+     * @param count the number of products updated by a chunk
+     */
+    public void addUpdated(int count) {
+        this.updated += count;
+    }
+
+    /**
+     * Gets the number of stock levels received.
+     *
+     * @return the number of stock levels received
+     */
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * Gets the number of updated products.
+     *
+     * @return the number of updated products
+     */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Gets the product IDs that matched no product.
+     *
+     * @return the product IDs that matched no product
+     */
+    public List<Long> getUnknownIds() {
+        return unknownIds;
+    }
+
+    /**
+     * Gets the SKUs that matched no product.
+     *
+     * @return the SKUs that matched no product
+     */
+    public List<String> getUnknownSkus() {
+        return unknownSkus;
+    }
+}
@@ -0,0 +1,134 @@
+package com.eraste.productservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Domain event describing a change to the product catalog.
+ * <p>
+ * The payload depends on the event type: a {@link Product} or a {@link Category}
+ * snapshot for creations and updates, a {@link StockLevel} (or a list of them)
+ * for stock changes, and nothing for deletions.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CatalogEvent {
+
+    /** Type of change. */
+    private final CatalogEventType type;
+
+    /** ID of the product or category concerned, null for batch events. */
+    private final Long resourceId;
+
+    /** Snapshot of the changed data, null for deletions. */
+    private final Object payload;
+
+    /** Timestamp when the change happened. */
+    private final LocalDateTime occurredAt;
+
+    /**
+     * Constructs a CatalogEvent occurring now.
+     *
+     * @param type       the type of change
+     * @param resourceId the ID of the product or category concerned
+     * @param payload    the snapshot of the changed data
+     */
+    public CatalogEvent(CatalogEventType type, Long resourceId, Object payload) {
+        this.type = type;
+        this.resourceId = resourceId;
+        this.payload = payload;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    /**
+     * Creates an event for a created or updated product.
+     *
+     * @param type    PRODUCT_CREATED or PRODUCT_UPDATED
+     * @param product the product snapshot
+     * @return the event
+     */
+    public static CatalogEvent product(CatalogEventType type, Product product) {
+        return new CatalogEvent(type, product.getId(), product);
+    }
+
+    /**
+     * Creates an event for a created or updated category.
+     *
+     * @param type     CATEGORY_CREATED or CATEGORY_UPDATED
+     * @param category the category snapshot
+     * @return the event
+     */
+    public static CatalogEvent category(CatalogEventType type, Category category) {
+        return new CatalogEvent(type, category.getId(), category);
+    }
+
+    /**
+     * Creates an event for a deleted product or category.
+     *
+     * @param type PRODUCT_DELETED or CATEGORY_DELETED
+     * @param id   the ID of the deleted resource
+     * @return the event
+     */
+    public static CatalogEvent deleted(CatalogEventType type, Long id) {
+        return new CatalogEvent(type, id, null);
+    }
+
+    /**
+     * Creates an event for the stock change of a single product.
+     *
+     * @param level the new stock level
+     * @return the event
+     */
+    public static CatalogEvent stockChanged(StockLevel level) {
+        return new CatalogEvent(CatalogEventType.STOCK_CHANGED, level.getProductId(), level);
+    }
+
+    /**
+     * Creates an event for the stock changes applied by a bulk update.
+     *
+     * @param levels the stock levels that were applied
+     * @return the event
+     */
+    public static CatalogEvent stockBatchChanged(List<StockLevel> levels) {
+        return new CatalogEvent(CatalogEventType.STOCK_BATCH_CHANGED, null, levels);
+    }
+
+    /**
+     * Gets the type of change.
+     *
+     * @return the event type
+     */
+    public CatalogEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the ID of the product or category concerned.
+     *
+     * @return the resource ID, or null for batch events
+     */
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    /**
+     * Gets the snapshot of the changed data.
+     *
+     * @return the payload, or null for deletions
+     */
+    public Object getPayload() {
+        return payload;
+    }
+
+    /**
+     * Gets the timestamp when the change happened.
+     *
+     * @return the occurrence timestamp
+     */
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
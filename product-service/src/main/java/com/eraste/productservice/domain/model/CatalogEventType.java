@@ -0,0 +1,39 @@
+package com.eraste.productservice.domain.model;
+
+/**
+ * Enumeration of the changes that can happen to the product catalog.
+ * <p>
+ * Each catalog write performed by the application services emits an event
+ * of one of these types, so that downstream consumers can react without polling.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum CatalogEventType {
+
+    /** A product has been created. */
+    PRODUCT_CREATED,
+
+    /** A product has been updated. */
+    PRODUCT_UPDATED,
+
+    /** A product has been deleted. */
+    PRODUCT_DELETED,
+
+    /** The stock quantity of a single product has changed. */
+    STOCK_CHANGED,
+
+    /** The stock quantities of a batch of products have changed. */
+    STOCK_BATCH_CHANGED,
+
+    /** A category has been created. */
+    CATEGORY_CREATED,
+
+    /** A category has been updated. */
+    CATEGORY_UPDATED,
+
+    /** A category has been deleted. */
+    CATEGORY_DELETED
+}
@@ -0,0 +1,20 @@
+package com.eraste.productservice.domain.model;
+
+/**
+ * Enumeration of the ways a stock adjustment handles a result below zero.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum NegativeStockPolicy {
+
+    /** The adjustment is refused and the quantity left unchanged. */
+    REJECT,
+
+    /** The resulting quantity is clamped at zero. */
+    FLOOR_AT_ZERO,
+
+    /** The quantity may go below zero, e.g. to record backorders. */
+    ALLOW
+}
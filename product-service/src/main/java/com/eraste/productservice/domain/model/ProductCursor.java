@@ -0,0 +1,126 @@
+package com.eraste.productservice.domain.model;
+
+import com.eraste.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor for product queries.
+ * <p>
+ * A cursor records the sort value and the ID of the last product of a page. The next
+ * page starts right after that position, which an index on (sort column, id) can seek
+ * to directly, regardless of how deep the client has paged. Clients only see the
+ * opaque, URL-safe string produced by {@link #encode()}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ProductCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /** Sort the cursor was created for. */
+    private final ProductSort sort;
+
+    /** Sort value of the last product of the previous page. */
+    private final Object value;
+
+    /** ID of the last product of the previous page. */
+    private final Long id;
+
+    /**
+     * Constructs a ProductCursor.
+     *
+     * @param sort  the sort the cursor was created for
+     * @param value the sort value of the last product returned
+     * @param id    the ID of the last product returned
+     */
+    public ProductCursor(ProductSort sort, Object value, Long id) {
+        this.sort = sort;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Creates the cursor pointing after the given product.
+     *
+     * @param sort    the sort of the page
+     * @param product the last product of the page
+     * @return the cursor
+     */
+    public static ProductCursor after(ProductSort sort, Product product) {
+        return new ProductCursor(sort, sort.valueOf(product), product.getId());
+    }
+
+    /**
+     * Encodes this cursor into an opaque, URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = sort.getParameter() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param encoded the encoded cursor
+     * @param sort    the sort of the requested page
+     * @return the decoded cursor
+     * @throws BadRequestException if the cursor is malformed or was created for another sort
+     */
+    public static ProductCursor decode(String encoded, ProductSort sort) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        int first = raw.indexOf(SEPARATOR);
+        int second = raw.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!sort.getParameter().equals(raw.substring(0, first))) {
+            throw new BadRequestException("Cursor does not match sort: " + sort.getParameter());
+        }
+        try {
+            Long id = Long.valueOf(raw.substring(first + 1, second));
+            Object value = sort.parseValue(raw.substring(second + 1));
+            return new ProductCursor(sort, value, id);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Gets the sort the cursor was created for.
+     *
+     * @return the sort
+     */
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    /**
+     * Gets the sort value of the last product returned.
+     *
+     * @return the sort value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the ID of the last product returned.
+     *
+     * @return the product ID
+     */
+    public Long getId() {
+        return id;
+    }
+}
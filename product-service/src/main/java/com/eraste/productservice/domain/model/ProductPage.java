@@ -0,0 +1,57 @@
+package com.eraste.productservice.domain.model;
+
+import java.util.List;
+
+/**
+ * A page of products returned by a product query.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ProductPage {
+
+    /** Products of the page. */
+    private final List<Product> items;
+
+    /** Encoded cursor of the next page, null if this is the last page. */
+    private final String nextCursor;
+
+    /**
+     * Constructs a ProductPage.
+     *
+     * @param items      the products of the page
+     * @param nextCursor the encoded cursor of the next page, or null
+     */
+    public ProductPage(List<Product> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the products of the page.
+     *
+     * @return the products
+     */
+    public List<Product> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the encoded cursor of the next page.
+     *
+     * @return the next cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Indicates whether more products follow this page.
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,190 @@
+package com.eraste.productservice.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Criteria of a filtered, sorted and paginated product query.
+ * <p>
+ * Every filter is optional; a null filter does not restrict the result.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ProductQuery {
+
+    /** Category ID the products must belong to. */
+    private Long categoryId;
+
+    /** Minimum price (inclusive). */
+    private BigDecimal minPrice;
+
+    /** Maximum price (inclusive). */
+    private BigDecimal maxPrice;
+
+    /** Required active status. */
+    private Boolean active;
+
+    /** Whether the products must (true) or must not (false) be in stock. */
+    private Boolean inStock;
+
+    /** Ordering of the results. */
+    private ProductSort sort = ProductSort.ID;
+
+    /** Position after which the page starts, null for the first page. */
+    private ProductCursor cursor;
+
+    /** Number of products per page. */
+    private int pageSize;
+
+    /**
+     * Default constructor.
+     */
+    public ProductQuery() {
+    }
+
+    /**
+     * Gets the category ID filter.
+     *
+     * @return the category ID
+     */
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    /**
+     * Sets the category ID filter.
+     *
+     * @param categoryId the category ID to set
+     */
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    /**
+     * Gets the minimum price filter.
+     *
+     * @return the minimum price
+     */
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    /**
+     * Sets the minimum price filter.
+     *
+     * @param minPrice the minimum price to set
+     */
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    /**
+     * Gets the maximum price filter.
+     *
+     * @return the maximum price
+     */
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * Sets the maximum price filter.
+     *
+     * @param maxPrice the maximum price to set
+     */
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * Gets the active status filter.
+     *
+     * @return the active status
+     */
+    public Boolean getActive() {
+        return active;
+    }
+
+    /**
+     * Sets the active status filter.
+     *
+     * @param active the active status to set
+     */
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * Gets the in-stock filter.
+     *
+     * @return the in-stock filter
+     */
+    public Boolean getInStock() {
+        return inStock;
+    }
+
+    /**
+     * Sets the in-stock filter.
+     *
+     * @param inStock the in-stock filter to set
+     */
+    public void setInStock(Boolean inStock) {
+        this.inStock = inStock;
+    }
+
+    /**
+     * Gets the ordering of the results.
+     *
+     * @return the sort
+     */
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    /**
+     * Sets the ordering of the results.
+     *
+     * @param sort the sort to set
+     */
+    public void setSort(ProductSort sort) {
+        this.sort = sort;
+    }
+
+    /**
+     * Gets the position after which the page starts.
+     *
+     * @return the cursor, or null for the first page
+     */
+    public ProductCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets the position after which the page starts.
+     *
+     * @param cursor the cursor to set
+     */
+    public void setCursor(ProductCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets the number of products per page.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of products per page.
+     *
+     * @param pageSize the page size to set
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
@@ -0,0 +1,132 @@
+package com.eraste.productservice.domain.model;
+
+import com.eraste.common.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Enumeration of the orderings supported by the product query API.
+ * <p>
+ * Every ordering breaks ties on the product ID, in the same direction as the
+ * sort field, so that it is total and can drive keyset pagination.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ProductSort {
+
+    /** Oldest products first (by ID). */
+    ID("id", "id", true, Product::getId, Long::valueOf),
+
+    /** Cheapest products first. */
+    PRICE_ASC("price", "price", true, Product::getPrice, BigDecimal::new),
+
+    /** Most expensive products first. */
+    PRICE_DESC("-price", "price", false, Product::getPrice, BigDecimal::new),
+
+    /** Products in alphabetical order. */
+    NAME_ASC("name", "name", true, Product::getName, value -> value),
+
+    /** Products in reverse alphabetical order. */
+    NAME_DESC("-name", "name", false, Product::getName, value -> value),
+
+    /** Oldest products first (by creation date). */
+    CREATED_ASC("createdAt", "createdAt", true, Product::getCreatedAt, LocalDateTime::parse),
+
+    /** Newest products first. */
+    CREATED_DESC("-createdAt", "createdAt", false, Product::getCreatedAt, LocalDateTime::parse);
+
+    /** Value of the {@code sort} request parameter. */
+    private final String parameter;
+
+    /** Name of the sorted product property. */
+    private final String property;
+
+    /** Whether the ordering is ascending. */
+    private final boolean ascending;
+
+    /** Extracts the sort value of a product. */
+    private final Function<Product, Object> extractor;
+
+    /** Parses a sort value back from its cursor representation. */
+    private final Function<String, Object> parser;
+
+    ProductSort(String parameter, String property, boolean ascending,
+                Function<Product, Object> extractor, Function<String, Object> parser) {
+        this.parameter = parameter;
+        this.property = property;
+        this.ascending = ascending;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * Resolves a sort from its request parameter value.
+     *
+     * @param parameter the parameter value (e.g. {@code price} or {@code -createdAt}), may be null
+     * @return the matching sort, {@link #ID} when no value is given
+     * @throws BadRequestException if the value is not a supported sort
+     */
+    public static ProductSort fromParameter(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return ID;
+        }
+        for (ProductSort sort : values()) {
+            if (sort.parameter.equals(parameter.trim())) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Unsupported sort: " + parameter);
+    }
+
+    /**
+     * Extracts the value this sort orders a product by.
+     *
+     * @param product the product
+     * @return the sort value
+     */
+    public Object valueOf(Product product) {
+        return extractor.apply(product);
+    }
+
+    /**
+     * Parses a sort value from its string form.
+     *
+     * @param value the string form, as produced by {@code String.valueOf}
+     * @return the typed sort value
+     */
+    public Object parseValue(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * Gets the request parameter value of this sort.
+     *
+     * @return the parameter value
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Gets the name of the sorted product property.
+     *
+     * @return the property name
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Indicates whether this sort is ascending.
+     *
+     * @return true if ascending, false if descending
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+}
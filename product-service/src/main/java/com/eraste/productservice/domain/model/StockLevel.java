@@ -0,0 +1,107 @@
+package com.eraste.productservice.domain.model;
+
+/**
+ * Value object describing the absolute stock level of a single product.
+ * <p>
+ * A stock level identifies its product either by ID or by SKU. When both are
+ * provided, the ID takes precedence. It is used by bulk stock synchronization,
+ * where an external system (e.g. a warehouse) pushes many levels at once.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class StockLevel {
+
+    /** Product ID, may be null when the SKU is used instead. */
+    private Long productId;
+
+    /** Product SKU, used when no ID is provided. */
+    private String sku;
+
+    /** New absolute quantity in stock. */
+    private Integer quantity;
+
+    /**
+     * Default constructor.
+     */
+    public StockLevel() {
+    }
+
+    /**
+     * Constructs a StockLevel with all fields.
+     *
+     * @param productId the product ID (may be null)
+     * @param sku       the product SKU (may be null)
+     * @param quantity  the new quantity
+     */
+    public StockLevel(Long productId, String sku, Integer quantity) {
+        this.productId = productId;
+        this.sku = sku;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Indicates whether this level identifies its product by ID.
+     *
+     * @return true if a product ID is set, false if the SKU must be used
+     */
+    public boolean isIdentifiedById() {
+        return productId != null;
+    }
+
+    /**
+     * Gets the product ID.
+     *
+     * @return the product ID
+     */
+    public Long getProductId() {
+        return productId;
+    }
+
+    /**
+     * Sets the product ID.
+     *
+     * @param productId the product ID to set
+     */
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Gets the product SKU.
+     *
+     * @return the product SKU
+     */
+    public String getSku() {
+        return sku;
+    }
+
+    /**
+     * Sets the product SKU.
+     *
+     * @param sku the product SKU to set
+     */
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    /**
+     * Gets the new quantity.
+     *
+     * @return the new quantity
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Sets the new quantity.
+     *
+     * @param quantity the new quantity to set
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
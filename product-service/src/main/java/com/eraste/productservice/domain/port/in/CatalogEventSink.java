@@ -0,0 +1,51 @@
+package com.eraste.productservice.domain.port.in;
+
+import com.eraste.productservice.domain.model.CatalogEvent;
+
+import java.io.IOException;
+
+/**
+ * Connection of a single subscriber to the catalog event stream.
+ * <p>
+ * Implemented by the inbound adapter that owns the transport (e.g. Server-Sent Events).
+ * Methods are called from the stream's dispatcher threads, never concurrently for the
+ * same sink. A sink that throws is dropped and completed.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CatalogEventStreamUseCase
+ */
+public interface CatalogEventSink {
+
+    /**
+     * Delivers an event with its position in the stream.
+     *
+     * @param id    the sequence number of the event, usable to resume the stream
+     * @param event the catalog event
+     * @throws IOException if the subscriber can no longer be written to
+     */
+    void send(long id, CatalogEvent event) throws IOException;
+
+    /**
+     * Tells the subscriber that the events it missed are no longer available,
+     * so it must refetch the catalog.
+     *
+     * @param lastEventId the sequence number of the most recent event
+     * @throws IOException if the subscriber can no longer be written to
+     */
+    void reset(long lastEventId) throws IOException;
+
+    /**
+     * Keeps an idle connection open.
+     *
+     * @throws IOException if the subscriber can no longer be written to
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * Closes the connection; the subscriber is expected to reconnect and resume.
+     */
+    void complete();
+}
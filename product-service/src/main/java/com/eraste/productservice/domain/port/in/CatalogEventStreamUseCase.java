@@ -0,0 +1,41 @@
+package com.eraste.productservice.domain.port.in;
+
+/**
+ * Input port for subscribing to the stream of catalog changes.
+ * <p>
+ * This interface follows the Hexagonal Architecture (Ports and Adapters) pattern.
+ * It lets inbound adapters attach a {@link CatalogEventSink} to the events published
+ * through the {@code CatalogEventPublisherPort}, without depending on how the stream
+ * is buffered and dispatched.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CatalogEventStreamUseCase {
+
+    /**
+     * Subscribes a sink to the catalog event stream.
+     * <p>
+     * When {@code lastEventId} is given, the events published after it are delivered
+     * first. If some of them are no longer available, the sink is reset instead.
+     * </p>
+     *
+     * @param lastEventId the ID of the last event received by the subscriber, or null
+     * @param sink        the connection receiving the events
+     * @return the subscription, to cancel when the connection ends
+     */
+    Subscription subscribe(Long lastEventId, CatalogEventSink sink);
+
+    /**
+     * Handle of an active subscription.
+     */
+    interface Subscription {
+
+        /**
+         * Stops delivering events to the sink.
+         */
+        void cancel();
+    }
+}
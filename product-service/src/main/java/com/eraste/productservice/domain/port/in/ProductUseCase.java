@@ -1,6 +1,11 @@
 package com.eraste.productservice.domain.port.in;
 
+import com.eraste.productservice.domain.model.BulkStockUpdateResult;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
 import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductPage;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.StockLevel;
 
 import java.util.List;
 import java.util.Optional;
@@ -93,4 +98,37 @@ public interface ProductUseCase {
      * @throws com.eraste.common.exception.ResourceNotFoundException if product not found
      */
     Product updateStock(Long id, Integer quantity);
+
+    /**
+     * Updates the stock quantities of many products at once.
+     * <p>
+     * Levels are applied in chunks, each chunk in its own transaction.
+     * Levels that match no product are reported instead of failing the whole batch.
+     * </p>
+     *
+     * @param levels the stock levels to apply
+     * @return the number of updated products and the unknown IDs and SKUs
+     */
+    BulkStockUpdateResult updateStockBulk(List<StockLevel> levels);
+
+    /**
+     * Atomically increments or decrements the stock quantity of a product.
+     *
+     * @param id     the product ID
+     * @param delta  the signed quantity to add (negative to decrement)
+     * @param policy how a result below zero is handled
+     * @return the new quantity
+     * @throws com.eraste.common.exception.ResourceNotFoundException if product not found
+     * @throws com.eraste.common.exception.ConflictException if the policy is
+     *         {@link NegativeStockPolicy#REJECT} and the stock is insufficient
+     */
+    int adjustStock(Long id, int delta, NegativeStockPolicy policy);
+
+    /**
+     * Retrieves one page of the products matching the given filters.
+     *
+     * @param query the filters, sort, cursor and page size
+     * @return the page of products, with the cursor of the next page if any
+     */
+    ProductPage searchProducts(ProductQuery query);
 }
@@ -0,0 +1,29 @@
+package com.eraste.productservice.domain.port.out;
+
+import com.eraste.productservice.domain.model.CatalogEvent;
+
+/**
+ * Output port for publishing catalog change events.
+ * <p>
+ * This interface follows the Hexagonal Architecture (Ports and Adapters) pattern.
+ * Implementations deliver events to interested consumers (SSE subscribers, message
+ * brokers, etc.) and must never block or fail the write that emitted them.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CatalogEventPublisherPort {
+
+    /**
+     * Publishes a catalog change event.
+     * <p>
+     * When called inside a transaction, the event is only delivered once the
+     * transaction has committed.
+     * </p>
+     *
+     * @param event the event to publish
+     */
+    void publish(CatalogEvent event);
+}
@@ -1,9 +1,13 @@
 package com.eraste.productservice.domain.port.out;
 
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
 import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.StockLevel;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Output port for Product persistence operations.
@@ -80,4 +84,47 @@ public interface ProductRepositoryPort {
      * @return true if a product with this SKU exists, false otherwise
      */
     boolean existsBySku(String sku);
+
+    /**
+     * Applies absolute stock levels as a batch of update statements.
+     * <p>
+     * Levels are matched by product ID, or by SKU when no ID is given, and applied
+     * in order: when a product is addressed more than once, by ID or by SKU, its last
+     * level wins. Implementations must not load the matching products.
+     * </p>
+     *
+     * @param levels the stock levels to apply
+     * @return the stock levels that did not match any product
+     */
+    List<StockLevel> updateStockLevels(List<StockLevel> levels);
+
+    /**
+     * Atomically adds a delta to the stock quantity of a product.
+     * <p>
+     * The change is applied by a single {@code UPDATE ... SET quantity = quantity + ?}
+     * statement, so concurrent adjustments never overwrite each other. Under
+     * {@link NegativeStockPolicy#REJECT}, the statement only matches the row while the
+     * result stays at or above zero.
+     * </p>
+     *
+     * @param id     the product ID
+     * @param delta  the signed quantity to add (negative to decrement)
+     * @param policy how a result below zero is handled
+     * @return the new quantity, or empty if no product exists with the given ID or the
+     *         adjustment was rejected
+     */
+    OptionalInt adjustStock(Long id, int delta, NegativeStockPolicy policy);
+
+    /**
+     * Finds the products matching a query, in the query order.
+     * <p>
+     * Only the products positioned after the query cursor are returned,
+     * up to the given limit, which is independent of the query page size.
+     * </p>
+     *
+     * @param query the filters, sort and cursor
+     * @param limit the maximum number of products to return
+     * @return the matching products
+     */
+    List<Product> search(ProductQuery query, int limit);
 }
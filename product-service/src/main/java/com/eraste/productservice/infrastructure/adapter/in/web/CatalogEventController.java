@@ -0,0 +1,98 @@
+package com.eraste.productservice.infrastructure.adapter.in.web;
+
+import com.eraste.productservice.domain.port.in.CatalogEventStreamUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * REST Controller streaming catalog changes as Server-Sent Events.
+ * <p>
+ * Downstream caches and services subscribe to this stream instead of polling the
+ * product and category endpoints. Each event carries its sequence number as SSE
+ * {@code id}, so a reconnecting client resumes where it left off through the
+ * standard {@code Last-Event-ID} header (or the {@code lastEventId} query parameter).
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CatalogEventStreamUseCase
+ */
+@Tag(name = "Catalog events", description = "Stream of product and category changes")
+@RestController
+@RequestMapping("/catalog")
+public class CatalogEventController {
+
+    private final CatalogEventStreamUseCase catalogEventStream;
+    private final long emitterTimeoutMillis;
+
+    /**
+     * Constructs a CatalogEventController with the catalog event stream.
+     *
+     * @param catalogEventStream the input port subscribing clients to catalog events
+     * @param emitterTimeout     the lifetime of a single SSE connection
+     */
+    public CatalogEventController(CatalogEventStreamUseCase catalogEventStream,
+                                  @Value("${products.events.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.catalogEventStream = catalogEventStream;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    @Operation(summary = "Stream catalog changes",
+            description = "Opens a Server-Sent Events stream of product, stock and category changes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "ID of the last event received, for clients that cannot set headers")
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        CatalogEventStreamUseCase.Subscription subscription =
+                catalogEventStream.subscribe(parseEventId(lastEventId), new SseCatalogEventSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(() -> {
+            subscription.cancel();
+            emitter.complete();
+        });
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Parses a client-supplied event ID.
+     * <p>
+     * An unparsable ID is mapped to {@code -1}, which can never be resumed and
+     * therefore makes the stream start with a reset event.
+     * </p>
+     *
+     * @param lastEventId the raw event ID, may be null
+     * @return the parsed event ID, or null if none was supplied
+     */
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -2,13 +2,25 @@ package com.eraste.productservice.infrastructure.adapter.in.web;
 
 import com.eraste.common.exception.ResourceNotFoundException;
 import com.eraste.common.response.ApiResponse;
+import com.eraste.productservice.domain.model.BulkStockUpdateResult;
 import com.eraste.productservice.domain.model.Category;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
 import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductCursor;
+import com.eraste.productservice.domain.model.ProductPage;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.ProductSort;
+import com.eraste.productservice.domain.model.StockLevel;
 import com.eraste.productservice.domain.port.in.CategoryUseCase;
 import com.eraste.productservice.domain.port.in.ProductUseCase;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.BulkStockUpdateRequest;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.BulkStockUpdateResponse;
 import com.eraste.productservice.infrastructure.adapter.in.web.dto.CategoryResponse;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.ProductPageResponse;
 import com.eraste.productservice.infrastructure.adapter.in.web.dto.ProductRequest;
 import com.eraste.productservice.infrastructure.adapter.in.web.dto.ProductResponse;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.StockAdjustmentRequest;
+import com.eraste.productservice.infrastructure.adapter.in.web.dto.StockAdjustmentResponse;
 import com.eraste.productservice.infrastructure.adapter.in.web.dto.StockUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,10 +29,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -46,16 +60,20 @@ public class ProductController {
 
     private final ProductUseCase productUseCase;
     private final CategoryUseCase categoryUseCase;
+    private final int maxPageSize;
 
     /**
      * Constructs a ProductController with the required use cases.
      *
      * @param productUseCase  the use case for product operations
      * @param categoryUseCase the use case for category operations
+     * @param maxPageSize     the largest page the product query API returns
      */
-    public ProductController(ProductUseCase productUseCase, CategoryUseCase categoryUseCase) {
+    public ProductController(ProductUseCase productUseCase, CategoryUseCase categoryUseCase,
+                             @Value("${products.query.max-page-size:100}") int maxPageSize) {
         this.productUseCase = productUseCase;
         this.categoryUseCase = categoryUseCase;
+        this.maxPageSize = maxPageSize;
     }
 
     @Operation(summary = "Create a new product", description = "Creates a new product with the provided information")
@@ -101,6 +119,43 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(products));
     }
 
+    @Operation(summary = "Query products",
+            description = "Returns one page of products matching the optional filters, in the requested order. "
+                    + "Use the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Page of products retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid sort or cursor")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ProductPageResponse>> searchProducts(
+            @Parameter(description = "Category ID") @RequestParam(required = false) Long category,
+            @Parameter(description = "Minimum price (inclusive)") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price (inclusive)") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Active status") @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Whether the product is in stock") @RequestParam(required = false) Boolean inStock,
+            @Parameter(description = "Sort: id, price, -price, name, -name, createdAt, -createdAt")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(defaultValue = "20") int size) {
+        ProductQuery query = new ProductQuery();
+        query.setCategoryId(category);
+        query.setMinPrice(minPrice);
+        query.setMaxPrice(maxPrice);
+        query.setActive(active);
+        query.setInStock(inStock);
+        query.setSort(ProductSort.fromParameter(sort));
+        if (cursor != null && !cursor.isBlank()) {
+            query.setCursor(ProductCursor.decode(cursor, query.getSort()));
+        }
+        query.setPageSize(Math.max(1, Math.min(size, maxPageSize)));
+
+        ProductPage page = productUseCase.searchProducts(query);
+        List<ProductResponse> products = page.getItems().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success(new ProductPageResponse(products, page.getNextCursor())));
+    }
+
     @Operation(summary = "Get active products", description = "Returns a list of all active products")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "List of active products retrieved successfully")
@@ -175,6 +230,46 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("Stock updated successfully", response));
     }
 
+    @Operation(summary = "Adjust product stock",
+            description = "Atomically increments or decrements the stock quantity of a product. "
+                    + "A result below zero is rejected unless it is clamped at zero or explicitly allowed")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock adjusted successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid adjustment"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Insufficient stock")
+    })
+    @PatchMapping("/{id}/stock/adjust")
+    public ResponseEntity<ApiResponse<StockAdjustmentResponse>> adjustStock(
+            @Parameter(description = "Product ID", required = true) @PathVariable Long id,
+            @Valid @RequestBody @Parameter(description = "Stock adjustment data") StockAdjustmentRequest request) {
+        int quantity = productUseCase.adjustStock(id, request.getDelta(), mapToPolicy(request));
+        return ResponseEntity.ok(ApiResponse.success("Stock adjusted successfully",
+                new StockAdjustmentResponse(id, quantity)));
+    }
+
+    @Operation(summary = "Bulk update product stock",
+            description = "Updates the stock quantity of many products, identified by ID or SKU, in batched statements")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock levels applied, unknown IDs and SKUs reported"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid stock levels")
+    })
+    @PatchMapping("/stock")
+    public ResponseEntity<ApiResponse<BulkStockUpdateResponse>> updateStockBulk(
+            @Valid @RequestBody @Parameter(description = "Stock levels to apply") BulkStockUpdateRequest request) {
+        List<StockLevel> levels = request.getItems().stream()
+                .map(item -> new StockLevel(item.getId(), item.getSku(), item.getQuantity()))
+                .collect(Collectors.toList());
+        BulkStockUpdateResult result = productUseCase.updateStockBulk(levels);
+        BulkStockUpdateResponse response = new BulkStockUpdateResponse(
+                result.getRequested(),
+                result.getUpdated(),
+                result.getUnknownIds(),
+                result.getUnknownSkus()
+        );
+        return ResponseEntity.ok(ApiResponse.success("Stock levels updated successfully", response));
+    }
+
     @Operation(summary = "Delete product", description = "Deletes a product based on the provided ID")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product deleted successfully"),
@@ -216,6 +311,24 @@ public class ProductController {
         return product;
     }
 
+    /**
+     * Maps the flags of a stock adjustment request to a negative stock policy.
+     * <p>
+     * Clamping at zero takes precedence over allowing a negative quantity.
+     * </p>
+     *
+     * @param request the request DTO
+     * @return the policy applied to a result below zero
+     */
+    private NegativeStockPolicy mapToPolicy(StockAdjustmentRequest request) {
+        if (Boolean.TRUE.equals(request.getFloorAtZero())) {
+            return NegativeStockPolicy.FLOOR_AT_ZERO;
+        }
+        return Boolean.TRUE.equals(request.getAllowNegative())
+                ? NegativeStockPolicy.ALLOW
+                : NegativeStockPolicy.REJECT;
+    }
+
     /**
      * Maps a domain Product entity to a ProductResponse DTO.
      * <p>
@@ -41,6 +41,7 @@ public class RootController {
         Map<String, String> endpoints = new LinkedHashMap<>();
         // Product endpoints
         endpoints.put("GET /products", "Get all products");
+        endpoints.put("GET /products/search", "Query products (filters, sort, cursor pagination)");
         endpoints.put("GET /products/{id}", "Get product by ID");
         endpoints.put("GET /products/sku/{sku}", "Get product by SKU");
         endpoints.put("GET /products/active", "Get active products");
@@ -48,6 +49,8 @@ public class RootController {
         endpoints.put("POST /products", "Create a new product");
         endpoints.put("PUT /products/{id}", "Update a product");
         endpoints.put("PATCH /products/{id}/stock", "Update product stock");
+        endpoints.put("PATCH /products/{id}/stock/adjust", "Increment or decrement product stock");
+        endpoints.put("PATCH /products/stock", "Bulk update product stock");
         endpoints.put("DELETE /products/{id}", "Delete a product");
         // Category endpoints
         endpoints.put("GET /categories", "Get all categories");
@@ -57,6 +60,8 @@ public class RootController {
         endpoints.put("POST /categories", "Create a new category");
         endpoints.put("PUT /categories/{id}", "Update a category");
         endpoints.put("DELETE /categories/{id}", "Delete a category");
+        // Catalog events
+        endpoints.put("GET /catalog/events", "Stream catalog changes (Server-Sent Events)");
         // Documentation
         endpoints.put("GET /swagger-ui.html", "Swagger UI documentation");
         endpoints.put("GET /api-docs", "OpenAPI specification (JSON)");
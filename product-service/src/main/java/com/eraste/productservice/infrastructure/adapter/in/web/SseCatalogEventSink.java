@@ -0,0 +1,62 @@
+package com.eraste.productservice.infrastructure.adapter.in.web;
+
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.port.in.CatalogEventSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Catalog event sink writing to a Server-Sent Events connection.
+ * <p>
+ * Each event is sent with its sequence number as SSE {@code id} and its type as SSE
+ * {@code event}. A reset is sent as a {@code RESET} event, and heartbeats as comments.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class SseCatalogEventSink implements CatalogEventSink {
+
+    /** Name of the event sent when a client cannot be resumed from the replay buffer. */
+    static final String RESET_EVENT = "RESET";
+
+    private final SseEmitter emitter;
+
+    /**
+     * Constructs a sink writing to the given emitter.
+     *
+     * @param emitter the SSE emitter of the connection
+     */
+    SseCatalogEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(long id, CatalogEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(id))
+                .name(event.getType().name())
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void reset(long lastEventId) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(RESET_EVENT)
+                .data(Map.of("lastEventId", lastEventId), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+}
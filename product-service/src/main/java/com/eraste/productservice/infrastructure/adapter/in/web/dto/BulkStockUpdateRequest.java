@@ -0,0 +1,65 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for bulk stock update requests.
+ * <p>
+ * This DTO is used by warehouse synchronization to push many absolute
+ * stock levels in a single PATCH request.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Request object for updating the stock of many products at once")
+public class BulkStockUpdateRequest {
+
+    /** Maximum number of stock levels accepted in a single request. */
+    public static final int MAX_ITEMS = 10_000;
+
+    /** Stock levels to apply. */
+    @Schema(description = "Stock levels to apply", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "Items are required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " items are allowed per request")
+    private List<@Valid StockLevelRequest> items;
+
+    /**
+     * Default constructor.
+     */
+    public BulkStockUpdateRequest() {
+    }
+
+    /**
+     * Constructs a BulkStockUpdateRequest with the given items.
+     *
+     * @param items the stock levels to apply
+     */
+    public BulkStockUpdateRequest(List<StockLevelRequest> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the stock levels.
+     *
+     * @return the stock levels
+     */
+    public List<StockLevelRequest> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the stock levels.
+     *
+     * @param items the stock levels to set
+     */
+    public void setItems(List<StockLevelRequest> items) {
+        this.items = items;
+    }
+}
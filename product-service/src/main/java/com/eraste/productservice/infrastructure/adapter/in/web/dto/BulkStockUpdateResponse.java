@@ -0,0 +1,129 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for bulk stock update responses.
+ * <p>
+ * Summarizes how many stock levels were applied and lists the
+ * IDs and SKUs that did not match any product.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Summary of a bulk stock update")
+public class BulkStockUpdateResponse {
+
+    /** Number of stock levels received. */
+    @Schema(description = "Number of stock levels received", example = "3")
+    private int requested;
+
+    /** Number of products updated. */
+    @Schema(description = "Number of products updated", example = "2")
+    private int updated;
+
+    /** Product IDs that matched no product. */
+    @Schema(description = "Product IDs that matched no product")
+    private List<Long> unknownIds;
+
+    /** SKUs that matched no product. */
+    @Schema(description = "SKUs that matched no product")
+    private List<String> unknownSkus;
+
+    /**
+     * Default constructor.
+     */
+    public BulkStockUpdateResponse() {
+    }
+
+    /**
+     * Constructs a BulkStockUpdateResponse with all fields.
+     *
+     * @param requested   the number of stock levels received
+     * @param updated     the number of products updated
+     * @param unknownIds  the product IDs that matched no product
+     * @param unknownSkus the SKUs that matched no product
+     */
+    public BulkStockUpdateResponse(int requested, int updated, List<Long> unknownIds, List<String> unknownSkus) {
+        this.requested = requested;
+        this.updated = updated;
+        this.unknownIds = unknownIds;
+        this.unknownSkus = unknownSkus;
+    }
+
+    /**
+     * Gets the number of stock levels received.
+     *
+     * @return the number of stock levels received
+     */
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * Sets the number of stock levels received.
+     *
+     * @param requested the number of stock levels received to set
+     */
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    /**
+     * Gets the number of products updated.
+     *
+     * @return the number of products updated
+     */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Sets the number of products updated.
+     *
+     * @param updated the number of products updated to set
+     */
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * Gets the unknown product IDs.
+     *
+     * @return the unknown product IDs
+     */
+    public List<Long> getUnknownIds() {
+        return unknownIds;
+    }
+
+    /**
+     * Sets the unknown product IDs.
+     *
+     * @param unknownIds the unknown product IDs to set
+     */
+    public void setUnknownIds(List<Long> unknownIds) {
+        this.unknownIds = unknownIds;
+    }
+
+    /**
+     * Gets the unknown SKUs.
+     *
+     * @return the unknown SKUs
+     */
+    public List<String> getUnknownSkus() {
+        return unknownSkus;
+    }
+
+    /**
+     * Sets the unknown SKUs.
+     *
+     * @param unknownSkus the unknown SKUs to set
+     */
+    public void setUnknownSkus(List<String> unknownSkus) {
+        this.unknownSkus = unknownSkus;
+    }
+}
@@ -0,0 +1,104 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of products.
+ * <p>
+ * Pass {@code nextCursor} back as the {@code cursor} parameter, with the same
+ * filters and sort, to fetch the following page.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Page of products returned by the product query API")
+public class ProductPageResponse {
+
+    /** Products of the page. */
+    @Schema(description = "Products of the page")
+    private List<ProductResponse> items;
+
+    /** Number of products in the page. */
+    @Schema(description = "Number of products in the page", example = "20")
+    private int size;
+
+    /** Opaque cursor of the next page. */
+    @Schema(description = "Opaque cursor of the next page, absent on the last page")
+    private String nextCursor;
+
+    /**
+     * Default constructor.
+     */
+    public ProductPageResponse() {
+    }
+
+    /**
+     * Constructs a ProductPageResponse.
+     *
+     * @param items      the products of the page
+     * @param nextCursor the cursor of the next page, or null
+     */
+    public ProductPageResponse(List<ProductResponse> items, String nextCursor) {
+        this.items = items;
+        this.size = items.size();
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the products of the page.
+     *
+     * @return the products
+     */
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the products of the page.
+     *
+     * @param items the products to set
+     */
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the number of products in the page.
+     *
+     * @return the page size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the number of products in the page.
+     *
+     * @param size the page size to set
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return the next cursor, or null on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the cursor of the next page.
+     *
+     * @param nextCursor the next cursor to set
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
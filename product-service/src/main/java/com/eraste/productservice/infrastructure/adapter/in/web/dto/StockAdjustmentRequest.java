@@ -0,0 +1,107 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for relative stock adjustment requests.
+ * <p>
+ * This DTO is used for PATCH operations that increment or decrement
+ * the stock quantity of a product instead of replacing it.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Request object for incrementing or decrementing product stock")
+public class StockAdjustmentRequest {
+
+    /** Signed quantity to add to the current stock. */
+    @Schema(description = "Quantity to add (positive) or remove (negative)", example = "-2",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Delta is required")
+    private Integer delta;
+
+    /** Whether the resulting quantity is clamped at zero. */
+    @Schema(description = "Whether the resulting quantity is clamped at zero", example = "true")
+    private Boolean floorAtZero = false;
+
+    /** Whether the resulting quantity may go below zero. */
+    @Schema(description = "Whether the resulting quantity may go below zero (ignored when floorAtZero is set); "
+            + "otherwise an adjustment below zero is rejected", example = "false")
+    private Boolean allowNegative = false;
+
+    /**
+     * Default constructor.
+     */
+    public StockAdjustmentRequest() {
+    }
+
+    /**
+     * Constructs a StockAdjustmentRequest with all fields.
+     *
+     * @param delta         the signed quantity to add
+     * @param floorAtZero   whether the resulting quantity is clamped at zero
+     * @param allowNegative whether the resulting quantity may go below zero
+     */
+    public StockAdjustmentRequest(Integer delta, Boolean floorAtZero, Boolean allowNegative) {
+        this.delta = delta;
+        this.floorAtZero = floorAtZero;
+        this.allowNegative = allowNegative;
+    }
+
+    /**
+     * Gets the delta.
+     *
+     * @return the delta
+     */
+    public Integer getDelta() {
+        return delta;
+    }
+
+    /**
+     * Sets the delta.
+     *
+     * @param delta the delta to set
+     */
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Gets whether the resulting quantity is clamped at zero.
+     *
+     * @return true if the quantity is clamped at zero
+     */
+    public Boolean getFloorAtZero() {
+        return floorAtZero;
+    }
+
+    /**
+     * Sets whether the resulting quantity is clamped at zero.
+     *
+     * @param floorAtZero true to clamp the quantity at zero
+     */
+    public void setFloorAtZero(Boolean floorAtZero) {
+        this.floorAtZero = floorAtZero;
+    }
+
+    /**
+     * Gets whether the resulting quantity may go below zero.
+     *
+     * @return true if the quantity may go below zero
+     */
+    public Boolean getAllowNegative() {
+        return allowNegative;
+    }
+
+    /**
+     * Sets whether the resulting quantity may go below zero.
+     *
+     * @param allowNegative true to let the quantity go below zero
+     */
+    public void setAllowNegative(Boolean allowNegative) {
+        this.allowNegative = allowNegative;
+    }
+}
@@ -0,0 +1,78 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for relative stock adjustment responses.
+ * <p>
+ * Carries the stock quantity of the product as it stands right after the adjustment.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Stock quantity of a product after an adjustment")
+public class StockAdjustmentResponse {
+
+    /** Product ID. */
+    @Schema(description = "Product ID", example = "1")
+    private Long productId;
+
+    /** New quantity in stock. */
+    @Schema(description = "New stock quantity", example = "48")
+    private Integer quantity;
+
+    /**
+     * Default constructor.
+     */
+    public StockAdjustmentResponse() {
+    }
+
+    /**
+     * Constructs a StockAdjustmentResponse with all fields.
+     *
+     * @param productId the product ID
+     * @param quantity  the new quantity
+     */
+    public StockAdjustmentResponse(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets the product ID.
+     *
+     * @return the product ID
+     */
+    public Long getProductId() {
+        return productId;
+    }
+
+    /**
+     * Sets the product ID.
+     *
+     * @param productId the product ID to set
+     */
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Gets the quantity.
+     *
+     * @return the quantity
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Sets the quantity.
+     *
+     * @param quantity the quantity to set
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
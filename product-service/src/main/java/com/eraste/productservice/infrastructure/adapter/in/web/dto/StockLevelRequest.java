@@ -0,0 +1,120 @@
+package com.eraste.productservice.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for a single entry of a bulk stock update.
+ * <p>
+ * The product is identified either by its ID or by its SKU.
+ * When both are provided, the ID takes precedence.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Stock level of a single product, identified by ID or SKU")
+public class StockLevelRequest {
+
+    /** Product ID. */
+    @Schema(description = "Product ID", example = "1")
+    private Long id;
+
+    /** Product SKU, used when no ID is given. */
+    @Schema(description = "Product SKU, used when no ID is given", example = "IPHONE-15-PRO-256")
+    private String sku;
+
+    /** New quantity value. */
+    @Schema(description = "New stock quantity", example = "100", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    /**
+     * Default constructor.
+     */
+    public StockLevelRequest() {
+    }
+
+    /**
+     * Constructs a StockLevelRequest with all fields.
+     *
+     * @param id       the product ID (may be null)
+     * @param sku      the product SKU (may be null)
+     * @param quantity the new quantity
+     */
+    public StockLevelRequest(Long id, String sku, Integer quantity) {
+        this.id = id;
+        this.sku = sku;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Checks that the entry identifies a product.
+     *
+     * @return true if an ID or a non-blank SKU is provided
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Either id or sku is required")
+    public boolean isIdentified() {
+        return id != null || (sku != null && !sku.isBlank());
+    }
+
+    /**
+     * Gets the product ID.
+     *
+     * @return the product ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the product ID.
+     *
+     * @param id the product ID to set
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the product SKU.
+     *
+     * @return the product SKU
+     */
+    public String getSku() {
+        return sku;
+    }
+
+    /**
+     * Sets the product SKU.
+     *
+     * @param sku the product SKU to set
+     */
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    /**
+     * Gets the quantity.
+     *
+     * @return the quantity
+     */
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Sets the quantity.
+     *
+     * @param quantity the quantity to set
+     */
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,321 @@
+package com.eraste.productservice.infrastructure.adapter.out.event;
+
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.port.in.CatalogEventSink;
+import com.eraste.productservice.domain.port.in.CatalogEventStreamUseCase;
+import com.eraste.productservice.domain.port.out.CatalogEventPublisherPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory adapter implementing the CatalogEventPublisherPort and the CatalogEventStreamUseCase.
+ * <p>
+ * This class serves as a secondary adapter (driven adapter) in the hexagonal architecture.
+ * It numbers each published {@link CatalogEvent}, keeps the most recent ones in a bounded
+ * replay buffer, and fans them out to the {@link CatalogEventSink}s subscribed to the
+ * catalog event stream. The transport of each sink (Server-Sent Events for
+ * {@code GET /catalog/events}) belongs to the inbound adapter that subscribed it.
+ * </p>
+ * <p>
+ * Publishing never blocks the write path: events are only appended to the replay buffer
+ * and offered to a bounded queue per subscriber, which dispatcher threads drain to the
+ * network. A subscriber whose queue overflows is disconnected; its client reconnects with
+ * the ID of the last event it received and catches up from the replay buffer. A client that
+ * fell behind the buffer is reset, telling it to refetch the catalog. Idle subscribers
+ * receive periodic heartbeats so that proxies keep the stream open.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CatalogEventPublisherPort
+ * @see CatalogEventStreamUseCase
+ */
+@Component
+public class CatalogEventBroadcaster implements CatalogEventPublisherPort, CatalogEventStreamUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogEventBroadcaster.class);
+
+    private final int replayBufferSize;
+    private final int subscriberQueueSize;
+
+    /** Guards the sequence, the replay buffer and subscriber registration. */
+    private final Object lock = new Object();
+    private final ArrayDeque<SequencedEvent> replayBuffer;
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    /**
+     * Constructs the broadcaster and starts its dispatcher and heartbeat threads.
+     *
+     * @param replayBufferSize    the number of recent events kept for resumption
+     * @param subscriberQueueSize the number of undelivered events a subscriber may lag behind
+     * @param heartbeatInterval   the interval between heartbeats sent to subscribers
+     * @param dispatcherThreads   the number of threads writing events to subscribers
+     */
+    public CatalogEventBroadcaster(
+            @Value("${products.events.replay-buffer-size:1024}") int replayBufferSize,
+            @Value("${products.events.subscriber-queue-size:256}") int subscriberQueueSize,
+            @Value("${products.events.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${products.events.dispatcher-threads:2}") int dispatcherThreads) {
+        this.replayBufferSize = replayBufferSize;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.replayBuffer = new ArrayDeque<>(replayBufferSize);
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, daemonThreads("catalog-events-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("catalog-heartbeat-"));
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        this.heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inside a transaction, the event is broadcast from an after-commit callback,
+     * so rolled-back writes are never seen by subscribers.
+     * </p>
+     */
+    @Override
+    public void publish(CatalogEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Missed events are replayed from the replay buffer.
+     * </p>
+     */
+    @Override
+    public Subscription subscribe(Long lastEventId, CatalogEventSink sink) {
+        Subscriber subscriber;
+        synchronized (lock) {
+            List<SequencedEvent> replay = new ArrayList<>();
+            boolean reset = false;
+            if (lastEventId != null) {
+                long oldest = replayBuffer.isEmpty() ? lastSequence + 1 : replayBuffer.peekFirst().id;
+                if (lastEventId < oldest - 1 || lastEventId > lastSequence) {
+                    reset = true;
+                } else {
+                    for (SequencedEvent event : replayBuffer) {
+                        if (event.id > lastEventId) {
+                            replay.add(event);
+                        }
+                    }
+                }
+            }
+            subscriber = new Subscriber(sink, subscriberQueueSize + replay.size(), reset);
+            subscriber.queue.addAll(replay);
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Returns the number of currently connected subscribers.
+     *
+     * @return the subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Completes all open streams and stops the background threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.sink.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Numbers an event, stores it in the replay buffer and offers it to every subscriber.
+     *
+     * @param event the event to broadcast
+     */
+    private void broadcast(CatalogEvent event) {
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (lock) {
+            SequencedEvent sequenced = new SequencedEvent(++lastSequence, event);
+            if (replayBuffer.size() == replayBufferSize) {
+                replayBuffer.pollFirst();
+            }
+            replayBuffer.addLast(sequenced);
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(sequenced)) {
+                    // Slow consumer: stop feeding it, it will resume from the replay buffer
+                    subscribers.remove(subscriber);
+                    subscriber.overflowed = true;
+                }
+                ready.add(subscriber);
+            }
+        }
+        ready.forEach(this::schedule);
+    }
+
+    /**
+     * Flags every subscriber for a heartbeat and wakes its dispatcher.
+     */
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Submits a drain of the subscriber queue unless one is already pending.
+     *
+     * @param subscriber the subscriber to drain
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending events of a subscriber to its sink.
+     *
+     * @param subscriber the subscriber to drain
+     */
+    private void drain(Subscriber subscriber) {
+        CatalogEventSink sink = subscriber.sink;
+        try {
+            boolean sent = false;
+            if (subscriber.reset) {
+                subscriber.reset = false;
+                sink.reset(currentSequence());
+                sent = true;
+            }
+            SequencedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                sink.send(event.id, event.event);
+                sent = true;
+            }
+            if (subscriber.overflowed) {
+                sink.complete();
+                return;
+            }
+            if (subscriber.heartbeatDue && !sent) {
+                sink.heartbeat();
+            }
+            subscriber.heartbeatDue = false;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping catalog event subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            sink.complete();
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Returns the ID of the most recently published event.
+     *
+     * @return the last sequence number
+     */
+    private long currentSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * Creates a thread factory producing named daemon threads.
+     *
+     * @param prefix the thread name prefix
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Catalog event with its position in the stream.
+     */
+    private static final class SequencedEvent {
+
+        private final long id;
+        private final CatalogEvent event;
+
+        private SequencedEvent(long id, CatalogEvent event) {
+            this.id = id;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Connected client with its own bounded backlog.
+     */
+    private static final class Subscriber {
+
+        private final CatalogEventSink sink;
+        private final BlockingQueue<SequencedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean reset;
+        private volatile boolean overflowed;
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(CatalogEventSink sink, int capacity, boolean reset) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+            this.reset = reset;
+            // Send a first heartbeat right away so that the response headers are flushed
+            this.heartbeatDue = true;
+        }
+    }
+}
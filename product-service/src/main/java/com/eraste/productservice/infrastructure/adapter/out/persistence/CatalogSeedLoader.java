@@ -0,0 +1,174 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.seed.SeedFile;
+import com.eraste.common.seed.SeedLoader;
+import com.eraste.common.seed.SeedReport;
+import com.eraste.common.seed.SeedTable;
+import com.eraste.common.seed.SeedWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup loader of the catalog seed data.
+ * <p>
+ * Enabled with {@code seed.enabled=true}. Streams {@code products/categories.json} and
+ * {@code products/products.json} from the {@code seed.location} directory, using
+ * {@code COPY} on PostgreSQL and batched inserts elsewhere. Categories are identified
+ * by code and products by SKU, so the load can be replayed on every startup.
+ * </p>
+ * <p>
+ * The {@code categoryId} of a seed product is the position of its category in
+ * {@code categories.json}, starting at 1. It is resolved to the ID the category
+ * actually got, through its code.
+ * </p>
+ * <p>
+ * Seeded rows are written directly to the tables: no catalog event is published.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SeedLoader
+ */
+@Component
+@ConditionalOnProperty(prefix = "seed", name = "enabled", havingValue = "true")
+public class CatalogSeedLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSeedLoader.class);
+
+    /** The categories table, identified by code. */
+    private static final SeedTable CATEGORIES = new SeedTable("categories",
+            List.of("name", "description", "code", "active", "created_at", "updated_at"),
+            List.of("code"));
+
+    /** The products table, identified by SKU. */
+    private static final SeedTable PRODUCTS = new SeedTable("products",
+            List.of("name", "description", "price", "quantity", "sku", "category_id", "active",
+                    "created_at", "updated_at"),
+            List.of("sku"));
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Path location;
+    private final int batchSize;
+
+    /**
+     * Constructs a CatalogSeedLoader.
+     *
+     * @param objectMapper       the mapper used to parse the seed files
+     * @param jdbcTemplate       the JDBC template of the catalog database
+     * @param transactionManager the transaction manager used for each chunk
+     * @param location           the directory holding the seed files
+     * @param batchSize          the number of records written per chunk
+     */
+    public CatalogSeedLoader(ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${seed.location:data/jsons}") Path location,
+                             @Value("${seed.batch-size:5000}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.location = location;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path categoriesFile = location.resolve("products/categories.json");
+        Path productsFile = location.resolve("products/products.json");
+        if (!Files.isRegularFile(categoriesFile) || !Files.isRegularFile(productsFile)) {
+            log.warn("Seed files not found under {}, skipping catalog seed", location.toAbsolutePath());
+            return;
+        }
+        SeedLoader loader = new SeedLoader(objectMapper, new SeedWriter(jdbcTemplate),
+                new TransactionTemplate(transactionManager), batchSize);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        SeedReport categories = loader.load(categoriesFile, CATEGORIES, category -> new Object[]{
+                category.path("name").asText(null),
+                category.path("description").asText(null),
+                category.path("code").asText(null),
+                category.path("active").asBoolean(true),
+                now,
+                now
+        });
+        log.info("Seeded {}", categories);
+
+        List<Long> categoryIds = resolveCategoryIds(categoriesFile);
+        SeedReport products = loader.load(productsFile, PRODUCTS, product -> new Object[]{
+                product.path("name").asText(null),
+                product.path("description").asText(null),
+                product.path("price").decimalValue(),
+                product.path("quantity").asInt(0),
+                product.path("sku").asText(null),
+                categoryId(categoryIds, product.path("categoryId")),
+                product.path("active").asBoolean(true),
+                now,
+                now
+        });
+        log.info("Seeded {}", products);
+    }
+
+    /**
+     * Resolves the database ID of each seed category, in file order.
+     *
+     * @param categoriesFile the category seed file
+     * @return the category IDs, indexed by position in the file
+     * @throws IOException if the file cannot be read
+     */
+    private List<Long> resolveCategoryIds(Path categoriesFile) throws IOException {
+        List<String> codes = new ArrayList<>();
+        try (SeedFile categories = SeedFile.open(objectMapper, categoriesFile)) {
+            while (categories.hasNext()) {
+                codes.add(categories.next().path("code").asText(null));
+            }
+        }
+        Map<String, Long> idsByCode = new HashMap<>();
+        if (!codes.isEmpty()) {
+            new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                    "SELECT id, code FROM categories WHERE code IN (:codes)", Map.of("codes", codes),
+                    row -> {
+                        idsByCode.put(row.getString("code"), row.getLong("id"));
+                    });
+        }
+        List<Long> ids = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            ids.add(idsByCode.get(code));
+        }
+        return ids;
+    }
+
+    /**
+     * Maps the 1-based category position of a seed product to a category ID.
+     *
+     * @param categoryIds the category IDs, in file order
+     * @param position    the {@code categoryId} field of the product
+     * @return the category ID, or {@code null} if the product has no known category
+     */
+    private static Long categoryId(List<Long> categoryIds, JsonNode position) {
+        int index = position.asInt(0) - 1;
+        return index >= 0 && index < categoryIds.size() ? categoryIds.get(index) : null;
+    }
+}
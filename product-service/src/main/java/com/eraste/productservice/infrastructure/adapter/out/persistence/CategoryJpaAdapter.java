@@ -1,5 +1,7 @@
 package com.eraste.productservice.infrastructure.adapter.out.persistence;
 
+import com.eraste.common.existence.ExistenceFilter;
+import com.eraste.common.existence.ExistenceFilters;
 import com.eraste.productservice.domain.model.Category;
 import com.eraste.productservice.domain.port.out.CategoryRepositoryPort;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,10 @@ import java.util.stream.Collectors;
  * It implements the {@link CategoryRepositoryPort} output port using Spring Data JPA.
  * </p>
  * <p>
+ * Code existence checks go through an {@link ExistenceFilter}: codes it has never seen
+ * are reported free without a query.
+ * </p>
+ * <p>
  * This adapter can be swapped for another implementation (MongoDB, Cassandra, etc.)
  * without affecting the domain layer, as long as it implements the same port interface.
  * </p>
@@ -31,16 +37,20 @@ public class CategoryJpaAdapter implements CategoryRepositoryPort {
 
     private final CategoryJpaRepository jpaRepository;
     private final CategoryMapper mapper;
+    private final ExistenceFilter codeFilter;
 
     /**
      * Constructs a CategoryJpaAdapter with required dependencies.
      *
      * @param jpaRepository the Spring Data JPA repository
      * @param mapper        the mapper for domain/entity conversion
+     * @param filters       the registry of the code existence filter
      */
-    public CategoryJpaAdapter(CategoryJpaRepository jpaRepository, CategoryMapper mapper) {
+    public CategoryJpaAdapter(CategoryJpaRepository jpaRepository, CategoryMapper mapper,
+                              ExistenceFilters filters) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.codeFilter = filters.register("categories.code", "categories", "code");
     }
 
     /**
@@ -60,6 +70,7 @@ public class CategoryJpaAdapter implements CategoryRepositoryPort {
         } else {
             entity = mapper.toJpaEntity(category);
         }
+        codeFilter.put(category.getCode());
         CategoryJpaEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -115,6 +126,6 @@ public class CategoryJpaAdapter implements CategoryRepositoryPort {
      */
     @Override
     public boolean existsByCode(String code) {
-        return jpaRepository.existsByCode(code);
+        return codeFilter.exists(code, jpaRepository::existsByCode);
     }
 }
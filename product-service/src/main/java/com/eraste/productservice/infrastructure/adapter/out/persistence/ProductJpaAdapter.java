@@ -1,11 +1,26 @@
 package com.eraste.productservice.infrastructure.adapter.out.persistence;
 
+import com.eraste.common.existence.ExistenceFilter;
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
 import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.StockLevel;
 import com.eraste.productservice.domain.port.out.ProductRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 /**
@@ -15,6 +30,15 @@ import java.util.stream.Collectors;
  * It implements the {@link ProductRepositoryPort} output port using Spring Data JPA.
  * </p>
  * <p>
+ * Reads select {@link ProductRow} projections and map them straight to the domain:
+ * no managed entity, snapshot or category proxy is created for a product that is only
+ * returned to a caller. Only {@link #save(Product)} loads entities.
+ * </p>
+ * <p>
+ * SKU existence checks go through an {@link ExistenceFilter}: SKUs it has never seen
+ * are reported free without a query.
+ * </p>
+ * <p>
  * This adapter can be swapped for another implementation (MongoDB, Cassandra, etc.)
  * without affecting the domain layer, as long as it implements the same port interface.
  * </p>
@@ -32,6 +56,24 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
     private final ProductJpaRepository jpaRepository;
     private final CategoryJpaRepository categoryJpaRepository;
     private final ProductMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ExistenceFilter skuFilter;
+
+    /** Batched stock update matching products by ID. */
+    private static final String UPDATE_STOCK_BY_ID_SQL =
+            "UPDATE products SET quantity = ?, updated_at = ? WHERE id = ?";
+
+    /** Batched stock update matching products by SKU. */
+    private static final String UPDATE_STOCK_BY_SKU_SQL =
+            "UPDATE products SET quantity = ?, updated_at = ? WHERE sku = ?";
+
+    /** Extracts the new quantity returned by a stock adjustment, if a row matched. */
+    private static final ResultSetExtractor<OptionalInt> NEW_QUANTITY =
+            rs -> rs.next() ? OptionalInt.of(rs.getInt(1)) : OptionalInt.empty();
+
+    /** SQL used by {@link #adjustStock}, resolved from the database on first use. */
+    private volatile StockAdjustmentSql stockAdjustmentSql;
 
     /**
      * Constructs a ProductJpaAdapter with required dependencies.
@@ -39,13 +81,22 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      * @param jpaRepository         the Spring Data JPA repository for products
      * @param categoryJpaRepository the Spring Data JPA repository for categories
      * @param mapper                the mapper for domain/entity conversion
+     * @param jdbcTemplate          the JDBC template used for batched statements
+     * @param entityManager         the entity manager used for projection searches
+     * @param filters               the registry of the SKU existence filter
      */
     public ProductJpaAdapter(ProductJpaRepository jpaRepository,
                              CategoryJpaRepository categoryJpaRepository,
-                             ProductMapper mapper) {
+                             ProductMapper mapper,
+                             JdbcTemplate jdbcTemplate,
+                             EntityManager entityManager,
+                             ExistenceFilters filters) {
         this.jpaRepository = jpaRepository;
         this.categoryJpaRepository = categoryJpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.skuFilter = filters.register("products.sku", "products", "sku");
     }
 
     /**
@@ -76,6 +127,7 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
             entity.setCategory(null);
         }
 
+        skuFilter.put(product.getSku());
         ProductJpaEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -85,7 +137,7 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      */
     @Override
     public Optional<Product> findById(Long id) {
-        return jpaRepository.findById(id)
+        return jpaRepository.findRowById(id)
                 .map(mapper::toDomain);
     }
 
@@ -94,7 +146,7 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      */
     @Override
     public List<Product> findAll() {
-        return jpaRepository.findAll().stream()
+        return jpaRepository.findAllRows().stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -104,17 +156,43 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      */
     @Override
     public List<Product> findByActiveTrue() {
-        return jpaRepository.findByActiveTrue().stream()
+        return jpaRepository.findActiveRows().stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The products are read without their category columns and the category once,
+     * by a second select, rather than repeated on every row.
+     * </p>
      */
     @Override
     public List<Product> findByCategoryId(Long categoryId) {
-        return jpaRepository.findByCategoryId(categoryId).stream()
+        List<ProductRow> rows = jpaRepository.findRowsByCategoryId(categoryId);
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        CategoryJpaEntity category = categoryJpaRepository.findById(categoryId).orElse(null);
+        return rows.stream()
+                .map(row -> mapper.toDomain(row, category))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs a single dynamic query limited to the requested number of rows,
+     * without the count query a {@code Page} would require.
+     * </p>
+     */
+    @Override
+    public List<Product> search(ProductQuery query, int limit) {
+        return entityManager
+                .createQuery(ProductSpecifications.rows(query, entityManager.getCriteriaBuilder()))
+                .setMaxResults(limit)
+                .getResultList().stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -132,7 +210,7 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      */
     @Override
     public Optional<Product> findBySku(String sku) {
-        return jpaRepository.findBySku(sku)
+        return jpaRepository.findRowBySku(sku)
                 .map(mapper::toDomain);
     }
 
@@ -141,6 +219,146 @@ public class ProductJpaAdapter implements ProductRepositoryPort {
      */
     @Override
     public boolean existsBySku(String sku) {
-        return jpaRepository.existsBySku(sku);
+        return skuFilter.exists(sku, jpaRepository::existsBySku);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Levels are applied in payload order, so the last level of a product wins even when
+     * it is addressed once by ID and once by SKU. Each run of consecutive levels
+     * identified the same way is one JDBC batch: a payload identified by ID only, or by
+     * SKU only, costs a single batch. A level whose statement updated no row is reported
+     * as unmatched.
+     * </p>
+     */
+    @Override
+    public List<StockLevel> updateStockLevels(List<StockLevel> levels) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<StockLevel> unmatched = new ArrayList<>();
+        int from = 0;
+        while (from < levels.size()) {
+            boolean byId = levels.get(from).isIdentifiedById();
+            int to = from + 1;
+            while (to < levels.size() && levels.get(to).isIdentifiedById() == byId) {
+                to++;
+            }
+            collectUnmatched(levels.subList(from, to), byId ? UPDATE_STOCK_BY_ID_SQL : UPDATE_STOCK_BY_SKU_SQL,
+                    now, unmatched);
+            from = to;
+        }
+        return unmatched;
+    }
+
+    /**
+     * Runs a batched stock update and collects the levels that matched no row.
+     *
+     * @param levels    the levels sharing the same identifier kind
+     * @param sql       the update statement to batch
+     * @param now       the timestamp to store as updated_at
+     * @param unmatched the list receiving unmatched levels
+     */
+    private void collectUnmatched(List<StockLevel> levels, String sql, Timestamp now,
+                                  List<StockLevel> unmatched) {
+        if (levels.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(levels.size());
+        for (StockLevel level : levels) {
+            Object key = level.isIdentifiedById() ? level.getProductId() : level.getSku();
+            args.add(new Object[]{level.getQuantity(), now, key});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                unmatched.add(levels.get(i));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * On PostgreSQL the new value comes back through {@code UPDATE ... RETURNING},
+     * and on H2 through {@code SELECT ... FROM FINAL TABLE (UPDATE ...)}, so the
+     * adjustment costs a single round trip. Other databases fall back to an update
+     * followed by a read of the row it has just locked.
+     * </p>
+     */
+    @Override
+    public OptionalInt adjustStock(Long id, int delta, NegativeStockPolicy policy) {
+        StockAdjustmentSql sql = resolveStockAdjustmentSql();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = policy == NegativeStockPolicy.REJECT
+                ? new Object[]{delta, now, id, delta}
+                : new Object[]{delta, now, id};
+        String statement = sql.statement(policy);
+        if (sql.returnsQuantity()) {
+            return jdbcTemplate.query(statement, NEW_QUANTITY, args);
+        }
+        if (jdbcTemplate.update(statement, args) == 0) {
+            return OptionalInt.empty();
+        }
+        return jdbcTemplate.query("SELECT quantity FROM products WHERE id = ?", NEW_QUANTITY, id);
+    }
+
+    /**
+     * Resolves the stock adjustment SQL matching the underlying database.
+     *
+     * @return the stock adjustment SQL
+     */
+    private StockAdjustmentSql resolveStockAdjustmentSql() {
+        StockAdjustmentSql sql = stockAdjustmentSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            sql = StockAdjustmentSql.forDatabase(product);
+            stockAdjustmentSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * Database-specific statements for atomic stock adjustments, one per negative stock policy.
+     * <p>
+     * Under {@link NegativeStockPolicy#REJECT} the statement matches the row only while the
+     * result stays at or above zero, and binds the delta a second time for that condition.
+     * </p>
+     */
+    static final class StockAdjustmentSql {
+
+        private static final String UPDATE =
+                "UPDATE products SET quantity = %s, updated_at = ? WHERE id = ?%s";
+        private static final String DELTA = "quantity + ?";
+        private static final String FLOORED_DELTA = "GREATEST(quantity + ?, 0)";
+        private static final String NON_NEGATIVE = " AND quantity + ? >= 0";
+
+        private final Map<NegativeStockPolicy, String> statements = new EnumMap<>(NegativeStockPolicy.class);
+        private final boolean returnsQuantity;
+
+        private StockAdjustmentSql(String template, boolean returnsQuantity) {
+            statements.put(NegativeStockPolicy.REJECT, template.formatted(UPDATE.formatted(DELTA, NON_NEGATIVE)));
+            statements.put(NegativeStockPolicy.FLOOR_AT_ZERO, template.formatted(UPDATE.formatted(FLOORED_DELTA, "")));
+            statements.put(NegativeStockPolicy.ALLOW, template.formatted(UPDATE.formatted(DELTA, "")));
+            this.returnsQuantity = returnsQuantity;
+        }
+
+        static StockAdjustmentSql forDatabase(String productName) {
+            if ("PostgreSQL".equalsIgnoreCase(productName)) {
+                return new StockAdjustmentSql("%s RETURNING quantity", true);
+            }
+            if ("H2".equalsIgnoreCase(productName)) {
+                return new StockAdjustmentSql("SELECT quantity FROM FINAL TABLE (%s)", true);
+            }
+            return new StockAdjustmentSql("%s", false);
+        }
+
+        String statement(NegativeStockPolicy policy) {
+            return statements.get(policy);
+        }
+
+        boolean returnsQuantity() {
+            return returnsQuantity;
+        }
     }
 }
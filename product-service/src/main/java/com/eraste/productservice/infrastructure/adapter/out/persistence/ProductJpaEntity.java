@@ -15,6 +15,16 @@ import java.math.BigDecimal;
  * This is an infrastructure concern, completely separate from the domain model.
  * The {@link ProductMapper} handles conversion between this entity and the domain model.
  * </p>
+ * <p>
+ * The composite indexes created by migration V2 back the product query API: each one
+ * starts with an optional equality filter (category, active) followed by a sort column
+ * and the ID tie-breaker, so a page filtered by category or by active status is read
+ * in sort order from an index and stops after the page size. Price ranges only narrow
+ * that index scan when the page is also sorted by price. Otherwise they are checked,
+ * like the in-stock filter, on each row read in sort order, so a selective range can
+ * read many rows per page. Pages filtered by both category and active status use the
+ * category indexes.
+ * </p>
  *
  * @author Eraste
  * @version 1.0.0
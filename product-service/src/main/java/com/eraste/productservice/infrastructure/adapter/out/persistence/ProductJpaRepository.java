@@ -1,6 +1,8 @@
 package com.eraste.productservice.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +13,11 @@ import java.util.Optional;
  * <p>
  * This interface provides CRUD operations and custom queries for {@link ProductJpaEntity}.
  * Spring Data JPA automatically generates the implementation at runtime.
+ * Dynamic queries are built with {@link ProductSpecifications}.
+ * </p>
+ * <p>
+ * Reads return {@link ProductRow} projections joined with the category rather than
+ * entities; entities are only loaded by the write paths.
  * </p>
  *
  * @author Eraste
@@ -20,36 +27,84 @@ import java.util.Optional;
  * @see ProductJpaEntity
  */
 @Repository
-public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
+public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long>,
+        JpaSpecificationExecutor<ProductJpaEntity> {
+
+    /**
+     * Constructor expression selecting products and their category as {@link ProductRow} projections.
+     * <p>
+     * The category is joined as an entity rather than through the association, so that a
+     * filter on {@code p.category.id} stays on the indexed {@code products.category_id}.
+     * </p>
+     */
+    String SELECT_ROW = "select new com.eraste.productservice.infrastructure.adapter.out.persistence.ProductRow("
+            + "p.id, p.name, p.description, p.price, p.quantity, p.sku, p.active, p.createdAt, p.updatedAt, "
+            + "c.id, c.name, c.description, c.code, c.active, c.createdAt, c.updatedAt) "
+            + "from ProductJpaEntity p left join CategoryJpaEntity c on c.id = p.category.id";
+
+    /**
+     * Constructor expression selecting products without their category as {@link ProductRow} projections.
+     * <p>
+     * Only the category ID is read, from {@code products.category_id}; callers load the
+     * category itself separately.
+     * </p>
+     */
+    String SELECT_PRODUCT_ROW = "select new com.eraste.productservice.infrastructure.adapter.out.persistence.ProductRow("
+            + "p.id, p.name, p.description, p.price, p.quantity, p.sku, p.active, p.createdAt, p.updatedAt, "
+            + "p.category.id) "
+            + "from ProductJpaEntity p";
+
+    /**
+     * Finds a product by ID as a read-only projection.
+     *
+     * @param id the product ID
+     * @return an Optional containing the projected product if found
+     */
+    @Query(SELECT_ROW + " where p.id = :id")
+    Optional<ProductRow> findRowById(Long id);
 
     /**
-     * Finds a product by its SKU.
+     * Finds a product by SKU as a read-only projection.
      *
      * @param sku the SKU to search for
-     * @return an Optional containing the product entity if found
+     * @return an Optional containing the projected product if found
      */
-    Optional<ProductJpaEntity> findBySku(String sku);
+    @Query(SELECT_ROW + " where p.sku = :sku")
+    Optional<ProductRow> findRowBySku(String sku);
 
     /**
-     * Checks if a product exists with the given SKU.
+     * Finds all products as read-only projections.
      *
-     * @param sku the SKU to check
-     * @return true if a product exists with this SKU
+     * @return the projected products
      */
-    boolean existsBySku(String sku);
+    @Query(SELECT_ROW)
+    List<ProductRow> findAllRows();
 
     /**
-     * Finds all active products.
+     * Finds all active products as read-only projections.
      *
-     * @return a list of active product entities
+     * @return the projected active products
      */
-    List<ProductJpaEntity> findByActiveTrue();
+    @Query(SELECT_ROW + " where p.active = true")
+    List<ProductRow> findActiveRows();
 
     /**
-     * Finds products by category ID.
+     * Finds the products of a category as read-only projections, without the category columns.
+     * <p>
+     * Every row shares the same category, so it is not repeated on each of them.
+     * </p>
      *
      * @param categoryId the category ID to filter by
-     * @return a list of product entities in the category
+     * @return the projected products in the category
+     */
+    @Query(SELECT_PRODUCT_ROW + " where p.category.id = :categoryId")
+    List<ProductRow> findRowsByCategoryId(Long categoryId);
+
+    /**
+     * Checks if a product exists with the given SKU.
+     *
+     * @param sku the SKU to check
+     * @return true if a product exists with this SKU
      */
-    List<ProductJpaEntity> findByCategoryId(Long categoryId);
+    boolean existsBySku(String sku);
 }
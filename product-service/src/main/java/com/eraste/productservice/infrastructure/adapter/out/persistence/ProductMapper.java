@@ -1,5 +1,6 @@
 package com.eraste.productservice.infrastructure.adapter.out.persistence;
 
+import com.eraste.productservice.domain.model.Category;
 import com.eraste.productservice.domain.model.Product;
 import org.springframework.stereotype.Component;
 
@@ -58,6 +59,53 @@ public class ProductMapper {
         return product;
     }
 
+    /**
+     * Converts a read-only projection to a domain model, with its category.
+     *
+     * @param row the projected product and category
+     * @return the domain Product model
+     */
+    public Product toDomain(ProductRow row) {
+        Product product = productOf(row);
+        if (row.categoryId() != null) {
+            Category category = new Category(row.categoryId(), row.categoryName(), row.categoryDescription(),
+                    row.categoryCode());
+            category.setActive(row.categoryActive());
+            category.setCreatedAt(row.categoryCreatedAt());
+            category.setUpdatedAt(row.categoryUpdatedAt());
+            product.setCategory(category);
+        }
+        return product;
+    }
+
+    /**
+     * Converts a projection read without its category columns to a domain model,
+     * with the given category.
+     *
+     * @param row      the projected product
+     * @param category the category of the product, or null
+     * @return the domain Product model
+     */
+    public Product toDomain(ProductRow row, CategoryJpaEntity category) {
+        Product product = productOf(row);
+        product.setCategory(categoryMapper.toDomain(category));
+        return product;
+    }
+
+    private Product productOf(ProductRow row) {
+        Product product = new Product();
+        product.setId(row.id());
+        product.setName(row.name());
+        product.setDescription(row.description());
+        product.setPrice(row.price());
+        product.setQuantity(row.quantity());
+        product.setSku(row.sku());
+        product.setActive(row.active());
+        product.setCreatedAt(row.createdAt());
+        product.setUpdatedAt(row.updatedAt());
+        return product;
+    }
+
     /**
      * Converts a domain model to a JPA entity.
      * <p>
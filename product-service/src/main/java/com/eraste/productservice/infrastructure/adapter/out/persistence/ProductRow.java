@@ -0,0 +1,66 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a product joined with its category.
+ * <p>
+ * Built by constructor expressions ({@link ProductJpaRepository} and
+ * {@link ProductSpecifications#rows}): a product and its category are read in one
+ * select, without creating managed entities, dirty-checking snapshots or lazy
+ * proxies. The category columns are null for a product without category.
+ * </p>
+ * <p>
+ * A listing of one category selects the product columns only, through the
+ * {@linkplain #ProductRow(Long, String, String, BigDecimal, Integer, String, Boolean, LocalDateTime, LocalDateTime, Long)
+ * shorter constructor}, and reads the shared category once instead of on every row.
+ * </p>
+ *
+ * @param id                  the product ID
+ * @param name                the product name
+ * @param description         the product description
+ * @param price               the unit price
+ * @param quantity            the quantity in stock
+ * @param sku                 the stock keeping unit
+ * @param active              whether the product is active
+ * @param createdAt           the product creation timestamp
+ * @param updatedAt           the product last update timestamp
+ * @param categoryId          the category ID, or null
+ * @param categoryName        the category name
+ * @param categoryDescription the category description
+ * @param categoryCode        the category code
+ * @param categoryActive      whether the category is active
+ * @param categoryCreatedAt   the category creation timestamp
+ * @param categoryUpdatedAt   the category last update timestamp
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ProductMapper#toDomain(ProductRow)
+ */
+record ProductRow(Long id, String name, String description, BigDecimal price, Integer quantity, String sku,
+                  Boolean active, LocalDateTime createdAt, LocalDateTime updatedAt,
+                  Long categoryId, String categoryName, String categoryDescription, String categoryCode,
+                  Boolean categoryActive, LocalDateTime categoryCreatedAt, LocalDateTime categoryUpdatedAt) {
+
+    /**
+     * Creates a projection of the product columns only, leaving the category columns
+     * other than its ID null.
+     *
+     * @param id          the product ID
+     * @param name        the product name
+     * @param description the product description
+     * @param price       the unit price
+     * @param quantity    the quantity in stock
+     * @param sku         the stock keeping unit
+     * @param active      whether the product is active
+     * @param createdAt   the product creation timestamp
+     * @param updatedAt   the product last update timestamp
+     * @param categoryId  the category ID, or null
+     */
+    ProductRow(Long id, String name, String description, BigDecimal price, Integer quantity, String sku,
+               Boolean active, LocalDateTime createdAt, LocalDateTime updatedAt, Long categoryId) {
+        this(id, name, description, price, quantity, sku, active, createdAt, updatedAt,
+                categoryId, null, null, null, null, null, null);
+    }
+}
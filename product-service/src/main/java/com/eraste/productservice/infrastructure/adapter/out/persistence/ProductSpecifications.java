@@ -0,0 +1,163 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.productservice.domain.model.ProductCursor;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.ProductSort;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the dynamic JPA queries behind the product query API.
+ * <p>
+ * Filters translate into equality and range predicates; which of them an index
+ * serves is described on {@link ProductJpaEntity}. Pagination uses keyset predicates
+ * rather than offsets: {@code sort >= value AND (sort > value OR id > lastId)}, the
+ * expanded form of {@code (sort, id) > (value, lastId)}. The leading {@code sort >= value}
+ * bound is redundant but lets the database seek the {@code (sort, id)} index to the
+ * cursor, so a page does not read the rows of the pages before it. Every sort column is
+ * {@code NOT NULL}, as a null could not be compared to the cursor.
+ * </p>
+ * <p>
+ * Pages are read as {@link ProductRow} projections through {@link #rows}; the
+ * {@link #matching} specification still fetches the category when it is applied
+ * to an entity query.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ProductQuery
+ */
+final class ProductSpecifications {
+
+    private static final String ID = "id";
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Creates the projection query selecting the products of a query page, with
+     * their category, sorted by the query sort.
+     * <p>
+     * The row limit is not part of a criteria query; callers apply it with
+     * {@code setMaxResults}.
+     * </p>
+     *
+     * @param query the product query
+     * @param cb    the criteria builder
+     * @return the projection query
+     */
+    static CriteriaQuery<ProductRow> rows(ProductQuery query, CriteriaBuilder cb) {
+        CriteriaQuery<ProductRow> criteriaQuery = cb.createQuery(ProductRow.class);
+        Root<ProductJpaEntity> root = criteriaQuery.from(ProductJpaEntity.class);
+        Join<ProductJpaEntity, CategoryJpaEntity> category = root.join("category", JoinType.LEFT);
+        return criteriaQuery
+                .select(cb.construct(ProductRow.class,
+                        root.get(ID), root.get("name"), root.get("description"), root.get("price"),
+                        root.get("quantity"), root.get("sku"), root.get("active"),
+                        root.get("createdAt"), root.get("updatedAt"),
+                        category.get(ID), category.get("name"), category.get("description"),
+                        category.get("code"), category.get("active"),
+                        category.get("createdAt"), category.get("updatedAt")))
+                .where(matching(query).toPredicate(root, criteriaQuery, cb))
+                .orderBy(QueryUtils.toOrders(sortOf(query.getSort()), root, cb));
+    }
+
+    /**
+     * Creates the specification selecting the products of a query page.
+     * <p>
+     * On an entity query the category is fetched in the same select to avoid one
+     * extra select per product. Count and projection queries join it themselves.
+     * </p>
+     *
+     * @param query the product query
+     * @return the specification
+     */
+    static Specification<ProductJpaEntity> matching(ProductQuery query) {
+        return (root, criteriaQuery, cb) -> {
+            if (ProductJpaEntity.class.equals(criteriaQuery.getResultType())) {
+                root.fetch("category", JoinType.LEFT);
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (query.getCategoryId() != null) {
+                predicates.add(cb.equal(root.get("category").get(ID), query.getCategoryId()));
+            }
+            if (query.getActive() != null) {
+                predicates.add(cb.equal(root.get("active"), query.getActive()));
+            }
+            if (query.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), query.getMinPrice()));
+            }
+            if (query.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), query.getMaxPrice()));
+            }
+            if (query.getInStock() != null) {
+                predicates.add(query.getInStock()
+                        ? cb.greaterThan(root.get("quantity"), 0)
+                        : cb.lessThanOrEqualTo(root.get("quantity"), 0));
+            }
+            if (query.getCursor() != null) {
+                predicates.add(after(root, cb, query.getCursor()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Creates the JPA sort matching a product sort, with the ID as tie-breaker.
+     *
+     * @param sort the product sort
+     * @return the JPA sort
+     */
+    static Sort sortOf(ProductSort sort) {
+        Sort.Direction direction = sort.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (ID.equals(sort.getProperty())) {
+            return Sort.by(direction, ID);
+        }
+        return Sort.by(direction, sort.getProperty(), ID);
+    }
+
+    /**
+     * Creates the keyset predicate selecting the rows positioned after a cursor.
+     * <p>
+     * The disjunction alone is not an index range: the bound on the sort column is
+     * repeated as a conjunct that the index can seek on.
+     * </p>
+     *
+     * @param root   the query root
+     * @param cb     the criteria builder
+     * @param cursor the cursor
+     * @return the keyset predicate
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(Root<ProductJpaEntity> root, CriteriaBuilder cb, ProductCursor cursor) {
+        ProductSort sort = cursor.getSort();
+        Path<Long> id = root.get(ID);
+        Predicate idAfter = sort.isAscending()
+                ? cb.greaterThan(id, cursor.getId())
+                : cb.lessThan(id, cursor.getId());
+        if (ID.equals(sort.getProperty())) {
+            return idAfter;
+        }
+        Path<Comparable> field = root.get(sort.getProperty());
+        Comparable value = (Comparable) cursor.getValue();
+        Predicate fieldFrom = sort.isAscending()
+                ? cb.greaterThanOrEqualTo(field, value)
+                : cb.lessThanOrEqualTo(field, value);
+        Predicate fieldAfter = sort.isAscending()
+                ? cb.greaterThan(field, value)
+                : cb.lessThan(field, value);
+        return cb.and(fieldFrom, cb.or(fieldAfter, cb.and(cb.equal(field, value), idAfter)));
+    }
+}
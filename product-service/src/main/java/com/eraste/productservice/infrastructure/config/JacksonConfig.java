@@ -0,0 +1,39 @@
+package com.eraste.productservice.infrastructure.config;
+
+import com.eraste.productservice.domain.model.StockLevel;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the JSON representation of domain objects written as-is.
+ * <p>
+ * Catalog events carry domain objects as payload. Mix-ins keep their derived
+ * accessors out of the JSON without annotating the domain model.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers the mix-ins of the domain objects published in catalog events.
+     *
+     * @return the object mapper customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer domainMixIns() {
+        return builder -> builder.mixIn(StockLevel.class, StockLevelMixIn.class);
+    }
+
+    /**
+     * Hides {@link StockLevel#isIdentifiedById()}, which only restates whether the ID is set.
+     */
+    @JsonIgnoreProperties("identifiedById")
+    private abstract static class StockLevelMixIn {
+    }
+}
@@ -0,0 +1,27 @@
+-- Catalog tables, as mapped by CategoryJpaEntity and ProductJpaEntity.
+-- IF NOT EXISTS lets databases previously managed by ddl-auto=update be baselined.
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    code        VARCHAR(50)  NOT NULL,
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_categories_code UNIQUE (code)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100)   NOT NULL,
+    description VARCHAR(500),
+    price       NUMERIC(10, 2) NOT NULL,
+    quantity    INTEGER        NOT NULL,
+    sku         VARCHAR(50)    NOT NULL,
+    category_id BIGINT,
+    active      BOOLEAN        NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_products_sku UNIQUE (sku),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
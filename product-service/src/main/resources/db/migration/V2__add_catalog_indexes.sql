@@ -0,0 +1,16 @@
+-- findBySku / existsBySku and findByCode / existsByCode are served by the unique
+-- constraints of V1.
+
+-- Product query API (GET /products/search): optional equality filter, then sort column
+-- and id tie-breaker for keyset pagination.
+CREATE INDEX IF NOT EXISTS idx_products_price_id ON products (price, id);
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
+CREATE INDEX IF NOT EXISTS idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_category_id ON products (category_id, id);
+CREATE INDEX IF NOT EXISTS idx_products_category_price_id ON products (category_id, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_category_name_id ON products (category_id, name, id);
+CREATE INDEX IF NOT EXISTS idx_products_category_created_at_id ON products (category_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_id ON products (active, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_price_id ON products (active, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_name_id ON products (active, name, id);
+CREATE INDEX IF NOT EXISTS idx_products_active_created_at_id ON products (active, created_at, id);
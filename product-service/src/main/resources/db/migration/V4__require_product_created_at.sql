@@ -0,0 +1,5 @@
+-- The created_at sort of the product query API pages with a (created_at, id) keyset:
+-- a null creation date could neither be compared nor encoded in a cursor.
+UPDATE products SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE products ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE products ALTER COLUMN created_at SET NOT NULL;
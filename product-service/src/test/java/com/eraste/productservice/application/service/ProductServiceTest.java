@@ -0,0 +1,256 @@
+package com.eraste.productservice.application.service;
+
+import com.eraste.common.exception.ConflictException;
+import com.eraste.common.exception.ResourceNotFoundException;
+import com.eraste.productservice.domain.model.BulkStockUpdateResult;
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.model.CatalogEventType;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
+import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductCursor;
+import com.eraste.productservice.domain.model.ProductPage;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.ProductSort;
+import com.eraste.productservice.domain.model.StockLevel;
+import com.eraste.productservice.domain.port.out.CatalogEventPublisherPort;
+import com.eraste.productservice.domain.port.out.ProductRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ProductService Unit Tests")
+class ProductServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private CatalogEventPublisherPort eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        productService = new ProductService(productRepository, eventPublisher, transactionManager, BATCH_SIZE);
+    }
+
+    @Nested
+    @DisplayName("Bulk Stock Update")
+    class UpdateStockBulk {
+
+        @Test
+        @DisplayName("Should apply the levels in chunks of the batch size, one transaction each")
+        void appliesLevelsInChunks() {
+            List<StockLevel> levels = List.of(
+                    new StockLevel(1L, null, 10),
+                    new StockLevel(null, "SKU-2", 20),
+                    new StockLevel(3L, null, 30),
+                    new StockLevel(null, "SKU-4", 40),
+                    new StockLevel(5L, null, 50));
+            when(productRepository.updateStockLevels(anyList())).thenReturn(List.of());
+
+            BulkStockUpdateResult result = productService.updateStockBulk(levels);
+
+            assertEquals(5, result.getRequested());
+            assertEquals(5, result.getUpdated());
+            verify(productRepository).updateStockLevels(levels.subList(0, 2));
+            verify(productRepository).updateStockLevels(levels.subList(2, 4));
+            verify(productRepository).updateStockLevels(levels.subList(4, 5));
+            verify(transactionManager, times(3)).getTransaction(any());
+            verify(transactionManager, times(3)).commit(any());
+            verify(transactionManager, never()).rollback(any());
+        }
+
+        @Test
+        @DisplayName("Should report unknown IDs and SKUs and count only the matched levels")
+        void reportsUnknownIdsAndSkus() {
+            StockLevel known = new StockLevel(1L, null, 10);
+            StockLevel unknownId = new StockLevel(99L, null, 20);
+            StockLevel unknownSku = new StockLevel(null, "SKU-404", 30);
+            when(productRepository.updateStockLevels(List.of(known, unknownId))).thenReturn(List.of(unknownId));
+            when(productRepository.updateStockLevels(List.of(unknownSku))).thenReturn(List.of(unknownSku));
+
+            BulkStockUpdateResult result = productService.updateStockBulk(List.of(known, unknownId, unknownSku));
+
+            assertEquals(3, result.getRequested());
+            assertEquals(1, result.getUpdated());
+            assertEquals(List.of(99L), result.getUnknownIds());
+            assertEquals(List.of("SKU-404"), result.getUnknownSkus());
+        }
+
+        @Test
+        @DisplayName("Should publish only the applied levels and nothing for a chunk without matches")
+        void publishesAppliedLevelsOnly() {
+            StockLevel known = new StockLevel(1L, null, 10);
+            StockLevel unknownId = new StockLevel(99L, null, 20);
+            StockLevel unknownSku = new StockLevel(null, "SKU-404", 30);
+            when(productRepository.updateStockLevels(List.of(known, unknownId))).thenReturn(List.of(unknownId));
+            when(productRepository.updateStockLevels(List.of(unknownSku))).thenReturn(List.of(unknownSku));
+
+            productService.updateStockBulk(List.of(known, unknownId, unknownSku));
+
+            ArgumentCaptor<CatalogEvent> event = ArgumentCaptor.forClass(CatalogEvent.class);
+            verify(eventPublisher, times(1)).publish(event.capture());
+            assertEquals(CatalogEventType.STOCK_BATCH_CHANGED, event.getValue().getType());
+            assertEquals(List.of(known), event.getValue().getPayload());
+        }
+
+        @Test
+        @DisplayName("Should keep earlier chunks committed when a later chunk fails")
+        void commitsEachChunkIndependently() {
+            List<StockLevel> levels = List.of(
+                    new StockLevel(1L, null, 10),
+                    new StockLevel(2L, null, 20),
+                    new StockLevel(3L, null, 30));
+            when(productRepository.updateStockLevels(levels.subList(0, 2))).thenReturn(List.of());
+            when(productRepository.updateStockLevels(levels.subList(2, 3)))
+                    .thenThrow(new IllegalStateException("database unavailable"));
+
+            assertThrows(IllegalStateException.class, () -> productService.updateStockBulk(levels));
+
+            verify(transactionManager, times(2)).getTransaction(any());
+            verify(transactionManager, times(1)).commit(any());
+            verify(transactionManager, times(1)).rollback(any());
+            verify(eventPublisher, times(1)).publish(any(CatalogEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should neither open a transaction nor publish for an empty payload")
+        void ignoresEmptyPayload() {
+            BulkStockUpdateResult result = productService.updateStockBulk(List.of());
+
+            assertEquals(0, result.getRequested());
+            assertEquals(0, result.getUpdated());
+            verifyNoInteractions(productRepository, eventPublisher, transactionManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("Adjust Stock")
+    class AdjustStock {
+
+        @Test
+        @DisplayName("Should return the new quantity and publish it")
+        void adjustsStock() {
+            when(productRepository.adjustStock(1L, -2, NegativeStockPolicy.REJECT)).thenReturn(OptionalInt.of(8));
+
+            assertEquals(8, productService.adjustStock(1L, -2, NegativeStockPolicy.REJECT));
+
+            ArgumentCaptor<CatalogEvent> event = ArgumentCaptor.forClass(CatalogEvent.class);
+            verify(eventPublisher).publish(event.capture());
+            assertEquals(CatalogEventType.STOCK_CHANGED, event.getValue().getType());
+            assertEquals(1L, event.getValue().getResourceId());
+            verify(productRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should throw ConflictException when the stock is insufficient")
+        void rejectsInsufficientStock() {
+            Product product = new Product(1L, "Widget", null, new BigDecimal("9.99"), 3, "SKU-1", null);
+            when(productRepository.adjustStock(1L, -5, NegativeStockPolicy.REJECT)).thenReturn(OptionalInt.empty());
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+            ConflictException ex = assertThrows(ConflictException.class,
+                    () -> productService.adjustStock(1L, -5, NegativeStockPolicy.REJECT));
+
+            assertEquals("Insufficient stock for product 1: 3 in stock, adjustment of -5 rejected", ex.getMessage());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when the product does not exist")
+        void unknownProduct() {
+            when(productRepository.adjustStock(99L, 1, NegativeStockPolicy.ALLOW)).thenReturn(OptionalInt.empty());
+            when(productRepository.findById(99L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class,
+                    () -> productService.adjustStock(99L, 1, NegativeStockPolicy.ALLOW));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Products")
+    class SearchProducts {
+
+        @Test
+        @DisplayName("Should fetch one extra product and return a cursor after the last one of the page")
+        void returnsNextCursor() {
+            ProductQuery query = query(ProductSort.PRICE_ASC, 2);
+            when(productRepository.search(query, 3)).thenReturn(List.of(
+                    product(1L, "1.00"), product(2L, "2.00"), product(3L, "3.00")));
+
+            ProductPage page = productService.searchProducts(query);
+
+            assertEquals(List.of(1L, 2L), page.getItems().stream().map(Product::getId).toList());
+            assertTrue(page.hasNext());
+            ProductCursor cursor = ProductCursor.decode(page.getNextCursor(), ProductSort.PRICE_ASC);
+            assertEquals(2L, cursor.getId());
+            assertEquals(new BigDecimal("2.00"), cursor.getValue());
+        }
+
+        @Test
+        @DisplayName("Should return no cursor on the last page")
+        void lastPage() {
+            ProductQuery query = query(ProductSort.ID, 2);
+            when(productRepository.search(query, 3)).thenReturn(List.of(product(1L, "1.00"), product(2L, "2.00")));
+
+            ProductPage page = productService.searchProducts(query);
+
+            assertEquals(2, page.getItems().size());
+            assertFalse(page.hasNext());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Should leave the caller's query untouched")
+        void doesNotMutateQuery() {
+            ProductQuery query = query(ProductSort.ID, 5);
+            when(productRepository.search(any(), anyInt())).thenAnswer(invocation -> {
+                assertEquals(5, invocation.<ProductQuery>getArgument(0).getPageSize());
+                return List.of();
+            });
+
+            productService.searchProducts(query);
+
+            assertEquals(5, query.getPageSize());
+            verify(productRepository).search(query, 6);
+        }
+
+        private ProductQuery query(ProductSort sort, int pageSize) {
+            ProductQuery query = new ProductQuery();
+            query.setSort(sort);
+            query.setPageSize(pageSize);
+            return query;
+        }
+
+        private Product product(Long id, String price) {
+            return new Product(id, "Product " + id, null, new BigDecimal(price), 1, "SKU-" + id, null);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.eraste.productservice.domain.model;
+
+import com.eraste.common.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ProductCursor Unit Tests")
+class ProductCursorTest {
+
+    private static Product product() {
+        Product product = new Product(42L, "Pipe | wrench é", null, new BigDecimal("1234.50"), 3, "SKU-42", null);
+        product.setCreatedAt(LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123_456_789));
+        return product;
+    }
+
+    @Nested
+    @DisplayName("Encode and Decode")
+    class RoundTrip {
+
+        @ParameterizedTest
+        @EnumSource(ProductSort.class)
+        @DisplayName("Should decode the sort value and ID it encoded")
+        void roundTrips(ProductSort sort) {
+            String encoded = ProductCursor.after(sort, product()).encode();
+
+            ProductCursor decoded = ProductCursor.decode(encoded, sort);
+
+            assertEquals(sort, decoded.getSort());
+            assertEquals(42L, decoded.getId());
+            assertEquals(sort.valueOf(product()), decoded.getValue());
+        }
+
+        @ParameterizedTest
+        @EnumSource(ProductSort.class)
+        @DisplayName("Should produce a URL-safe string")
+        void isUrlSafe(ProductSort sort) {
+            String encoded = ProductCursor.after(sort, product()).encode();
+
+            assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode Errors")
+    class DecodeErrors {
+
+        @Test
+        @DisplayName("Should reject a cursor created for another sort")
+        void rejectsOtherSort() {
+            String encoded = ProductCursor.after(ProductSort.PRICE_ASC, product()).encode();
+
+            BadRequestException ex = assertThrows(BadRequestException.class,
+                    () -> ProductCursor.decode(encoded, ProductSort.PRICE_DESC));
+            assertEquals("Cursor does not match sort: -price", ex.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"not base64!", "cHJpY2U", "cHJpY2V8eHw5Ljk5", "cHJpY2V8NDJ8bm90LWEtcHJpY2U"})
+        @DisplayName("Should reject a malformed cursor")
+        void rejectsMalformedCursor(String encoded) {
+            BadRequestException ex = assertThrows(BadRequestException.class,
+                    () -> ProductCursor.decode(encoded, ProductSort.PRICE_ASC));
+            assertEquals("Invalid cursor", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor whose creation date cannot be parsed")
+        void rejectsBadDate() {
+            String encoded = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("createdAt|1|yesterday".getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(BadRequestException.class, () -> ProductCursor.decode(encoded, ProductSort.CREATED_ASC));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort Parameter")
+    class SortParameter {
+
+        @Test
+        @DisplayName("Should default to the ID sort")
+        void defaultsToId() {
+            assertEquals(ProductSort.ID, ProductSort.fromParameter(null));
+            assertEquals(ProductSort.ID, ProductSort.fromParameter(" "));
+        }
+
+        @Test
+        @DisplayName("Should resolve ascending and descending sorts")
+        void resolvesSorts() {
+            assertEquals(ProductSort.PRICE_DESC, ProductSort.fromParameter("-price"));
+            assertEquals(ProductSort.CREATED_ASC, ProductSort.fromParameter(" createdAt "));
+        }
+
+        @Test
+        @DisplayName("Should reject an unsupported sort with a bad request")
+        void rejectsUnknownSort() {
+            assertThrows(BadRequestException.class, () -> ProductSort.fromParameter("quantity"));
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.eraste.productservice.infrastructure.adapter.out.event;
+
+import com.eraste.productservice.domain.model.CatalogEvent;
+import com.eraste.productservice.domain.model.CatalogEventType;
+import com.eraste.productservice.domain.port.in.CatalogEventSink;
+import com.eraste.productservice.domain.port.in.CatalogEventStreamUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CatalogEventBroadcaster Unit Tests")
+class CatalogEventBroadcasterTest {
+
+    private CatalogEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new CatalogEventBroadcaster(3, 2, Duration.ofHours(1), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Subscribe")
+    class Subscribe {
+
+        @Test
+        @DisplayName("Should deliver published events in order with their sequence numbers")
+        void deliversEvents() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(null, sink);
+            assertEquals("heartbeat", sink.next());
+
+            broadcaster.publish(deleted(10L));
+            broadcaster.publish(deleted(11L));
+
+            assertEquals("1:10", sink.next());
+            assertEquals("2:11", sink.next());
+        }
+
+        @Test
+        @DisplayName("Should replay the events published after the last event ID")
+        void replaysMissedEvents() throws InterruptedException {
+            broadcaster.publish(deleted(10L));
+            broadcaster.publish(deleted(11L));
+            broadcaster.publish(deleted(12L));
+
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(1L, sink);
+
+            assertEquals("2:11", sink.next());
+            assertEquals("3:12", sink.next());
+            assertNull(sink.poll());
+        }
+
+        @Test
+        @DisplayName("Should reset a subscriber that fell behind the replay buffer")
+        void resetsStaleSubscriber() throws InterruptedException {
+            for (long id = 1; id <= 5; id++) {
+                broadcaster.publish(deleted(id));
+            }
+
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(1L, sink);
+
+            assertEquals("reset:5", sink.next());
+        }
+
+        @Test
+        @DisplayName("Should reset a subscriber sending an unknown event ID")
+        void resetsUnknownEventId() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(-1L, sink);
+
+            assertEquals("reset:0", sink.next());
+        }
+
+        @Test
+        @DisplayName("Should stop delivering events once the subscription is cancelled")
+        void cancelStopsDelivery() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            CatalogEventStreamUseCase.Subscription subscription = broadcaster.subscribe(null, sink);
+            assertEquals("heartbeat", sink.next());
+
+            subscription.cancel();
+            broadcaster.publish(deleted(10L));
+
+            assertNull(sink.poll());
+            assertEquals(0, broadcaster.getSubscriberCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("Should disconnect a subscriber whose queue overflows without blocking publishers")
+        void disconnectsSlowSubscriber() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingSink slow = new RecordingSink() {
+                @Override
+                public void heartbeat() {
+                    super.heartbeat();
+                    await(release);
+                }
+            };
+            broadcaster.subscribe(null, slow);
+            assertEquals("heartbeat", slow.next());
+
+            for (long id = 1; id <= 4; id++) {
+                broadcaster.publish(deleted(id));
+            }
+            assertEquals(0, broadcaster.getSubscriberCount());
+            release.countDown();
+
+            assertEquals("1:1", slow.next());
+            assertEquals("2:2", slow.next());
+            assertEquals("complete", slow.next());
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish")
+    class Publish {
+
+        @Test
+        @DisplayName("Should broadcast only after the surrounding transaction commits")
+        void publishesAfterCommit() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(null, sink);
+            assertEquals("heartbeat", sink.next());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                broadcaster.publish(deleted(10L));
+                assertNull(sink.poll());
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertEquals("1:10", sink.next());
+        }
+
+        @Test
+        @DisplayName("Should drop the events of a rolled back transaction")
+        void dropsRolledBackEvents() throws InterruptedException {
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe(null, sink);
+            assertEquals("heartbeat", sink.next());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                broadcaster.publish(deleted(10L));
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertNull(sink.poll());
+        }
+    }
+
+    private static CatalogEvent deleted(Long id) {
+        return CatalogEvent.deleted(CatalogEventType.PRODUCT_DELETED, id);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sink recording what it receives as short strings.
+     */
+    private static class RecordingSink implements CatalogEventSink {
+
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(long id, CatalogEvent event) {
+            received.add(id + ":" + event.getResourceId());
+        }
+
+        @Override
+        public void reset(long lastEventId) {
+            received.add("reset:" + lastEventId);
+        }
+
+        @Override
+        public void heartbeat() {
+            received.add("heartbeat");
+        }
+
+        @Override
+        public void complete() {
+            received.add("complete");
+        }
+
+        String next() throws InterruptedException {
+            String value = received.poll(5, TimeUnit.SECONDS);
+            assertTrue(value != null, "no event received");
+            return value;
+        }
+
+        String poll() throws InterruptedException {
+            return received.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
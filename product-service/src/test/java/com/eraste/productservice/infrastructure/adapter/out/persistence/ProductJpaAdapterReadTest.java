@@ -0,0 +1,126 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.productservice.domain.model.Category;
+import com.eraste.productservice.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads products with their category through the projections of {@link ProductJpaAdapter}
+ * on an H2 database created by the catalog migrations.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@ContextConfiguration(classes = ProductJpaAdapterReadTest.Config.class)
+@DisplayName("ProductJpaAdapter Read Tests")
+class ProductJpaAdapterReadTest {
+
+    @Autowired
+    private ProductJpaAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categories (id, name, description, code, active)"
+                + " VALUES (1, 'Tools', 'Hand tools', 'TOOLS', true)");
+        jdbcTemplate.update("INSERT INTO categories (id, name, code, active) VALUES (2, 'Garden', 'GARDEN', false)");
+        insert(1, "Hammer", 1L);
+        insert(2, "Anvil", 1L);
+        insert(3, "Rake", 2L);
+        insert(4, "Bucket", null);
+    }
+
+    @Nested
+    @DisplayName("Find By Category")
+    class FindByCategory {
+
+        @Test
+        @DisplayName("Should return the products of the category with the category itself")
+        void returnsProductsWithCategory() {
+            List<Product> products = adapter.findByCategoryId(1L).stream()
+                    .sorted(Comparator.comparing(Product::getId))
+                    .toList();
+
+            assertEquals(List.of("Hammer", "Anvil"), products.stream().map(Product::getName).toList());
+            for (Product product : products) {
+                Category category = product.getCategory();
+                assertEquals(1L, category.getId());
+                assertEquals("Tools", category.getName());
+                assertEquals("Hand tools", category.getDescription());
+                assertEquals("TOOLS", category.getCode());
+                assertTrue(category.getActive());
+            }
+            assertNotSame(products.get(0).getCategory(), products.get(1).getCategory());
+        }
+
+        @Test
+        @DisplayName("Should return an empty list for a category without products")
+        void returnsEmptyCategory() {
+            jdbcTemplate.update("INSERT INTO categories (id, name, code, active) VALUES (3, 'Empty', 'EMPTY', true)");
+
+            assertTrue(adapter.findByCategoryId(3L).isEmpty());
+            assertTrue(adapter.findByCategoryId(99L).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By ID")
+    class FindById {
+
+        @Test
+        @DisplayName("Should read the category in the same projection")
+        void readsCategory() {
+            Product product = adapter.findById(3L).orElseThrow();
+
+            assertEquals("Rake", product.getName());
+            assertEquals("GARDEN", product.getCategory().getCode());
+            assertEquals(false, product.getCategory().getActive());
+        }
+
+        @Test
+        @DisplayName("Should leave the category of an uncategorized product null")
+        void readsProductWithoutCategory() {
+            assertNull(adapter.findById(4L).orElseThrow().getCategory());
+        }
+    }
+
+    private void insert(long id, String name, Long categoryId) {
+        jdbcTemplate.update("INSERT INTO products (id, name, price, quantity, sku, category_id, active)"
+                + " VALUES (?, ?, 9.99, 1, ?, ?, true)", id, name, "SKU-" + id, categoryId);
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = ProductJpaEntity.class)
+    @Import({ProductJpaAdapter.class, ProductMapper.class, CategoryMapper.class, ExistenceFilters.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
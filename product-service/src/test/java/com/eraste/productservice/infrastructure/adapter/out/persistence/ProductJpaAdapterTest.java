@@ -0,0 +1,311 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.productservice.domain.model.NegativeStockPolicy;
+import com.eraste.productservice.domain.model.StockLevel;
+import com.eraste.productservice.infrastructure.adapter.out.persistence.ProductJpaAdapter.StockAdjustmentSql;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the JDBC statements of {@link ProductJpaAdapter} against an H2 database
+ * created by the catalog migration.
+ */
+@DisplayName("ProductJpaAdapter JDBC Tests")
+class ProductJpaAdapterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ExistenceFilters filters;
+    private ProductJpaAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/migration/V1__create_catalog_tables.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        filters = new ExistenceFilters(database, new SimpleMeterRegistry(), false, 0.01, 1000, 1);
+        adapter = new ProductJpaAdapter(mock(ProductJpaRepository.class), mock(CategoryJpaRepository.class),
+                new ProductMapper(new CategoryMapper()), jdbcTemplate, mock(EntityManager.class), filters);
+        insertProduct(1L, "SKU-1", 10);
+        insertProduct(2L, "SKU-2", 20);
+        insertProduct(3L, "SKU-3", 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filters.destroy();
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Update Stock Levels")
+    class UpdateStockLevels {
+
+        @Test
+        @DisplayName("Should match levels by ID or by SKU in the same call")
+        void updatesByIdAndBySku() {
+            List<StockLevel> unmatched = adapter.updateStockLevels(List.of(
+                    new StockLevel(1L, null, 11),
+                    new StockLevel(null, "SKU-2", 22)));
+
+            assertTrue(unmatched.isEmpty());
+            assertEquals(11, quantity(1L));
+            assertEquals(22, quantity(2L));
+            assertEquals(30, quantity(3L));
+        }
+
+        @Test
+        @DisplayName("Should prefer the ID when a level carries both an ID and a SKU")
+        void prefersIdOverSku() {
+            List<StockLevel> unmatched = adapter.updateStockLevels(List.of(new StockLevel(1L, "SKU-3", 5)));
+
+            assertTrue(unmatched.isEmpty());
+            assertEquals(5, quantity(1L));
+            assertEquals(30, quantity(3L));
+        }
+
+        @Test
+        @DisplayName("Should report the levels matching no product and still apply the others")
+        void reportsUnmatchedLevels() {
+            StockLevel unknownId = new StockLevel(99L, null, 1);
+            StockLevel unknownSku = new StockLevel(null, "SKU-404", 2);
+
+            List<StockLevel> unmatched = adapter.updateStockLevels(List.of(
+                    unknownSku, new StockLevel(3L, null, 33), unknownId, new StockLevel(null, "SKU-1", 44)));
+
+            assertEquals(List.of(unknownSku, unknownId), unmatched);
+            assertEquals(44, quantity(1L));
+            assertEquals(33, quantity(3L));
+        }
+
+        @Test
+        @DisplayName("Should apply levels in payload order, the last level of a product winning")
+        void appliesInPayloadOrder() {
+            adapter.updateStockLevels(List.of(
+                    new StockLevel(1L, null, 11),
+                    new StockLevel(null, "SKU-1", 12),
+                    new StockLevel(null, "SKU-2", 21),
+                    new StockLevel(2L, null, 22),
+                    new StockLevel(3L, null, 31),
+                    new StockLevel(3L, null, 32)));
+
+            assertEquals(12, quantity(1L));
+            assertEquals(22, quantity(2L));
+            assertEquals(32, quantity(3L));
+        }
+
+        @Test
+        @DisplayName("Should refresh updated_at of the updated rows only")
+        void touchesUpdatedRowsOnly() {
+            adapter.updateStockLevels(List.of(new StockLevel(2L, null, 0)));
+
+            assertEquals(1, (int) jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM products WHERE updated_at IS NOT NULL", Integer.class));
+            assertEquals(0, quantity(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Adjust Stock")
+    class AdjustStock {
+
+        @Test
+        @DisplayName("Should add the delta and return the new quantity")
+        void addsDelta() {
+            assertEquals(OptionalInt.of(15), adapter.adjustStock(1L, 5, NegativeStockPolicy.REJECT));
+            assertEquals(OptionalInt.of(12), adapter.adjustStock(1L, -3, NegativeStockPolicy.REJECT));
+            assertEquals(12, quantity(1L));
+        }
+
+        @Test
+        @DisplayName("Should return empty for an unknown product")
+        void unknownProduct() {
+            assertTrue(adapter.adjustStock(99L, 1, NegativeStockPolicy.ALLOW).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject a result below zero and leave the quantity unchanged")
+        void rejectsNegativeResult() {
+            assertTrue(adapter.adjustStock(1L, -11, NegativeStockPolicy.REJECT).isEmpty());
+            assertEquals(10, quantity(1L));
+            assertEquals(OptionalInt.of(0), adapter.adjustStock(1L, -10, NegativeStockPolicy.REJECT));
+        }
+
+        @Test
+        @DisplayName("Should clamp a result below zero when flooring at zero")
+        void floorsAtZero() {
+            assertEquals(OptionalInt.of(0), adapter.adjustStock(1L, -25, NegativeStockPolicy.FLOOR_AT_ZERO));
+            assertEquals(0, quantity(1L));
+        }
+
+        @Test
+        @DisplayName("Should let the quantity go below zero only when explicitly allowed")
+        void allowsNegativeResult() {
+            assertEquals(OptionalInt.of(-5), adapter.adjustStock(1L, -15, NegativeStockPolicy.ALLOW));
+            assertEquals(-5, quantity(1L));
+        }
+
+        @Test
+        @DisplayName("Should fall back to update then select on other databases")
+        void updatesThenSelectsOnOtherDatabases() {
+            ProductJpaAdapter fallback = new ProductJpaAdapter(mock(ProductJpaRepository.class),
+                    mock(CategoryJpaRepository.class), new ProductMapper(new CategoryMapper()),
+                    new JdbcTemplate(renamedDatabase("MySQL")), mock(EntityManager.class), filters);
+
+            assertEquals(OptionalInt.of(7), fallback.adjustStock(1L, -3, NegativeStockPolicy.REJECT));
+            assertTrue(fallback.adjustStock(1L, -8, NegativeStockPolicy.REJECT).isEmpty());
+            assertEquals(OptionalInt.of(0), fallback.adjustStock(1L, -8, NegativeStockPolicy.FLOOR_AT_ZERO));
+            assertEquals(OptionalInt.of(-1), fallback.adjustStock(1L, -1, NegativeStockPolicy.ALLOW));
+            assertTrue(fallback.adjustStock(99L, 1, NegativeStockPolicy.ALLOW).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should never lose a concurrent adjustment")
+        void concurrentAdjustmentsAreAtomic() throws Exception {
+            runConcurrently(8, 50, () -> adapter.adjustStock(3L, 1, NegativeStockPolicy.REJECT));
+
+            assertEquals(430, quantity(3L));
+        }
+
+        @Test
+        @DisplayName("Should never oversell under concurrent decrements")
+        void concurrentDecrementsNeverGoNegative() throws Exception {
+            AtomicInteger accepted = new AtomicInteger();
+
+            runConcurrently(8, 10, () -> {
+                if (adapter.adjustStock(2L, -1, NegativeStockPolicy.REJECT).isPresent()) {
+                    accepted.incrementAndGet();
+                }
+            });
+
+            assertEquals(20, accepted.get());
+            assertEquals(0, quantity(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Stock Adjustment SQL")
+    class StockAdjustmentStatements {
+
+        @Test
+        @DisplayName("Should return the new quantity with RETURNING on PostgreSQL")
+        void postgresqlReturning() {
+            StockAdjustmentSql sql = StockAdjustmentSql.forDatabase("PostgreSQL");
+
+            assertTrue(sql.returnsQuantity());
+            assertEquals("UPDATE products SET quantity = quantity + ?, updated_at = ? WHERE id = ?"
+                    + " AND quantity + ? >= 0 RETURNING quantity", sql.statement(NegativeStockPolicy.REJECT));
+            assertEquals("UPDATE products SET quantity = GREATEST(quantity + ?, 0), updated_at = ? WHERE id = ?"
+                    + " RETURNING quantity", sql.statement(NegativeStockPolicy.FLOOR_AT_ZERO));
+            assertEquals("UPDATE products SET quantity = quantity + ?, updated_at = ? WHERE id = ?"
+                    + " RETURNING quantity", sql.statement(NegativeStockPolicy.ALLOW));
+        }
+
+        @Test
+        @DisplayName("Should read the new quantity from FINAL TABLE on H2")
+        void h2FinalTable() {
+            StockAdjustmentSql sql = StockAdjustmentSql.forDatabase("H2");
+
+            assertTrue(sql.returnsQuantity());
+            assertTrue(sql.statement(NegativeStockPolicy.REJECT).startsWith("SELECT quantity FROM FINAL TABLE (UPDATE"));
+        }
+
+        @Test
+        @DisplayName("Should issue a plain update on other databases")
+        void plainUpdateElsewhere() {
+            StockAdjustmentSql sql = StockAdjustmentSql.forDatabase("MySQL");
+
+            assertFalse(sql.returnsQuantity());
+            assertTrue(sql.statement(NegativeStockPolicy.ALLOW).startsWith("UPDATE products"));
+        }
+    }
+
+    private void runConcurrently(int threads, int callsPerThread, Runnable call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < callsPerThread; i++) {
+                        call.run();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wraps the test database so that it reports another product name, to exercise the
+     * statements used on databases without UPDATE ... RETURNING.
+     */
+    private DataSource renamedDatabase(String productName) {
+        return proxy(DataSource.class, database, (ds, method, args) -> {
+            Object result = method.invoke(database, args);
+            if (!method.getName().equals("getConnection")) {
+                return result;
+            }
+            Connection connection = (Connection) result;
+            return proxy(Connection.class, connection, (con, conMethod, conArgs) -> {
+                Object conResult = conMethod.invoke(connection, conArgs);
+                if (!conMethod.getName().equals("getMetaData")) {
+                    return conResult;
+                }
+                DatabaseMetaData metaData = (DatabaseMetaData) conResult;
+                return proxy(DatabaseMetaData.class, metaData, (md, mdMethod, mdArgs) ->
+                        mdMethod.getName().equals("getDatabaseProductName")
+                                ? productName
+                                : mdMethod.invoke(metaData, mdArgs));
+            });
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private void insertProduct(long id, String sku, int quantity) {
+        jdbcTemplate.update("INSERT INTO products (id, name, price, quantity, sku, active) VALUES (?, ?, 9.99, ?, ?, true)",
+                id, "Product " + id, quantity, sku);
+    }
+
+    private int quantity(long id) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM products WHERE id = ?", Integer.class, id);
+    }
+}
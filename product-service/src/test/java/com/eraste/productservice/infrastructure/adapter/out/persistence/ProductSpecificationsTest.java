@@ -0,0 +1,175 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.productservice.domain.model.Product;
+import com.eraste.productservice.domain.model.ProductCursor;
+import com.eraste.productservice.domain.model.ProductQuery;
+import com.eraste.productservice.domain.model.ProductSort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pages through the products of an H2 database with every sort, two rows at a time,
+ * and checks that the keyset predicates neither skip nor repeat a row, ties included.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@ContextConfiguration(classes = ProductSpecificationsTest.Config.class)
+@DisplayName("ProductSpecifications Keyset Tests")
+class ProductSpecificationsTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private ProductJpaAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO categories (id, name, code, active) VALUES (1, 'Tools', 'TOOLS', true)");
+        jdbcTemplate.update("INSERT INTO categories (id, name, code, active) VALUES (2, 'Garden', 'GARDEN', true)");
+        // Prices, names and creation dates repeat so that pages break inside ties
+        insert(1, "Hammer", "9.99", 5, 1L, true, 0);
+        insert(2, "Anvil", "49.00", 0, 1L, true, 1);
+        insert(3, "Hammer", "9.99", 3, 2L, false, 1);
+        insert(4, "Rake", "19.50", 0, 2L, true, 1);
+        insert(5, "Anvil", "9.99", 7, null, true, 2);
+        insert(6, "Shovel", "19.50", 2, 2L, true, 0);
+        insert(7, "Hammer", "49.00", 1, 1L, false, 2);
+        insert(8, "Bucket", "4.25", 9, null, true, 3);
+        insert(9, "Rake", "9.99", 4, 1L, true, 3);
+        insert(10, "Bucket", "4.25", 0, 2L, true, 2);
+        insert(11, "Rake", "19.50", 0, null, true, 1);
+    }
+
+    @Nested
+    @DisplayName("Search")
+    class Search {
+
+        @ParameterizedTest
+        @EnumSource(ProductSort.class)
+        @DisplayName("Should return every product once, in sort order, across pages")
+        void pagesThroughAllProducts(ProductSort sort) {
+            assertEquals(expected(sort, product -> true), pageThrough(new ProductQuery(), sort));
+        }
+
+        @ParameterizedTest
+        @EnumSource(ProductSort.class)
+        @DisplayName("Should combine the keyset predicate with the filters")
+        void pagesThroughFilteredProducts(ProductSort sort) {
+            ProductQuery query = new ProductQuery();
+            query.setCategoryId(1L);
+            query.setMinPrice(new BigDecimal("9.99"));
+            query.setInStock(true);
+
+            assertEquals(expected(sort, product -> product.categoryId != null && product.categoryId == 1L
+                            && product.price.compareTo(new BigDecimal("9.99")) >= 0 && product.quantity > 0),
+                    pageThrough(query, sort));
+        }
+
+        @ParameterizedTest
+        @EnumSource(ProductSort.class)
+        @DisplayName("Should apply the active and price range filters")
+        void pagesThroughActiveProductsInPriceRange(ProductSort sort) {
+            ProductQuery query = new ProductQuery();
+            query.setActive(true);
+            query.setMaxPrice(new BigDecimal("19.50"));
+            query.setInStock(false);
+
+            assertEquals(expected(sort, product -> product.active
+                            && product.price.compareTo(new BigDecimal("19.50")) <= 0 && product.quantity <= 0),
+                    pageThrough(query, sort));
+        }
+    }
+
+    /**
+     * Reads all pages of a query the way the product service does, through encoded cursors.
+     */
+    private List<Long> pageThrough(ProductQuery query, ProductSort sort) {
+        query.setSort(sort);
+        List<Long> ids = new ArrayList<>();
+        for (int pages = 0; pages < 20; pages++) {
+            List<Product> page = adapter.search(query, PAGE_SIZE);
+            page.forEach(product -> ids.add(product.getId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            String cursor = ProductCursor.after(sort, page.get(PAGE_SIZE - 1)).encode();
+            query.setCursor(ProductCursor.decode(cursor, sort));
+        }
+        throw new AssertionError("Pagination did not terminate: " + ids);
+    }
+
+    private List<Long> expected(ProductSort sort, Predicate<Row> filter) {
+        Comparator<Row> byValue = switch (sort.getProperty()) {
+            case "price" -> Comparator.comparing((Row row) -> row.price);
+            case "name" -> Comparator.comparing((Row row) -> row.name);
+            case "createdAt" -> Comparator.comparing((Row row) -> row.createdAt);
+            default -> (left, right) -> 0;
+        };
+        Comparator<Row> order = byValue.thenComparing(row -> row.id);
+        if (!sort.isAscending()) {
+            order = order.reversed();
+        }
+        return rows.stream()
+                .filter(filter)
+                .sorted(order)
+                .map(row -> row.id)
+                .collect(Collectors.toList());
+    }
+
+    private void insert(long id, String name, String price, int quantity, Long categoryId, boolean active,
+                        int createdMinutes) {
+        Row row = new Row(id, name, new BigDecimal(price), quantity, categoryId, active,
+                T0.plusMinutes(createdMinutes));
+        rows.add(row);
+        jdbcTemplate.update("INSERT INTO products (id, name, price, quantity, sku, category_id, active, created_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, name, row.price, quantity, "SKU-" + id, categoryId, active, Timestamp.valueOf(row.createdAt));
+    }
+
+    private record Row(long id, String name, BigDecimal price, int quantity, Long categoryId, boolean active,
+                       LocalDateTime createdAt) {
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = ProductJpaEntity.class)
+    @Import({ProductJpaAdapter.class, ProductMapper.class, CategoryMapper.class, ExistenceFilters.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.eraste.productservice.infrastructure.adapter.out.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds the H2 schema of the dev profile with the Flyway migrations. The context only
+ * starts if Hibernate validates the entity mappings against the migrated schema.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@ContextConfiguration(classes = SchemaMigrationTest.Config.class)
+@DisplayName("Schema Migration Tests")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should apply the portable migrations and skip the PostgreSQL-only ones")
+    void appliesPortableMigrations() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertEquals(List.of("1", "2", "4"), applied);
+    }
+
+    @Test
+    @DisplayName("Should create the query indexes of the migrations")
+    void createsQueryIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(TABLE_NAME) = 'products'",
+                String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "idx_products_price_id", "idx_products_category_price_id", "idx_products_active_created_at_id")),
+                () -> "Missing indexes in " + indexes);
+    }
+
+    @Test
+    @DisplayName("Should give every product a creation date, as the created_at keyset requires")
+    void requiresCreationDate() {
+        jdbcTemplate.update("INSERT INTO products (id, name, price, quantity, sku, active)"
+                + " VALUES (1, 'Hammer', 9.99, 1, 'SKU-1', true)");
+
+        assertNotNull(jdbcTemplate.queryForObject("SELECT created_at FROM products WHERE id = 1", Object.class));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "UPDATE products SET created_at = NULL WHERE id = 1"));
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = ProductJpaEntity.class)
+    static class Config {
+    }
+}
@@ -1,25 +1,45 @@
 package com.eraste.userservice.application.service;
 
+import com.eraste.common.exception.BadRequestException;
+import com.eraste.common.exception.ConflictException;
 import com.eraste.common.exception.ResourceNotFoundException;
 import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import com.eraste.userservice.domain.model.UserCursor;
+import com.eraste.userservice.domain.model.UserImportRejection;
+import com.eraste.userservice.domain.model.UserImportResult;
+import com.eraste.userservice.domain.model.UserImportRow;
+import com.eraste.userservice.domain.model.UserPage;
+import com.eraste.userservice.domain.model.UserSuggestion;
 import com.eraste.userservice.domain.port.in.UserUseCase;
 import com.eraste.userservice.domain.port.out.UserRepositoryPort;
+import com.eraste.userservice.domain.port.out.UserSuggestionIndexPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Application service implementing user use cases.
  * <p>
  * This service acts as the orchestrator between the domain layer and infrastructure.
  * It implements the {@link UserUseCase} input port and uses the {@link UserRepositoryPort}
- * output port for persistence operations.
+ * output port for persistence operations. Every write is also reported to the
+ * {@link UserSuggestionIndexPort}, which answers autocomplete lookups.
  * </p>
  * <p>
  * All methods are transactional by default. Read operations use read-only transactions
- * for better performance.
+ * for better performance. Single-user lookups only join an existing transaction: they are
+ * mostly served from the user cache, and must not check out a connection for it.
  * </p>
  *
  * @author Eraste
@@ -32,41 +52,57 @@ import java.util.Optional;
 @Transactional
 public class UserService implements UserUseCase {
 
+    /** Number of attempts at a chunk of an import that races with concurrent sign-ups. */
+    private static final int IMPORT_CHUNK_ATTEMPTS = 3;
+
     private final UserRepositoryPort userRepository;
+    private final UserSuggestionIndexPort suggestionIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int importBatchSize;
+    private final int maxReportedRejections;
 
     /**
      * Constructs a UserService with the required repository port.
      *
-     * @param userRepository the repository port for user persistence operations
+     * @param userRepository        the repository port for user persistence operations
+     * @param suggestionIndex       the index port kept in sync for autocomplete lookups
+     * @param transactionManager    the transaction manager used for chunked imports
+     * @param importBatchSize       the number of users inserted per transaction by an import
+     * @param maxReportedRejections the number of rejected records an import reports with their reason
      */
-    public UserService(UserRepositoryPort userRepository) {
+    public UserService(UserRepositoryPort userRepository,
+                       UserSuggestionIndexPort suggestionIndex,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${users.import.batch-size:1000}") int importBatchSize,
+                       @Value("${users.import.max-reported-rejections:1000}") int maxReportedRejections) {
         this.userRepository = userRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importBatchSize = importBatchSize;
+        this.maxReportedRejections = maxReportedRejections;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Validates that username and email are unique before creating the user.
+     * Uniqueness of username and email is left to the database constraints: the
+     * insert is attempted directly, and a violation is reported by the repository.
      * </p>
      *
-     * @throws IllegalArgumentException if username or email already exists
+     * @throws ConflictException if username or email already exists
      */
     @Override
     public User createUser(User user) {
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new IllegalArgumentException("Username already exists: " + user.getUsername());
-        }
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + user.getEmail());
-        }
-        return userRepository.save(user);
+        User createdUser = userRepository.save(user);
+        suggestionIndex.put(createdUser);
+        return createdUser;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
@@ -80,6 +116,33 @@ public class UserService implements UserUseCase {
         return userRepository.findAll();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Fetches one user more than the requested page size to find out
+     * whether a next page exists without running a count query.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserPage getUserPage(UserCursor cursor, int size) {
+        List<User> users = userRepository.findPage(cursor == null ? null : cursor.getId(), size + 1);
+        if (users.size() <= size) {
+            return new UserPage(users, null);
+        }
+        List<User> page = users.subList(0, size);
+        return new UserPage(page, UserCursor.after(page.get(size - 1)).encode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserCount countUsers() {
+        return userRepository.countUsers();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -87,6 +150,7 @@ public class UserService implements UserUseCase {
      * </p>
      *
      * @throws ResourceNotFoundException if no user exists with the given ID
+     * @throws ConflictException if the new username or email belongs to another user
      */
     @Override
     public User updateUser(Long id, User user) {
@@ -98,7 +162,9 @@ public class UserService implements UserUseCase {
         existingUser.setFirstName(user.getFirstName());
         existingUser.setLastName(user.getLastName());
 
-        return userRepository.save(existingUser);
+        User updatedUser = userRepository.save(existingUser);
+        suggestionIndex.put(updatedUser);
+        return updatedUser;
     }
 
     /**
@@ -112,13 +178,14 @@ public class UserService implements UserUseCase {
             throw new ResourceNotFoundException("User", "id", id);
         }
         userRepository.deleteById(id);
+        suggestionIndex.remove(id);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> getUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -127,8 +194,128 @@ public class UserService implements UserUseCase {
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Served by the suggestion index, without touching the database once it is loaded.
+     * </p>
+     *
+     * @throws BadRequestException if the prefix is blank
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserSuggestion> suggestUsers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BadRequestException("Prefix must not be blank");
+        }
+        return suggestionIndex.suggest(prefix.strip(), limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs outside the class-level transaction: each chunk of {@code importBatchSize}
+     * valid records commits on its own. Duplicates are detected per chunk with one
+     * query per unique column, against both the database and the rest of the chunk,
+     * and the remaining users are inserted with a single batch. A chunk that loses a
+     * race with a concurrent sign-up is rolled back and checked again. A chunk that
+     * still fails on its last attempt is reported as rejected, and the import goes on:
+     * the chunks committed before it are part of the result.
+     * </p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserImportResult importUsers(Iterator<UserImportRow> rows) {
+        UserImportResult result = new UserImportResult(maxReportedRejections);
+        List<UserImportRow> chunk = new ArrayList<>(importBatchSize);
+        while (rows.hasNext()) {
+            UserImportRow row = rows.next();
+            result.addReceived();
+            if (row.isRejected()) {
+                result.addRejection(new UserImportRejection(row.getRow(), row.getUsername(), row.getRejectionReason()));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == importBatchSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        return result;
+    }
+
+    /**
+     * Imports a chunk of valid records in its own transaction.
+     * <p>
+     * Every record of a chunk that fails all its attempts is rejected with the last error.
+     * </p>
+     *
+     * @param chunk  the valid records, in import order
+     * @param result the import summary to update
+     */
+    private void importChunk(List<UserImportRow> chunk, UserImportResult result) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<UserImportRejection> duplicates = new ArrayList<>();
+                List<User> created = transactionTemplate.execute(status -> insertNewUsers(chunk, duplicates));
+                result.addCreated(created.size());
+                duplicates.forEach(result::addRejection);
+                suggestionIndex.putAll(created);
+                return;
+            } catch (ConflictException ex) {
+                if (attempt == IMPORT_CHUNK_ATTEMPTS) {
+                    String reason = "Batch rolled back after " + IMPORT_CHUNK_ATTEMPTS + " attempts: " + ex.getMessage();
+                    chunk.forEach(row -> result.addRejection(
+                            new UserImportRejection(row.getRow(), row.getUsername(), reason)));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the records of a chunk whose username and email are still free.
+     *
+     * @param chunk      the valid records, in import order
+     * @param duplicates receives the records rejected as duplicates
+     * @return the users inserted
+     */
+    private List<User> insertNewUsers(List<UserImportRow> chunk, List<UserImportRejection> duplicates) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserImportRow row : chunk) {
+            usernames.add(row.getUser().getUsername());
+            emails.add(row.getUser().getEmail());
+        }
+        Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernames(usernames));
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<User> users = new ArrayList<>(chunk.size());
+        for (UserImportRow row : chunk) {
+            User user = row.getUser();
+            if (takenUsernames.contains(user.getUsername())) {
+                duplicates.add(new UserImportRejection(row.getRow(), user.getUsername(),
+                        "Username already exists: " + user.getUsername()));
+            } else if (takenEmails.contains(user.getEmail())) {
+                duplicates.add(new UserImportRejection(row.getRow(), user.getUsername(),
+                        "Email already exists: " + user.getEmail()));
+            } else {
+                takenUsernames.add(user.getUsername());
+                takenEmails.add(user.getEmail());
+                users.add(user);
+            }
+        }
+        if (!users.isEmpty()) {
+            userRepository.insertAll(users);
+        }
+        return users;
+    }
 }
@@ -0,0 +1,50 @@
+package com.eraste.userservice.domain.model;
+
+/**
+ * The number of users, possibly estimated.
+ * <p>
+ * Counting every row of a large table is expensive on PostgreSQL, so the count
+ * may come from the planner statistics instead, which lag behind recent writes.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserCount {
+
+    /** Number of users. */
+    private final long count;
+
+    /** Whether the number was counted rather than estimated. */
+    private final boolean exact;
+
+    /**
+     * Constructs a UserCount.
+     *
+     * @param count the number of users
+     * @param exact whether the number was counted rather than estimated
+     */
+    public UserCount(long count, boolean exact) {
+        this.count = count;
+        this.exact = exact;
+    }
+
+    /**
+     * Gets the number of users.
+     *
+     * @return the user count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Indicates whether the number was counted rather than estimated.
+     *
+     * @return true for an exact count
+     */
+    public boolean isExact() {
+        return exact;
+    }
+}
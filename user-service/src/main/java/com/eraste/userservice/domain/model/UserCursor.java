@@ -0,0 +1,84 @@
+package com.eraste.userservice.domain.model;
+
+import com.eraste.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor for the user listing.
+ * <p>
+ * Users are listed in ID order, so a cursor only records the ID of the last user of a
+ * page; the next page is a primary key range scan starting right after it, however deep
+ * the client has paged. Clients only see the opaque, URL-safe string produced by
+ * {@link #encode()}.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserCursor {
+
+    private static final String PREFIX = "id|";
+
+    /** ID of the last user of the previous page. */
+    private final Long id;
+
+    /**
+     * Constructs a UserCursor.
+     *
+     * @param id the ID of the last user returned
+     */
+    public UserCursor(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Creates the cursor pointing after the given user.
+     *
+     * @param user the last user of the page
+     * @return the cursor
+     */
+    public static UserCursor after(User user) {
+        return new UserCursor(user.getId());
+    }
+
+    /**
+     * Encodes this cursor into an opaque, URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = PREFIX + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param encoded the encoded cursor
+     * @return the decoded cursor
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static UserCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new UserCursor(Long.valueOf(raw.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Gets the ID of the last user returned.
+     *
+     * @return the user ID
+     */
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,60 @@
+package com.eraste.userservice.domain.model;
+
+/**
+ * A record of a bulk user import that was not created.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserImportRejection {
+
+    /** Position of the record in the import, starting at 1. */
+    private final long row;
+
+    /** Username found in the record, if any. */
+    private final String username;
+
+    /** Why the record was rejected. */
+    private final String reason;
+
+    /**
+     * Constructs a UserImportRejection.
+     *
+     * @param row      the position of the record in the import
+     * @param username the username found in the record, or {@code null}
+     * @param reason   why the record was rejected
+     */
+    public UserImportRejection(long row, String username, String reason) {
+        this.row = row;
+        this.username = username;
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the position of the record in the import.
+     *
+     * @return the row number, starting at 1
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the username found in the record.
+     *
+     * @return the username, or {@code null} if the record had none
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the reason the record was rejected.
+     *
+     * @return the rejection reason
+     */
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,119 @@
+package com.eraste.userservice.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk user import.
+ * <p>
+ * Counts the records received, created and rejected. Only the first rejections are
+ * kept with their reason, so that the summary of a very large import stays bounded.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserImportResult {
+
+    /** Maximum number of rejections reported with their reason. */
+    private final int maxReportedRejections;
+
+    /** Number of records read from the import. */
+    private long received;
+
+    /** Number of users created. */
+    private long created;
+
+    /** Number of records rejected. */
+    private long rejected;
+
+    /** The first rejected records. */
+    private final List<UserImportRejection> rejections = new ArrayList<>();
+
+    /**
+     * Constructs an empty result.
+     *
+     * @param maxReportedRejections the maximum number of rejections reported with their reason
+     */
+    public UserImportResult(int maxReportedRejections) {
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * Records that a record was read from the import.
+     */
+    public void addReceived() {
+        this.received++;
+    }
+
+    /**
+     * Adds to the number of created users.
+     *
+     * @param count the number of users created by a chunk
+     */
+    public void addCreated(int count) {
+        this.created += count;
+    }
+
+    /**
+     * Records a rejected record.
+     *
+     * @param rejection the rejected record
+     */
+    public void addRejection(UserImportRejection rejection) {
+        this.rejected++;
+        if (rejections.size() < maxReportedRejections) {
+            rejections.add(rejection);
+        }
+    }
+
+    /**
+     * Gets the number of records read from the import.
+     *
+     * @return the number of records received
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Gets the number of users created.
+     *
+     * @return the number of users created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Gets the number of records rejected.
+     *
+     * @return the number of records rejected
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the first rejected records.
+     * <p>
+     * Records rejected while reading come first within their chunk, before the
+     * duplicates found by the database check.
+     * </p>
+     *
+     * @return the reported rejections
+     */
+    public List<UserImportRejection> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Checks if some rejections were left out of {@link #getRejections()}.
+     *
+     * @return true if more records were rejected than reported
+     */
+    public boolean isRejectionsTruncated() {
+        return rejected > rejections.size();
+    }
+}
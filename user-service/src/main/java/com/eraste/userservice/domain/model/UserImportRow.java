@@ -0,0 +1,103 @@
+package com.eraste.userservice.domain.model;
+
+/**
+ * A single record read from a bulk user import.
+ * <p>
+ * A row either carries a {@link User} ready to be created, or the reason it was
+ * rejected before reaching the service (malformed record, failed validation).
+ * Rows are numbered from 1 in the order they appear in the import.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserImportRow {
+
+    /** Position of the record in the import, starting at 1. */
+    private final long row;
+
+    /** User to create, or {@code null} if the record was rejected. */
+    private final User user;
+
+    /** Username found in the record, if any, for reporting. */
+    private final String username;
+
+    /** Why the record was rejected, or {@code null} if it is valid. */
+    private final String rejectionReason;
+
+    private UserImportRow(long row, User user, String username, String rejectionReason) {
+        this.row = row;
+        this.user = user;
+        this.username = username;
+        this.rejectionReason = rejectionReason;
+    }
+
+    /**
+     * Creates a row carrying a valid user.
+     *
+     * @param row  the position of the record in the import
+     * @param user the user to create
+     * @return the valid row
+     */
+    public static UserImportRow valid(long row, User user) {
+        return new UserImportRow(row, user, user.getUsername(), null);
+    }
+
+    /**
+     * Creates a row rejected before reaching the service.
+     *
+     * @param row      the position of the record in the import
+     * @param username the username found in the record, or {@code null}
+     * @param reason   why the record was rejected
+     * @return the rejected row
+     */
+    public static UserImportRow rejected(long row, String username, String reason) {
+        return new UserImportRow(row, null, username, reason);
+    }
+
+    /**
+     * Checks if the record was rejected before reaching the service.
+     *
+     * @return true if the record was rejected, false otherwise
+     */
+    public boolean isRejected() {
+        return rejectionReason != null;
+    }
+
+    /**
+     * Gets the position of the record in the import.
+     *
+     * @return the row number, starting at 1
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the user to create.
+     *
+     * @return the user, or {@code null} if the record was rejected
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the username found in the record.
+     *
+     * @return the username, or {@code null} if the record had none
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the reason the record was rejected.
+     *
+     * @return the rejection reason, or {@code null} if the record is valid
+     */
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+}
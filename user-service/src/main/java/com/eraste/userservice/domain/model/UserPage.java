@@ -0,0 +1,57 @@
+package com.eraste.userservice.domain.model;
+
+import java.util.List;
+
+/**
+ * A page of the user listing.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserPage {
+
+    /** Users of the page. */
+    private final List<User> items;
+
+    /** Encoded cursor of the next page, null if this is the last page. */
+    private final String nextCursor;
+
+    /**
+     * Constructs a UserPage.
+     *
+     * @param items      the users of the page
+     * @param nextCursor the encoded cursor of the next page, or null
+     */
+    public UserPage(List<User> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the users of the page.
+     *
+     * @return the users
+     */
+    public List<User> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the encoded cursor of the next page.
+     *
+     * @return the next cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Indicates whether more users follow this page.
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
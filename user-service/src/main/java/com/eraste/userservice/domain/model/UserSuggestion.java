@@ -0,0 +1,64 @@
+package com.eraste.userservice.domain.model;
+
+/**
+ * A user matching an autocomplete prefix.
+ * <p>
+ * Carries only what a search-as-you-type list displays; the full user is
+ * fetched by ID once a suggestion is picked.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class UserSuggestion {
+
+    /** Unique identifier of the user. */
+    private final Long id;
+
+    /** Username of the user. */
+    private final String username;
+
+    /** Email address of the user. */
+    private final String email;
+
+    /**
+     * Constructs a UserSuggestion.
+     *
+     * @param id       the unique identifier of the user
+     * @param username the username of the user
+     * @param email    the email address of the user
+     */
+    public UserSuggestion(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    /**
+     * Gets the unique identifier of the user.
+     *
+     * @return the user ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the username of the user.
+     *
+     * @return the username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the email address of the user.
+     *
+     * @return the email address
+     */
+    public String getEmail() {
+        return email;
+    }
+}
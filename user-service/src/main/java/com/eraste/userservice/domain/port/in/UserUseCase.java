@@ -1,6 +1,13 @@
 package com.eraste.userservice.domain.port.in;
 
 import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import com.eraste.userservice.domain.model.UserCursor;
+import com.eraste.userservice.domain.model.UserImportResult;
+import com.eraste.userservice.domain.model.UserImportRow;
+import com.eraste.userservice.domain.model.UserPage;
+import com.eraste.userservice.domain.model.UserSuggestion;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,7 +30,7 @@ public interface UserUseCase {
      *
      * @param user the user to create (without ID)
      * @return the created user with generated ID and timestamps
-     * @throws IllegalArgumentException if username or email already exists
+     * @throws com.eraste.common.exception.ConflictException if username or email already exists
      */
     User createUser(User user);
 
@@ -42,6 +49,22 @@ public interface UserUseCase {
      */
     List<User> getAllUsers();
 
+    /**
+     * Retrieves one page of users, in ID order.
+     *
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the maximum number of users in the page
+     * @return the page of users, with the cursor of the next page if any
+     */
+    UserPage getUserPage(UserCursor cursor, int size);
+
+    /**
+     * Counts the users, or estimates their number when an exact count is expensive.
+     *
+     * @return the number of users, flagged as exact or estimated
+     */
+    UserCount countUsers();
+
     /**
      * Updates an existing user with new information.
      *
@@ -49,6 +72,7 @@ public interface UserUseCase {
      * @param user the user data to update
      * @return the updated user
      * @throws com.eraste.common.exception.ResourceNotFoundException if user not found
+     * @throws com.eraste.common.exception.ConflictException if the new username or email belongs to another user
      */
     User updateUser(Long id, User user);
 
@@ -75,4 +99,27 @@ public interface UserUseCase {
      * @return an Optional containing the user if found, empty otherwise
      */
     Optional<User> getUserByEmail(String email);
+
+    /**
+     * Suggests users whose username or email starts with a prefix, ignoring case.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit  the maximum number of suggestions
+     * @return the matching users, username matches first
+     * @throws com.eraste.common.exception.BadRequestException if the prefix is blank
+     */
+    List<UserSuggestion> suggestUsers(String prefix, int limit);
+
+    /**
+     * Creates users in bulk from a stream of import records.
+     * <p>
+     * Records are consumed as they are read and inserted in batches, so the import
+     * can be much larger than what fits in memory. Records that fail validation or
+     * whose username or email is already taken are rejected, not the whole import.
+     * </p>
+     *
+     * @param rows the import records, in import order
+     * @return the summary of created and rejected records
+     */
+    UserImportResult importUsers(Iterator<UserImportRow> rows);
 }
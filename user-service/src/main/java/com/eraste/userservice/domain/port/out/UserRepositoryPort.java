@@ -1,8 +1,11 @@
 package com.eraste.userservice.domain.port.out;
 
 import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Output port for User persistence operations.
@@ -24,6 +27,7 @@ public interface UserRepositoryPort {
      *
      * @param user the user to save
      * @return the saved user with updated fields (ID, timestamps)
+     * @throws com.eraste.common.exception.ConflictException if the username or email is already taken
      */
     User save(User user);
 
@@ -80,4 +84,48 @@ public interface UserRepositoryPort {
      * @return true if a user with this email exists, false otherwise
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given usernames are already taken, in a single query.
+     *
+     * @param usernames the usernames to check
+     * @return the subset of usernames that belong to an existing user
+     */
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+    /**
+     * Returns which of the given emails are already taken, in a single query.
+     *
+     * @param emails the emails to check
+     * @return the subset of emails that belong to an existing user
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Inserts new users in a single batch.
+     * <p>
+     * Generated IDs are not read back: this is meant for bulk loads whose
+     * callers only need to know that the users were created.
+     * </p>
+     *
+     * @param users the users to insert (without ID)
+     * @throws com.eraste.common.exception.ConflictException if a username or email was taken in the meantime
+     */
+    void insertAll(List<User> users);
+
+    /**
+     * Finds users in ID order, starting after a given ID.
+     *
+     * @param afterId the ID to start after, or {@code null} to start with the first user
+     * @param limit   the maximum number of users returned
+     * @return the users, in ascending ID order
+     */
+    List<User> findPage(Long afterId, int limit);
+
+    /**
+     * Counts the users, or estimates their number when an exact count is expensive.
+     *
+     * @return the number of users, flagged as exact or estimated
+     */
+    UserCount countUsers();
 }
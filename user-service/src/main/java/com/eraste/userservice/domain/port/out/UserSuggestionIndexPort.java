@@ -0,0 +1,67 @@
+package com.eraste.userservice.domain.port.out;
+
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserSuggestion;
+
+import java.util.List;
+
+/**
+ * Output port for the username and email autocomplete index.
+ * <p>
+ * This interface follows the Hexagonal Architecture (Ports and Adapters) pattern.
+ * The application service reports every user write to the index, which keeps its
+ * own copy of the usernames and emails to answer prefix lookups without a query.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface UserSuggestionIndexPort {
+
+    /**
+     * Finds users whose username or email starts with a prefix, ignoring case.
+     * <p>
+     * Username matches come first, in username order, followed by the users
+     * matched by email only, in email order.
+     * </p>
+     *
+     * @param prefix the prefix to match
+     * @param limit  the maximum number of suggestions
+     * @return the matching users, at most {@code limit}
+     */
+    List<UserSuggestion> suggest(String prefix, int limit);
+
+    /**
+     * Adds a created user to the index, or replaces the entry of an updated one.
+     * <p>
+     * When called inside a transaction, the index is only updated once the
+     * transaction has committed.
+     * </p>
+     *
+     * @param user the saved user
+     */
+    void put(User user);
+
+    /**
+     * Adds users inserted in bulk to the index.
+     * <p>
+     * Must be called once the insert has committed. The users may lack their
+     * generated ID, which the index then resolves by username.
+     * </p>
+     *
+     * @param users the inserted users
+     */
+    void putAll(List<User> users);
+
+    /**
+     * Removes a deleted user from the index.
+     * <p>
+     * When called inside a transaction, the index is only updated once the
+     * transaction has committed.
+     * </p>
+     *
+     * @param id the ID of the deleted user
+     */
+    void remove(Long id);
+}
@@ -40,8 +40,12 @@ public class RootController {
     public ResponseEntity<ServiceInfo> getServiceInfo() {
         Map<String, String> endpoints = new LinkedHashMap<>();
         endpoints.put("GET /users", "Get all users");
+        endpoints.put("GET /users/page", "List users (cursor pagination)");
+        endpoints.put("GET /users/count", "Count users (estimated on PostgreSQL)");
         endpoints.put("GET /users/{id}", "Get user by ID");
+        endpoints.put("GET /users/suggest?prefix=", "Suggest users by username or email prefix");
         endpoints.put("POST /users", "Create a new user");
+        endpoints.put("POST /users/import", "Import users in bulk (JSON array or NDJSON)");
         endpoints.put("PUT /users/{id}", "Update a user");
         endpoints.put("DELETE /users/{id}", "Delete a user");
         endpoints.put("GET /swagger-ui.html", "Swagger UI documentation");
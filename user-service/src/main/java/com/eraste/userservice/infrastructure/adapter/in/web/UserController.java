@@ -3,9 +3,21 @@ package com.eraste.userservice.infrastructure.adapter.in.web;
 import com.eraste.common.exception.ResourceNotFoundException;
 import com.eraste.common.response.ApiResponse;
 import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import com.eraste.userservice.domain.model.UserCursor;
+import com.eraste.userservice.domain.model.UserImportRejection;
+import com.eraste.userservice.domain.model.UserImportResult;
+import com.eraste.userservice.domain.model.UserPage;
+import com.eraste.userservice.domain.model.UserSuggestion;
 import com.eraste.userservice.domain.port.in.UserUseCase;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserCountResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserImportRejectionResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserImportResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserPageResponse;
 import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserRequest;
 import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserSuggestionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +25,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -41,14 +59,28 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserUseCase userUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxSuggestions;
+    private final int maxPageSize;
 
     /**
      * Constructs a UserController with the required use case.
      *
-     * @param userUseCase the use case for user operations
+     * @param userUseCase    the use case for user operations
+     * @param objectMapper   the mapper used to read bulk imports
+     * @param validator      the validator applied to each imported record
+     * @param maxSuggestions the largest number of suggestions the autocomplete endpoint returns
+     * @param maxPageSize    the largest page the user listing returns
      */
-    public UserController(UserUseCase userUseCase) {
+    public UserController(UserUseCase userUseCase, ObjectMapper objectMapper, Validator validator,
+                          @Value("${users.suggest.max-limit:50}") int maxSuggestions,
+                          @Value("${users.query.max-page-size:100}") int maxPageSize) {
         this.userUseCase = userUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxSuggestions = maxSuggestions;
+        this.maxPageSize = maxPageSize;
     }
 
     @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
@@ -68,6 +100,48 @@ public class UserController {
                 .body(ApiResponse.created(response));
     }
 
+    @Operation(summary = "Import users in bulk",
+            description = "Creates users from a JSON array or newline-delimited JSON, read incrementally. "
+                    + "Invalid and duplicate records are rejected individually")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import processed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Body is not a JSON array or JSON objects")
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(InputStream body) throws IOException {
+        UserImportResult result;
+        try (UserImportReader reader = new UserImportReader(objectMapper, validator, body)) {
+            result = userUseCase.importUsers(reader);
+        }
+        List<UserImportRejectionResponse> rejections = result.getRejections().stream()
+                .sorted(Comparator.comparingLong(UserImportRejection::getRow))
+                .map(rejection -> new UserImportRejectionResponse(
+                        rejection.getRow(), rejection.getUsername(), rejection.getReason()))
+                .collect(Collectors.toList());
+        UserImportResponse response = new UserImportResponse(result.getReceived(), result.getCreated(),
+                result.getRejected(), rejections, result.isRejectionsTruncated());
+        return ResponseEntity.ok(ApiResponse.success("Users imported", response));
+    }
+
+    @Operation(summary = "Suggest users",
+            description = "Returns the users whose username or email starts with the prefix, ignoring case. "
+                    + "Username matches come first")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Blank prefix")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<UserSuggestionResponse>>> suggestUsers(
+            @Parameter(description = "Start of the username or email", required = true) @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions, capped by the server")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserSuggestionResponse> suggestions = userUseCase
+                .suggestUsers(prefix, Math.max(1, Math.min(limit, maxSuggestions))).stream()
+                .map(this::mapToSuggestionResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
     @Operation(summary = "Get user by ID", description = "Returns a user based on the provided ID")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User found"),
@@ -94,11 +168,43 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    @Operation(summary = "List users by page",
+            description = "Returns one page of users in ID order. "
+                    + "Use the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Page of users retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<UserPageResponse>> getUserPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(defaultValue = "20") int size) {
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+        UserPage page = userUseCase.getUserPage(after, Math.max(1, Math.min(size, maxPageSize)));
+        List<UserResponse> users = page.getItems().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success(new UserPageResponse(users, page.getNextCursor())));
+    }
+
+    @Operation(summary = "Count users",
+            description = "Returns the number of users. On PostgreSQL it is estimated from the planner "
+                    + "statistics, without scanning the table")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User count retrieved successfully")
+    })
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<UserCountResponse>> countUsers() {
+        UserCount count = userUseCase.countUsers();
+        return ResponseEntity.ok(ApiResponse.success(new UserCountResponse(count.getCount(), count.isExact())));
+    }
+
     @Operation(summary = "Update user", description = "Updates an existing user with the provided information")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User updated successfully"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Username or email already exists")
     })
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
@@ -137,6 +243,16 @@ public class UserController {
         return user;
     }
 
+    /**
+     * Maps a user suggestion to a UserSuggestionResponse DTO.
+     *
+     * @param suggestion the suggested user
+     * @return the response DTO
+     */
+    private UserSuggestionResponse mapToSuggestionResponse(UserSuggestion suggestion) {
+        return new UserSuggestionResponse(suggestion.getId(), suggestion.getUsername(), suggestion.getEmail());
+    }
+
     /**
      * Maps a domain User entity to a UserResponse DTO.
      *
@@ -0,0 +1,186 @@
+package com.eraste.userservice.infrastructure.adapter.in.web;
+
+import com.eraste.common.exception.BadRequestException;
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserImportRow;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental reader of a bulk user import.
+ * <p>
+ * Accepts either a JSON array of users, as in {@code data/jsons/user/users.json}, or
+ * newline-delimited JSON with one user per line. Records are parsed one at a time from
+ * the request body, so memory use does not depend on the size of the import.
+ * </p>
+ * <p>
+ * Each record is validated against the {@link UserRequest} constraints. Records that
+ * cannot be mapped or fail validation are returned as rejected rows. Malformed JSON
+ * cannot be resynchronized: it ends the import with a last rejected row, and the
+ * records read before it are still imported.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class UserImportReader implements Iterator<UserImportRow>, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JsonParser parser;
+    private final boolean array;
+    private long row;
+    private boolean finished;
+    private UserImportRow pending;
+
+    /**
+     * Opens a reader over an import body and detects its format.
+     *
+     * @param objectMapper the mapper used to bind records
+     * @param validator    the validator applied to each record
+     * @param body         the request body
+     * @throws IOException              if the body cannot be read
+     * @throws BadRequestException     if the body is neither a JSON array nor JSON objects
+     */
+    UserImportReader(ObjectMapper objectMapper, Validator validator, InputStream body) throws IOException {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.parser = objectMapper.createParser(body);
+        JsonToken first;
+        try {
+            first = parser.nextToken();
+        } catch (JsonProcessingException ex) {
+            parser.close();
+            throw new BadRequestException("Malformed import: " + ex.getOriginalMessage());
+        }
+        if (first != null && first != JsonToken.START_ARRAY && first != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new BadRequestException("Import must be a JSON array or newline-delimited JSON objects");
+        }
+        this.array = first == JsonToken.START_ARRAY;
+        if (array) {
+            advance();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        JsonToken token = parser.currentToken();
+        return token != null && !(array && token == JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public UserImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (pending != null) {
+            UserImportRow last = pending;
+            pending = null;
+            return last;
+        }
+        row++;
+        JsonNode record;
+        try {
+            record = parser.readValueAsTree();
+        } catch (JsonProcessingException ex) {
+            return stop("Malformed JSON: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        UserImportRow parsed = toRow(record);
+        advance();
+        return parsed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * Maps and validates one record.
+     *
+     * @param record the record as a JSON tree
+     * @return the valid or rejected row
+     */
+    private UserImportRow toRow(JsonNode record) {
+        if (!record.isObject()) {
+            return UserImportRow.rejected(row, null, "Record must be a JSON object");
+        }
+        String username = record.path("username").isTextual() ? record.get("username").asText() : null;
+        UserRequest request;
+        try {
+            request = objectMapper.treeToValue(record, UserRequest.class);
+        } catch (JsonProcessingException ex) {
+            return UserImportRow.rejected(row, username, "Invalid record: " + ex.getOriginalMessage());
+        }
+        Set<ConstraintViolation<UserRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            return UserImportRow.rejected(row, username, "Validation failed: " + errors);
+        }
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setEmail(request.getEmail());
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        return UserImportRow.valid(row, user);
+    }
+
+    /**
+     * Moves the parser to the start of the next record.
+     */
+    private void advance() {
+        try {
+            parser.nextToken();
+        } catch (JsonProcessingException ex) {
+            row++;
+            pending = stop("Malformed JSON: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Ends the import on malformed JSON.
+     *
+     * @param reason the parse error
+     * @return the rejected row reporting the error
+     */
+    private UserImportRow stop(String reason) {
+        finished = true;
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // Nothing more will be read from the body
+        }
+        return UserImportRow.rejected(row, null, reason);
+    }
+}
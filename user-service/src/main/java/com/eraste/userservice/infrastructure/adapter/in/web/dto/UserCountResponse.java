@@ -0,0 +1,76 @@
+package com.eraste.userservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the number of users.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Number of users, exact or estimated")
+public class UserCountResponse {
+
+    /** Number of users. */
+    @Schema(description = "Number of users", example = "125000")
+    private long count;
+
+    /** Whether the number was counted rather than estimated. */
+    @Schema(description = "False when the number is a planner estimate, which lags behind recent writes",
+            example = "false")
+    private boolean exact;
+
+    /**
+     * Default constructor.
+     */
+    public UserCountResponse() {
+    }
+
+    /**
+     * Constructs a UserCountResponse with all fields.
+     *
+     * @param count the number of users
+     * @param exact whether the number was counted rather than estimated
+     */
+    public UserCountResponse(long count, boolean exact) {
+        this.count = count;
+        this.exact = exact;
+    }
+
+    /**
+     * Gets the number of users.
+     *
+     * @return the user count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of users.
+     *
+     * @param count the user count to set
+     */
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    /**
+     * Indicates whether the number was counted rather than estimated.
+     *
+     * @return true for an exact count
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Sets whether the number was counted rather than estimated.
+     *
+     * @param exact true for an exact count
+     */
+    public void setExact(boolean exact) {
+        this.exact = exact;
+    }
+}
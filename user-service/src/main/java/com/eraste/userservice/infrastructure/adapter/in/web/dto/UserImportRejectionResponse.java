@@ -0,0 +1,99 @@
+package com.eraste.userservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for a record rejected by a bulk user import.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "A record rejected by a bulk user import")
+public class UserImportRejectionResponse {
+
+    /** Position of the record in the import, starting at 1. */
+    @Schema(description = "Position of the record in the import, starting at 1", example = "42")
+    private long row;
+
+    /** Username found in the record, if any. */
+    @Schema(description = "Username found in the record, if any", example = "john_doe")
+    private String username;
+
+    /** Why the record was rejected. */
+    @Schema(description = "Why the record was rejected", example = "Username already exists: john_doe")
+    private String reason;
+
+    /**
+     * Default constructor.
+     */
+    public UserImportRejectionResponse() {
+    }
+
+    /**
+     * Constructs a UserImportRejectionResponse with all fields.
+     *
+     * @param row      the position of the record in the import
+     * @param username the username found in the record, or {@code null}
+     * @param reason   why the record was rejected
+     */
+    public UserImportRejectionResponse(long row, String username, String reason) {
+        this.row = row;
+        this.username = username;
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the position of the record in the import.
+     *
+     * @return the row number
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Sets the position of the record in the import.
+     *
+     * @param row the row number to set
+     */
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    /**
+     * Gets the username found in the record.
+     *
+     * @return the username, or {@code null}
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the username found in the record.
+     *
+     * @param username the username to set
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the reason the record was rejected.
+     *
+     * @return the rejection reason
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Sets the reason the record was rejected.
+     *
+     * @param reason the rejection reason to set
+     */
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,154 @@
+package com.eraste.userservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for bulk user import responses.
+ * <p>
+ * Summarizes how many records were received, created and rejected, and lists the
+ * first rejected records with their reason.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Summary of a bulk user import")
+public class UserImportResponse {
+
+    /** Number of records received. */
+    @Schema(description = "Number of records received", example = "1000")
+    private long received;
+
+    /** Number of users created. */
+    @Schema(description = "Number of users created", example = "998")
+    private long created;
+
+    /** Number of records rejected. */
+    @Schema(description = "Number of records rejected", example = "2")
+    private long rejected;
+
+    /** The first rejected records, in import order. */
+    @Schema(description = "The first rejected records, in import order")
+    private List<UserImportRejectionResponse> rejections;
+
+    /** Whether more records were rejected than listed. */
+    @Schema(description = "Whether more records were rejected than listed", example = "false")
+    private boolean rejectionsTruncated;
+
+    /**
+     * Default constructor.
+     */
+    public UserImportResponse() {
+    }
+
+    /**
+     * Constructs a UserImportResponse with all fields.
+     *
+     * @param received            the number of records received
+     * @param created             the number of users created
+     * @param rejected            the number of records rejected
+     * @param rejections          the first rejected records
+     * @param rejectionsTruncated whether more records were rejected than listed
+     */
+    public UserImportResponse(long received, long created, long rejected,
+                              List<UserImportRejectionResponse> rejections, boolean rejectionsTruncated) {
+        this.received = received;
+        this.created = created;
+        this.rejected = rejected;
+        this.rejections = rejections;
+        this.rejectionsTruncated = rejectionsTruncated;
+    }
+
+    /**
+     * Gets the number of records received.
+     *
+     * @return the number of records received
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * Sets the number of records received.
+     *
+     * @param received the number of records received to set
+     */
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    /**
+     * Gets the number of users created.
+     *
+     * @return the number of users created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Sets the number of users created.
+     *
+     * @param created the number of users created to set
+     */
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    /**
+     * Gets the number of records rejected.
+     *
+     * @return the number of records rejected
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Sets the number of records rejected.
+     *
+     * @param rejected the number of records rejected to set
+     */
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    /**
+     * Gets the first rejected records.
+     *
+     * @return the rejected records
+     */
+    public List<UserImportRejectionResponse> getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Sets the first rejected records.
+     *
+     * @param rejections the rejected records to set
+     */
+    public void setRejections(List<UserImportRejectionResponse> rejections) {
+        this.rejections = rejections;
+    }
+
+    /**
+     * Checks whether more records were rejected than listed.
+     *
+     * @return true if the rejection list is truncated
+     */
+    public boolean isRejectionsTruncated() {
+        return rejectionsTruncated;
+    }
+
+    /**
+     * Sets whether more records were rejected than listed.
+     *
+     * @param rejectionsTruncated whether the rejection list is truncated
+     */
+    public void setRejectionsTruncated(boolean rejectionsTruncated) {
+        this.rejectionsTruncated = rejectionsTruncated;
+    }
+}
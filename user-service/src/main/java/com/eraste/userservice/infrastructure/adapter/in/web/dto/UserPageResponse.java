@@ -0,0 +1,104 @@
+package com.eraste.userservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of users.
+ * <p>
+ * Pass {@code nextCursor} back as the {@code cursor} parameter to fetch the
+ * following page.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "Page of the user listing")
+public class UserPageResponse {
+
+    /** Users of the page. */
+    @Schema(description = "Users of the page")
+    private List<UserResponse> items;
+
+    /** Number of users in the page. */
+    @Schema(description = "Number of users in the page", example = "20")
+    private int size;
+
+    /** Opaque cursor of the next page. */
+    @Schema(description = "Opaque cursor of the next page, absent on the last page")
+    private String nextCursor;
+
+    /**
+     * Default constructor.
+     */
+    public UserPageResponse() {
+    }
+
+    /**
+     * Constructs a UserPageResponse.
+     *
+     * @param items      the users of the page
+     * @param nextCursor the cursor of the next page, or null
+     */
+    public UserPageResponse(List<UserResponse> items, String nextCursor) {
+        this.items = items;
+        this.size = items.size();
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the users of the page.
+     *
+     * @return the users
+     */
+    public List<UserResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the users of the page.
+     *
+     * @param items the users to set
+     */
+    public void setItems(List<UserResponse> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the number of users in the page.
+     *
+     * @return the page size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the number of users in the page.
+     *
+     * @param size the page size to set
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return the next cursor, or null on the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the cursor of the next page.
+     *
+     * @param nextCursor the next cursor to set
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
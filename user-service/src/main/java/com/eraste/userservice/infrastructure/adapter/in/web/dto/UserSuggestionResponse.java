@@ -0,0 +1,99 @@
+package com.eraste.userservice.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for a user suggested by the autocomplete endpoint.
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Schema(description = "A user whose username or email matches an autocomplete prefix")
+public class UserSuggestionResponse {
+
+    /** Unique identifier of the user. */
+    @Schema(description = "Unique identifier of the user", example = "1")
+    private Long id;
+
+    /** Username of the user. */
+    @Schema(description = "Username of the user", example = "john_doe")
+    private String username;
+
+    /** Email address of the user. */
+    @Schema(description = "Email address of the user", example = "john.doe@example.com")
+    private String email;
+
+    /**
+     * Default constructor.
+     */
+    public UserSuggestionResponse() {
+    }
+
+    /**
+     * Constructs a UserSuggestionResponse with all fields.
+     *
+     * @param id       the unique identifier of the user
+     * @param username the username of the user
+     * @param email    the email address of the user
+     */
+    public UserSuggestionResponse(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    /**
+     * Gets the unique identifier of the user.
+     *
+     * @return the user ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique identifier of the user.
+     *
+     * @param id the user ID to set
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the username of the user.
+     *
+     * @return the username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the username of the user.
+     *
+     * @param username the username to set
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the email address of the user.
+     *
+     * @return the email address
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Sets the email address of the user.
+     *
+     * @param email the email address to set
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
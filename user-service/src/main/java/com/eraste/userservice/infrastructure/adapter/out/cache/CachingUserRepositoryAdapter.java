@@ -0,0 +1,308 @@
+package com.eraste.userservice.infrastructure.adapter.out.cache;
+
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import com.eraste.userservice.domain.port.out.UserRepositoryPort;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caching adapter implementing the UserRepositoryPort.
+ * <p>
+ * This class is a secondary adapter (driven adapter) in the hexagonal architecture that
+ * decorates the {@link UserJpaAdapter} with an in-process cache of {@link User} keyed by ID.
+ * Username and email lookups go through two secondary indexes mapping each key to a user ID,
+ * so a user is only ever cached once and a single eviction covers all three keys.
+ * </p>
+ * <p>
+ * Cached users are copied on the way out: callers are free to modify the returned instance,
+ * as {@code UserService.updateUser} does, without corrupting the cache. Entries are evicted
+ * on every save and delete, and again once the surrounding transaction has completed so that
+ * neither a concurrent reader nor a rolled back write can leave a stale user behind. Hit and
+ * miss counts of the three caches are published to Micrometer.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserRepositoryPort
+ * @see UserJpaAdapter
+ */
+@Primary
+@Component
+public class CachingUserRepositoryAdapter implements UserRepositoryPort {
+
+    private final UserJpaAdapter delegate;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByUsername;
+    private final Cache<String, Long> idsByEmail;
+
+    /**
+     * Constructs a CachingUserRepositoryAdapter around the JPA adapter.
+     *
+     * @param delegate         the JPA adapter queried on cache misses
+     * @param meterRegistry    the registry receiving the cache metrics
+     * @param maximumSize      the maximum number of users held by each cache
+     * @param expireAfterWrite how long a cached entry is trusted before being reloaded
+     */
+    public CachingUserRepositoryAdapter(UserJpaAdapter delegate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${users.cache.maximum-size:10000}") long maximumSize,
+                                        @Value("${users.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.usersById = newCache(maximumSize, expireAfterWrite);
+        this.idsByUsername = newCache(maximumSize, expireAfterWrite);
+        this.idsByEmail = newCache(maximumSize, expireAfterWrite);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByUsername, "users.username");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "users.email");
+        Gauge.builder("users.cache.hit.ratio", usersById, cache -> cache.stats().hitRate())
+                .description("Share of user lookups by ID served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Evicts the saved user from every cache. The next lookup reloads it.
+     * </p>
+     */
+    @Override
+    public User save(User user) {
+        User savedUser = delegate.save(user);
+        evict(savedUser.getId(), savedUser.getUsername(), savedUser.getEmail());
+        return savedUser;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Concurrent misses on the same ID are collapsed into a single database query.
+     * </p>
+     */
+    @Override
+    public Optional<User> findById(Long id) {
+        User cached = usersById.get(id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(CachingUserRepositoryAdapter::copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Not cached: a listing is always read from the database.
+     * </p>
+     */
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Not cached: pages are always read from the database.
+     * </p>
+     */
+    @Override
+    public List<User> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserCount countUsers() {
+        return delegate.countUsers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteById(Long id) {
+        evict(id, null, null);
+        delegate.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return findByKey(username, idsByUsername, User::getUsername, delegate::findByUsername);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return findByKey(email, idsByEmail, User::getEmail, delegate::findByEmail);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return delegate.findExistingUsernames(usernames);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * New users have no cache entry to evict.
+     * </p>
+     */
+    @Override
+    public void insertAll(List<User> users) {
+        delegate.insertAll(users);
+    }
+
+    /**
+     * Resolves a user through one of the secondary indexes.
+     * <p>
+     * An indexed ID is only trusted when the user it points to still carries the
+     * requested key; a stale entry left by a rename or a deletion is dropped and the
+     * lookup falls back to the database. A user found in the database is indexed but
+     * not cached by ID here: the next lookup loads it through {@link #findById(Long)},
+     * which is the only path allowed to populate the user cache.
+     * </p>
+     *
+     * @param key       the username or email to look up
+     * @param index     the index mapping that kind of key to user IDs
+     * @param attribute the accessor reading that key from a user
+     * @param loader    the database lookup used on a miss
+     * @return an Optional containing the user if found, empty otherwise
+     */
+    private Optional<User> findByKey(String key, Cache<String, Long> index,
+                                     Function<User, String> attribute,
+                                     Function<String, Optional<User>> loader) {
+        Long id = index.getIfPresent(key);
+        if (id != null) {
+            Optional<User> user = findById(id);
+            if (user.isPresent() && key.equals(attribute.apply(user.get()))) {
+                return user;
+            }
+            index.invalidate(key);
+        }
+        Optional<User> user = loader.apply(key);
+        user.ifPresent(found -> index.put(key, found.getId()));
+        return user;
+    }
+
+    /**
+     * Evicts a user now and, if a transaction is active, again once it completes.
+     *
+     * @param id       the ID of the user
+     * @param username the new username of the user, or {@code null}
+     * @param email    the new email of the user, or {@code null}
+     */
+    private void evict(Long id, String username, String email) {
+        evictNow(id, username, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id, username, email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes a user from the cache, along with the index entries of both its
+     * cached and its new username and email.
+     *
+     * @param id       the ID of the user
+     * @param username the new username of the user, or {@code null}
+     * @param email    the new email of the user, or {@code null}
+     */
+    private void evictNow(Long id, String username, String email) {
+        User cached = usersById.getIfPresent(id);
+        usersById.invalidate(id);
+        if (cached != null) {
+            idsByUsername.invalidate(cached.getUsername());
+            idsByEmail.invalidate(cached.getEmail());
+        }
+        if (username != null) {
+            idsByUsername.invalidate(username);
+        }
+        if (email != null) {
+            idsByEmail.invalidate(email);
+        }
+    }
+
+    /**
+     * Builds a bounded cache recording hit and miss statistics.
+     *
+     * @param maximumSize      the maximum number of entries
+     * @param expireAfterWrite the time to live of an entry
+     * @param <K>              the key type
+     * @param <V>              the value type
+     * @return the new cache
+     */
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Copies a cached user so that callers never share the cached instance.
+     *
+     * @param user the cached user
+     * @return a detached copy of the user
+     */
+    private static User copy(User user) {
+        User copy = new User(user.getId(), user.getUsername(), user.getEmail(),
+                user.getFirstName(), user.getLastName());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        return copy;
+    }
+}
@@ -1,11 +1,29 @@
 package com.eraste.userservice.infrastructure.adapter.out.persistence;
 
+import com.eraste.common.exception.ConflictException;
+import com.eraste.common.existence.ExistenceFilter;
+import com.eraste.common.existence.ExistenceFilters;
 import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
 import com.eraste.userservice.domain.port.out.UserRepositoryPort;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -15,6 +33,14 @@ import java.util.stream.Collectors;
  * It implements the {@link UserRepositoryPort} output port using Spring Data JPA.
  * </p>
  * <p>
+ * Reads are served by {@link UserRow} projections mapped straight to the domain, so they
+ * never populate the persistence context; only writes load managed entities.
+ * </p>
+ * <p>
+ * Username and email existence checks, single or bulk, go through an {@link ExistenceFilter}
+ * per column: values the filter has never seen are reported free without a query.
+ * </p>
+ * <p>
  * This adapter can be swapped for another implementation (MongoDB, Cassandra, etc.)
  * without affecting the domain layer, as long as it implements the same port interface.
  * </p>
@@ -31,16 +57,44 @@ public class UserJpaAdapter implements UserRepositoryPort {
 
     private final UserJpaRepository jpaRepository;
     private final UserMapper mapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ExistenceFilter usernameFilter;
+    private final ExistenceFilter emailFilter;
+
+    /**
+     * Planner estimate of the users table size: the row density measured by the last
+     * ANALYZE applied to the current number of pages, as PostgreSQL itself does. Null
+     * when the table has never been analyzed.
+     */
+    private static final String ESTIMATE_USERS_SQL =
+            "SELECT CASE WHEN c.reltuples < 0 OR c.relpages = 0 THEN NULL "
+                    + "ELSE (c.reltuples / c.relpages "
+                    + "* (pg_relation_size(c.oid) / current_setting('block_size')::int))::bigint END "
+                    + "FROM pg_class c WHERE c.oid = to_regclass('users')";
+
+    /** Batched insert used by bulk imports. */
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, first_name, last_name, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    /** Whether the database is PostgreSQL, resolved from the database on first use. */
+    private volatile Boolean postgres;
 
     /**
      * Constructs a UserJpaAdapter with required dependencies.
      *
      * @param jpaRepository the Spring Data JPA repository
      * @param mapper        the mapper for domain/entity conversion
+     * @param jdbcTemplate  the JDBC template used for set-based lookups and batched inserts
+     * @param filters       the registry of the username and email existence filters
      */
-    public UserJpaAdapter(UserJpaRepository jpaRepository, UserMapper mapper) {
+    public UserJpaAdapter(UserJpaRepository jpaRepository, UserMapper mapper,
+                          NamedParameterJdbcTemplate jdbcTemplate, ExistenceFilters filters) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.usernameFilter = filters.register("users.username", "users", "username");
+        this.emailFilter = filters.register("users.email", "users", "email");
     }
 
     /**
@@ -49,6 +103,12 @@ public class UserJpaAdapter implements UserRepositoryPort {
      * Handles both create and update operations. For updates, it loads the existing
      * entity to preserve audit fields and then applies changes.
      * </p>
+     * <p>
+     * The entity is flushed right away so that uniqueness is enforced by the database
+     * constraints, in the same round trip as the write, and reported to the caller here.
+     * </p>
+     *
+     * @throws ConflictException if the username or email is already taken
      */
     @Override
     public User save(User user) {
@@ -62,8 +122,14 @@ public class UserJpaAdapter implements UserRepositoryPort {
             // Create new entity
             entity = mapper.toJpaEntity(user);
         }
-        UserJpaEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        usernameFilter.put(user.getUsername());
+        emailFilter.put(user.getEmail());
+        try {
+            UserJpaEntity savedEntity = jpaRepository.saveAndFlush(entity);
+            return mapper.toDomain(savedEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex, user);
+        }
     }
 
     /**
@@ -71,7 +137,7 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public Optional<User> findById(Long id) {
-        return jpaRepository.findById(id)
+        return jpaRepository.findRowById(id)
                 .map(mapper::toDomain);
     }
 
@@ -80,11 +146,59 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public List<User> findAll() {
-        return jpaRepository.findAll().stream()
+        return jpaRepository.findAllRows().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Seeks into the primary key index, so every page costs the same however deep it is.
+     * </p>
+     */
+    @Override
+    public List<User> findPage(Long afterId, int limit) {
+        return jpaRepository.findRowsAfter(afterId == null ? Long.MIN_VALUE : afterId, Limit.of(limit)).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * On PostgreSQL, where {@code COUNT(*)} scans the whole table, the number is read from
+     * the planner statistics in constant time. A table that has never been analyzed is
+     * counted exactly. Other databases (H2 in development) are always counted exactly.
+     * </p>
+     */
+    @Override
+    public UserCount countUsers() {
+        if (isPostgres()) {
+            List<Long> estimate = jdbcTemplate.getJdbcTemplate().queryForList(ESTIMATE_USERS_SQL, Long.class);
+            if (!estimate.isEmpty() && estimate.get(0) != null) {
+                return new UserCount(estimate.get(0), false);
+            }
+        }
+        return new UserCount(jpaRepository.count(), true);
+    }
+
+    /**
+     * Checks whether the underlying database is PostgreSQL.
+     *
+     * @return true on PostgreSQL, false otherwise
+     */
+    private boolean isPostgres() {
+        Boolean resolved = postgres;
+        if (resolved == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            resolved = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = resolved;
+        }
+        return resolved;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -98,7 +212,7 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public Optional<User> findByUsername(String username) {
-        return jpaRepository.findByUsername(username)
+        return jpaRepository.findRowByUsername(username)
                 .map(mapper::toDomain);
     }
 
@@ -107,7 +221,7 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public Optional<User> findByEmail(String email) {
-        return jpaRepository.findByEmail(email)
+        return jpaRepository.findRowByEmail(email)
                 .map(mapper::toDomain);
     }
 
@@ -116,7 +230,7 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public boolean existsByUsername(String username) {
-        return jpaRepository.existsByUsername(username);
+        return usernameFilter.exists(username, jpaRepository::existsByUsername);
     }
 
     /**
@@ -124,6 +238,99 @@ public class UserJpaAdapter implements UserRepositoryPort {
      */
     @Override
     public boolean existsByEmail(String email) {
-        return jpaRepository.existsByEmail(email);
+        return emailFilter.exists(email, jpaRepository::existsByEmail);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return usernameFilter.existing(usernames, candidates -> findExisting("username", candidates));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return emailFilter.existing(emails, candidates -> findExisting("email", candidates));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Bypasses the persistence context: the users are written with a single
+     * JDBC batch, without loading or tracking any entity.
+     * </p>
+     */
+    @Override
+    public void insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(users.size());
+        for (User user : users) {
+            args.add(new Object[]{user.getUsername(), user.getEmail(),
+                    user.getFirstName(), user.getLastName(), now, now});
+            usernameFilter.put(user.getUsername());
+            emailFilter.put(user.getEmail());
+        }
+        try {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_USER_SQL, args);
+        } catch (DuplicateKeyException ex) {
+            throw new ConflictException("Username or email already exists");
+        }
+    }
+
+    /**
+     * Returns the values of a unique column that already exist.
+     *
+     * @param column the unique column, {@code username} or {@code email}
+     * @param values the values to look up
+     * @return the subset of values present in the column
+     */
+    private Set<String> findExisting(String column, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT " + column + " FROM users WHERE " + column + " IN (:values)";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Map.of("values", values), String.class));
+    }
+
+    /**
+     * Translates a violated unique constraint into the error reported to clients.
+     *
+     * @param ex   the exception raised by the write
+     * @param user the user being saved
+     * @return a ConflictException naming the duplicate value, or {@code ex}
+     *         itself if another constraint was violated
+     */
+    private RuntimeException translate(DataIntegrityViolationException ex, User user) {
+        String constraintName = violatedConstraint(ex);
+        if (constraintName == null) {
+            return ex;
+        }
+        if (constraintName.contains(UserJpaEntity.USERNAME_CONSTRAINT)) {
+            return new ConflictException("Username already exists: " + user.getUsername());
+        }
+        if (constraintName.contains(UserJpaEntity.EMAIL_CONSTRAINT)) {
+            return new ConflictException("Email already exists: " + user.getEmail());
+        }
+        return ex;
+    }
+
+    /**
+     * Extracts the name of the violated constraint, as reported by the Hibernate dialect.
+     *
+     * @param ex the exception raised by the write
+     * @return the lower-case constraint name, or {@code null} if unknown
+     */
+    private static String violatedConstraint(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
     }
 }
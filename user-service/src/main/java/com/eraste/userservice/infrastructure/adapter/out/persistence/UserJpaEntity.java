@@ -21,15 +21,24 @@ import jakarta.persistence.*;
  * @see UserMapper
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = UserJpaEntity.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = UserJpaEntity.EMAIL_CONSTRAINT, columnNames = "email")
+})
 public class UserJpaEntity extends BaseEntity {
 
+    /** Name of the unique constraint on {@code username}. */
+    static final String USERNAME_CONSTRAINT = "uk_users_username";
+
+    /** Name of the unique constraint on {@code email}. */
+    static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     /** Unique username (max 50 characters). */
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
 
     /** Unique email address (max 100 characters). */
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     /** User's first name (max 50 characters). */
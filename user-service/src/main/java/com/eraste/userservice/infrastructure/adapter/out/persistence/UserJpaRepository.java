@@ -1,8 +1,11 @@
 package com.eraste.userservice.infrastructure.adapter.out.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,6 +14,10 @@ import java.util.Optional;
  * This interface provides CRUD operations and custom queries for {@link UserJpaEntity}.
  * Spring Data JPA automatically generates the implementation at runtime.
  * </p>
+ * <p>
+ * Reads return {@link UserRow} projections rather than entities; entities are only
+ * loaded by the write paths.
+ * </p>
  *
  * @author Eraste
  * @version 1.0.0
@@ -21,21 +28,55 @@ import java.util.Optional;
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
+    /** Constructor expression selecting users as {@link UserRow} projections. */
+    String SELECT_ROW = "select new com.eraste.userservice.infrastructure.adapter.out.persistence.UserRow("
+            + "u.id, u.username, u.email, u.firstName, u.lastName, u.createdAt, u.updatedAt) "
+            + "from UserJpaEntity u";
+
+    /**
+     * Finds a user by ID as a read-only projection.
+     *
+     * @param id the user ID
+     * @return an Optional containing the projected user if found
+     */
+    @Query(SELECT_ROW + " where u.id = :id")
+    Optional<UserRow> findRowById(Long id);
+
     /**
-     * Finds a user by their username.
+     * Finds a user by username as a read-only projection.
      *
      * @param username the username to search for
-     * @return an Optional containing the user entity if found
+     * @return an Optional containing the projected user if found
      */
-    Optional<UserJpaEntity> findByUsername(String username);
+    @Query(SELECT_ROW + " where u.username = :username")
+    Optional<UserRow> findRowByUsername(String username);
 
     /**
-     * Finds a user by their email address.
+     * Finds a user by email address as a read-only projection.
      *
      * @param email the email address to search for
-     * @return an Optional containing the user entity if found
+     * @return an Optional containing the projected user if found
+     */
+    @Query(SELECT_ROW + " where u.email = :email")
+    Optional<UserRow> findRowByEmail(String email);
+
+    /**
+     * Finds all users as read-only projections.
+     *
+     * @return the projected users
+     */
+    @Query(SELECT_ROW)
+    List<UserRow> findAllRows();
+
+    /**
+     * Finds the users with an ID greater than the given one, in ID order, as read-only projections.
+     *
+     * @param id    the exclusive lower bound of the IDs
+     * @param limit the maximum number of users returned
+     * @return the projected users, in ascending ID order
      */
-    Optional<UserJpaEntity> findByEmail(String email);
+    @Query(SELECT_ROW + " where u.id > :id order by u.id")
+    List<UserRow> findRowsAfter(Long id, Limit limit);
 
     /**
      * Checks if a user exists with the given username.
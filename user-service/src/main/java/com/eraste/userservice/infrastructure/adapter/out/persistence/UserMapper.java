@@ -44,6 +44,19 @@ public class UserMapper {
         return user;
     }
 
+    /**
+     * Converts a read-only projection to a domain model.
+     *
+     * @param row the projected row
+     * @return the domain User model
+     */
+    public User toDomain(UserRow row) {
+        User user = new User(row.id(), row.username(), row.email(), row.firstName(), row.lastName());
+        user.setCreatedAt(row.createdAt());
+        user.setUpdatedAt(row.updatedAt());
+        return user;
+    }
+
     /**
      * Converts a domain model to a JPA entity.
      * <p>
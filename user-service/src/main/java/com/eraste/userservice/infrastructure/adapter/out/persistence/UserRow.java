@@ -0,0 +1,27 @@
+package com.eraste.userservice.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a row of the users table.
+ * <p>
+ * Built by the constructor expressions of {@link UserJpaRepository}: reading a user this
+ * way bypasses the persistence context entirely, with no managed entity, no dirty-checking
+ * snapshot and no flush on commit. Rows are only ever converted to the domain model.
+ * </p>
+ *
+ * @param id        the user ID
+ * @param username  the username
+ * @param email     the email address
+ * @param firstName the first name
+ * @param lastName  the last name
+ * @param createdAt the creation timestamp
+ * @param updatedAt the last update timestamp
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserMapper#toDomain(UserRow)
+ */
+record UserRow(Long id, String username, String email, String firstName, String lastName,
+               LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
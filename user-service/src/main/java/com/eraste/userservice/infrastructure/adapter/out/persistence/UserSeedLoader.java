@@ -0,0 +1,97 @@
+package com.eraste.userservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.seed.SeedLoader;
+import com.eraste.common.seed.SeedReport;
+import com.eraste.common.seed.SeedTable;
+import com.eraste.common.seed.SeedWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Startup loader of the user seed data.
+ * <p>
+ * Enabled with {@code seed.enabled=true}. Streams {@code user/users.json} from the
+ * {@code seed.location} directory into the {@code users} table, using {@code COPY}
+ * on PostgreSQL and batched inserts elsewhere. Users whose username or email is
+ * already taken are skipped, so the load can be replayed on every startup.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SeedLoader
+ */
+@Component
+@ConditionalOnProperty(prefix = "seed", name = "enabled", havingValue = "true")
+public class UserSeedLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSeedLoader.class);
+
+    /** The users table, identified by username and email. */
+    private static final SeedTable USERS = new SeedTable("users",
+            List.of("username", "email", "first_name", "last_name", "created_at", "updated_at"),
+            List.of("username", "email"));
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Path location;
+    private final int batchSize;
+
+    /**
+     * Constructs a UserSeedLoader.
+     *
+     * @param objectMapper       the mapper used to parse the seed files
+     * @param jdbcTemplate       the JDBC template of the user database
+     * @param transactionManager the transaction manager used for each chunk
+     * @param location           the directory holding the seed files
+     * @param batchSize          the number of records written per chunk
+     */
+    public UserSeedLoader(ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${seed.location:data/jsons}") Path location,
+                          @Value("${seed.batch-size:5000}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.location = location;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = location.resolve("user/users.json");
+        if (!Files.isRegularFile(file)) {
+            log.warn("Seed file {} not found, skipping user seed", file.toAbsolutePath());
+            return;
+        }
+        SeedLoader loader = new SeedLoader(objectMapper, new SeedWriter(jdbcTemplate),
+                new TransactionTemplate(transactionManager), batchSize);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        SeedReport report = loader.load(file, USERS, user -> new Object[]{
+                user.path("username").asText(null),
+                user.path("email").asText(null),
+                user.path("firstName").asText(null),
+                user.path("lastName").asText(null),
+                now,
+                now
+        });
+        log.info("Seeded {}", report);
+    }
+}
@@ -0,0 +1,387 @@
+package com.eraste.userservice.infrastructure.adapter.out.search;
+
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserSuggestion;
+import com.eraste.userservice.domain.port.out.UserSuggestionIndexPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory adapter implementing the UserSuggestionIndexPort.
+ * <p>
+ * This class is a secondary adapter (driven adapter) in the hexagonal architecture. It keeps
+ * two sorted maps, one keyed by lower-cased username and one by lower-cased email, so that
+ * the users matching a prefix are the contiguous range of keys starting at that prefix: a
+ * lookup costs one descent into each map plus the number of suggestions returned, whatever
+ * the number of users. Reads never lock; writes are serialized and applied after commit.
+ * </p>
+ * <p>
+ * The index is filled from the database once the application is ready, which includes the
+ * users written by the seed loader. Until then, and for good if it grows past
+ * {@code users.suggest.memory-budget}, suggestions fall back to a {@code LIKE} query.
+ * The budget is checked against an estimate of the heap retained per user, published
+ * along with the number of indexed users to Micrometer.
+ * </p>
+ *
+ * @author Eraste
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserSuggestionIndexPort
+ */
+@Component
+public class InMemoryUserSuggestionIndex implements UserSuggestionIndexPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryUserSuggestionIndex.class);
+
+    /** Rough heap retained per indexed user besides its characters: map nodes, strings and the suggestion. */
+    private static final long ENTRY_OVERHEAD_BYTES = 320;
+
+    /** Rows fetched per round trip while loading the index. */
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    /** Separates the lower-cased text from the user ID in index keys. */
+    private static final char KEY_SEPARATOR = '\0';
+
+    private static final RowMapper<UserSuggestion> SUGGESTION_MAPPER = (rs, rowNum) ->
+            new UserSuggestion(rs.getLong("id"), rs.getString("username"), rs.getString("email"));
+
+    /**
+     * Lifecycle of the index.
+     */
+    private enum State {
+        /** Not filled yet: suggestions come from the database. */
+        LOADING,
+        /** Filled and kept in sync. */
+        READY,
+        /** Dropped for exceeding the memory budget: suggestions come from the database. */
+        OVER_BUDGET
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long memoryBudget;
+
+    private final NavigableMap<String, UserSuggestion> byUsername = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, UserSuggestion> byEmail = new ConcurrentSkipListMap<>();
+    private final Map<Long, UserSuggestion> byId = new ConcurrentHashMap<>();
+
+    /** Guards writes to the maps, the estimated size and the tombstones. */
+    private final Object lock = new Object();
+    /** Users deleted while the index loads, which the load must not bring back. */
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private volatile long estimatedBytes;
+    private volatile State state = State.LOADING;
+
+    /**
+     * Constructs an InMemoryUserSuggestionIndex.
+     *
+     * @param dataSource         the user database
+     * @param transactionManager the transaction manager used to stream the initial load
+     * @param meterRegistry      the registry receiving the index size metrics
+     * @param memoryBudget       the heap the index may use before falling back to the database
+     */
+    public InMemoryUserSuggestionIndex(DataSource dataSource,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${users.suggest.memory-budget:64MB}") DataSize memoryBudget) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(LOAD_FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.memoryBudget = memoryBudget.toBytes();
+
+        Gauge.builder("users.suggest.index.size", byId, Map::size)
+                .description("Users held by the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("users.suggest.index.bytes", this, index -> index.estimatedBytes)
+                .description("Estimated heap used by the autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fills the index with every user in the database.
+     * <p>
+     * Writes reported while the load runs are applied as they come and take
+     * precedence over the rows read by the load.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        // Read in a transaction so that PostgreSQL honours the fetch size
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT id, username, email FROM users", rs -> {
+                    if (state == State.LOADING) {
+                        add(SUGGESTION_MAPPER.mapRow(rs, 0), false);
+                    }
+                }));
+        synchronized (lock) {
+            removedWhileLoading.clear();
+            if (state == State.LOADING) {
+                state = State.READY;
+                log.info("Indexed {} users for suggestions in {} ms (~{} KB)", byId.size(),
+                        (System.nanoTime() - start) / 1_000_000, estimatedBytes / 1024);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UserSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (state != State.READY) {
+            return query(key, limit);
+        }
+        List<UserSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        Set<Long> seen = new HashSet<>();
+        collect(byUsername, key, limit, seen, suggestions);
+        collect(byEmail, key, limit, seen, suggestions);
+        return suggestions;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inside a transaction, the index is updated from an after-commit callback,
+     * so rolled-back writes are never suggested.
+     * </p>
+     */
+    @Override
+    public void put(User user) {
+        UserSuggestion suggestion = new UserSuggestion(user.getId(), user.getUsername(), user.getEmail());
+        afterCommit(() -> add(suggestion, true));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putAll(List<User> users) {
+        if (state == State.OVER_BUDGET || users.isEmpty()) {
+            return;
+        }
+        Map<String, User> missingIds = new HashMap<>();
+        for (User user : users) {
+            if (user.getId() != null) {
+                add(new UserSuggestion(user.getId(), user.getUsername(), user.getEmail()), true);
+            } else {
+                missingIds.put(user.getUsername(), user);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            jdbcTemplate.query("SELECT id, username, email FROM users WHERE username IN (:usernames)",
+                    new MapSqlParameterSource("usernames", missingIds.keySet()), SUGGESTION_MAPPER)
+                    .forEach(suggestion -> add(suggestion, true));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inside a transaction, the index is updated from an after-commit callback.
+     * </p>
+     */
+    @Override
+    public void remove(Long id) {
+        afterCommit(() -> {
+            synchronized (lock) {
+                UserSuggestion previous = byId.remove(id);
+                if (previous != null) {
+                    unlink(previous);
+                }
+                if (state == State.LOADING) {
+                    removedWhileLoading.add(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds a user to the index, or replaces its entry.
+     *
+     * @param suggestion the user to index
+     * @param replace    whether an existing entry is replaced; the initial load never
+     *                   replaces, as any entry it finds was written after its read
+     */
+    private void add(UserSuggestion suggestion, boolean replace) {
+        synchronized (lock) {
+            if (state == State.OVER_BUDGET) {
+                return;
+            }
+            UserSuggestion previous = byId.get(suggestion.getId());
+            if (!replace && (previous != null || removedWhileLoading.contains(suggestion.getId()))) {
+                return;
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            byId.put(suggestion.getId(), suggestion);
+            byUsername.put(key(suggestion.getUsername(), suggestion.getId()), suggestion);
+            byEmail.put(key(suggestion.getEmail(), suggestion.getId()), suggestion);
+            estimatedBytes += estimateSize(suggestion);
+            if (estimatedBytes > memoryBudget) {
+                log.warn("User suggestion index exceeds its memory budget of {} KB with {} users, "
+                        + "suggestions now query the database", memoryBudget / 1024, byId.size());
+                state = State.OVER_BUDGET;
+                byId.clear();
+                byUsername.clear();
+                byEmail.clear();
+                removedWhileLoading.clear();
+                estimatedBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Removes the username and email keys of a user. Must hold the lock.
+     *
+     * @param suggestion the indexed entry of the user
+     */
+    private void unlink(UserSuggestion suggestion) {
+        byId.remove(suggestion.getId(), suggestion);
+        byUsername.remove(key(suggestion.getUsername(), suggestion.getId()));
+        byEmail.remove(key(suggestion.getEmail(), suggestion.getId()));
+        estimatedBytes -= estimateSize(suggestion);
+    }
+
+    /**
+     * Appends the users of one index whose key starts with a prefix.
+     *
+     * @param index       the index to scan
+     * @param prefix      the lower-cased prefix
+     * @param limit       the maximum number of suggestions
+     * @param seen        the IDs of the users already suggested
+     * @param suggestions the suggestions to append to
+     */
+    private static void collect(NavigableMap<String, UserSuggestion> index, String prefix, int limit,
+                                Set<Long> seen, List<UserSuggestion> suggestions) {
+        for (Map.Entry<String, UserSuggestion> entry : index.tailMap(prefix, true).entrySet()) {
+            if (suggestions.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            if (seen.add(entry.getValue().getId())) {
+                suggestions.add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Finds suggestions in the database, while the index is not usable.
+     *
+     * @param prefix the lower-cased prefix
+     * @param limit  the maximum number of suggestions
+     * @return the matching users, ordered as the index would
+     */
+    private List<UserSuggestion> query(String prefix, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("pattern", escapeLike(prefix) + "%")
+                .addValue("limit", limit);
+        List<UserSuggestion> suggestions = new ArrayList<>(jdbcTemplate.query(
+                "SELECT id, username, email FROM users WHERE LOWER(username) LIKE :pattern ESCAPE '\\' "
+                        + "ORDER BY LOWER(username), id LIMIT :limit", parameters, SUGGESTION_MAPPER));
+        if (suggestions.size() < limit) {
+            Set<Long> seen = new HashSet<>();
+            suggestions.forEach(suggestion -> seen.add(suggestion.getId()));
+            for (UserSuggestion suggestion : jdbcTemplate.query(
+                    "SELECT id, username, email FROM users WHERE LOWER(email) LIKE :pattern ESCAPE '\\' "
+                            + "ORDER BY LOWER(email), id LIMIT :limit", parameters, SUGGESTION_MAPPER)) {
+                if (suggestions.size() < limit && seen.add(suggestion.getId())) {
+                    suggestions.add(suggestion);
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Runs an index update once the current transaction commits, or now without one.
+     *
+     * @param update the index update
+     */
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Builds the index key of a username or email. The ID keeps keys unique when two
+     * users only differ by case, and the separator sorts the key right after its text.
+     *
+     * @param text the username or email
+     * @param id   the ID of the user
+     * @return the index key
+     */
+    private static String key(String text, Long id) {
+        return normalize(text) + KEY_SEPARATOR + id;
+    }
+
+    /**
+     * Lower-cases a username, email or prefix for case-insensitive matching.
+     *
+     * @param text the text to normalize
+     * @return the lower-cased text
+     */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Escapes the {@code LIKE} wildcards of a prefix.
+     *
+     * @param prefix the prefix
+     * @return the prefix matching itself literally
+     */
+    private static String escapeLike(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Estimates the heap retained by the index entry of a user. Each username and
+     * email is held twice, as given and lower-cased in its key.
+     *
+     * @param suggestion the indexed user
+     * @return the estimated size in bytes
+     */
+    private static long estimateSize(UserSuggestion suggestion) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (suggestion.getUsername().length() + suggestion.getEmail().length());
+    }
+}
@@ -0,0 +1,3 @@
+-- findByUsername / existsByUsername and findByEmail / existsByEmail are served by the
+-- unique constraints of V1. This covers listings ordered by creation date.
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
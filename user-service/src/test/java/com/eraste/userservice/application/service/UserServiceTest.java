@@ -0,0 +1,182 @@
+package com.eraste.userservice.application.service;
+
+import com.eraste.common.exception.ConflictException;
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserImportRejection;
+import com.eraste.userservice.domain.model.UserImportResult;
+import com.eraste.userservice.domain.model.UserImportRow;
+import com.eraste.userservice.domain.port.out.UserRepositoryPort;
+import com.eraste.userservice.domain.port.out.UserSuggestionIndexPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserService Unit Tests")
+class UserServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private UserSuggestionIndexPort suggestionIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        userService = new UserService(userRepository, suggestionIndex, transactionManager, BATCH_SIZE, 10);
+    }
+
+    @Nested
+    @DisplayName("Import Users")
+    class ImportUsers {
+
+        @Test
+        @DisplayName("Should insert the valid records in chunks of the batch size, one transaction each")
+        void insertsInChunks() {
+            List<UserImportRow> rows = List.of(valid(1, "alice"), valid(2, "bob"), valid(3, "carol"));
+
+            UserImportResult result = userService.importUsers(rows.iterator());
+
+            assertEquals(3, result.getReceived());
+            assertEquals(3, result.getCreated());
+            assertEquals(0, result.getRejected());
+            verify(userRepository).insertAll(List.of(rows.get(0).getUser(), rows.get(1).getUser()));
+            verify(userRepository).insertAll(List.of(rows.get(2).getUser()));
+            verify(transactionManager, times(2)).commit(any());
+            verify(suggestionIndex, times(2)).putAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should pass rejected rows through without counting them against a chunk")
+        void reportsRejectedRows() {
+            List<UserImportRow> rows = List.of(
+                    valid(1, "alice"),
+                    UserImportRow.rejected(2, "x", "Validation failed: username: too short"),
+                    valid(3, "bob"));
+
+            UserImportResult result = userService.importUsers(rows.iterator());
+
+            assertEquals(3, result.getReceived());
+            assertEquals(2, result.getCreated());
+            assertEquals(List.of(2L), rejectedRows(result));
+            verify(userRepository, times(1)).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject usernames and emails already in the database")
+        void rejectsDuplicatesOfExistingUsers() {
+            when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("alice"));
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("bob@example.com"));
+            List<UserImportRow> rows = List.of(valid(1, "alice"), valid(2, "bob"));
+
+            UserImportResult result = userService.importUsers(rows.iterator());
+
+            assertEquals(0, result.getCreated());
+            assertEquals(List.of("Username already exists: alice", "Email already exists: bob@example.com"),
+                    result.getRejections().stream().map(UserImportRejection::getReason).toList());
+            verify(userRepository, never()).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should keep the first of two records with the same username or email in a chunk")
+        void rejectsDuplicatesWithinChunk() {
+            userService = new UserService(userRepository, suggestionIndex, transactionManager, 3, 10);
+            UserImportRow first = valid(1, "alice");
+            UserImportRow sameUsername = row(2, "alice", "other@example.com");
+            UserImportRow sameEmail = row(3, "alicia", "alice@example.com");
+
+            UserImportResult result = userService.importUsers(List.of(first, sameUsername, sameEmail).iterator());
+
+            assertEquals(1, result.getCreated());
+            assertEquals(List.of(2L, 3L), rejectedRows(result));
+            verify(userRepository).insertAll(List.of(first.getUser()));
+        }
+
+        @Test
+        @DisplayName("Should check a chunk again when it loses a race with a concurrent sign-up")
+        void retriesChunkOnConflict() {
+            doThrow(new ConflictException("Username already exists: alice"))
+                    .doNothing()
+                    .when(userRepository).insertAll(anyList());
+            when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of(), Set.of("alice"));
+
+            UserImportResult result = userService.importUsers(List.of(valid(1, "alice"), valid(2, "bob")).iterator());
+
+            assertEquals(1, result.getCreated());
+            assertEquals(List.of(1L), rejectedRows(result));
+            verify(transactionManager, times(1)).rollback(any());
+            verify(transactionManager, times(1)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should return the committed chunks and reject a chunk that fails every attempt")
+        void rejectsChunkAfterLastAttempt() {
+            List<UserImportRow> rows = List.of(valid(1, "alice"), valid(2, "bob"), valid(3, "carol"), valid(4, "dave"));
+            doNothing()
+                    .doThrow(new ConflictException("Email already exists: carol@example.com"))
+                    .when(userRepository).insertAll(anyList());
+
+            UserImportResult result = userService.importUsers(rows.iterator());
+
+            assertEquals(4, result.getReceived());
+            assertEquals(2, result.getCreated());
+            assertEquals(List.of(3L, 4L), rejectedRows(result));
+            assertTrue(result.getRejections().get(0).getReason()
+                    .endsWith("Email already exists: carol@example.com"));
+            verify(transactionManager, times(1)).commit(any());
+            verify(transactionManager, times(3)).rollback(any());
+            verify(suggestionIndex, times(1)).putAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should go on with the next chunks after a rejected chunk")
+        void continuesAfterRejectedChunk() {
+            List<UserImportRow> rows = List.of(valid(1, "alice"), valid(2, "bob"), valid(3, "carol"));
+            doThrow(new ConflictException("Username already exists: alice"))
+                    .doThrow(new ConflictException("Username already exists: alice"))
+                    .doThrow(new ConflictException("Username already exists: alice"))
+                    .doNothing()
+                    .when(userRepository).insertAll(anyList());
+
+            UserImportResult result = userService.importUsers(rows.iterator());
+
+            assertEquals(1, result.getCreated());
+            assertEquals(List.of(1L, 2L), rejectedRows(result));
+            verify(userRepository).insertAll(List.of(rows.get(2).getUser()));
+        }
+
+        private List<Long> rejectedRows(UserImportResult result) {
+            return result.getRejections().stream().map(UserImportRejection::getRow).toList();
+        }
+    }
+
+    private static UserImportRow valid(long row, String username) {
+        return row(row, username, username + "@example.com");
+    }
+
+    private static UserImportRow row(long row, String username, String email) {
+        return UserImportRow.valid(row, new User(null, username, email, "First", "Last"));
+    }
+}
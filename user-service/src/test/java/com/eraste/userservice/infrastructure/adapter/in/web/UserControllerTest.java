@@ -0,0 +1,253 @@
+package com.eraste.userservice.infrastructure.adapter.in.web;
+
+import com.eraste.common.exception.BadRequestException;
+import com.eraste.common.exception.ResourceNotFoundException;
+import com.eraste.common.response.ApiResponse;
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserCount;
+import com.eraste.userservice.domain.model.UserCursor;
+import com.eraste.userservice.domain.model.UserPage;
+import com.eraste.userservice.domain.port.in.UserUseCase;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserCountResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserPageResponse;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserRequest;
+import com.eraste.userservice.infrastructure.adapter.in.web.dto.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserController Unit Tests")
+class UserControllerTest {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Mock
+    private UserUseCase userUseCase;
+
+    @Mock
+    private Validator validator;
+
+    private UserController userController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userController = new UserController(userUseCase, new ObjectMapper(), validator, 50, MAX_PAGE_SIZE);
+    }
+
+    @Nested
+    @DisplayName("Create User")
+    class CreateUser {
+
+        @Test
+        @DisplayName("Should create a user successfully")
+        void createUserSuccessfully() {
+            UserRequest request = new UserRequest("username", "email@example.com", "First", "Last");
+            User createdUser = new User(1L, "username", "email@example.com", "First", "Last");
+            when(userUseCase.createUser(any(User.class))).thenReturn(createdUser);
+
+            ResponseEntity<ApiResponse<UserResponse>> response = userController.createUser(request);
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals("username", response.getBody().getData().getUsername());
+            verify(userUseCase, times(1)).createUser(any(User.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get User By ID")
+    class GetUserById {
+
+        @Test
+        @DisplayName("Should return user when found")
+        void getUserByIdSuccessfully() {
+            User user = new User(1L, "username", "email@example.com", "First", "Last");
+            when(userUseCase.getUserById(1L)).thenReturn(Optional.of(user));
+
+            ResponseEntity<ApiResponse<UserResponse>> response = userController.getUserById(1L);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1L, response.getBody().getData().getId());
+            verify(userUseCase, times(1)).getUserById(1L);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when user not found")
+        void getUserByIdNotFound() {
+            when(userUseCase.getUserById(1L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> userController.getUserById(1L));
+            verify(userUseCase, times(1)).getUserById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get All Users")
+    class GetAllUsers {
+
+        @Test
+        @DisplayName("Should return every user as a list")
+        void getAllUsers() {
+            when(userUseCase.getAllUsers()).thenReturn(List.of(
+                    new User(1L, "user1", "email1@example.com", "First1", "Last1"),
+                    new User(2L, "user2", "email2@example.com", "First2", "Last2")));
+
+            ResponseEntity<ApiResponse<List<UserResponse>>> response = userController.getAllUsers();
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of(1L, 2L), response.getBody().getData().stream().map(UserResponse::getId).toList());
+            verify(userUseCase, never()).getUserPage(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get User Page")
+    class GetUserPage {
+
+        @Test
+        @DisplayName("Should return the first page and the cursor of the next one")
+        void getFirstPage() {
+            List<User> users = List.of(
+                    new User(1L, "user1", "email1@example.com", "First1", "Last1"),
+                    new User(2L, "user2", "email2@example.com", "First2", "Last2")
+            );
+            String nextCursor = UserCursor.after(users.get(1)).encode();
+            when(userUseCase.getUserPage(null, 2)).thenReturn(new UserPage(users, nextCursor));
+
+            ResponseEntity<ApiResponse<UserPageResponse>> response = userController.getUserPage(null, 2);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            UserPageResponse page = response.getBody().getData();
+            assertEquals(List.of(1L, 2L), page.getItems().stream().map(UserResponse::getId).toList());
+            assertEquals(nextCursor, page.getNextCursor());
+            verify(userUseCase, times(1)).getUserPage(null, 2);
+        }
+
+        @Test
+        @DisplayName("Should resume after the user of the cursor")
+        void getNextPage() {
+            String cursor = new UserCursor(2L).encode();
+            when(userUseCase.getUserPage(any(UserCursor.class), eq(2))).thenReturn(new UserPage(
+                    List.of(new User(3L, "user3", "email3@example.com", "First3", "Last3")), null));
+
+            ResponseEntity<ApiResponse<UserPageResponse>> response = userController.getUserPage(cursor, 2);
+
+            UserPageResponse page = response.getBody().getData();
+            assertEquals(1, page.getItems().size());
+            assertNull(page.getNextCursor());
+            ArgumentCaptor<UserCursor> after = ArgumentCaptor.forClass(UserCursor.class);
+            verify(userUseCase).getUserPage(after.capture(), eq(2));
+            assertEquals(2L, after.getValue().getId());
+        }
+
+        @Test
+        @DisplayName("Should treat a blank cursor as the first page")
+        void blankCursor() {
+            when(userUseCase.getUserPage(null, 20)).thenReturn(new UserPage(List.of(), null));
+
+            userController.getUserPage(" ", 20);
+
+            verify(userUseCase).getUserPage(null, 20);
+        }
+
+        @Test
+        @DisplayName("Should cap the page size between one and the maximum")
+        void capsPageSize() {
+            when(userUseCase.getUserPage(any(), anyInt())).thenReturn(new UserPage(List.of(), null));
+
+            userController.getUserPage(null, 10_000);
+            userController.getUserPage(null, 0);
+
+            verify(userUseCase).getUserPage(null, MAX_PAGE_SIZE);
+            verify(userUseCase).getUserPage(null, 1);
+        }
+
+        @Test
+        @DisplayName("Should throw BadRequestException for a malformed cursor")
+        void malformedCursor() {
+            assertThrows(BadRequestException.class, () -> userController.getUserPage("not a cursor", 20));
+            verifyNoInteractions(userUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("Count Users")
+    class CountUsers {
+
+        @Test
+        @DisplayName("Should return an exact count")
+        void exactCount() {
+            when(userUseCase.countUsers()).thenReturn(new UserCount(42, true));
+
+            ResponseEntity<ApiResponse<UserCountResponse>> response = userController.countUsers();
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(42, response.getBody().getData().getCount());
+            assertTrue(response.getBody().getData().isExact());
+        }
+
+        @Test
+        @DisplayName("Should report an estimated count as such")
+        void estimatedCount() {
+            when(userUseCase.countUsers()).thenReturn(new UserCount(1_000_000, false));
+
+            UserCountResponse count = userController.countUsers().getBody().getData();
+
+            assertEquals(1_000_000, count.getCount());
+            assertFalse(count.isExact());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update User")
+    class UpdateUser {
+
+        @Test
+        @DisplayName("Should update user successfully")
+        void updateUserSuccessfully() {
+            UserRequest request = new UserRequest("updatedUsername", "updatedEmail@example.com", "UpdatedFirst", "UpdatedLast");
+            User updatedUser = new User(1L, "updatedUsername", "updatedEmail@example.com", "UpdatedFirst", "UpdatedLast");
+            when(userUseCase.updateUser(eq(1L), any(User.class))).thenReturn(updatedUser);
+
+            ResponseEntity<ApiResponse<UserResponse>> response = userController.updateUser(1L, request);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("updatedUsername", response.getBody().getData().getUsername());
+            verify(userUseCase, times(1)).updateUser(eq(1L), any(User.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete User")
+    class DeleteUser {
+
+        @Test
+        @DisplayName("Should delete user successfully")
+        void deleteUserSuccessfully() {
+            doNothing().when(userUseCase).deleteUser(1L);
+
+            ResponseEntity<ApiResponse<Void>> response = userController.deleteUser(1L);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            verify(userUseCase, times(1)).deleteUser(1L);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.eraste.userservice.infrastructure.adapter.in.web;
+
+import com.eraste.common.exception.BadRequestException;
+import com.eraste.userservice.domain.model.UserImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("UserImportReader Unit Tests")
+class UserImportReaderTest {
+
+    private static final String ALICE = "{\"username\":\"alice\",\"email\":\"alice@example.com\",\"firstName\":\"Alice\",\"lastName\":\"Smith\"}";
+    private static final String BOB = "{\"username\":\"bob\",\"email\":\"bob@example.com\",\"firstName\":\"Bob\",\"lastName\":\"Jones\"}";
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Nested
+    @DisplayName("Formats")
+    class Formats {
+
+        @Test
+        @DisplayName("Should read a JSON array")
+        void readsJsonArray() throws IOException {
+            List<UserImportRow> rows = read("[" + ALICE + ", " + BOB + "]");
+
+            assertEquals(List.of("alice", "bob"), usernames(rows));
+            assertEquals(List.of(1L, 2L), rows.stream().map(UserImportRow::getRow).toList());
+            assertEquals("alice@example.com", rows.get(0).getUser().getEmail());
+            assertEquals("Smith", rows.get(0).getUser().getLastName());
+        }
+
+        @Test
+        @DisplayName("Should read newline-delimited JSON")
+        void readsNdjson() throws IOException {
+            List<UserImportRow> rows = read(ALICE + "\n" + BOB + "\n");
+
+            assertEquals(List.of("alice", "bob"), usernames(rows));
+            assertFalse(rows.get(1).isRejected());
+        }
+
+        @Test
+        @DisplayName("Should read nothing from an empty array or an empty body")
+        void readsEmptyImports() throws IOException {
+            assertTrue(read("[]").isEmpty());
+            assertTrue(read("").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should refuse a body that is neither an array nor objects")
+        void refusesScalarBody() {
+            assertThrows(BadRequestException.class, () -> read("\"users\""));
+        }
+
+        @Test
+        @DisplayName("Should refuse a body that is not JSON")
+        void refusesMalformedBody() {
+            assertThrows(BadRequestException.class, () -> read("users"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejections")
+    class Rejections {
+
+        @Test
+        @DisplayName("Should reject a record failing validation and keep reading")
+        void rejectsInvalidRecord() throws IOException {
+            String invalid = "{\"username\":\"al\",\"email\":\"not-an-email\",\"firstName\":\"Al\",\"lastName\":\"Smith\"}";
+
+            List<UserImportRow> rows = read("[" + invalid + ", " + BOB + "]");
+
+            assertTrue(rows.get(0).isRejected());
+            assertEquals("al", rows.get(0).getUsername());
+            assertEquals("Validation failed: email: Invalid email format, "
+                    + "username: Username must be between 3 and 50 characters", rows.get(0).getRejectionReason());
+            assertFalse(rows.get(1).isRejected());
+        }
+
+        @Test
+        @DisplayName("Should reject a record that is not an object")
+        void rejectsNonObjectRecord() throws IOException {
+            List<UserImportRow> rows = read("[42, " + ALICE + "]");
+
+            assertEquals("Record must be a JSON object", rows.get(0).getRejectionReason());
+            assertNull(rows.get(0).getUsername());
+            assertEquals("alice", rows.get(1).getUsername());
+        }
+
+        @Test
+        @DisplayName("Should reject a record whose fields cannot be mapped")
+        void rejectsUnmappableRecord() throws IOException {
+            List<UserImportRow> rows = read("{\"username\":\"alice\",\"email\":{\"nested\":true}}\n" + BOB);
+
+            assertTrue(rows.get(0).getRejectionReason().startsWith("Invalid record: "));
+            assertEquals("alice", rows.get(0).getUsername());
+            assertFalse(rows.get(1).isRejected());
+        }
+
+        @Test
+        @DisplayName("Should end the import with a rejected row on malformed JSON")
+        void stopsOnMalformedJson() throws IOException {
+            List<UserImportRow> rows = read(ALICE + "\n" + BOB + "\n{\"username\": oops}\n" + ALICE);
+
+            assertEquals(3, rows.size());
+            assertEquals(List.of(false, false, true), rows.stream().map(UserImportRow::isRejected).toList());
+            assertEquals(3L, rows.get(2).getRow());
+            assertTrue(rows.get(2).getRejectionReason().startsWith("Malformed JSON: "));
+        }
+
+        @Test
+        @DisplayName("Should end the import with a rejected row on an unterminated array")
+        void stopsOnTruncatedArray() throws IOException {
+            List<UserImportRow> rows = read("[" + ALICE + ", " + BOB + ", {\"username\":");
+
+            assertEquals(List.of(false, false, true), rows.stream().map(UserImportRow::isRejected).toList());
+            assertTrue(rows.get(2).getRejectionReason().startsWith("Malformed JSON: "));
+        }
+    }
+
+    private List<UserImportRow> read(String body) throws IOException {
+        List<UserImportRow> rows = new ArrayList<>();
+        try (UserImportReader reader = new UserImportReader(objectMapper, validator,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private static List<String> usernames(List<UserImportRow> rows) {
+        return rows.stream().map(UserImportRow::getUsername).toList();
+    }
+}
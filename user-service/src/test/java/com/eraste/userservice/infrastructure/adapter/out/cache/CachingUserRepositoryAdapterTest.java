@@ -0,0 +1,228 @@
+package com.eraste.userservice.infrastructure.adapter.out.cache;
+
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.infrastructure.adapter.out.persistence.UserJpaAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingUserRepositoryAdapter Unit Tests")
+class CachingUserRepositoryAdapterTest {
+
+    @Mock
+    private UserJpaAdapter delegate;
+
+    private CachingUserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        adapter = new CachingUserRepositoryAdapter(delegate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("Should query the database once per ID")
+        void cachesById() {
+            when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "john", "john@example.com")));
+
+            adapter.findById(1L);
+            adapter.findById(1L);
+
+            verify(delegate, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should return copies that callers can modify without touching the cache")
+        void returnsCopies() {
+            when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "john", "john@example.com")));
+
+            User first = adapter.findById(1L).orElseThrow();
+            first.setUsername("changed");
+            first.setEmail("changed@example.com");
+            User second = adapter.findById(1L).orElseThrow();
+
+            assertNotSame(first, second);
+            assertEquals("john", second.getUsername());
+            assertEquals("john@example.com", second.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should serve repeated username lookups from the caches")
+        void resolvesSecondaryKeysThroughIds() {
+            User john = user(1L, "john", "john@example.com");
+            when(delegate.findByUsername("john")).thenReturn(Optional.of(john));
+            when(delegate.findById(1L)).thenReturn(Optional.of(john));
+
+            assertEquals(1L, adapter.findByUsername("john").orElseThrow().getId());
+            assertEquals(1L, adapter.findByUsername("john").orElseThrow().getId());
+
+            verify(delegate, times(1)).findByUsername("john");
+            verify(delegate, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should not cache a missing user under its username")
+        void doesNotIndexMissingUsers() {
+            when(delegate.findByUsername("ghost")).thenReturn(Optional.empty());
+
+            assertTrue(adapter.findByUsername("ghost").isEmpty());
+            assertTrue(adapter.findByUsername("ghost").isEmpty());
+
+            verify(delegate, times(2)).findByUsername("ghost");
+        }
+    }
+
+    @Nested
+    @DisplayName("Evictions")
+    class Evictions {
+
+        @Test
+        @DisplayName("Should reload a user after it is saved")
+        void evictsOnSave() {
+            User john = user(1L, "john", "john@example.com");
+            User renamed = user(1L, "johnny", "john@example.com");
+            when(delegate.findById(1L)).thenReturn(Optional.of(john), Optional.of(renamed));
+            when(delegate.save(any())).thenReturn(renamed);
+
+            adapter.findById(1L);
+            adapter.save(renamed);
+
+            assertEquals("johnny", adapter.findById(1L).orElseThrow().getUsername());
+            verify(delegate, times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should forget a user after it is deleted")
+        void evictsOnDelete() {
+            when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "john", "john@example.com")), Optional.empty());
+            when(delegate.findByUsername("john"))
+                    .thenReturn(Optional.of(user(1L, "john", "john@example.com")), Optional.empty());
+
+            adapter.findByUsername("john");
+            adapter.findById(1L);
+            adapter.deleteById(1L);
+
+            assertTrue(adapter.findById(1L).isEmpty());
+            assertTrue(adapter.findByUsername("john").isEmpty());
+            verify(delegate).deleteById(1L);
+            verify(delegate, times(2)).findByUsername("john");
+        }
+
+        @Test
+        @DisplayName("Should evict again once the transaction commits")
+        void evictsAfterCommit() {
+            assertEvictedAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        @Test
+        @DisplayName("Should evict again once the transaction rolls back")
+        void evictsAfterRollback() {
+            assertEvictedAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        /**
+         * Saves a user inside a simulated transaction, lets a concurrent reader cache
+         * the row it still sees, then completes the transaction with the given status.
+         */
+        private void assertEvictedAfterCompletion(int status) {
+            User john = user(1L, "john", "john@example.com");
+            when(delegate.findById(1L)).thenReturn(Optional.of(john));
+            when(delegate.save(any())).thenReturn(john);
+            TransactionSynchronizationManager.initSynchronization();
+
+            adapter.save(john);
+            adapter.findById(1L);
+            verify(delegate, times(1)).findById(1L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+            adapter.findById(1L);
+
+            verify(delegate, times(2)).findById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Secondary Indexes")
+    class SecondaryIndexes {
+
+        @Test
+        @DisplayName("Should stop resolving the old username after a rename")
+        void dropsOldUsernameOnRename() {
+            User john = user(1L, "john", "john@example.com");
+            User renamed = user(1L, "johnny", "john@example.com");
+            when(delegate.findByUsername("john")).thenReturn(Optional.of(john), Optional.empty());
+            when(delegate.findById(1L)).thenReturn(Optional.of(john), Optional.of(renamed));
+            when(delegate.save(any())).thenReturn(renamed);
+
+            adapter.findByUsername("john");
+            adapter.findById(1L);
+            adapter.save(renamed);
+
+            assertTrue(adapter.findByUsername("john").isEmpty());
+            verify(delegate, times(2)).findByUsername("john");
+        }
+
+        @Test
+        @DisplayName("Should drop an index entry whose user no longer carries the key")
+        void dropsStaleIndexEntry() {
+            User john = user(1L, "john", "john@example.com");
+            User other = user(2L, "jane", "john@example.com");
+            when(delegate.findByEmail("john@example.com")).thenReturn(Optional.of(john), Optional.of(other));
+            when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "john", "new@example.com")));
+            when(delegate.findById(2L)).thenReturn(Optional.of(other));
+
+            adapter.findByEmail("john@example.com");
+
+            assertEquals(2L, adapter.findByEmail("john@example.com").orElseThrow().getId());
+            assertEquals(2L, adapter.findByEmail("john@example.com").orElseThrow().getId());
+            verify(delegate, times(2)).findByEmail("john@example.com");
+        }
+
+        @Test
+        @DisplayName("Should point the new email to the user once the old holder is deleted")
+        void reindexesAfterDelete() {
+            User john = user(1L, "john", "john@example.com");
+            User jane = user(2L, "jane", "john@example.com");
+            when(delegate.findByEmail("john@example.com")).thenReturn(Optional.of(john), Optional.of(jane));
+            when(delegate.findById(1L)).thenReturn(Optional.of(john));
+            when(delegate.findById(2L)).thenReturn(Optional.of(jane));
+
+            adapter.findByEmail("john@example.com");
+            adapter.findById(1L);
+            adapter.deleteById(1L);
+
+            assertEquals(2L, adapter.findByEmail("john@example.com").orElseThrow().getId());
+        }
+    }
+
+    private static User user(Long id, String username, String email) {
+        return new User(id, username, email, "John", "Doe");
+    }
+}
@@ -0,0 +1,88 @@
+package com.eraste.userservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.sql.HibernateStatisticsEndpoint;
+import com.eraste.common.sql.SlowStatement;
+import com.eraste.common.sql.SqlDiagnosticsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reports the statements of the user repository through the SQL diagnostics of the
+ * services, with every statement over the threshold.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@ContextConfiguration(classes = HibernateStatisticsEndpointTest.Config.class)
+@TestPropertySource(properties = {
+        "slow-query.threshold=0ms",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("HibernateStatisticsEndpoint Tests")
+class HibernateStatisticsEndpointTest {
+
+    @Autowired
+    private HibernateStatisticsEndpoint endpoint;
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        endpoint.clear();
+    }
+
+    @Test
+    @DisplayName("Should report the statements of a repository method with the method")
+    @SuppressWarnings("unchecked")
+    void reportsRepositoryStatements() {
+        jpaRepository.count();
+
+        Map<String, Object> report = endpoint.statistics();
+
+        assertEquals(true, report.get("enabled"));
+        Map<String, Object> slow = (Map<String, Object>) report.get("slowStatements");
+        assertEquals(0.0, slow.get("thresholdMs"));
+        List<SlowStatement> statements = (List<SlowStatement>) slow.get("statements");
+        assertEquals(1L, slow.get("count"));
+        SlowStatement statement = statements.get(0);
+        assertEquals("UserJpaRepository.count", statement.origin());
+        assertTrue(statement.sql().toLowerCase().contains("count"), statement.sql());
+        Map<String, Object> statementCounters = (Map<String, Object>) report.get("statements");
+        assertEquals(1L, statementCounters.get("prepared"));
+    }
+
+    @Test
+    @DisplayName("Should reset the statistics and the slow statements")
+    @SuppressWarnings("unchecked")
+    void clears() {
+        jpaRepository.count();
+
+        endpoint.clear();
+
+        Map<String, Object> report = endpoint.statistics();
+        assertEquals(0L, ((Map<String, Object>) report.get("slowStatements")).get("count"));
+        assertEquals(0L, ((Map<String, Object>) report.get("statements")).get("prepared"));
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = UserJpaEntity.class)
+    @Import({PropertyPlaceholderAutoConfiguration.class, SqlDiagnosticsConfig.class})
+    static class Config {
+    }
+}
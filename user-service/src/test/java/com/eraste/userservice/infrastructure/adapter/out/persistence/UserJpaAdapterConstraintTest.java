@@ -0,0 +1,136 @@
+package com.eraste.userservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.exception.ConflictException;
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.userservice.domain.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Translates the unique constraints of the users table into conflicts, on an H2
+ * database created by the user migrations.
+ */
+@DataJpaTest
+@ActiveProfiles("dev")
+@ContextConfiguration(classes = UserJpaAdapterConstraintTest.Config.class)
+@DisplayName("UserJpaAdapter Constraint Tests")
+class UserJpaAdapterConstraintTest {
+
+    @Autowired
+    private UserJpaAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long bobId;
+
+    @BeforeEach
+    void setUp() {
+        insert("alice", "alice@example.com");
+        bobId = insert("bob", "bob@example.com");
+    }
+
+    @Nested
+    @DisplayName("Create")
+    class Create {
+
+        @Test
+        @DisplayName("Should report a taken username")
+        void rejectsTakenUsername() {
+            User user = new User(null, "alice", "other@example.com", "Alice", "Other");
+
+            ConflictException ex = assertThrows(ConflictException.class, () -> adapter.save(user));
+
+            assertEquals("Username already exists: alice", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a taken email")
+        void rejectsTakenEmail() {
+            User user = new User(null, "alicia", "alice@example.com", "Alicia", "Other");
+
+            ConflictException ex = assertThrows(ConflictException.class, () -> adapter.save(user));
+
+            assertEquals("Email already exists: alice@example.com", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report a batch that collides with an existing user")
+        void rejectsTakenBatch() {
+            List<User> users = List.of(new User(null, "carol", "carol@example.com", "Carol", "Doe"),
+                    new User(null, "alice", "alice2@example.com", "Alice", "Doe"));
+
+            ConflictException ex = assertThrows(ConflictException.class, () -> adapter.insertAll(users));
+
+            assertEquals("Username or email already exists", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update")
+    class Update {
+
+        @Test
+        @DisplayName("Should report a username taken by another user")
+        void rejectsTakenUsername() {
+            User user = new User(bobId, "alice", "bob@example.com", "Bob", "Doe");
+
+            ConflictException ex = assertThrows(ConflictException.class, () -> adapter.save(user));
+
+            assertEquals("Username already exists: alice", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report an email taken by another user")
+        void rejectsTakenEmail() {
+            User user = new User(bobId, "bob", "alice@example.com", "Bob", "Doe");
+
+            ConflictException ex = assertThrows(ConflictException.class, () -> adapter.save(user));
+
+            assertEquals("Email already exists: alice@example.com", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should keep the user's own username and email")
+        void keepsOwnValues() {
+            User updated = adapter.save(new User(bobId, "bob", "bob@example.com", "Robert", "Doe"));
+
+            assertEquals("Robert", updated.getFirstName());
+        }
+    }
+
+    private long insert(String username, String email) {
+        jdbcTemplate.update("INSERT INTO users (username, email, first_name, last_name) VALUES (?, ?, 'First', 'Last')",
+                username, email);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = UserJpaEntity.class)
+    @Import({UserJpaAdapter.class, UserMapper.class, ExistenceFilters.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
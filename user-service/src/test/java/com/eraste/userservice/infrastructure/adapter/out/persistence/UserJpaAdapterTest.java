@@ -0,0 +1,79 @@
+package com.eraste.userservice.infrastructure.adapter.out.persistence;
+
+import com.eraste.common.existence.ExistenceFilters;
+import com.eraste.userservice.domain.model.UserCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserJpaAdapter Tests")
+class UserJpaAdapterTest {
+
+    private EmbeddedDatabase database;
+    private UserJpaRepository jpaRepository;
+    private ExistenceFilters filters;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/migration/V1__create_users_table.sql")
+                .build();
+        jpaRepository = mock(UserJpaRepository.class);
+        filters = new ExistenceFilters(database, new SimpleMeterRegistry(), false, 0.01, 1000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Database Detection")
+    class DatabaseDetection {
+
+        @Test
+        @DisplayName("Should not open a connection while the adapter is constructed")
+        void doesNotConnectOnConstruction() {
+            DataSource dataSource = mock(DataSource.class);
+
+            adapter(dataSource);
+
+            verifyNoInteractions(dataSource);
+        }
+
+        @Test
+        @DisplayName("Should count exactly on H2 and read the database product only once")
+        void countsExactlyOnH2() throws Exception {
+            DataSource dataSource = spy(database);
+            when(jpaRepository.count()).thenReturn(3L);
+            UserJpaAdapter adapter = adapter(dataSource);
+
+            UserCount first = adapter.countUsers();
+            UserCount second = adapter.countUsers();
+
+            assertEquals(3, first.getCount());
+            assertTrue(first.isExact());
+            assertTrue(second.isExact());
+            verify(dataSource, times(1)).getConnection();
+        }
+    }
+
+    private UserJpaAdapter adapter(DataSource dataSource) {
+        return new UserJpaAdapter(jpaRepository, new UserMapper(), new NamedParameterJdbcTemplate(dataSource), filters);
+    }
+}
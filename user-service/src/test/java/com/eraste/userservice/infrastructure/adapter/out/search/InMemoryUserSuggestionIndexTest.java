@@ -0,0 +1,205 @@
+package com.eraste.userservice.infrastructure.adapter.out.search;
+
+import com.eraste.userservice.domain.model.User;
+import com.eraste.userservice.domain.model.UserSuggestion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("InMemoryUserSuggestionIndex Tests")
+class InMemoryUserSuggestionIndexTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/migration/V1__create_users_table.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionManager = new DataSourceTransactionManager(database);
+        insert(1, "alice", "zed@example.com");
+        insert(2, "Alan", "a@example.com");
+        insert(3, "bob", "al@example.com");
+        insert(4, "albert", "b@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Suggest")
+    class Suggest {
+
+        @Test
+        @DisplayName("Should list username matches in key order, then email matches, ignoring case")
+        void ordersUsernamesBeforeEmails() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            assertEquals(List.of(2L, 4L, 1L, 3L), ids(index.suggest("al", 10)));
+            assertEquals(List.of(2L, 4L, 1L, 3L), ids(index.suggest("AL", 10)));
+        }
+
+        @Test
+        @DisplayName("Should stop at the limit")
+        void appliesLimit() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            assertEquals(List.of(2L, 4L), ids(index.suggest("al", 2)));
+            assertEquals(List.of(2L, 4L, 1L), ids(index.suggest("al", 3)));
+        }
+
+        @Test
+        @DisplayName("Should suggest a user once when both its username and email match")
+        void suggestsUserOnce() {
+            insert(5, "carl", "carl@example.com");
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            assertEquals(List.of(5L), ids(index.suggest("carl", 10)));
+        }
+
+        @Test
+        @DisplayName("Should answer from the database in the same order until the index is loaded")
+        void queriesDatabaseBeforeLoad() {
+            InMemoryUserSuggestionIndex index = newIndex(DataSize.ofMegabytes(1));
+
+            assertEquals(List.of(2L, 4L, 1L, 3L), ids(index.suggest("al", 10)));
+            assertEquals(List.of(2L, 4L), ids(index.suggest("al", 2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Transactional Updates")
+    class TransactionalUpdates {
+
+        @Test
+        @DisplayName("Should index a user once the transaction commits")
+        void putsAfterCommit() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                index.put(new User(10L, "zoe", "zoe@example.com", "Zoe", "Doe"));
+                assertTrue(index.suggest("zo", 10).isEmpty());
+            });
+
+            assertEquals(List.of(10L), ids(index.suggest("zo", 10)));
+        }
+
+        @Test
+        @DisplayName("Should not index a user written by a rolled back transaction")
+        void ignoresRolledBackPut() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                index.put(new User(10L, "zoe", "zoe@example.com", "Zoe", "Doe"));
+                status.setRollbackOnly();
+            });
+
+            assertTrue(index.suggest("zo", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should replace the keys of a renamed user")
+        void replacesRenamedUser() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+
+            index.put(new User(4L, "bert", "b@example.com", "Bert", "Doe"));
+
+            assertEquals(List.of(2L, 1L, 3L), ids(index.suggest("al", 10)));
+            assertEquals(List.of(4L), ids(index.suggest("ber", 10)));
+        }
+
+        @Test
+        @DisplayName("Should keep a user whose removal is rolled back and drop it on commit")
+        void removesAfterCommit() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofMegabytes(1));
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                index.remove(2L);
+                status.setRollbackOnly();
+            });
+            assertEquals(List.of(2L, 4L, 1L, 3L), ids(index.suggest("al", 10)));
+
+            transactionTemplate.executeWithoutResult(status -> index.remove(2L));
+            assertEquals(List.of(4L, 1L, 3L), ids(index.suggest("al", 10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory Budget")
+    class MemoryBudget {
+
+        @Test
+        @DisplayName("Should fall back to the database once the index exceeds its budget")
+        void fallsBackWhenOverBudget() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofBytes(1000));
+            // Only the database knows this user: the index was dropped
+            insert(6, "alfred", "alfred@example.com");
+
+            assertEquals(List.of(2L, 4L, 6L, 1L, 3L), ids(index.suggest("al", 10)));
+        }
+
+        @Test
+        @DisplayName("Should stop indexing writes once over budget")
+        void ignoresWritesWhenOverBudget() {
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofBytes(1000));
+
+            index.put(new User(10L, "zoe", "zoe@example.com", "Zoe", "Doe"));
+            index.putAll(List.of(new User(11L, "zack", "zack@example.com", "Zack", "Doe")));
+
+            assertTrue(index.suggest("zo", 10).isEmpty());
+            assertTrue(index.suggest("zack", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should match LIKE wildcards literally in the fallback query")
+        void escapesWildcards() {
+            insert(7, "al_x", "alx@example.com");
+            InMemoryUserSuggestionIndex index = loadedIndex(DataSize.ofBytes(1000));
+
+            assertEquals(List.of(7L), ids(index.suggest("al_", 10)));
+            assertTrue(index.suggest("%", 10).isEmpty());
+        }
+    }
+
+    private InMemoryUserSuggestionIndex newIndex(DataSize memoryBudget) {
+        return new InMemoryUserSuggestionIndex(database, transactionManager, new SimpleMeterRegistry(), memoryBudget);
+    }
+
+    private InMemoryUserSuggestionIndex loadedIndex(DataSize memoryBudget) {
+        InMemoryUserSuggestionIndex index = newIndex(memoryBudget);
+        index.load();
+        return index;
+    }
+
+    private void insert(long id, String username, String email) {
+        jdbcTemplate.update("INSERT INTO users (id, username, email, first_name, last_name) VALUES (?, ?, ?, ?, ?)",
+                id, username, email, "First", "Last");
+    }
+
+    private static List<Long> ids(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::getId).toList();
+    }
+}